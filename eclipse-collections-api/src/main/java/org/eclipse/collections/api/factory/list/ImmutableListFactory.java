@@ -144,4 +144,27 @@ public interface ImmutableListFactory
         MutableList<T> list = (MutableList<T>) items.toSortedList(comparator);
         return list.toImmutable();
     }
+
+    /**
+     * Returns an empty persistent list. Lists derived from it with {@link ImmutableList#newWith(Object)},
+     * {@link ImmutableList#newWithAll(Iterable)}, {@link ImmutableList#take(int)} and {@link ImmutableList#drop(int)}
+     * share structure with the original list instead of copying it.
+     *
+     * @since 12.0
+     */
+    default <T> ImmutableList<T> persistent()
+    {
+        return this.empty();
+    }
+
+    /**
+     * Returns a persistent list with the given elements.
+     *
+     * @see #persistent()
+     * @since 12.0
+     */
+    default <T> ImmutableList<T> persistentWithAll(Iterable<? extends T> items)
+    {
+        return this.withAll(items);
+    }
 }
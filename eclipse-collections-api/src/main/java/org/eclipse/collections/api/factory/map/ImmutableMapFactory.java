@@ -67,4 +67,27 @@ public interface ImmutableMapFactory
     <K, V> ImmutableMap<K, V> ofAll(Map<? extends K, ? extends V> map);
 
     <K, V> ImmutableMap<K, V> withAll(Map<? extends K, ? extends V> map);
+
+    /**
+     * Returns an empty persistent map. Maps derived from it with {@link ImmutableMap#newWithKeyValue(Object, Object)}
+     * and {@link ImmutableMap#newWithoutKey(Object)} share structure with the original map instead of copying it, so
+     * each update takes O(log n) time and space.
+     *
+     * @since 12.0
+     */
+    default <K, V> ImmutableMap<K, V> persistent()
+    {
+        return this.empty();
+    }
+
+    /**
+     * Returns a persistent map with the entries of the given map.
+     *
+     * @see #persistent()
+     * @since 12.0
+     */
+    default <K, V> ImmutableMap<K, V> persistentWithAll(Map<? extends K, ? extends V> map)
+    {
+        return this.withAll(map);
+    }
 }
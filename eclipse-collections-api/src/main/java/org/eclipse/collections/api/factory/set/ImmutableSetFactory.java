@@ -81,4 +81,27 @@ public interface ImmutableSetFactory
     {
         return Sets.mutable.<T>fromStream(stream).toImmutable();
     }
+
+    /**
+     * Returns an empty persistent set. Sets derived from it with {@link ImmutableSet#newWith(Object)} and
+     * {@link ImmutableSet#newWithout(Object)} share structure with the original set instead of copying it, so each
+     * update takes O(log n) time and space.
+     *
+     * @since 12.0
+     */
+    default <T> ImmutableSet<T> persistent()
+    {
+        return this.empty();
+    }
+
+    /**
+     * Returns a persistent set with the given elements.
+     *
+     * @see #persistent()
+     * @since 12.0
+     */
+    default <T> ImmutableSet<T> persistentWithAll(Iterable<? extends T> items)
+    {
+        return this.withAll(items);
+    }
 }
@@ -78,4 +78,50 @@ public interface ImmutableSortedSetFactory
     <T> ImmutableSortedSet<T> ofSortedSet(SortedSet<T> set);
 
     <T> ImmutableSortedSet<T> withSortedSet(SortedSet<T> set);
+
+    /**
+     * Returns an empty persistent sorted set. Sets derived from it with {@link ImmutableSortedSet#newWith(Object)},
+     * {@link ImmutableSortedSet#newWithout(Object)}, {@link SortedSet#subSet(Object, Object)},
+     * {@link SortedSet#headSet(Object)} and {@link SortedSet#tailSet(Object)} share structure with the original set
+     * instead of copying it, so each of them takes O(log n) time.
+     *
+     * @since 12.0
+     */
+    default <T> ImmutableSortedSet<T> persistent()
+    {
+        return this.empty();
+    }
+
+    /**
+     * Returns an empty persistent sorted set ordered by the given comparator.
+     *
+     * @see #persistent()
+     * @since 12.0
+     */
+    default <T> ImmutableSortedSet<T> persistent(Comparator<? super T> comparator)
+    {
+        return this.empty(comparator);
+    }
+
+    /**
+     * Returns a persistent sorted set with the given elements.
+     *
+     * @see #persistent()
+     * @since 12.0
+     */
+    default <T> ImmutableSortedSet<T> persistentWithAll(Iterable<? extends T> items)
+    {
+        return this.withAll(items);
+    }
+
+    /**
+     * Returns a persistent sorted set with the given elements, ordered by the given comparator.
+     *
+     * @see #persistent()
+     * @since 12.0
+     */
+    default <T> ImmutableSortedSet<T> persistentWithAll(Comparator<? super T> comparator, Iterable<? extends T> items)
+    {
+        return this.withAll(comparator, items);
+    }
 }
@@ -0,0 +1,16 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+/**
+ * This package contains API for multimaps with primitive keys, with mutable and immutable variants.
+ * <p>
+ *     The values for each key are held in a list of objects, or in a primitive list or set, so neither side is boxed.
+ */
+package org.eclipse.collections.api.multimap.primitive;
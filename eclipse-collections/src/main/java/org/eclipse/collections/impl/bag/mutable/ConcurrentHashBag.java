@@ -0,0 +1,637 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.primitive.IntFunction;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.predicate.primitive.IntPredicate;
+import org.eclipse.collections.api.block.predicate.primitive.ObjectIntPredicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.tuple.primitive.ObjectIntPair;
+import org.eclipse.collections.impl.Counter;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.multimap.bag.HashBagMultimap;
+import org.eclipse.collections.impl.utility.ArrayIterate;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * A ConcurrentHashBag is a MutableBag which is safe for use by multiple threads without external synchronization.
+ * Each distinct item is mapped in a {@link ConcurrentHashMap} to a striped {@link LongAdder} holding its current
+ * number of occurrences, so threads counting the same item do not contend on a single lock or field.
+ * <p>
+ * Adding occurrences never blocks. Removing occurrences locks only the counter of the item being removed, which is
+ * needed to unlink the counter from the map once it drops to zero. Per item reads such as {@link #occurrencesOf(Object)}
+ * and {@link #forEachWithOccurrences(ObjectIntProcedure)} see a consistent count for each item, but bulk operations
+ * are not atomic snapshots of the whole bag when it is being modified concurrently.
+ * <p>
+ * This bag does not permit null items.
+ *
+ * @since 12.0
+ */
+public class ConcurrentHashBag<T>
+        extends AbstractMutableBag<T>
+        implements Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private ConcurrentHashMap<T, Occurrences> items;
+    private LongAdder size;
+
+    public ConcurrentHashBag()
+    {
+        this.items = ConcurrentHashMap.newMap();
+        this.size = new LongAdder();
+    }
+
+    public ConcurrentHashBag(int size)
+    {
+        this.items = ConcurrentHashMap.newMap(size);
+        this.size = new LongAdder();
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag()
+    {
+        return new ConcurrentHashBag<>();
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(int size)
+    {
+        return new ConcurrentHashBag<>(size);
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(Bag<? extends E> source)
+    {
+        ConcurrentHashBag<E> result = ConcurrentHashBag.newBag(source.sizeDistinct());
+        result.addAllBag(source);
+        return result;
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(Iterable<? extends E> source)
+    {
+        if (source instanceof Bag)
+        {
+            return ConcurrentHashBag.newBag((Bag<E>) source);
+        }
+        return ConcurrentHashBag.newBagWith((E[]) Iterate.toArray(source));
+    }
+
+    public static <E> ConcurrentHashBag<E> newBagWith(E... elements)
+    {
+        ConcurrentHashBag<E> result = ConcurrentHashBag.newBag();
+        ArrayIterate.addAllTo(elements, result);
+        return result;
+    }
+
+    @Override
+    public int addOccurrences(T item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot add a negative number of occurrences");
+        }
+        if (occurrences > 0)
+        {
+            return (int) this.increment(item, occurrences).sum();
+        }
+        return this.occurrencesOf(item);
+    }
+
+    @Override
+    public boolean add(T item)
+    {
+        this.increment(item, 1L);
+        return true;
+    }
+
+    private Occurrences increment(T item, long occurrences)
+    {
+        while (true)
+        {
+            Occurrences counter = this.items.getIfAbsentPut(item, Occurrences::new);
+            counter.add(occurrences);
+            // A remover raises the flag before its final check for zero, so either it sees this addition or this
+            // thread sees the flag and waits for the remover to decide whether the counter is still in the map.
+            if (!counter.removing || counter.confirmAdd(occurrences))
+            {
+                this.size.add(occurrences);
+                return counter;
+            }
+        }
+    }
+
+    @Override
+    public boolean remove(Object item)
+    {
+        return this.decrement(item, 1L) > 0L;
+    }
+
+    @Override
+    public boolean removeOccurrences(Object item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot remove a negative number of occurrences");
+        }
+        if (occurrences == 0)
+        {
+            return false;
+        }
+        return this.decrement(item, occurrences) > 0L;
+    }
+
+    /**
+     * Removes up to {@code occurrences} of the item and returns the number of occurrences actually removed.
+     */
+    private long decrement(Object item, long occurrences)
+    {
+        while (true)
+        {
+            Occurrences counter = this.items.get(item);
+            if (counter == null)
+            {
+                return 0L;
+            }
+            synchronized (counter)
+            {
+                if (!counter.dead)
+                {
+                    long current = counter.sum();
+                    long removed = Math.min(current, occurrences);
+                    if (removed > 0L)
+                    {
+                        counter.add(-removed);
+                        this.size.add(-removed);
+                    }
+                    if (removed == current)
+                    {
+                        this.unlinkIfEmpty(item, counter);
+                    }
+                    return Math.max(removed, 0L);
+                }
+            }
+        }
+    }
+
+    /**
+     * Must be called while holding the lock on {@code counter}.
+     */
+    private void unlinkIfEmpty(Object item, Occurrences counter)
+    {
+        counter.removing = true;
+        if (counter.sum() == 0L)
+        {
+            counter.dead = true;
+            this.items.remove(item, counter);
+        }
+        else
+        {
+            counter.removing = false;
+        }
+    }
+
+    @Override
+    public boolean setOccurrences(T item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot set a negative number of occurrences");
+        }
+        while (true)
+        {
+            Occurrences counter = occurrences == 0 ? this.items.get(item) : this.items.getIfAbsentPut(item, Occurrences::new);
+            if (counter == null)
+            {
+                return false;
+            }
+            synchronized (counter)
+            {
+                if (!counter.dead)
+                {
+                    long current = counter.sum();
+                    long delta = occurrences - current;
+                    if (delta != 0L)
+                    {
+                        counter.add(delta);
+                        this.size.add(delta);
+                    }
+                    if (occurrences == 0)
+                    {
+                        this.unlinkIfEmpty(item, counter);
+                    }
+                    return delta != 0L;
+                }
+            }
+        }
+    }
+
+    @Override
+    public int occurrencesOf(Object item)
+    {
+        Occurrences counter = this.items.get(item);
+        return counter == null ? 0 : (int) counter.sum();
+    }
+
+    @Override
+    public void forEachWithOccurrences(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        this.items.forEachKeyValue((item, counter) ->
+        {
+            long occurrences = counter.sum();
+            if (occurrences > 0L)
+            {
+                objectIntProcedure.value(item, (int) occurrences);
+            }
+        });
+    }
+
+    @Override
+    public T detectWithOccurrences(ObjectIntPredicate<? super T> predicate)
+    {
+        for (Map.Entry<T, Occurrences> entry : this.items.entrySet())
+        {
+            long occurrences = entry.getValue().sum();
+            if (occurrences > 0L && predicate.accept(entry.getKey(), (int) occurrences))
+            {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public MutableBag<T> selectByOccurrences(IntPredicate predicate)
+    {
+        ConcurrentHashBag<T> result = ConcurrentHashBag.newBag();
+        this.forEachWithOccurrences((each, occurrences) ->
+        {
+            if (predicate.accept(occurrences))
+            {
+                result.addOccurrences(each, occurrences);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public MutableMap<T, Integer> toMapOfItemToCount()
+    {
+        MutableMap<T, Integer> map = UnifiedMap.newMap(this.items.size());
+        this.forEachWithOccurrences(map::put);
+        return map;
+    }
+
+    /**
+     * Sorts a single snapshot of the per item counts, so the result stays consistent with itself when the bag is
+     * modified concurrently, without blocking writers.
+     */
+    @Override
+    protected MutableList<ObjectIntPair<T>> occurrencesSortingBy(int n, IntFunction<ObjectIntPair<T>> function, MutableList<ObjectIntPair<T>> returnWhenEmpty)
+    {
+        if (n < 0)
+        {
+            throw new IllegalArgumentException("Cannot use a value of n < 0");
+        }
+        if (n == 0)
+        {
+            return returnWhenEmpty;
+        }
+        MutableList<ObjectIntPair<T>> sorted = this.toListWithOccurrences().sortThisByInt(function);
+        int keySize = Math.min(n, sorted.size());
+        MutableList<ObjectIntPair<T>> results = sorted.subList(0, keySize).toList();
+        while (keySize < sorted.size() && results.getLast().getTwo() == sorted.get(keySize).getTwo())
+        {
+            results.add(sorted.get(keySize));
+            keySize++;
+        }
+        return results;
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (!(other instanceof Bag))
+        {
+            return false;
+        }
+        Bag<?> bag = (Bag<?>) other;
+        if (this.sizeDistinct() != bag.sizeDistinct())
+        {
+            return false;
+        }
+        return this.detectWithOccurrences((each, count) -> bag.occurrencesOf(each) != count) == null;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        Counter counter = new Counter();
+        this.forEachWithOccurrences((each, count) -> counter.add(each.hashCode() ^ count));
+        return counter.getCount();
+    }
+
+    @Override
+    protected RichIterable<T> getKeysView()
+    {
+        return this.items.keysView();
+    }
+
+    @Override
+    public int sizeDistinct()
+    {
+        return this.items.size();
+    }
+
+    @Override
+    public int size()
+    {
+        return (int) this.size.sum();
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.items.isEmpty();
+    }
+
+    @Override
+    public boolean contains(Object o)
+    {
+        return this.occurrencesOf(o) > 0;
+    }
+
+    @Override
+    public void clear()
+    {
+        for (T each : this.items.keySet())
+        {
+            this.decrement(each, Long.MAX_VALUE);
+        }
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        this.forEachWithOccurrences((each, count) ->
+        {
+            for (int i = 0; i < count; i++)
+            {
+                procedure.value(each);
+            }
+        });
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        Counter index = new Counter();
+        this.forEachWithOccurrences((each, count) ->
+        {
+            for (int i = 0; i < count; i++)
+            {
+                objectIntProcedure.value(each, index.getCount());
+                index.increment();
+            }
+        });
+    }
+
+    @Override
+    public <P> void forEachWith(Procedure2<? super T, ? super P> procedure, P parameter)
+    {
+        this.forEachWithOccurrences((each, count) ->
+        {
+            for (int i = 0; i < count; i++)
+            {
+                procedure.value(each, parameter);
+            }
+        });
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new InternalIterator();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> predicate)
+    {
+        boolean changed = false;
+        for (T each : this.items.keySet())
+        {
+            if (predicate.accept(each))
+            {
+                changed |= this.decrement(each, Long.MAX_VALUE) > 0L;
+            }
+        }
+        return changed;
+    }
+
+    @Override
+    public <P> boolean removeIfWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        boolean changed = false;
+        for (T each : this.items.keySet())
+        {
+            if (predicate.accept(each, parameter))
+            {
+                changed |= this.decrement(each, Long.MAX_VALUE) > 0L;
+            }
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean removeAllIterable(Iterable<?> iterable)
+    {
+        long oldSize = this.size.sum();
+        if (iterable instanceof Bag)
+        {
+            ((Bag<?>) iterable).forEachWithOccurrences((each, parameter) -> this.decrement(each, Long.MAX_VALUE));
+        }
+        else
+        {
+            for (Object each : iterable)
+            {
+                this.decrement(each, Long.MAX_VALUE);
+            }
+        }
+        return this.size.sum() != oldSize;
+    }
+
+    @Override
+    public <V> HashBagMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
+    {
+        return this.groupBy(function, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public <V> HashBagMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.groupByEach(function, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public MutableBag<T> newEmpty()
+    {
+        return ConcurrentHashBag.newBag();
+    }
+
+    @Override
+    public ConcurrentHashBag<T> with(T element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    public ConcurrentHashBag<T> with(T... elements)
+    {
+        this.addAll(Arrays.asList(elements));
+        return this;
+    }
+
+    @Override
+    public ConcurrentHashBag<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    @Override
+    public ConcurrentHashBag<T> withAll(Iterable<? extends T> iterable)
+    {
+        this.addAllIterable(iterable);
+        return this;
+    }
+
+    @Override
+    public ConcurrentHashBag<T> withoutAll(Iterable<? extends T> iterable)
+    {
+        this.removeAllIterable(iterable);
+        return this;
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        MutableList<ObjectIntPair<T>> snapshot = this.toListWithOccurrences();
+        out.writeInt(snapshot.size());
+        for (ObjectIntPair<T> each : snapshot)
+        {
+            out.writeObject(each.getOne());
+            out.writeInt(each.getTwo());
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int sizeDistinct = in.readInt();
+        this.items = ConcurrentHashMap.newMap(sizeDistinct);
+        this.size = new LongAdder();
+        for (int i = 0; i < sizeDistinct; i++)
+        {
+            this.addOccurrences((T) in.readObject(), in.readInt());
+        }
+    }
+
+    private static final class Occurrences extends LongAdder
+    {
+        private static final long serialVersionUID = 1L;
+
+        // Raised by a remover, while holding the lock, around its final check that the count reached zero.
+        private volatile boolean removing;
+        // Set once the counter has been unlinked from the map; additions that land on it must be retried.
+        private boolean dead;
+
+        private synchronized boolean confirmAdd(long occurrences)
+        {
+            if (this.dead)
+            {
+                this.add(-occurrences);
+                return false;
+            }
+            return true;
+        }
+    }
+
+    private class InternalIterator implements Iterator<T>
+    {
+        private final Iterator<T> iterator = ConcurrentHashBag.this.items.keySet().iterator();
+
+        private T nextItem;
+        private int occurrences;
+        private T lastReturned;
+        private boolean canRemove;
+
+        /**
+         * Skips keys whose count dropped to zero since the key set saw them, so that once this returns true the next
+         * call to {@link #next()} succeeds even if other threads remove the remaining items meanwhile.
+         */
+        @Override
+        public boolean hasNext()
+        {
+            while (this.occurrences <= 0 && this.iterator.hasNext())
+            {
+                this.nextItem = this.iterator.next();
+                this.occurrences = ConcurrentHashBag.this.occurrencesOf(this.nextItem);
+            }
+            return this.occurrences > 0;
+        }
+
+        @Override
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            this.occurrences--;
+            this.lastReturned = this.nextItem;
+            this.canRemove = true;
+            return this.lastReturned;
+        }
+
+        @Override
+        public void remove()
+        {
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            ConcurrentHashBag.this.remove(this.lastReturned);
+            this.canRemove = false;
+        }
+    }
+}
@@ -18,6 +18,7 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
 
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.bag.ImmutableBag;
@@ -71,6 +72,12 @@ import org.eclipse.collections.impl.factory.Iterables;
  * no external pointer can ever reference the underlying HashBag outside a locked procedure. In the case of the
  * read lock method, an Unmodifiable version of the collection is offered, which will throw UnsupportedOperationExceptions
  * on any write methods like add or remove.
+ * <p>
+ * Bags created by {@link #newOptimisticBag()} are guarded by a StampedLock instead, and answer {@code size()},
+ * {@code sizeDistinct()} and {@code isEmpty()} with an optimistic read when no write is in progress, so concurrent
+ * readers do not contend on the lock. Lookups such as {@code occurrencesOf(Object)} still take the read lock, since a
+ * hash probe over a table being rehashed may not terminate. Such a bag must not be used from inside its own
+ * {@code withReadLockAndDelegate()} or {@code withWriteLockAndDelegate()} procedures, as the lock is not reentrant.
  */
 public final class MultiReaderHashBag<T>
         extends AbstractMultiReaderMutableCollection<T>
@@ -102,6 +109,12 @@ public final class MultiReaderHashBag<T>
         this.delegate = newDelegate;
     }
 
+    private MultiReaderHashBag(HashBag<T> newDelegate, StampedLock newLock)
+    {
+        this(newDelegate, newLock.asReadWriteLock());
+        this.stampedLock = newLock;
+    }
+
     public static <T> MultiReaderHashBag<T> newBag()
     {
         return new MultiReaderHashBag<>(HashBag.newBag());
@@ -122,6 +135,26 @@ public final class MultiReaderHashBag<T>
         return new MultiReaderHashBag<>(HashBag.newBagWith(elements));
     }
 
+    /**
+     * Returns a bag guarded by a StampedLock, whose cheap queries are answered with optimistic reads.
+     *
+     * @since 12.0
+     */
+    public static <T> MultiReaderHashBag<T> newOptimisticBag()
+    {
+        return new MultiReaderHashBag<>(HashBag.newBag(), new StampedLock());
+    }
+
+    /**
+     * Returns a bag guarded by a StampedLock, whose cheap queries are answered with optimistic reads.
+     *
+     * @since 12.0
+     */
+    public static <T> MultiReaderHashBag<T> newOptimisticBag(Iterable<T> iterable)
+    {
+        return new MultiReaderHashBag<>(HashBag.newBag(iterable), new StampedLock());
+    }
+
     /**
      * Rehashes every element in the set into a new backing table of the smallest possible size and eliminating removed sentinels.
      *
@@ -236,10 +269,7 @@ public final class MultiReaderHashBag<T>
     @Override
     public int sizeDistinct()
     {
-        try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
-        {
-            return this.delegate.sizeDistinct();
-        }
+        return this.optimisticReadInt(() -> this.delegate.sizeDistinct());
     }
 
     @Override
@@ -367,7 +397,7 @@ public final class MultiReaderHashBag<T>
     {
         try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
         {
-            return this.collectWithOccurrences(function, Bags.mutable.empty());
+            return this.delegate.collectWithOccurrences(function, Bags.mutable.empty());
         }
     }
 
@@ -378,8 +408,7 @@ public final class MultiReaderHashBag<T>
     {
         try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
         {
-            this.forEachWithOccurrences((each, occurrences) -> target.add(function.valueOf(each, occurrences)));
-            return target;
+            return this.delegate.collectWithOccurrences(function, target);
         }
     }
 
@@ -397,7 +426,7 @@ public final class MultiReaderHashBag<T>
     @Override
     public MultiReaderBag<T> newEmpty()
     {
-        return MultiReaderHashBag.newBag();
+        return this.stampedLock == null ? MultiReaderHashBag.newBag() : MultiReaderHashBag.newOptimisticBag();
     }
 
     @Override
@@ -425,7 +454,7 @@ public final class MultiReaderHashBag<T>
     {
         try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
         {
-            this.forEach(procedure);
+            this.delegate.forEach(procedure);
             return this;
         }
     }
@@ -14,12 +14,15 @@
  *     A MutableBag is a {@link java.util.Collection} which contains elements that are unordered and may contain duplicate entries. It adds a protocol for
  * adding, removing, and determining the number of occurrences for an item.
  * <p>
- *     This package contains 3 bag implementations:
+ *     This package contains 4 bag implementations:
  * <ul>
  *     <li>
  *          {@link org.eclipse.collections.impl.bag.mutable.HashBag} - a {@link org.eclipse.collections.api.bag.MutableBag} which uses a hashtable as its underlying data store.
  *     </li>
  *     <li>
+ *          {@link org.eclipse.collections.impl.bag.mutable.ConcurrentHashBag} - a thread-safe {@link org.eclipse.collections.api.bag.MutableBag} which keeps a striped counter per item in a concurrent hashtable.
+ *     </li>
+ *     <li>
  *          {@link org.eclipse.collections.impl.bag.mutable.SynchronizedBag} - a synchronized view of a bag.
  *     </li>
  *     <li>
@@ -19,6 +19,7 @@ import java.util.Optional;
 import java.util.Spliterator;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
 import java.util.stream.Stream;
 
 import org.eclipse.collections.api.BooleanIterable;
@@ -48,6 +49,7 @@ import org.eclipse.collections.api.block.function.primitive.DoubleObjectToDouble
 import org.eclipse.collections.api.block.function.primitive.FloatFunction;
 import org.eclipse.collections.api.block.function.primitive.FloatObjectToFloatFunction;
 import org.eclipse.collections.api.block.function.primitive.IntFunction;
+import org.eclipse.collections.api.block.function.primitive.IntFunction0;
 import org.eclipse.collections.api.block.function.primitive.IntObjectToIntFunction;
 import org.eclipse.collections.api.block.function.primitive.LongFunction;
 import org.eclipse.collections.api.block.function.primitive.LongObjectToLongFunction;
@@ -91,15 +93,86 @@ import org.eclipse.collections.impl.utility.LazyIterate;
 /**
  * AbstractMultiReaderMutableCollection is an abstraction that provides thread-safe collection behaviors.
  * Subclasses of this class must provide implementations of getDelegate() and getLock().
+ * <p>
+ * When {@link #stampedLock} is set, {@link #lock} is its {@link StampedLock#asReadWriteLock() read-write view} and
+ * cheap queries such as {@link #size()} first try an optimistic read, which writes no shared state, before falling
+ * back to the read lock. A StampedLock is not reentrant, so in that mode the collection must not be used from inside
+ * one of its own locked procedures.
  */
 @SuppressWarnings({"unused", "TransientFieldInNonSerializableClass"})
 public abstract class AbstractMultiReaderMutableCollection<T> implements MutableCollection<T>
 {
     protected transient ReadWriteLock lock;
     protected transient ReadWriteLockWrapper lockWrapper;
+    protected transient StampedLock stampedLock;
 
     protected abstract MutableCollection<T> getDelegate();
 
+    /**
+     * Evaluates {@code query} without locking if no write happens meanwhile, otherwise under the read lock. The query
+     * must only read the delegate, and must tolerate seeing it in an inconsistent state: any exception it throws
+     * during an invalidated optimistic read is discarded. It must not call user code, such as the elements'
+     * {@code equals()}, whose side effects could not be undone if the read turns out to be invalid.
+     */
+    protected <R> R optimisticRead(Function0<R> query)
+    {
+        StampedLock stamped = this.stampedLock;
+        if (stamped != null)
+        {
+            long stamp = stamped.tryOptimisticRead();
+            if (stamp != 0L)
+            {
+                try
+                {
+                    R result = query.value();
+                    if (stamped.validate(stamp))
+                    {
+                        return result;
+                    }
+                }
+                catch (RuntimeException ignored)
+                {
+                    // A concurrent write was seen half done, so retry under the read lock
+                }
+            }
+        }
+        try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
+        {
+            return query.value();
+        }
+    }
+
+    /**
+     * The {@code int} counterpart of {@link #optimisticRead(Function0)}.
+     */
+    protected int optimisticReadInt(IntFunction0 query)
+    {
+        StampedLock stamped = this.stampedLock;
+        if (stamped != null)
+        {
+            long stamp = stamped.tryOptimisticRead();
+            if (stamp != 0L)
+            {
+                try
+                {
+                    int result = query.value();
+                    if (stamped.validate(stamp))
+                    {
+                        return result;
+                    }
+                }
+                catch (RuntimeException ignored)
+                {
+                    // A concurrent write was seen half done, so retry under the read lock
+                }
+            }
+        }
+        try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
+        {
+            return query.value();
+        }
+    }
+
     @Override
     public boolean contains(Object item)
     {
@@ -701,10 +774,7 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
     @Override
     public boolean notEmpty()
     {
-        try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
-        {
-            return this.getDelegate().notEmpty();
-        }
+        return this.optimisticRead(() -> this.getDelegate().notEmpty());
     }
 
     @Override
@@ -1142,10 +1212,7 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
     @Override
     public boolean isEmpty()
     {
-        try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
-        {
-            return this.getDelegate().isEmpty();
-        }
+        return this.optimisticRead(() -> this.getDelegate().isEmpty());
     }
 
     /**
@@ -1265,10 +1332,7 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
     @Override
     public int size()
     {
-        try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
-        {
-            return this.getDelegate().size();
-        }
+        return this.optimisticReadInt(() -> this.getDelegate().size());
     }
 
     @Override
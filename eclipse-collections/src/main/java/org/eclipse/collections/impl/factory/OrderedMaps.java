@@ -14,6 +14,7 @@ import java.util.Map;
 
 import org.eclipse.collections.api.map.MutableOrderedMap;
 import org.eclipse.collections.impl.map.ordered.mutable.OrderedMapAdapter;
+import org.eclipse.collections.impl.map.ordered.mutable.OrderedUnifiedMap;
 
 @SuppressWarnings("ConstantNamingConvention")
 public final class OrderedMaps
@@ -30,4 +31,23 @@ public final class OrderedMaps
     {
         return OrderedMapAdapter.adapt(map);
     }
+
+    /**
+     * Returns an empty insertion-ordered map which stores its entries in a dense array instead of wrapping a
+     * {@link java.util.LinkedHashMap}.
+     *
+     * @since 12.0
+     */
+    public static <K, V> MutableOrderedMap<K, V> newMap()
+    {
+        return OrderedUnifiedMap.newMap();
+    }
+
+    /**
+     * @since 12.0
+     */
+    public static <K, V> MutableOrderedMap<K, V> newMap(int initialCapacity)
+    {
+        return OrderedUnifiedMap.newMap(initialCapacity);
+    }
 }
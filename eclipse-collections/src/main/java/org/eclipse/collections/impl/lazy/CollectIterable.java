@@ -46,18 +46,36 @@ public class CollectIterable<T, V>
     @Override
     public void each(Procedure<? super V> procedure)
     {
+        FusedPipeline pipeline = FusedPipeline.compile(this);
+        if (pipeline != null)
+        {
+            pipeline.each((Procedure<Object>) procedure);
+            return;
+        }
         Iterate.forEach(this.adapted, Functions.bind(procedure, this.function));
     }
 
     @Override
     public void forEachWithIndex(ObjectIntProcedure<? super V> objectIntProcedure)
     {
+        FusedPipeline pipeline = FusedPipeline.compile(this);
+        if (pipeline != null)
+        {
+            pipeline.forEachWithIndex((ObjectIntProcedure<Object>) objectIntProcedure);
+            return;
+        }
         Iterate.forEachWithIndex(this.adapted, Functions.bind(objectIntProcedure, this.function));
     }
 
     @Override
     public <P> void forEachWith(Procedure2<? super V, ? super P> procedure, P parameter)
     {
+        FusedPipeline pipeline = FusedPipeline.compile(this);
+        if (pipeline != null)
+        {
+            pipeline.forEachWith((Procedure2<Object, ? super P>) procedure, parameter);
+            return;
+        }
         Iterate.forEachWith(this.adapted, Functions.bind(procedure, this.function), parameter);
     }
 
@@ -94,24 +112,44 @@ public class CollectIterable<T, V>
     @Override
     public boolean anySatisfy(Predicate<? super V> predicate)
     {
+        FusedPipeline pipeline = FusedPipeline.compile(this);
+        if (pipeline != null)
+        {
+            return pipeline.anySatisfy((Predicate<Object>) predicate);
+        }
         return Iterate.anySatisfy(this.adapted, Predicates.attributePredicate(this.function, predicate));
     }
 
     @Override
     public boolean allSatisfy(Predicate<? super V> predicate)
     {
+        FusedPipeline pipeline = FusedPipeline.compile(this);
+        if (pipeline != null)
+        {
+            return pipeline.allSatisfy((Predicate<Object>) predicate);
+        }
         return Iterate.allSatisfy(this.adapted, Predicates.attributePredicate(this.function, predicate));
     }
 
     @Override
     public boolean noneSatisfy(Predicate<? super V> predicate)
     {
+        FusedPipeline pipeline = FusedPipeline.compile(this);
+        if (pipeline != null)
+        {
+            return pipeline.noneSatisfy((Predicate<Object>) predicate);
+        }
         return Iterate.noneSatisfy(this.adapted, Predicates.attributePredicate(this.function, predicate));
     }
 
     @Override
     public V detect(Predicate<? super V> predicate)
     {
+        FusedPipeline pipeline = FusedPipeline.compile(this);
+        if (pipeline != null)
+        {
+            return (V) pipeline.detect((Predicate<Object>) predicate);
+        }
         AttributePredicate<T, V> attributePredicate = new AttributePredicate<>(this.function, predicate);
         T resultItem = Iterate.detect(this.adapted, attributePredicate);
         return resultItem == null ? null : attributePredicate.functionResult();
@@ -120,6 +158,11 @@ public class CollectIterable<T, V>
     @Override
     public Optional<V> detectOptional(Predicate<? super V> predicate)
     {
+        FusedPipeline pipeline = FusedPipeline.compile(this);
+        if (pipeline != null)
+        {
+            return (Optional<V>) pipeline.detectOptional((Predicate<Object>) predicate);
+        }
         AttributePredicate<T, V> attributePredicate = new AttributePredicate<>(this.function, predicate);
         Optional<T> resultItem = Iterate.detectOptional(this.adapted, attributePredicate);
         return resultItem.isPresent() ? Optional.of(attributePredicate.functionResult()) : Optional.empty();
@@ -175,6 +218,16 @@ public class CollectIterable<T, V>
         return this.function.valueOf(Iterate.getLast(this.adapted));
     }
 
+    Iterable<T> getAdapted()
+    {
+        return this.adapted;
+    }
+
+    Function<? super T, ? extends V> getFunction()
+    {
+        return this.function;
+    }
+
     private static final class AttributePredicate<T, V> implements Predicate<T>
     {
         private static final long serialVersionUID = 1L;
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy;
+
+import java.util.Optional;
+import java.util.RandomAccess;
+
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.impl.list.mutable.ArrayListAdapter;
+import org.eclipse.collections.impl.list.mutable.FastList;
+
+/**
+ * A chain of {@link SelectIterable}, {@link RejectIterable} and {@link CollectIterable} stages over a random access
+ * list, flattened into one indexed loop. Running the chain through the stages themselves wraps the final procedure once
+ * per stage, so every element passes through a tower of nested procedure calls. Here every element is read by index
+ * from the root list and passed through the stages in turn, and the loop can stop at the first element that decides
+ * the result of {@code detect}, {@code anySatisfy}, {@code allSatisfy} or {@code noneSatisfy}.
+ * <p>
+ * Only {@link FastList}, {@link ArrayListAdapter} and random access {@link ImmutableList}s are fused. Other roots, such
+ * as synchronized or multi-reader lists, must be traversed by their own {@code forEach}.
+ */
+final class FusedPipeline
+{
+    private static final byte SELECT = 0;
+    private static final byte COLLECT = 1;
+    private static final Object REJECTED = new Object();
+
+    private final ListIterable<Object> source;
+    private final byte[] kinds;
+    private final Object[] operations;
+
+    private FusedPipeline(ListIterable<Object> source, byte[] kinds, Object[] operations)
+    {
+        this.source = source;
+        this.kinds = kinds;
+        this.operations = operations;
+    }
+
+    /**
+     * Returns the fused form of {@code iterable}, or null if its stages or its root cannot be fused.
+     */
+    static FusedPipeline compile(Iterable<?> iterable)
+    {
+        int depth = 0;
+        Iterable<?> current = iterable;
+        while (FusedPipeline.isStage(current))
+        {
+            current = FusedPipeline.sourceOf(current);
+            depth++;
+        }
+        if (current.getClass() == LazyIterableAdapter.class)
+        {
+            current = ((LazyIterableAdapter<?>) current).getAdapted();
+        }
+        if (!FusedPipeline.isFusibleRoot(current))
+        {
+            return null;
+        }
+
+        byte[] kinds = new byte[depth];
+        Object[] operations = new Object[depth];
+        Iterable<?> stage = iterable;
+        for (int i = depth - 1; i >= 0; i--)
+        {
+            if (stage.getClass() == CollectIterable.class)
+            {
+                kinds[i] = COLLECT;
+                operations[i] = ((CollectIterable<?, ?>) stage).getFunction();
+            }
+            else if (stage.getClass() == SelectIterable.class)
+            {
+                kinds[i] = SELECT;
+                operations[i] = ((SelectIterable<?>) stage).getPredicate();
+            }
+            else
+            {
+                kinds[i] = SELECT;
+                operations[i] = ((RejectIterable<?>) stage).getPredicate();
+            }
+            stage = FusedPipeline.sourceOf(stage);
+        }
+        return new FusedPipeline((ListIterable<Object>) current, kinds, operations);
+    }
+
+    private static boolean isStage(Iterable<?> iterable)
+    {
+        Class<?> type = iterable.getClass();
+        return type == SelectIterable.class || type == RejectIterable.class || type == CollectIterable.class;
+    }
+
+    private static Iterable<?> sourceOf(Iterable<?> stage)
+    {
+        if (stage.getClass() == SelectIterable.class)
+        {
+            return ((SelectIterable<?>) stage).getAdapted();
+        }
+        if (stage.getClass() == RejectIterable.class)
+        {
+            return ((RejectIterable<?>) stage).getAdapted();
+        }
+        return ((CollectIterable<?, ?>) stage).getAdapted();
+    }
+
+    private static boolean isFusibleRoot(Iterable<?> root)
+    {
+        return root instanceof FastList
+                || root instanceof ArrayListAdapter
+                || root instanceof ImmutableList && root instanceof RandomAccess;
+    }
+
+    /**
+     * Passes {@code each} through the stages, returning {@link #REJECTED} if a select or reject stage drops it.
+     */
+    private Object apply(Object each)
+    {
+        Object result = each;
+        byte[] kinds = this.kinds;
+        Object[] operations = this.operations;
+        for (int i = 0; i < kinds.length; i++)
+        {
+            if (kinds[i] == COLLECT)
+            {
+                result = ((Function<Object, Object>) operations[i]).valueOf(result);
+            }
+            else if (!((Predicate<Object>) operations[i]).accept(result))
+            {
+                return REJECTED;
+            }
+        }
+        return result;
+    }
+
+    void each(Procedure<Object> procedure)
+    {
+        ListIterable<Object> list = this.source;
+        for (int i = 0; i < list.size(); i++)
+        {
+            Object each = this.apply(list.get(i));
+            if (each != REJECTED)
+            {
+                procedure.value(each);
+            }
+        }
+    }
+
+    <P> void forEachWith(Procedure2<Object, ? super P> procedure, P parameter)
+    {
+        ListIterable<Object> list = this.source;
+        for (int i = 0; i < list.size(); i++)
+        {
+            Object each = this.apply(list.get(i));
+            if (each != REJECTED)
+            {
+                procedure.value(each, parameter);
+            }
+        }
+    }
+
+    void forEachWithIndex(ObjectIntProcedure<Object> objectIntProcedure)
+    {
+        ListIterable<Object> list = this.source;
+        int index = 0;
+        for (int i = 0; i < list.size(); i++)
+        {
+            Object each = this.apply(list.get(i));
+            if (each != REJECTED)
+            {
+                objectIntProcedure.value(each, index++);
+            }
+        }
+    }
+
+    /**
+     * Returns the first element that survives every stage and satisfies {@code predicate}, or {@link #REJECTED} if
+     * there is none.
+     */
+    private Object first(Predicate<Object> predicate)
+    {
+        ListIterable<Object> list = this.source;
+        for (int i = 0; i < list.size(); i++)
+        {
+            Object each = this.apply(list.get(i));
+            if (each != REJECTED && predicate.accept(each))
+            {
+                return each;
+            }
+        }
+        return REJECTED;
+    }
+
+    boolean anySatisfy(Predicate<Object> predicate)
+    {
+        return this.first(predicate) != REJECTED;
+    }
+
+    boolean allSatisfy(Predicate<Object> predicate)
+    {
+        return this.first(each -> !predicate.accept(each)) == REJECTED;
+    }
+
+    boolean noneSatisfy(Predicate<Object> predicate)
+    {
+        return this.first(predicate) == REJECTED;
+    }
+
+    Object detect(Predicate<Object> predicate)
+    {
+        Object result = this.first(predicate);
+        return result == REJECTED ? null : result;
+    }
+
+    Optional<Object> detectOptional(Predicate<Object> predicate)
+    {
+        Object result = this.first(predicate);
+        return result == REJECTED ? Optional.empty() : Optional.of(result);
+    }
+}
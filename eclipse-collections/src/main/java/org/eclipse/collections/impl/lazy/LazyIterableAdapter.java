@@ -218,4 +218,9 @@ public class LazyIterableAdapter<T>
     {
         return Iterate.detectWithOptional(this.adapted, predicate, parameter);
     }
+
+    Iterable<T> getAdapted()
+    {
+        return this.adapted;
+    }
 }
@@ -42,18 +42,36 @@ public class RejectIterable<T>
     @Override
     public void each(Procedure<? super T> procedure)
     {
+        FusedPipeline pipeline = FusedPipeline.compile(this);
+        if (pipeline != null)
+        {
+            pipeline.each((Procedure<Object>) procedure);
+            return;
+        }
         Iterate.forEach(this.adapted, new IfProcedure<>(this.predicate, procedure));
     }
 
     @Override
     public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
     {
+        FusedPipeline pipeline = FusedPipeline.compile(this);
+        if (pipeline != null)
+        {
+            pipeline.forEachWithIndex((ObjectIntProcedure<Object>) objectIntProcedure);
+            return;
+        }
         Iterate.forEach(this.adapted, new IfObjectIntProcedure<>(this.predicate, objectIntProcedure));
     }
 
     @Override
     public <P> void forEachWith(Procedure2<? super T, ? super P> procedure, P parameter)
     {
+        FusedPipeline pipeline = FusedPipeline.compile(this);
+        if (pipeline != null)
+        {
+            pipeline.forEachWith((Procedure2<Object, ? super P>) procedure, parameter);
+            return;
+        }
         Iterate.forEachWith(this.adapted, new IfProcedureWith<>(this.predicate, procedure), parameter);
     }
 
@@ -69,30 +87,55 @@ public class RejectIterable<T>
     @Override
     public boolean anySatisfy(Predicate<? super T> predicate)
     {
+        FusedPipeline pipeline = FusedPipeline.compile(this);
+        if (pipeline != null)
+        {
+            return pipeline.anySatisfy((Predicate<Object>) predicate);
+        }
         return Iterate.anySatisfy(this.adapted, Predicates.and(this.predicate, predicate));
     }
 
     @Override
     public boolean allSatisfy(Predicate<? super T> predicate)
     {
+        FusedPipeline pipeline = FusedPipeline.compile(this);
+        if (pipeline != null)
+        {
+            return pipeline.allSatisfy((Predicate<Object>) predicate);
+        }
         return Iterate.allSatisfy(this.adapted, new AllSatisfyPredicate<>(this.predicate, predicate));
     }
 
     @Override
     public boolean noneSatisfy(Predicate<? super T> predicate)
     {
+        FusedPipeline pipeline = FusedPipeline.compile(this);
+        if (pipeline != null)
+        {
+            return pipeline.noneSatisfy((Predicate<Object>) predicate);
+        }
         return Iterate.noneSatisfy(this.adapted, new AllSatisfyPredicate<>(this.predicate, predicate));
     }
 
     @Override
     public T detect(Predicate<? super T> predicate)
     {
+        FusedPipeline pipeline = FusedPipeline.compile(this);
+        if (pipeline != null)
+        {
+            return (T) pipeline.detect((Predicate<Object>) predicate);
+        }
         return Iterate.detect(this.adapted, Predicates.and(this.predicate, predicate));
     }
 
     @Override
     public Optional<T> detectOptional(Predicate<? super T> predicate)
     {
+        FusedPipeline pipeline = FusedPipeline.compile(this);
+        if (pipeline != null)
+        {
+            return (Optional<T>) pipeline.detectOptional((Predicate<Object>) predicate);
+        }
         return Iterate.detectOptional(this.adapted, Predicates.and(this.predicate, predicate));
     }
 
@@ -101,4 +144,14 @@ public class RejectIterable<T>
     {
         return Iterate.detect(this.adapted, this.predicate);
     }
+
+    Iterable<T> getAdapted()
+    {
+        return this.adapted;
+    }
+
+    Predicate<? super T> getPredicate()
+    {
+        return this.predicate;
+    }
 }
@@ -16,11 +16,14 @@ import java.util.Comparator;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.api.ParallelIterable;
@@ -38,6 +41,7 @@ import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.predicate.Predicate2;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.factory.SortedBags;
 import org.eclipse.collections.api.list.MutableList;
@@ -59,12 +63,14 @@ import org.eclipse.collections.impl.block.procedure.MapCollectProcedure;
 import org.eclipse.collections.impl.block.procedure.MutatingAggregationProcedure;
 import org.eclipse.collections.impl.block.procedure.NonMutatingAggregationProcedure;
 import org.eclipse.collections.impl.block.procedure.checked.CheckedProcedure2;
+import org.eclipse.collections.impl.list.Interval;
 import org.eclipse.collections.impl.list.mutable.CompositeFastList;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
 import org.eclipse.collections.impl.map.mutable.ConcurrentHashMapUnsafe;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
 import org.eclipse.collections.impl.map.sorted.mutable.TreeSortedMap;
+import org.eclipse.collections.impl.parallel.CancellationToken;
 import org.eclipse.collections.impl.set.mutable.SetAdapter;
 import org.eclipse.collections.impl.set.sorted.mutable.TreeSortedSet;
 
@@ -73,6 +79,18 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 {
     protected static <T> void forEach(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, Procedure<? super T> procedure)
     {
+        if (parallelIterable.getExecutorService() instanceof ForkJoinPool)
+        {
+            ForkJoinBatchExecution.invoke(
+                    (ForkJoinPool) parallelIterable.getExecutorService(),
+                    parallelIterable.split(),
+                    chunk -> {
+                        chunk.forEach(procedure);
+                        return null;
+                    },
+                    Predicates.alwaysFalse());
+            return;
+        }
         LazyIterable<Future<?>> futures =
                 parallelIterable.split().collect(chunk -> parallelIterable.getExecutorService().submit(() -> chunk.forEach(procedure)));
         // The call to toList() is important to stop the lazy evaluation and force all the Runnables to start executing.
@@ -97,104 +115,155 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     protected static <T> boolean anySatisfy(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, Predicate<? super T> predicate)
     {
-        CompletionService<Boolean> completionService = new ExecutorCompletionService<>(parallelIterable.getExecutorService());
-        MutableSet<Future<Boolean>> futures =
-                parallelIterable.split().collect(batch -> completionService.submit(() -> batch.anySatisfy(predicate)), Sets.mutable.empty());
+        return AbstractParallelIterable.detectInBatches(parallelIterable, predicate).hasResult();
+    }
+
+    protected static <T> boolean allSatisfy(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, Predicate<? super T> predicate)
+    {
+        return !AbstractParallelIterable.detectInBatches(parallelIterable, Predicates.not(predicate)).hasResult();
+    }
 
-        while (futures.notEmpty())
+    protected static <T> T detect(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, Predicate<? super T> predicate)
+    {
+        if (parallelIterable.isOrdered())
         {
-            try
+            return AbstractParallelIterable.detectFirstInBatches(parallelIterable, predicate).getResult();
+        }
+        return AbstractParallelIterable.detectInBatches(parallelIterable, predicate).getResult();
+    }
+
+    /**
+     * Runs the batches until the lowest batch that holds an element that satisfies {@code predicate} is known, and
+     * returns the token that holds the first such element of that batch, if any. A batch that finds an element stops
+     * the batches to its right, both the running ones and the ones that have not started, while the batches to its left
+     * run to completion, as they may hold an earlier element.
+     */
+    private static <T> CancellationToken<T> detectFirstInBatches(
+            AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable,
+            Predicate<? super T> predicate)
+    {
+        MutableList<? extends RootBatch<T>> batches = parallelIterable.split().toList();
+        int batchCount = batches.size();
+        if (batchCount == 0)
+        {
+            return new CancellationToken<>();
+        }
+        AtomicInteger lowestMatchingBatch = new AtomicInteger(batchCount);
+        Function<Integer, CancellationToken<T>> detectInBatch = index -> {
+            CancellationToken<T> token = new CancellationToken<>();
+            if (index < lowestMatchingBatch.get())
             {
-                Future<Boolean> future = completionService.take();
-                if (future.get())
+                Predicate<T> detecting = token.detecting(predicate);
+                batches.get(index).anySatisfy(each -> lowestMatchingBatch.get() < index || detecting.accept(each));
+                if (token.hasResult())
                 {
-                    for (Future<Boolean> eachFuture : futures)
-                    {
-                        eachFuture.cancel(true);
-                    }
-                    return true;
+                    lowestMatchingBatch.accumulateAndGet(index, Math::min);
                 }
-                futures.remove(future);
-            }
-            catch (InterruptedException e)
-            {
-                Thread.currentThread().interrupt();
-                throw new RuntimeException(e);
             }
-            catch (ExecutionException e)
-            {
-                throw new RuntimeException(e);
-            }
-        }
-        return false;
-    }
+            return token;
+        };
 
-    protected static <T> boolean allSatisfy(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, Predicate<? super T> predicate)
-    {
-        CompletionService<Boolean> completionService = new ExecutorCompletionService<>(parallelIterable.getExecutorService());
-        MutableSet<Future<Boolean>> futures =
-                parallelIterable.split().collect(batch -> completionService.submit(() -> batch.allSatisfy(predicate)), Sets.mutable.empty());
+        if (parallelIterable.getExecutorService() instanceof ForkJoinPool)
+        {
+            MutableList<CancellationToken<T>> tokens = ForkJoinBatchExecution.invoke(
+                    (ForkJoinPool) parallelIterable.getExecutorService(),
+                    Interval.zeroTo(batchCount - 1),
+                    detectInBatch,
+                    Predicates.alwaysFalse());
+            return tokens.detectIfNone(CancellationToken::hasResult, CancellationToken::new);
+        }
 
-        while (futures.notEmpty())
+        MutableList<Future<CancellationToken<T>>> futures = Lists.mutable.empty();
+        for (int i = 0; i < batchCount; i++)
         {
-            try
+            int index = i;
+            futures.add(parallelIterable.getExecutorService().submit(() -> detectInBatch.valueOf(index)));
+        }
+        try
+        {
+            for (Future<CancellationToken<T>> future : futures)
             {
-                Future<Boolean> future = completionService.take();
-                if (!future.get())
+                CancellationToken<T> token = future.get();
+                if (token.hasResult())
                 {
-                    for (Future<Boolean> eachFuture : futures)
-                    {
-                        eachFuture.cancel(true);
-                    }
-                    return false;
+                    return token;
                 }
-                futures.remove(future);
-            }
-            catch (InterruptedException e)
-            {
-                Thread.currentThread().interrupt();
-                throw new RuntimeException(e);
             }
-            catch (ExecutionException e)
+            return new CancellationToken<>();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        catch (ExecutionException e)
+        {
+            throw new RuntimeException(e);
+        }
+        finally
+        {
+            // The batches to the left of the match have completed, so this only stops the batches to its right, or
+            // every batch if the search failed
+            lowestMatchingBatch.set(-1);
+            for (Future<CancellationToken<T>> future : futures)
             {
-                throw new RuntimeException(e);
+                future.cancel(false);
             }
         }
-        return true;
     }
 
-    protected static <T> T detect(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, Predicate<? super T> predicate)
+    /**
+     * Runs the batches until one of them finds an element that satisfies {@code predicate}, and returns the token that
+     * holds the element, if any. Once it is found the batches that are running stop at their next element, the batches
+     * that have not started are skipped, and this method returns without waiting for them.
+     */
+    private static <T> CancellationToken<T> detectInBatches(
+            AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable,
+            Predicate<? super T> predicate)
     {
-        LazyIterable<? extends RootBatch<T>> chunks = parallelIterable.split();
-        LazyIterable<Future<T>> futures =
-                chunks.collect(chunk -> parallelIterable.getExecutorService().submit(() -> chunk.detect(predicate)));
-        // The call to toList() is important to stop the lazy evaluation and force all the Runnables to start executing.
-        MutableList<Future<T>> futuresList = futures.toList();
-        for (Future<T> future : futuresList)
+        CancellationToken<T> token = new CancellationToken<>();
+        Predicate<T> detecting = token.detecting(predicate);
+        if (parallelIterable.getExecutorService() instanceof ForkJoinPool)
         {
-            try
-            {
-                T eachResult = future.get();
-                if (eachResult != null)
-                {
-                    for (Future<T> eachFutureToCancel : futuresList)
-                    {
-                        eachFutureToCancel.cancel(true);
-                    }
-                    return eachResult;
-                }
-            }
-            catch (InterruptedException e)
+            ForkJoinBatchExecution.invoke(
+                    (ForkJoinPool) parallelIterable.getExecutorService(),
+                    parallelIterable.split(),
+                    batch -> batch.anySatisfy(detecting),
+                    ignored -> token.isCancelled());
+            return token;
+        }
+
+        CompletionService<Boolean> completionService = new ExecutorCompletionService<>(parallelIterable.getExecutorService());
+        MutableSet<Future<Boolean>> futures = parallelIterable.split().collect(
+                batch -> completionService.submit(() -> !token.isCancelled() && batch.anySatisfy(detecting)),
+                Sets.mutable.empty());
+        try
+        {
+            while (futures.notEmpty() && !token.hasResult())
             {
-                Thread.currentThread().interrupt();
-                throw new RuntimeException(e);
+                Future<Boolean> future = completionService.take();
+                future.get();
+                futures.remove(future);
             }
-            catch (ExecutionException e)
+            return token;
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        catch (ExecutionException e)
+        {
+            throw new RuntimeException(e);
+        }
+        finally
+        {
+            token.cancel();
+            for (Future<Boolean> future : futures)
             {
-                throw new RuntimeException(e);
+                future.cancel(false);
             }
         }
-        return null;
     }
 
     public abstract ExecutorService getExecutorService();
@@ -207,7 +276,7 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     protected <S, V> void collectCombine(Function<Batch<T>, V> function, Procedure2<S, V> combineProcedure, S state)
     {
-        if (this.isOrdered())
+        if (this.isOrdered() || this.getExecutorService() instanceof ForkJoinPool)
         {
             this.collectCombineOrdered(function, combineProcedure, state);
         }
@@ -217,13 +286,45 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         }
     }
 
-    private <S, V> void collectCombineOrdered(Function<Batch<T>, V> function, Procedure2<S, V> combineProcedure, S state)
+    /**
+     * Starts {@code function} on every batch and returns the futures of the results in the order of the batches. On a
+     * ForkJoinPool the batches are run by {@link ForkJoinBatchExecution} and the futures are already complete.
+     */
+    private <V> MutableList<Future<V>> submitAll(Function<Batch<T>, V> function)
     {
+        if (this.getExecutorService() instanceof ForkJoinPool)
+        {
+            try
+            {
+                MutableList<V> results = ForkJoinBatchExecution.execute(
+                        (ForkJoinPool) this.getExecutorService(),
+                        this.split(),
+                        function,
+                        Predicates.alwaysFalse());
+                return results.<Future<V>>collect(CompletableFuture::completedFuture);
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+            catch (ExecutionException e)
+            {
+                CompletableFuture<V> failed = new CompletableFuture<>();
+                failed.completeExceptionally(e.getCause());
+                return Lists.mutable.with(failed);
+            }
+        }
         LazyIterable<? extends Batch<T>> chunks = this.split();
         LazyIterable<Future<V>> futures =
                 chunks.collect(chunk -> this.getExecutorService().submit(() -> function.valueOf(chunk)));
         // The call to toList() is important to stop the lazy evaluation and force all the Runnables to start executing.
-        MutableList<Future<V>> futuresList = futures.toList();
+        return futures.toList();
+    }
+
+    private <S, V> void collectCombineOrdered(Function<Batch<T>, V> function, Procedure2<S, V> combineProcedure, S state)
+    {
+        MutableList<Future<V>> futuresList = this.submitAll(function);
         for (Future<V> future : futuresList)
         {
             try
@@ -244,6 +345,11 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     private <S, V> void collectCombineUnordered(Function<Batch<T>, V> function, Procedure2<S, V> combineProcedure, S state)
     {
+        if (this.getExecutorService() instanceof ForkJoinPool)
+        {
+            this.collectCombineOrdered(function, combineProcedure, state);
+            return;
+        }
         LazyIterable<? extends Batch<T>> chunks = this.split();
         MutableList<Callable<V>> callables = chunks.collect((Function<Batch<T>, Callable<V>>) chunk -> () -> function.valueOf(chunk)).toList();
 
@@ -273,17 +379,14 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     private T collectReduce(Function<Batch<T>, T> map, Function2<T, T, T> function2)
     {
-        return this.isOrdered()
+        return this.isOrdered() || this.getExecutorService() instanceof ForkJoinPool
                 ? this.collectReduceOrdered(map, function2)
                 : this.collectReduceUnordered(map, function2);
     }
 
     private T collectReduceOrdered(Function<Batch<T>, T> map, Function2<T, T, T> function2)
     {
-        LazyIterable<? extends Batch<T>> chunks = this.split();
-        LazyIterable<Future<T>> futures = chunks.collect(chunk -> this.getExecutorService().submit(() -> map.valueOf(chunk)));
-        // The call to toList() is important to stop the lazy evaluation and force all the Runnables to start executing.
-        MutableList<Future<T>> futuresList = futures.toList();
+        MutableList<Future<T>> futuresList = this.submitAll(map);
         try
         {
             T result = futuresList.getFirst().get();
@@ -695,11 +798,7 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     private long sumOfLongOrdered(LongFunction<Batch<T>> map)
     {
-        LazyIterable<? extends Batch<T>> chunks = this.split();
-        LazyIterable<Future<Long>> futures =
-                chunks.collect(chunk -> this.getExecutorService().submit(() -> map.longValueOf(chunk)));
-        // The call to toList() is important to stop the lazy evaluation and force all the Runnables to start executing.
-        MutableList<Future<Long>> futuresList = futures.toList();
+        MutableList<Future<Long>> futuresList = this.submitAll(map::longValueOf);
         try
         {
             long result = 0;
@@ -722,11 +821,7 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     private double sumOfDoubleOrdered(Function<Batch<T>, DoubleSumResultHolder> map)
     {
-        LazyIterable<? extends Batch<T>> chunks = this.split();
-        LazyIterable<Future<DoubleSumResultHolder>> futures =
-                chunks.collect(chunk -> this.getExecutorService().submit(() -> map.valueOf(chunk)));
-        // The call to toList() is important to stop the lazy evaluation and force all the Runnables to start executing.
-        MutableList<Future<DoubleSumResultHolder>> futuresList = futures.toList();
+        MutableList<Future<DoubleSumResultHolder>> futuresList = this.submitAll(map);
         try
         {
             double sum = 0.0d;
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy.parallel;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.FastList;
+
+/**
+ * Runs a function over the batches of a parallel iterable on a {@link ForkJoinPool}, which is used in place of one
+ * submitted task per batch when the executor of the parallel iterable is a ForkJoinPool.
+ * <p>
+ * The range of batches is split in halves recursively, and the halves are forked while the worker has few queued tasks
+ * of its own. A worker that is kept busy by expensive batches stops splitting and runs its range in place, while idle
+ * workers steal the forked halves, so uneven batches are balanced without tuning the batch size. A result that matches
+ * the short circuit predicate stops the batches that have not started yet.
+ */
+final class ForkJoinBatchExecution<B, V>
+{
+    /**
+     * A worker keeps forking while it has at most this many tasks queued that no other worker has stolen.
+     */
+    private static final int SURPLUS_QUEUED_TASK_THRESHOLD = 3;
+
+    private final MutableList<B> batches;
+    private final Function<? super B, ? extends V> function;
+    private final Predicate<? super V> shortCircuit;
+    private final Object[] results;
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private volatile boolean done;
+
+    private ForkJoinBatchExecution(
+            MutableList<B> batches,
+            Function<? super B, ? extends V> function,
+            Predicate<? super V> shortCircuit)
+    {
+        this.batches = batches;
+        this.function = function;
+        this.shortCircuit = shortCircuit;
+        this.results = new Object[batches.size()];
+    }
+
+    /**
+     * Returns the result of {@code function} for each batch, in the order of the batches. Batches skipped after a
+     * result matched {@code shortCircuit} have a null result. Failures are reported the same way as by
+     * {@link java.util.concurrent.Future#get()}.
+     */
+    static <B, V> MutableList<V> execute(
+            ForkJoinPool pool,
+            LazyIterable<B> batches,
+            Function<? super B, ? extends V> function,
+            Predicate<? super V> shortCircuit) throws InterruptedException, ExecutionException
+    {
+        ForkJoinBatchExecution<B, V> execution = new ForkJoinBatchExecution<>(batches.toList(), function, shortCircuit);
+        return execution.run(pool);
+    }
+
+    /**
+     * Same as {@link #execute(ForkJoinPool, LazyIterable, Function, Predicate)}, but with failures wrapped in a
+     * RuntimeException in the same way as the executor service code paths of {@link AbstractParallelIterable}.
+     */
+    static <B, V> MutableList<V> invoke(
+            ForkJoinPool pool,
+            LazyIterable<B> batches,
+            Function<? super B, ? extends V> function,
+            Predicate<? super V> shortCircuit)
+    {
+        try
+        {
+            return ForkJoinBatchExecution.execute(pool, batches, function, shortCircuit);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        catch (ExecutionException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private MutableList<V> run(ForkJoinPool pool) throws InterruptedException, ExecutionException
+    {
+        if (this.batches.notEmpty())
+        {
+            try
+            {
+                pool.submit(new Slice(0, this.batches.size(), null)).get();
+            }
+            catch (InterruptedException e)
+            {
+                this.done = true;
+                throw e;
+            }
+        }
+        Throwable cause = this.failure.get();
+        if (cause != null)
+        {
+            throw new ExecutionException(cause);
+        }
+        return FastList.newListWith((V[]) this.results);
+    }
+
+    private void runSequentially(int low, int high)
+    {
+        try
+        {
+            for (int i = low; i < high && !this.done; i++)
+            {
+                V result = this.function.valueOf(this.batches.get(i));
+                this.results[i] = result;
+                if (this.shortCircuit.accept(result))
+                {
+                    this.done = true;
+                }
+            }
+        }
+        catch (Throwable t)
+        {
+            this.failure.compareAndSet(null, t);
+            this.done = true;
+        }
+    }
+
+    private final class Slice extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int low;
+        private final int high;
+        private final Slice next;
+
+        private Slice(int low, int high, Slice next)
+        {
+            this.low = low;
+            this.high = high;
+            this.next = next;
+        }
+
+        @Override
+        protected void compute()
+        {
+            int high = this.high;
+            Slice forked = null;
+            while (high - this.low > 1 && getSurplusQueuedTaskCount() <= SURPLUS_QUEUED_TASK_THRESHOLD)
+            {
+                int middle = (this.low + high) >>> 1;
+                forked = new Slice(middle, high, forked);
+                forked.fork();
+                high = middle;
+            }
+            ForkJoinBatchExecution.this.runSequentially(this.low, high);
+            while (forked != null)
+            {
+                forked.join();
+                forked = forked.next;
+            }
+        }
+    }
+}
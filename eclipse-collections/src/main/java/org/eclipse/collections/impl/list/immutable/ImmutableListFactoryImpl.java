@@ -292,4 +292,16 @@ public class ImmutableListFactoryImpl implements ImmutableListFactory
         Arrays.sort(array, comparator);
         return new ImmutableArrayList<>(array);
     }
+
+    @Override
+    public <T> ImmutableList<T> persistent()
+    {
+        return ImmutableRrbList.empty();
+    }
+
+    @Override
+    public <T> ImmutableList<T> persistentWithAll(Iterable<? extends T> items)
+    {
+        return ImmutableRrbList.newList(items);
+    }
 }
@@ -0,0 +1,740 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.list.immutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.impl.block.procedure.checked.CheckedProcedure;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * An ImmutableList backed by a relaxed radix balanced tree (RRB vector). Unlike {@link ImmutableArrayList}, which
+ * copies all of its elements on every modification, this list shares structure between versions:
+ * <ul>
+ *     <li>{@link #newWith(Object)} appends to a tail buffer of up to 32 elements and only pushes a full buffer into the
+ *     tree, copying the O(log32 n) nodes on its right edge.</li>
+ *     <li>{@link #get(int)} descends O(log32 n) levels.</li>
+ *     <li>{@link #take(int)} and {@link #drop(int)} cut the tree along the path to the boundary.</li>
+ *     <li>{@link #newWithAll(Iterable)} of another ImmutableRrbList concatenates the two trees in O(log32 n), merging
+ *     and rebalancing only the nodes along the seam.</li>
+ * </ul>
+ * <p>
+ * Leaves and branches hold up to 32 elements or children. Slicing and concatenation leave some nodes partially
+ * filled, so every branch keeps the cumulative sizes of its children and a lookup may step past the radix guess.
+ * Concatenation keeps the number of extra nodes per level bounded, which keeps the tree height logarithmic.
+ * <p>
+ * Use a {@link Builder} to construct a large list without copying any path.
+ *
+ * @since 12.0
+ */
+public final class ImmutableRrbList<T>
+        extends AbstractImmutableList<T>
+        implements Serializable, RandomAccess
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+
+    /**
+     * The number of nodes a level may hold beyond the optimum after concatenation. A larger value means less copying
+     * and more search steps in {@link #get(int)}.
+     */
+    private static final int EXTRAS = 2;
+
+    private static final Object[] EMPTY_LEAF = {};
+
+    private static final ImmutableRrbList<?> EMPTY = new ImmutableRrbList<>(EMPTY_LEAF, 0, 0, EMPTY_LEAF);
+
+    /**
+     * An {@code Object[]} leaf when the height is zero, otherwise a {@link Branch}.
+     */
+    private final transient Object root;
+    private final transient int height;
+    private final transient int rootSize;
+    private final transient Object[] tail;
+
+    private ImmutableRrbList(Object root, int height, int rootSize, Object[] tail)
+    {
+        this.root = root;
+        this.height = height;
+        this.rootSize = rootSize;
+        this.tail = tail;
+    }
+
+    public static <T> ImmutableRrbList<T> empty()
+    {
+        return (ImmutableRrbList<T>) EMPTY;
+    }
+
+    public static <T> ImmutableRrbList<T> newListWith(T... elements)
+    {
+        return ImmutableRrbList.<T>newBuilder().withAll(Arrays.asList(elements)).build();
+    }
+
+    public static <T> ImmutableRrbList<T> newList(Iterable<? extends T> iterable)
+    {
+        if (iterable instanceof ImmutableRrbList<?>)
+        {
+            return (ImmutableRrbList<T>) iterable;
+        }
+        return ImmutableRrbList.<T>newBuilder().withAll(iterable).build();
+    }
+
+    public static <T> Builder<T> newBuilder()
+    {
+        return new Builder<>();
+    }
+
+    private static <T> ImmutableRrbList<T> newTree(Object root, int height, int rootSize, Object[] tail)
+    {
+        Object newRoot = root;
+        int newHeight = height;
+        while (newHeight > 0 && ((Branch) newRoot).children.length == 1)
+        {
+            newRoot = ((Branch) newRoot).children[0];
+            newHeight--;
+        }
+        return new ImmutableRrbList<>(newRoot, newHeight, rootSize, tail);
+    }
+
+    @Override
+    public int size()
+    {
+        return this.rootSize + this.tail.length;
+    }
+
+    @Override
+    public T get(int index)
+    {
+        if (index >= this.rootSize)
+        {
+            if (index >= this.size())
+            {
+                throw new IndexOutOfBoundsException("Index: " + index + " Size: " + this.size());
+            }
+            return (T) this.tail[index - this.rootSize];
+        }
+        if (index < 0)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: " + this.size());
+        }
+        Object node = this.root;
+        int relativeIndex = index;
+        for (int level = this.height; level > 0; level--)
+        {
+            Branch branch = (Branch) node;
+            int slot = branch.slotOf(relativeIndex, level);
+            if (slot > 0)
+            {
+                relativeIndex -= branch.sizes[slot - 1];
+            }
+            node = branch.children[slot];
+        }
+        return (T) ((Object[]) node)[relativeIndex];
+    }
+
+    @Override
+    public ImmutableRrbList<T> newWith(T element)
+    {
+        if (this.tail.length < WIDTH)
+        {
+            Object[] newTail = Arrays.copyOf(this.tail, this.tail.length + 1);
+            newTail[this.tail.length] = element;
+            return new ImmutableRrbList<>(this.root, this.height, this.rootSize, newTail);
+        }
+        return this.withTailPushed(new Object[]{element});
+    }
+
+    @Override
+    public ImmutableList<T> newWithout(T element)
+    {
+        int index = this.indexOf(element);
+        if (index < 0)
+        {
+            return this;
+        }
+        return this.take(index).newWithAll(this.drop(index + 1));
+    }
+
+    @Override
+    public ImmutableRrbList<T> newWithAll(Iterable<? extends T> elements)
+    {
+        if (elements instanceof ImmutableRrbList<?>)
+        {
+            return this.concat((ImmutableRrbList<T>) elements);
+        }
+        if (Iterate.sizeOf(elements) <= WIDTH)
+        {
+            ImmutableRrbList<T> result = this;
+            for (T element : elements)
+            {
+                result = result.newWith(element);
+            }
+            return result;
+        }
+        return this.concat(ImmutableRrbList.<T>newBuilder().withAll(elements).build());
+    }
+
+    @Override
+    public ImmutableRrbList<T> take(int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be greater than zero, but was: " + count);
+        }
+        if (count >= this.size())
+        {
+            return this;
+        }
+        if (count == 0)
+        {
+            return ImmutableRrbList.empty();
+        }
+        if (count >= this.rootSize)
+        {
+            return new ImmutableRrbList<>(this.root, this.height, this.rootSize, Arrays.copyOf(this.tail, count - this.rootSize));
+        }
+        return ImmutableRrbList.newTree(ImmutableRrbList.sliceRight(this.root, this.height, count), this.height, count, EMPTY_LEAF);
+    }
+
+    @Override
+    public ImmutableRrbList<T> drop(int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be greater than zero, but was: " + count);
+        }
+        if (count == 0)
+        {
+            return this;
+        }
+        if (count >= this.size())
+        {
+            return ImmutableRrbList.empty();
+        }
+        if (count >= this.rootSize)
+        {
+            Object[] newTail = Arrays.copyOfRange(this.tail, count - this.rootSize, this.tail.length);
+            return new ImmutableRrbList<>(EMPTY_LEAF, 0, 0, newTail);
+        }
+        Object newRoot = ImmutableRrbList.sliceLeft(this.root, this.height, count);
+        return ImmutableRrbList.newTree(newRoot, this.height, this.rootSize - count, this.tail);
+    }
+
+    /**
+     * Returns the elements from {@code fromIndex}, inclusive, to {@code toIndex}, exclusive, as a list which shares
+     * structure with this one.
+     */
+    public ImmutableRrbList<T> slice(int fromIndex, int toIndex)
+    {
+        if (fromIndex < 0 || toIndex > this.size() || fromIndex > toIndex)
+        {
+            throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + " toIndex: " + toIndex + " Size: " + this.size());
+        }
+        return this.take(toIndex).drop(fromIndex);
+    }
+
+    private ImmutableRrbList<T> concat(ImmutableRrbList<T> other)
+    {
+        if (other.isEmpty())
+        {
+            return this;
+        }
+        if (this.isEmpty())
+        {
+            return other;
+        }
+        if (other.rootSize == 0 && this.tail.length + other.tail.length <= WIDTH)
+        {
+            Object[] newTail = Arrays.copyOf(this.tail, this.tail.length + other.tail.length);
+            System.arraycopy(other.tail, 0, newTail, this.tail.length, other.tail.length);
+            return new ImmutableRrbList<>(this.root, this.height, this.rootSize, newTail);
+        }
+        ImmutableRrbList<T> left = this.withTailPushed(EMPTY_LEAF);
+        if (other.rootSize == 0)
+        {
+            return new ImmutableRrbList<>(left.root, left.height, left.rootSize, other.tail);
+        }
+        Branch merged = ImmutableRrbList.merge(left.root, left.height, other.root, other.height);
+        int mergedHeight = Math.max(left.height, other.height) + 1;
+        return ImmutableRrbList.newTree(merged, mergedHeight, left.rootSize + other.rootSize, other.tail);
+    }
+
+    /**
+     * Pushes the tail into the tree as its rightmost leaf.
+     */
+    private ImmutableRrbList<T> withTailPushed(Object[] newTail)
+    {
+        if (this.tail.length == 0)
+        {
+            return new ImmutableRrbList<>(this.root, this.height, this.rootSize, newTail);
+        }
+        int newRootSize = this.rootSize + this.tail.length;
+        if (this.rootSize == 0)
+        {
+            return new ImmutableRrbList<>(this.tail, 0, newRootSize, newTail);
+        }
+        Object pushed = ImmutableRrbList.pushLeaf(this.root, this.height, this.tail);
+        if (pushed != null)
+        {
+            return new ImmutableRrbList<>(pushed, this.height, newRootSize, newTail);
+        }
+        Object[] children = {this.root, ImmutableRrbList.newPath(this.tail, this.height)};
+        return new ImmutableRrbList<>(Branch.of(children, this.height + 1), this.height + 1, newRootSize, newTail);
+    }
+
+    /**
+     * Returns a copy of the node with the leaf appended to its right edge, or {@code null} if the node is full.
+     */
+    private static Object pushLeaf(Object node, int height, Object[] leaf)
+    {
+        if (height == 0)
+        {
+            return null;
+        }
+        Branch branch = (Branch) node;
+        int last = branch.children.length - 1;
+        if (height > 1)
+        {
+            Object newLast = ImmutableRrbList.pushLeaf(branch.children[last], height - 1, leaf);
+            if (newLast != null)
+            {
+                Object[] children = branch.children.clone();
+                children[last] = newLast;
+                int[] sizes = branch.sizes.clone();
+                sizes[last] += leaf.length;
+                return new Branch(children, sizes);
+            }
+        }
+        if (branch.children.length == WIDTH)
+        {
+            return null;
+        }
+        Object[] children = Arrays.copyOf(branch.children, last + 2);
+        children[last + 1] = ImmutableRrbList.newPath(leaf, height - 1);
+        int[] sizes = Arrays.copyOf(branch.sizes, last + 2);
+        sizes[last + 1] = sizes[last] + leaf.length;
+        return new Branch(children, sizes);
+    }
+
+    private static Object newPath(Object[] leaf, int height)
+    {
+        Object node = leaf;
+        for (int level = 1; level <= height; level++)
+        {
+            node = new Branch(new Object[]{node}, new int[]{leaf.length});
+        }
+        return node;
+    }
+
+    /**
+     * Returns the first {@code count} elements of the node, where {@code 0 < count <= size}.
+     */
+    private static Object sliceRight(Object node, int height, int count)
+    {
+        if (height == 0)
+        {
+            Object[] leaf = (Object[]) node;
+            return count == leaf.length ? leaf : Arrays.copyOf(leaf, count);
+        }
+        Branch branch = (Branch) node;
+        int slot = branch.slotOf(count - 1, height);
+        int offset = slot == 0 ? 0 : branch.sizes[slot - 1];
+        Object[] children = Arrays.copyOf(branch.children, slot + 1);
+        children[slot] = ImmutableRrbList.sliceRight(branch.children[slot], height - 1, count - offset);
+        int[] sizes = Arrays.copyOf(branch.sizes, slot + 1);
+        sizes[slot] = count;
+        return new Branch(children, sizes);
+    }
+
+    /**
+     * Returns the node without its first {@code count} elements, where {@code 0 <= count < size}.
+     */
+    private static Object sliceLeft(Object node, int height, int count)
+    {
+        if (height == 0)
+        {
+            Object[] leaf = (Object[]) node;
+            return count == 0 ? leaf : Arrays.copyOfRange(leaf, count, leaf.length);
+        }
+        Branch branch = (Branch) node;
+        int slot = branch.slotOf(count, height);
+        int offset = slot == 0 ? 0 : branch.sizes[slot - 1];
+        int length = branch.children.length - slot;
+        Object[] children = new Object[length];
+        children[0] = ImmutableRrbList.sliceLeft(branch.children[slot], height - 1, count - offset);
+        System.arraycopy(branch.children, slot + 1, children, 1, length - 1);
+        int[] sizes = new int[length];
+        for (int i = 0; i < length; i++)
+        {
+            sizes[i] = branch.sizes[slot + i] - count;
+        }
+        return new Branch(children, sizes);
+    }
+
+    /**
+     * Concatenates two trees. Returns a branch one level above the taller tree, with one or two children.
+     */
+    private static Branch merge(Object left, int leftHeight, Object right, int rightHeight)
+    {
+        if (leftHeight > rightHeight)
+        {
+            Object[] leftChildren = ((Branch) left).children;
+            Branch middle = ImmutableRrbList.merge(leftChildren[leftChildren.length - 1], leftHeight - 1, right, rightHeight);
+            return ImmutableRrbList.rebalance(leftChildren, leftChildren.length - 1, middle.children, EMPTY_LEAF, 0, leftHeight);
+        }
+        if (leftHeight < rightHeight)
+        {
+            Object[] rightChildren = ((Branch) right).children;
+            Branch middle = ImmutableRrbList.merge(left, leftHeight, rightChildren[0], rightHeight - 1);
+            return ImmutableRrbList.rebalance(EMPTY_LEAF, 0, middle.children, rightChildren, 1, rightHeight);
+        }
+        if (leftHeight == 0)
+        {
+            Object[] leftLeaf = (Object[]) left;
+            Object[] rightLeaf = (Object[]) right;
+            if (leftLeaf.length + rightLeaf.length <= WIDTH)
+            {
+                Object[] leaf = Arrays.copyOf(leftLeaf, leftLeaf.length + rightLeaf.length);
+                System.arraycopy(rightLeaf, 0, leaf, leftLeaf.length, rightLeaf.length);
+                return Branch.of(new Object[]{leaf}, 1);
+            }
+            return Branch.of(new Object[]{leftLeaf, rightLeaf}, 1);
+        }
+        Object[] leftChildren = ((Branch) left).children;
+        Object[] rightChildren = ((Branch) right).children;
+        Branch middle = ImmutableRrbList.merge(leftChildren[leftChildren.length - 1], leftHeight - 1, rightChildren[0], rightHeight - 1);
+        return ImmutableRrbList.rebalance(leftChildren, leftChildren.length - 1, middle.children, rightChildren, 1, leftHeight);
+    }
+
+    /**
+     * Joins the first {@code leftLength} nodes of {@code left}, all of {@code middle} and {@code right} from
+     * {@code rightFrom}, which are all at {@code height - 1}, redistributes their slots so that the level holds at most
+     * {@link #EXTRAS} nodes more than necessary, and returns them in a branch at {@code height + 1}.
+     */
+    private static Branch rebalance(Object[] left, int leftLength, Object[] middle, Object[] right, int rightFrom, int height)
+    {
+        int rightLength = right.length - rightFrom;
+        Object[] all = new Object[leftLength + middle.length + rightLength];
+        System.arraycopy(left, 0, all, 0, leftLength);
+        System.arraycopy(middle, 0, all, leftLength, middle.length);
+        System.arraycopy(right, rightFrom, all, leftLength + middle.length, rightLength);
+
+        Object[] nodes = ImmutableRrbList.redistribute(all, height - 1);
+        if (nodes.length <= WIDTH)
+        {
+            return Branch.of(new Object[]{Branch.of(nodes, height)}, height + 1);
+        }
+        Branch first = Branch.of(Arrays.copyOf(nodes, WIDTH), height);
+        Branch second = Branch.of(Arrays.copyOfRange(nodes, WIDTH, nodes.length), height);
+        return Branch.of(new Object[]{first, second}, height + 1);
+    }
+
+    private static Object[] redistribute(Object[] nodes, int height)
+    {
+        int[] slots = new int[nodes.length];
+        int total = 0;
+        for (int i = 0; i < nodes.length; i++)
+        {
+            slots[i] = ImmutableRrbList.slotsOf(nodes[i], height).length;
+            total += slots[i];
+        }
+        int optimal = (total + WIDTH - 1) / WIDTH;
+        int length = nodes.length;
+        if (length <= optimal + EXTRAS)
+        {
+            return nodes;
+        }
+
+        // Plan: repeatedly spread the slots of the first sparse node over the nodes after it, until one node is empty
+        int i = 0;
+        while (length > optimal + EXTRAS)
+        {
+            while (slots[i] > WIDTH - EXTRAS / 2)
+            {
+                i++;
+            }
+            int remaining = slots[i];
+            while (remaining > 0)
+            {
+                int size = Math.min(remaining + slots[i + 1], WIDTH);
+                remaining += slots[i + 1] - size;
+                slots[i] = size;
+                i++;
+            }
+            System.arraycopy(slots, i + 1, slots, i, length - i - 1);
+            length--;
+            i--;
+        }
+
+        Object[] result = new Object[length];
+        int source = 0;
+        int sourceOffset = 0;
+        for (int target = 0; target < length; target++)
+        {
+            Object[] sourceSlots = ImmutableRrbList.slotsOf(nodes[source], height);
+            if (sourceOffset == 0 && sourceSlots.length == slots[target])
+            {
+                result[target] = nodes[source];
+                source++;
+                continue;
+            }
+            Object[] targetSlots = new Object[slots[target]];
+            int filled = 0;
+            while (filled < targetSlots.length)
+            {
+                sourceSlots = ImmutableRrbList.slotsOf(nodes[source], height);
+                int count = Math.min(targetSlots.length - filled, sourceSlots.length - sourceOffset);
+                System.arraycopy(sourceSlots, sourceOffset, targetSlots, filled, count);
+                filled += count;
+                sourceOffset += count;
+                if (sourceOffset == sourceSlots.length)
+                {
+                    source++;
+                    sourceOffset = 0;
+                }
+            }
+            result[target] = height == 0 ? targetSlots : Branch.of(targetSlots, height);
+        }
+        return result;
+    }
+
+    private static Object[] slotsOf(Object node, int height)
+    {
+        return height == 0 ? (Object[]) node : ((Branch) node).children;
+    }
+
+    private static int sizeOf(Object node, int height)
+    {
+        return height == 0 ? ((Object[]) node).length : ((Branch) node).size();
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        if (this.rootSize > 0)
+        {
+            ImmutableRrbList.each(this.root, this.height, procedure);
+        }
+        for (Object element : this.tail)
+        {
+            procedure.value((T) element);
+        }
+    }
+
+    private static <T> void each(Object node, int height, Procedure<? super T> procedure)
+    {
+        if (height == 0)
+        {
+            for (Object element : (Object[]) node)
+            {
+                procedure.value((T) element);
+            }
+            return;
+        }
+        for (Object child : ((Branch) node).children)
+        {
+            ImmutableRrbList.each(child, height - 1, procedure);
+        }
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        int[] index = {0};
+        this.each(each -> objectIntProcedure.value(each, index[0]++));
+    }
+
+    private Object writeReplace()
+    {
+        return new SerializationProxy<>(this);
+    }
+
+    /**
+     * An internal node. {@code sizes[i]} is the number of elements in children {@code 0} to {@code i}.
+     */
+    private static final class Branch
+    {
+        private final Object[] children;
+        private final int[] sizes;
+
+        private Branch(Object[] children, int[] sizes)
+        {
+            this.children = children;
+            this.sizes = sizes;
+        }
+
+        private static Branch of(Object[] children, int height)
+        {
+            int[] sizes = new int[children.length];
+            int size = 0;
+            for (int i = 0; i < children.length; i++)
+            {
+                size += ImmutableRrbList.sizeOf(children[i], height - 1);
+                sizes[i] = size;
+            }
+            return new Branch(children, sizes);
+        }
+
+        private int size()
+        {
+            return this.sizes[this.sizes.length - 1];
+        }
+
+        /**
+         * Returns the child holding the element at {@code index}. A child holds at most 32^height elements, so the
+         * radix guess never overshoots, and it is exact unless earlier children were left partially filled.
+         */
+        private int slotOf(int index, int height)
+        {
+            int slot = index >>> (BITS * height);
+            while (this.sizes[slot] <= index)
+            {
+                slot++;
+            }
+            return slot;
+        }
+    }
+
+    /**
+     * Builds an ImmutableRrbList by filling leaves in place and creating the branches once in {@link #build()}, so
+     * that no path is copied. The builder can keep being used after {@code build()}.
+     */
+    public static final class Builder<T>
+    {
+        private Object[][] leaves = new Object[8][];
+        private int leafCount;
+        private Object[] tail = new Object[WIDTH];
+        private int tailSize;
+
+        private Builder()
+        {
+        }
+
+        public Builder<T> with(T element)
+        {
+            if (this.tailSize == WIDTH)
+            {
+                if (this.leafCount == this.leaves.length)
+                {
+                    this.leaves = Arrays.copyOf(this.leaves, this.leafCount << 1);
+                }
+                this.leaves[this.leafCount++] = this.tail;
+                this.tail = new Object[WIDTH];
+                this.tailSize = 0;
+            }
+            this.tail[this.tailSize++] = element;
+            return this;
+        }
+
+        public Builder<T> withAll(Iterable<? extends T> elements)
+        {
+            for (T element : elements)
+            {
+                this.with(element);
+            }
+            return this;
+        }
+
+        public ImmutableRrbList<T> build()
+        {
+            Object[] newTail = Arrays.copyOf(this.tail, this.tailSize);
+            if (this.leafCount == 0)
+            {
+                return this.tailSize == 0 ? ImmutableRrbList.empty() : new ImmutableRrbList<>(EMPTY_LEAF, 0, 0, newTail);
+            }
+            Object[] level = Arrays.copyOf(this.leaves, this.leafCount, Object[].class);
+            int height = 0;
+            while (level.length > 1)
+            {
+                height++;
+                Object[] parents = new Object[(level.length + WIDTH - 1) / WIDTH];
+                for (int i = 0; i < parents.length; i++)
+                {
+                    int from = i * WIDTH;
+                    parents[i] = Branch.of(Arrays.copyOfRange(level, from, Math.min(from + WIDTH, level.length)), height);
+                }
+                level = parents;
+            }
+            return new ImmutableRrbList<>(level[0], height, this.leafCount * WIDTH, newTail);
+        }
+    }
+
+    static final class SerializationProxy<T> implements Externalizable
+    {
+        private static final long serialVersionUID = 1L;
+
+        private ImmutableRrbList<T> list;
+
+        @SuppressWarnings("UnusedDeclaration")
+        public SerializationProxy()
+        {
+            // Empty constructor for Externalizable class
+        }
+
+        private SerializationProxy(ImmutableRrbList<T> list)
+        {
+            this.list = list;
+        }
+
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException
+        {
+            out.writeInt(this.list.size());
+            try
+            {
+                this.list.each(new CheckedProcedure<T>()
+                {
+                    @Override
+                    public void safeValue(T value) throws IOException
+                    {
+                        out.writeObject(value);
+                    }
+                });
+            }
+            catch (RuntimeException e)
+            {
+                if (e.getCause() instanceof IOException)
+                {
+                    throw (IOException) e.getCause();
+                }
+                throw e;
+            }
+        }
+
+        @Override
+        public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+        {
+            int size = in.readInt();
+            Builder<T> builder = ImmutableRrbList.newBuilder();
+            for (int i = 0; i < size; i++)
+            {
+                builder.with((T) in.readObject());
+            }
+            this.list = builder.build();
+        }
+
+        private Object readResolve()
+        {
+            return this.list;
+        }
+    }
+}
@@ -26,6 +26,7 @@ import java.util.RandomAccess;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
 import java.util.function.UnaryOperator;
 
 import org.eclipse.collections.api.LazyIterable;
@@ -83,6 +84,13 @@ import static org.eclipse.collections.impl.factory.Iterables.mList;
  * FastList is returned. This wrapper guarantees that no external pointer can ever reference the underlying FastList
  * outside a locked procedure. In the case of the read lock method, an Unmodifiable version of the collection is
  * offered, which will throw UnsupportedOperationExceptions on any write methods like add or remove.
+ * <p>
+ * Lists created by {@link #newOptimisticList()} are guarded by a StampedLock instead, and answer {@code size()},
+ * {@code isEmpty()} and {@code get(int)} with an optimistic read when no write is in progress, so concurrent readers do
+ * not contend on the lock. Lookups such as {@code contains(Object)} and {@code indexOf(Object)} still take the read
+ * lock, since they call {@code equals()} on the elements, which must not see a list that is being written. Such a list
+ * must not be used from inside its own {@code withReadLockAndDelegate()} or {@code withWriteLockAndDelegate()}
+ * procedures, as the lock is not reentrant.
  */
 public final class MultiReaderFastList<T>
         extends AbstractMultiReaderMutableCollection<T>
@@ -114,6 +122,12 @@ public final class MultiReaderFastList<T>
         this.delegate = newDelegate;
     }
 
+    private MultiReaderFastList(MutableList<T> newDelegate, StampedLock newLock)
+    {
+        this(newDelegate, newLock.asReadWriteLock());
+        this.stampedLock = newLock;
+    }
+
     public static <T> MultiReaderFastList<T> newList()
     {
         return new MultiReaderFastList<>(FastList.newList());
@@ -134,6 +148,33 @@ public final class MultiReaderFastList<T>
         return new MultiReaderFastList<>(FastList.newListWith(elements));
     }
 
+    /**
+     * Returns a list guarded by a StampedLock, whose cheap queries are answered with optimistic reads.
+     *
+     * @since 12.0
+     */
+    public static <T> MultiReaderFastList<T> newOptimisticList()
+    {
+        return new MultiReaderFastList<>(FastList.newList(), new StampedLock());
+    }
+
+    /**
+     * Returns a list guarded by a StampedLock, whose cheap queries are answered with optimistic reads.
+     *
+     * @since 12.0
+     */
+    public static <T> MultiReaderFastList<T> newOptimisticList(Iterable<? extends T> iterable)
+    {
+        return new MultiReaderFastList<>(FastList.newList(iterable), new StampedLock());
+    }
+
+    private MultiReaderFastList<T> newWithSameLocking(MutableList<T> newDelegate)
+    {
+        return this.stampedLock == null
+                ? new MultiReaderFastList<>(newDelegate)
+                : new MultiReaderFastList<>(newDelegate, new StampedLock());
+    }
+
     @Override
     protected MutableList<T> getDelegate()
     {
@@ -204,7 +245,7 @@ public final class MultiReaderFastList<T>
     {
         try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
         {
-            return new MultiReaderFastList<>(this.delegate.clone());
+            return this.newWithSameLocking(this.delegate.clone());
         }
     }
 
@@ -324,7 +365,7 @@ public final class MultiReaderFastList<T>
     @Override
     public MultiReaderList<T> newEmpty()
     {
-        return MultiReaderFastList.newList();
+        return this.newWithSameLocking(FastList.newList());
     }
 
     @Override
@@ -332,7 +373,7 @@ public final class MultiReaderFastList<T>
     {
         try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
         {
-            this.forEach(procedure);
+            this.delegate.forEach(procedure);
             return this;
         }
     }
@@ -510,7 +551,12 @@ public final class MultiReaderFastList<T>
     {
         try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
         {
-            return new MultiReaderFastList<>(this.delegate.subList(fromIndex, toIndex), this.lock);
+            MutableList<T> subList = this.delegate.subList(fromIndex, toIndex);
+            if (this.stampedLock == null)
+            {
+                return new MultiReaderFastList<>(subList, this.lock);
+            }
+            return new MultiReaderFastList<>(subList, this.stampedLock);
         }
     }
 
@@ -535,10 +581,7 @@ public final class MultiReaderFastList<T>
     @Override
     public T get(int index)
     {
-        try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
-        {
-            return this.delegate.get(index);
-        }
+        return this.optimisticRead(() -> this.delegate.get(index));
     }
 
     @Override
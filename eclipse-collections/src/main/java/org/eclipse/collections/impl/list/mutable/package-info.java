@@ -31,7 +31,7 @@
  *          {@link org.eclipse.collections.impl.list.mutable.RandomAccessListAdapter} - a MutableList wrapper around a {@link java.util.List} interface instance.
  *     </li>
  *     <li>
- *          {@link org.eclipse.collections.impl.list.mutable.MultiReaderFastList} - provides a thread-safe wrapper around a FastList, using a {@link java.util.concurrent.locks.ReentrantReadWriteLock}.
+ *          {@link org.eclipse.collections.impl.list.mutable.MultiReaderFastList} - provides a thread-safe wrapper around a FastList, using a {@link java.util.concurrent.locks.ReentrantReadWriteLock}, or a {@link java.util.concurrent.locks.StampedLock} with optimistic reads.
  *     </li>
  *     <li>
  *          {@link org.eclipse.collections.impl.list.mutable.SynchronizedMutableList} - a synchronized view of a list.
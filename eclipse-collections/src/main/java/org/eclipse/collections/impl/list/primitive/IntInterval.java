@@ -354,13 +354,16 @@ public final class IntInterval
     @Override
     public int count(IntPredicate predicate)
     {
+        int size = this.size();
+        long value = this.from;
         int count = 0;
-        for (int i = 0; i < this.size(); i++)
+        for (int i = 0; i < size; i++)
         {
-            if (predicate.accept(this.get(i)))
+            if (predicate.accept((int) value))
             {
                 count++;
             }
+            value += this.step;
         }
         return count;
     }
@@ -376,13 +376,16 @@ public final class LongInterval
     @Override
     public int count(LongPredicate predicate)
     {
+        int size = this.size();
+        long value = this.from;
         int count = 0;
-        for (int i = 0; i < this.size(); i++)
+        for (int i = 0; i < size; i++)
         {
-            if (predicate.accept(this.get(i)))
+            if (predicate.accept(value))
             {
                 count++;
             }
+            value += this.step;
         }
         return count;
     }
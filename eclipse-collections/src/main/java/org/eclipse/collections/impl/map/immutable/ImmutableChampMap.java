@@ -0,0 +1,454 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.immutable;
+
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.tuple.ImmutableEntry;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.eclipse.collections.impl.utility.LazyIterate;
+import org.eclipse.collections.impl.utility.internal.ChampNode;
+
+/**
+ * An ImmutableMap backed by a compressed hash-array mapped prefix tree (CHAMP). Unlike {@link ImmutableUnifiedMap},
+ * which copies its whole table, {@link #newWithKeyValue(Object, Object)} and {@link #newWithoutKey(Object)} copy only
+ * the O(log32 n) nodes on the path to the changed key and share the rest of the trie with the original map. This
+ * makes it a good fit for snapshots which change a few keys at a time.
+ * <p>
+ * Every map derived from an ImmutableChampMap with {@code newWith*} or {@code newWithout*} is an ImmutableChampMap,
+ * including the empty map.
+ *
+ * @see ChampNode
+ * @since 12.0
+ */
+public final class ImmutableChampMap<K, V>
+        extends AbstractImmutableMap<K, V>
+        implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final ImmutableChampMap<?, ?> EMPTY = new ImmutableChampMap<>(ChampNode.empty(), 0);
+
+    private static final Object NOT_FOUND = new Object();
+
+    private final transient ChampNode root;
+    private final transient int size;
+
+    private ImmutableChampMap(ChampNode root, int size)
+    {
+        this.root = root;
+        this.size = size;
+    }
+
+    public static <K, V> ImmutableChampMap<K, V> empty()
+    {
+        return (ImmutableChampMap<K, V>) EMPTY;
+    }
+
+    public static <K, V> ImmutableChampMap<K, V> newMap(Map<? extends K, ? extends V> map)
+    {
+        if (map instanceof ImmutableChampMap<?, ?>)
+        {
+            return (ImmutableChampMap<K, V>) map;
+        }
+        ImmutableChampMap<K, V> result = ImmutableChampMap.empty();
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet())
+        {
+            result = result.newWithKeyValue(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return this.root.get(key, ChampNode.hash(key), 0, ChampNode.MAP_WIDTH, NOT_FOUND) != NOT_FOUND;
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        return this.valuesView().contains(value);
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        Object result = this.root.get(key, ChampNode.hash(key), 0, ChampNode.MAP_WIDTH, NOT_FOUND);
+        return result == NOT_FOUND ? null : (V) result;
+    }
+
+    @Override
+    public V getIfAbsentValue(K key, V value)
+    {
+        Object result = this.root.get(key, ChampNode.hash(key), 0, ChampNode.MAP_WIDTH, NOT_FOUND);
+        return result == NOT_FOUND ? value : (V) result;
+    }
+
+    @Override
+    public ImmutableChampMap<K, V> newWithKeyValue(K key, V value)
+    {
+        ChampNode.Change change = new ChampNode.Change();
+        ChampNode newRoot = this.root.updated(key, value, ChampNode.hash(key), 0, ChampNode.MAP_WIDTH, change);
+        if (newRoot == this.root)
+        {
+            return this;
+        }
+        return new ImmutableChampMap<>(newRoot, change.isModified() ? this.size + 1 : this.size);
+    }
+
+    @Override
+    public ImmutableChampMap<K, V> newWithAllKeyValues(Iterable<? extends Pair<? extends K, ? extends V>> keyValues)
+    {
+        ImmutableChampMap<K, V> result = this;
+        for (Pair<? extends K, ? extends V> keyValuePair : keyValues)
+        {
+            result = result.newWithKeyValue(keyValuePair.getOne(), keyValuePair.getTwo());
+        }
+        return result;
+    }
+
+    @Override
+    public ImmutableChampMap<K, V> newWithMap(Map<? extends K, ? extends V> map)
+    {
+        ImmutableChampMap<K, V> result = this;
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet())
+        {
+            result = result.newWithKeyValue(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    @Override
+    public ImmutableChampMap<K, V> newWithMapIterable(MapIterable<? extends K, ? extends V> mapIterable)
+    {
+        ImmutableChampMap<K, V> result = this;
+        for (Pair<? extends K, ? extends V> keyValuePair : mapIterable.keyValuesView())
+        {
+            result = result.newWithKeyValue(keyValuePair.getOne(), keyValuePair.getTwo());
+        }
+        return result;
+    }
+
+    @Override
+    public ImmutableChampMap<K, V> newWithAllKeyValueArguments(Pair<? extends K, ? extends V>... keyValuePairs)
+    {
+        ImmutableChampMap<K, V> result = this;
+        for (Pair<? extends K, ? extends V> keyValuePair : keyValuePairs)
+        {
+            result = result.newWithKeyValue(keyValuePair.getOne(), keyValuePair.getTwo());
+        }
+        return result;
+    }
+
+    @Override
+    public ImmutableChampMap<K, V> newWithoutKey(K key)
+    {
+        ChampNode.Change change = new ChampNode.Change();
+        ChampNode newRoot = this.root.removed(key, ChampNode.hash(key), 0, ChampNode.MAP_WIDTH, change);
+        if (newRoot == this.root)
+        {
+            return this;
+        }
+        return this.size == 1 ? ImmutableChampMap.empty() : new ImmutableChampMap<>(newRoot, this.size - 1);
+    }
+
+    @Override
+    public ImmutableChampMap<K, V> newWithoutAllKeys(Iterable<? extends K> keys)
+    {
+        ImmutableChampMap<K, V> result = this;
+        for (K key : keys)
+        {
+            result = result.newWithoutKey(key);
+        }
+        return result;
+    }
+
+    @Override
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        ImmutableChampMap.forEachKeyValue(this.root, procedure);
+    }
+
+    private static <K, V> void forEachKeyValue(ChampNode node, Procedure2<? super K, ? super V> procedure)
+    {
+        for (int i = 0; i < node.entryCount(ChampNode.MAP_WIDTH); i++)
+        {
+            procedure.value((K) node.key(i, ChampNode.MAP_WIDTH), (V) node.value(i, ChampNode.MAP_WIDTH));
+        }
+        for (int i = 0; i < node.nodeCount(); i++)
+        {
+            ImmutableChampMap.forEachKeyValue(node.node(i), procedure);
+        }
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        this.forEachKeyValue((key, value) -> procedure.value(key));
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        this.forEachKeyValue((key, value) -> procedure.value(value));
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super V> objectIntProcedure)
+    {
+        int[] index = {0};
+        this.forEachKeyValue((key, value) -> objectIntProcedure.value(value, index[0]++));
+    }
+
+    @Override
+    public <P> void forEachWith(Procedure2<? super V, ? super P> procedure, P parameter)
+    {
+        this.forEachKeyValue((key, value) -> procedure.value(value, parameter));
+    }
+
+    @Override
+    public Iterator<V> iterator()
+    {
+        return new ChampNode.Cursor<V>(this.root, ChampNode.MAP_WIDTH)
+        {
+            @Override
+            protected V entry(ChampNode node, int index, int width)
+            {
+                return (V) node.value(index, width);
+            }
+        };
+    }
+
+    @Override
+    public Set<K> keySet()
+    {
+        return new KeySet();
+    }
+
+    @Override
+    public Collection<V> values()
+    {
+        return new ValuesCollection();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet()
+    {
+        return new EntrySet();
+    }
+
+    @Override
+    public RichIterable<K> keysView()
+    {
+        return LazyIterate.adapt(this.keySet());
+    }
+
+    @Override
+    public RichIterable<V> valuesView()
+    {
+        return LazyIterate.adapt(this.values());
+    }
+
+    @Override
+    public RichIterable<Pair<K, V>> keyValuesView()
+    {
+        return LazyIterate.adapt(() -> new ChampNode.Cursor<Pair<K, V>>(this.root, ChampNode.MAP_WIDTH)
+        {
+            @Override
+            protected Pair<K, V> entry(ChampNode node, int index, int width)
+            {
+                return Tuples.pair((K) node.key(index, width), (V) node.value(index, width));
+            }
+        });
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+        if (!(object instanceof Map))
+        {
+            return false;
+        }
+        Map<K, V> other = (Map<K, V>) object;
+        if (this.size != other.size())
+        {
+            return false;
+        }
+        Iterator<Entry<K, V>> iterator = this.entrySet().iterator();
+        while (iterator.hasNext())
+        {
+            Entry<K, V> entry = iterator.next();
+            if (!this.keyAndValueEquals(entry.getKey(), entry.getValue(), other))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int[] hashCode = {0};
+        this.forEachKeyValue((key, value) -> hashCode[0] += this.keyAndValueHashCode(key, value));
+        return hashCode[0];
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder("{");
+        this.forEachKeyValue((key, value) ->
+        {
+            if (builder.length() > 1)
+            {
+                builder.append(", ");
+            }
+            builder.append(key == this ? "(this Map)" : String.valueOf(key));
+            builder.append('=');
+            builder.append(value == this ? "(this Map)" : String.valueOf(value));
+        });
+        return builder.append('}').toString();
+    }
+
+    private Object writeReplace()
+    {
+        return new SerializationProxy<>(this);
+    }
+
+    private final class KeySet extends AbstractSet<K>
+    {
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new ChampNode.Cursor<K>(ImmutableChampMap.this.root, ChampNode.MAP_WIDTH)
+            {
+                @Override
+                protected K entry(ChampNode node, int index, int width)
+                {
+                    return (K) node.key(index, width);
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return ImmutableChampMap.this.size;
+        }
+
+        @Override
+        public boolean contains(Object key)
+        {
+            return ImmutableChampMap.this.containsKey(key);
+        }
+    }
+
+    private final class ValuesCollection extends AbstractCollection<V>
+    {
+        @Override
+        public Iterator<V> iterator()
+        {
+            return ImmutableChampMap.this.iterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return ImmutableChampMap.this.size;
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>>
+    {
+        @Override
+        public Iterator<Entry<K, V>> iterator()
+        {
+            return new ChampNode.Cursor<Entry<K, V>>(ImmutableChampMap.this.root, ChampNode.MAP_WIDTH)
+            {
+                @Override
+                protected Entry<K, V> entry(ChampNode node, int index, int width)
+                {
+                    return ImmutableEntry.of((K) node.key(index, width), (V) node.value(index, width));
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return ImmutableChampMap.this.size;
+        }
+
+        @Override
+        public boolean contains(Object object)
+        {
+            if (!(object instanceof Entry))
+            {
+                return false;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) object;
+            Object key = entry.getKey();
+            Object value = ImmutableChampMap.this.root.get(key, ChampNode.hash(key), 0, ChampNode.MAP_WIDTH, NOT_FOUND);
+            return value != NOT_FOUND && (value == null ? entry.getValue() == null : value.equals(entry.getValue()));
+        }
+    }
+
+    /**
+     * Writes the same form as the other immutable maps, but reads it back into an ImmutableChampMap.
+     */
+    static final class SerializationProxy<K, V> extends ImmutableMapSerializationProxy<K, V>
+    {
+        private static final long serialVersionUID = 1L;
+
+        @SuppressWarnings("UnusedDeclaration")
+        public SerializationProxy()
+        {
+            // Empty constructor for Externalizable class
+        }
+
+        SerializationProxy(ImmutableMap<K, V> map)
+        {
+            super(map);
+        }
+
+        @Override
+        protected ImmutableMap<K, V> toImmutable(MutableMap<K, V> deserializedMap)
+        {
+            return ImmutableChampMap.newMap(deserializedMap);
+        }
+    }
+}
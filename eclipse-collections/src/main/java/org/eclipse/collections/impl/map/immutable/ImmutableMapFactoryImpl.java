@@ -185,4 +185,16 @@ public class ImmutableMapFactoryImpl implements ImmutableMapFactory
                 throw new AssertionError();
         }
     }
+
+    @Override
+    public <K, V> ImmutableMap<K, V> persistent()
+    {
+        return ImmutableChampMap.empty();
+    }
+
+    @Override
+    public <K, V> ImmutableMap<K, V> persistentWithAll(Map<? extends K, ? extends V> map)
+    {
+        return ImmutableChampMap.newMap(map);
+    }
 }
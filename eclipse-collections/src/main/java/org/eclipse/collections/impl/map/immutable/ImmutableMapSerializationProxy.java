@@ -76,7 +76,12 @@ class ImmutableMapSerializationProxy<K, V> implements Externalizable
             }
         }
 
-        this.map = deserializedMap.toImmutable();
+        this.map = this.toImmutable(deserializedMap);
+    }
+
+    protected ImmutableMap<K, V> toImmutable(MutableMap<K, V> deserializedMap)
+    {
+        return deserializedMap.toImmutable();
     }
 
     protected Object readResolve()
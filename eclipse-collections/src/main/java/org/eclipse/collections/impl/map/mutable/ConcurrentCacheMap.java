@@ -0,0 +1,1551 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.function.primitive.LongFunction0;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.UnmodifiableIteratorAdapter;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * A bounded ConcurrentMutableMap for use as a cache. Entries are held in a {@link ConcurrentHashMap} and are evicted
+ * once the map grows past a maximum size or a maximum total weight, and optionally once they have not been written or
+ * read for a fixed duration.
+ * <p>
+ * The eviction policy is W-TinyLFU. New entries enter a small LRU window. An entry pushed out of the window is only
+ * admitted to the main space if it has been used more often than the entry it would displace, as estimated by a
+ * count-min sketch of recent key frequencies. The main space is a segmented LRU: entries read again while on
+ * probation are promoted to a protected segment. This keeps frequently used entries resident through scans that
+ * would flush a plain LRU cache.
+ * <p>
+ * Reads never lock. They are recorded in a lossy buffer which is replayed against the policy in batches. Writes update
+ * the map without locking, then take a short lock to update the policy and evict.
+ * <p>
+ * {@link #getIfAbsentPut(Object, Function0)} and its variants compute a missing value at most once: concurrent callers
+ * that miss on the same key wait for the first caller's result. The function must not update this map.
+ * <p>
+ * Null keys and values are not supported. {@link #size()} may include entries that have expired but not yet been
+ * removed, and entries whose value is still being computed. {@link #keySet()}, {@link #values()},
+ * {@link #entrySet()} and {@link #iterator()} return unmodifiable snapshots.
+ *
+ * @since 12.0
+ */
+public final class ConcurrentCacheMap<K, V>
+        extends AbstractMutableMap<K, V>
+        implements ConcurrentMutableMap<K, V>
+{
+    private static final int READ_BUFFER_SIZE = 128;
+    private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+    private static final int READ_BUFFER_DRAIN_THRESHOLD = READ_BUFFER_SIZE / 4;
+
+    private static final int WINDOW_PERCENT = 1;
+    private static final int PROTECTED_PERCENT = 80;
+
+    private static final byte UNLINKED = 0;
+    private static final byte WINDOW = 1;
+    private static final byte PROBATION = 2;
+    private static final byte PROTECTED = 3;
+
+    private final ConcurrentHashMap<K, Node<K, V>> data = ConcurrentHashMap.newMap();
+
+    private final long maximumWeight;
+    private final Function2<? super K, ? super V, Integer> weigher;
+    private final long expireAfterWriteNanos;
+    private final long expireAfterAccessNanos;
+    private final LongFunction0 ticker;
+
+    private final AtomicReferenceArray<Node<K, V>> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+    private final AtomicLong readBufferWriteCount = new AtomicLong();
+    private volatile long readBufferReadCount;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder loadSuccessCount = new LongAdder();
+    private final LongAdder loadFailureCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder evictionWeight = new LongAdder();
+
+    // The eviction policy, guarded by the eviction lock
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final FrequencySketch sketch;
+    private final NodeDeque<K, V> window = new NodeDeque<>(true);
+    private final NodeDeque<K, V> probation = new NodeDeque<>(true);
+    private final NodeDeque<K, V> protectedSegment = new NodeDeque<>(true);
+    private final NodeDeque<K, V> writeOrder = new NodeDeque<>(false);
+    private final long windowMaximum;
+    private final long protectedMaximum;
+    private long weightedSize;
+    private long windowWeight;
+    private long protectedWeight;
+
+    private ConcurrentCacheMap(
+            long maximumWeight,
+            Function2<? super K, ? super V, Integer> weigher,
+            long expireAfterWriteNanos,
+            long expireAfterAccessNanos,
+            LongFunction0 ticker)
+    {
+        this.maximumWeight = maximumWeight;
+        this.weigher = weigher;
+        this.expireAfterWriteNanos = expireAfterWriteNanos;
+        this.expireAfterAccessNanos = expireAfterAccessNanos;
+        this.ticker = ticker;
+        if (this.isBounded())
+        {
+            this.sketch = new FrequencySketch(maximumWeight);
+            this.windowMaximum = Math.max(1L, maximumWeight / 100L * WINDOW_PERCENT);
+            long mainMaximum = maximumWeight - this.windowMaximum;
+            // split into quotient and remainder so small maximums keep a probation segment and large ones do not overflow
+            this.protectedMaximum = mainMaximum / 100L * PROTECTED_PERCENT + mainMaximum % 100L * PROTECTED_PERCENT / 100L;
+        }
+        else
+        {
+            this.sketch = null;
+            this.windowMaximum = Long.MAX_VALUE;
+            this.protectedMaximum = 0L;
+        }
+    }
+
+    public static <K, V> ConcurrentCacheMap<K, V> newMap(long maximumSize)
+    {
+        return ConcurrentCacheMap.<K, V>newBuilder().maximumSize(maximumSize).build();
+    }
+
+    public static <K, V> Builder<K, V> newBuilder()
+    {
+        return new Builder<>();
+    }
+
+    private boolean isBounded()
+    {
+        return this.maximumWeight != Long.MAX_VALUE;
+    }
+
+    private boolean expires()
+    {
+        return this.expireAfterWriteNanos > 0L || this.expireAfterAccessNanos > 0L;
+    }
+
+    private boolean recordsReads()
+    {
+        return this.isBounded() || this.expireAfterAccessNanos > 0L;
+    }
+
+    private long now()
+    {
+        return this.expires() ? this.ticker.value() : 0L;
+    }
+
+    private boolean hasExpired(Node<K, V> node, long now)
+    {
+        return this.expireAfterWriteNanos > 0L && now - node.writeTime >= this.expireAfterWriteNanos
+                || this.expireAfterAccessNanos > 0L && now - node.accessTime >= this.expireAfterAccessNanos;
+    }
+
+    private boolean isLive(Node<K, V> node, long now)
+    {
+        return node.loading == null && !this.hasExpired(node, now);
+    }
+
+    private int weigh(K key, V value)
+    {
+        if (this.weigher == null)
+        {
+            return 1;
+        }
+        int weight = this.weigher.value(key, value);
+        if (weight < 0)
+        {
+            throw new IllegalArgumentException("Weight must not be negative: " + weight);
+        }
+        return weight;
+    }
+
+    // Statistics
+
+    /**
+     * Returns the number of lookups that found a live entry.
+     */
+    public long getHitCount()
+    {
+        return this.hitCount.sum();
+    }
+
+    /**
+     * Returns the number of lookups that found no entry, or an expired one.
+     */
+    public long getMissCount()
+    {
+        return this.missCount.sum();
+    }
+
+    /**
+     * Returns the number of values computed by {@code getIfAbsentPut} and its variants.
+     */
+    public long getLoadSuccessCount()
+    {
+        return this.loadSuccessCount.sum();
+    }
+
+    /**
+     * Returns the number of {@code getIfAbsentPut} computations that threw or returned null.
+     */
+    public long getLoadFailureCount()
+    {
+        return this.loadFailureCount.sum();
+    }
+
+    /**
+     * Returns the number of entries removed because of the size or weight bound, or because they expired.
+     */
+    public long getEvictionCount()
+    {
+        return this.evictionCount.sum();
+    }
+
+    /**
+     * Returns the total weight of the entries counted by {@link #getEvictionCount()}.
+     */
+    public long getEvictionWeight()
+    {
+        return this.evictionWeight.sum();
+    }
+
+    /**
+     * Returns the total weight of the entries in the map, as of the last maintenance.
+     */
+    public long getWeightedSize()
+    {
+        this.evictionLock.lock();
+        try
+        {
+            return this.weightedSize;
+        }
+        finally
+        {
+            this.evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Applies pending reads to the eviction policy and removes expired entries now rather than on the next write.
+     */
+    public void cleanUp()
+    {
+        this.evictionLock.lock();
+        try
+        {
+            this.maintenance();
+        }
+        finally
+        {
+            this.evictionLock.unlock();
+        }
+    }
+
+    // Reads
+
+    @Override
+    public V get(Object key)
+    {
+        Node<K, V> node = this.data.get(key);
+        if (node == null || node.loading != null)
+        {
+            this.missCount.increment();
+            return null;
+        }
+        long now = this.now();
+        if (this.hasExpired(node, now))
+        {
+            this.missCount.increment();
+            this.expire(node);
+            return null;
+        }
+        V value = node.value;
+        this.hitCount.increment();
+        this.afterRead(node, now);
+        return value;
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        Node<K, V> node = this.data.get(key);
+        return node != null && this.isLive(node, this.now());
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        long now = this.now();
+        return this.data.anySatisfy(node -> this.isLive(node, now) && node.value.equals(value));
+    }
+
+    @Override
+    public int size()
+    {
+        return this.data.size();
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.data.isEmpty();
+    }
+
+    @Override
+    public boolean notEmpty()
+    {
+        return !this.isEmpty();
+    }
+
+    @Override
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        long now = this.now();
+        this.data.forEachKeyValue((key, node) -> {
+            if (this.isLive(node, now))
+            {
+                procedure.value(key, node.value);
+            }
+        });
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        this.forEachKeyValue((key, value) -> procedure.value(value));
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        this.forEachKeyValue((key, value) -> procedure.value(key));
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super V> objectIntProcedure)
+    {
+        Iterate.forEachWithIndex(this.toSnapshot().values(), objectIntProcedure);
+    }
+
+    @Override
+    public <P> void forEachWith(Procedure2<? super V, ? super P> procedure, P parameter)
+    {
+        this.forEachKeyValue((key, value) -> procedure.value(value, parameter));
+    }
+
+    @Override
+    public ConcurrentCacheMap<K, V> tap(Procedure<? super V> procedure)
+    {
+        this.forEach(procedure);
+        return this;
+    }
+
+    private MutableMap<K, V> toSnapshot()
+    {
+        MutableMap<K, V> snapshot = UnifiedMap.newMap(this.data.size());
+        this.forEachKeyValue(snapshot::put);
+        return snapshot;
+    }
+
+    @Override
+    public Iterator<V> iterator()
+    {
+        return new UnmodifiableIteratorAdapter<>(this.toSnapshot().iterator());
+    }
+
+    @Override
+    public Set<K> keySet()
+    {
+        return Collections.unmodifiableSet(this.toSnapshot().keySet());
+    }
+
+    @Override
+    public Collection<V> values()
+    {
+        return Collections.unmodifiableCollection(this.toSnapshot().values());
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet()
+    {
+        return Collections.unmodifiableSet(this.toSnapshot().entrySet());
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        return this == o || this.toSnapshot().equals(o);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return this.toSnapshot().hashCode();
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.toSnapshot().toString();
+    }
+
+    // Writes
+
+    @Override
+    public V put(K key, V value)
+    {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        long now = this.now();
+        int weight = this.weigh(key, value);
+        Node<K, V> newNode = null;
+        while (true)
+        {
+            Node<K, V> node = this.data.get(key);
+            if (node == null)
+            {
+                if (newNode == null)
+                {
+                    newNode = new Node<>(key, value, weight, now);
+                }
+                node = this.data.putIfAbsent(key, newNode);
+                if (node == null)
+                {
+                    this.afterWrite(newNode);
+                    return null;
+                }
+            }
+            CompletableFuture<V> loading = node.loading;
+            if (loading != null)
+            {
+                ConcurrentCacheMap.awaitQuietly(loading);
+                continue;
+            }
+            V oldValue;
+            synchronized (node)
+            {
+                if (!node.alive || node.loading != null)
+                {
+                    continue;
+                }
+                oldValue = this.hasExpired(node, now) ? null : node.value;
+                node.setValue(value, weight, now);
+            }
+            this.afterWrite(node);
+            return oldValue;
+        }
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map)
+    {
+        map.forEach(this::put);
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value)
+    {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        long now = this.now();
+        int weight = this.weigh(key, value);
+        Node<K, V> newNode = null;
+        while (true)
+        {
+            Node<K, V> node = this.data.get(key);
+            if (node == null)
+            {
+                if (newNode == null)
+                {
+                    newNode = new Node<>(key, value, weight, now);
+                }
+                node = this.data.putIfAbsent(key, newNode);
+                if (node == null)
+                {
+                    this.afterWrite(newNode);
+                    return null;
+                }
+            }
+            CompletableFuture<V> loading = node.loading;
+            if (loading != null)
+            {
+                ConcurrentCacheMap.awaitQuietly(loading);
+                continue;
+            }
+            synchronized (node)
+            {
+                if (!node.alive || node.loading != null)
+                {
+                    continue;
+                }
+                if (!this.hasExpired(node, now))
+                {
+                    return node.value;
+                }
+                node.setValue(value, weight, now);
+            }
+            this.afterWrite(node);
+            return null;
+        }
+    }
+
+    @Override
+    public <E> MutableMap<K, V> collectKeysAndValues(
+            Iterable<E> iterable,
+            Function<? super E, ? extends K> keyFunction,
+            Function<? super E, ? extends V> valueFunction)
+    {
+        Iterate.addToMap(iterable, keyFunction, valueFunction, this);
+        return this;
+    }
+
+    @Override
+    public V getIfAbsentPut(K key, V value)
+    {
+        V oldValue = this.putIfAbsent(key, value);
+        return oldValue == null ? value : oldValue;
+    }
+
+    @Override
+    public V getIfAbsentPut(K key, Function0<? extends V> function)
+    {
+        return this.getIfAbsentPutWith(key, Function0::value, function);
+    }
+
+    @Override
+    public V getIfAbsentPutWithKey(K key, Function<? super K, ? extends V> function)
+    {
+        return this.getIfAbsentPutWith(key, function, key);
+    }
+
+    @Override
+    public <P> V getIfAbsentPutWith(K key, Function<? super P, ? extends V> function, P parameter)
+    {
+        Objects.requireNonNull(key);
+        long now = this.now();
+        Node<K, V> node = this.data.get(key);
+        if (node != null && this.isLive(node, now))
+        {
+            V value = node.value;
+            this.hitCount.increment();
+            this.afterRead(node, now);
+            return value;
+        }
+        this.missCount.increment();
+        Node<K, V> loadingNode = null;
+        while (true)
+        {
+            node = this.data.get(key);
+            if (node == null)
+            {
+                if (loadingNode == null)
+                {
+                    loadingNode = new Node<>(key);
+                }
+                node = this.data.putIfAbsent(key, loadingNode);
+                if (node == null)
+                {
+                    return this.load(loadingNode, function, parameter);
+                }
+            }
+            CompletableFuture<V> loading = node.loading;
+            if (loading != null)
+            {
+                return ConcurrentCacheMap.await(loading);
+            }
+            if (!this.hasExpired(node, now))
+            {
+                return node.value;
+            }
+            this.expire(node);
+        }
+    }
+
+    private <P> V load(Node<K, V> node, Function<? super P, ? extends V> function, P parameter)
+    {
+        CompletableFuture<V> loading = node.loading;
+        V value;
+        int weight;
+        try
+        {
+            value = Objects.requireNonNull(function.valueOf(parameter), "getIfAbsentPut function returned null");
+            weight = this.weigh(node.key, value);
+        }
+        catch (RuntimeException | Error e)
+        {
+            this.loadFailureCount.increment();
+            if (this.data.remove(node.key, node))
+            {
+                synchronized (node)
+                {
+                    node.alive = false;
+                }
+            }
+            loading.completeExceptionally(e);
+            throw e;
+        }
+        this.loadSuccessCount.increment();
+        long now = this.now();
+        synchronized (node)
+        {
+            if (node.loading == loading)
+            {
+                node.setValue(value, weight, now);
+            }
+        }
+        loading.complete(value);
+        this.afterWrite(node);
+        return value;
+    }
+
+    private static <V> V await(CompletableFuture<V> loading)
+    {
+        try
+        {
+            return loading.join();
+        }
+        catch (CompletionException e)
+        {
+            if (e.getCause() instanceof RuntimeException)
+            {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error)
+            {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Waits for another thread's load to finish before updating its entry. A failed load has already removed the entry.
+     */
+    private static void awaitQuietly(CompletableFuture<?> loading)
+    {
+        loading.exceptionally(e -> null).join();
+    }
+
+    @Override
+    public V remove(Object key)
+    {
+        Node<K, V> node = this.data.remove(key);
+        if (node == null)
+        {
+            return null;
+        }
+        long now = this.now();
+        V oldValue;
+        synchronized (node)
+        {
+            node.alive = false;
+            oldValue = this.isLive(node, now) ? node.value : null;
+        }
+        this.afterWrite(node);
+        return oldValue;
+    }
+
+    @Override
+    public V removeKey(K key)
+    {
+        return this.remove(key);
+    }
+
+    @Override
+    public boolean remove(Object key, Object value)
+    {
+        long now = this.now();
+        while (true)
+        {
+            Node<K, V> node = this.data.get(key);
+            if (node == null)
+            {
+                return false;
+            }
+            synchronized (node)
+            {
+                if (!node.alive)
+                {
+                    continue;
+                }
+                if (!this.isLive(node, now) || !node.value.equals(value))
+                {
+                    return false;
+                }
+                if (!this.data.remove(key, node))
+                {
+                    continue;
+                }
+                node.alive = false;
+            }
+            this.afterWrite(node);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean removeIf(Predicate2<? super K, ? super V> predicate)
+    {
+        long now = this.now();
+        boolean removed = false;
+        for (Node<K, V> node : this.data.values())
+        {
+            if (this.isLive(node, now))
+            {
+                V value = node.value;
+                if (predicate.accept(node.key, value) && this.remove(node.key, value))
+                {
+                    removed = true;
+                }
+            }
+        }
+        return removed;
+    }
+
+    @Override
+    public V replace(K key, V value)
+    {
+        Objects.requireNonNull(value);
+        long now = this.now();
+        int weight = this.weigh(key, value);
+        while (true)
+        {
+            Node<K, V> node = this.data.get(key);
+            if (node == null)
+            {
+                return null;
+            }
+            V oldValue;
+            synchronized (node)
+            {
+                if (!node.alive)
+                {
+                    continue;
+                }
+                if (!this.isLive(node, now))
+                {
+                    return null;
+                }
+                oldValue = node.value;
+                node.setValue(value, weight, now);
+            }
+            this.afterWrite(node);
+            return oldValue;
+        }
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue)
+    {
+        Objects.requireNonNull(newValue);
+        long now = this.now();
+        int weight = this.weigh(key, newValue);
+        while (true)
+        {
+            Node<K, V> node = this.data.get(key);
+            if (node == null)
+            {
+                return false;
+            }
+            synchronized (node)
+            {
+                if (!node.alive)
+                {
+                    continue;
+                }
+                if (!this.isLive(node, now) || !node.value.equals(oldValue))
+                {
+                    return false;
+                }
+                node.setValue(newValue, weight, now);
+            }
+            this.afterWrite(node);
+            return true;
+        }
+    }
+
+    @Override
+    public V updateValue(K key, Function0<? extends V> factory, Function<? super V, ? extends V> function)
+    {
+        return this.updateValueWith(key, factory, (value, each) -> function.valueOf(value), null);
+    }
+
+    @Override
+    public <P> V updateValueWith(K key, Function0<? extends V> factory, Function2<? super V, ? super P, ? extends V> function, P parameter)
+    {
+        Objects.requireNonNull(key);
+        long now = this.now();
+        while (true)
+        {
+            Node<K, V> node = this.data.get(key);
+            if (node == null)
+            {
+                V newValue = Objects.requireNonNull(function.value(factory.value(), parameter));
+                Node<K, V> newNode = new Node<>(key, newValue, this.weigh(key, newValue), now);
+                if (this.data.putIfAbsent(key, newNode) == null)
+                {
+                    this.afterWrite(newNode);
+                    return newValue;
+                }
+                continue;
+            }
+            CompletableFuture<V> loading = node.loading;
+            if (loading != null)
+            {
+                ConcurrentCacheMap.awaitQuietly(loading);
+                continue;
+            }
+            V newValue;
+            synchronized (node)
+            {
+                if (!node.alive || node.loading != null)
+                {
+                    continue;
+                }
+                V oldValue = this.hasExpired(node, now) ? factory.value() : node.value;
+                newValue = Objects.requireNonNull(function.value(oldValue, parameter));
+                node.setValue(newValue, this.weigh(key, newValue), now);
+            }
+            this.afterWrite(node);
+            return newValue;
+        }
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction)
+    {
+        Objects.requireNonNull(value, "value cannot be null");
+        Objects.requireNonNull(remappingFunction, "remappingFunction cannot be null");
+        while (true)
+        {
+            V oldValue = this.putIfAbsent(key, value);
+            if (oldValue == null)
+            {
+                return value;
+            }
+            V newValue = remappingFunction.apply(oldValue, value);
+            if (newValue == null)
+            {
+                if (this.remove(key, oldValue))
+                {
+                    return null;
+                }
+            }
+            else if (this.replace(key, oldValue, newValue))
+            {
+                return newValue;
+            }
+        }
+    }
+
+    @Override
+    public void clear()
+    {
+        this.data.forEachKey(this::remove);
+    }
+
+    private void expire(Node<K, V> node)
+    {
+        if (this.data.remove(node.key, node))
+        {
+            synchronized (node)
+            {
+                node.alive = false;
+            }
+            this.evictionCount.increment();
+            this.evictionWeight.add(node.weight);
+            this.afterWrite(node);
+        }
+    }
+
+    // Copies
+
+    @Override
+    public ConcurrentCacheMap<K, V> newEmpty()
+    {
+        return new ConcurrentCacheMap<>(this.maximumWeight, this.weigher, this.expireAfterWriteNanos, this.expireAfterAccessNanos, this.ticker);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newEmpty(int capacity)
+    {
+        return (MutableMap<K, V>) this.newEmpty();
+    }
+
+    @Override
+    public MutableMap<K, V> clone()
+    {
+        ConcurrentCacheMap<K, V> result = this.newEmpty();
+        result.putAll(this.toSnapshot());
+        return result;
+    }
+
+    @Override
+    public ImmutableMap<K, V> toImmutable()
+    {
+        return Maps.immutable.ofMap(this.toSnapshot());
+    }
+
+    // Eviction policy
+
+    private void afterRead(Node<K, V> node, long now)
+    {
+        if (this.expireAfterAccessNanos > 0L)
+        {
+            node.accessTime = now;
+        }
+        if (!this.recordsReads())
+        {
+            return;
+        }
+        long writeCount = this.readBufferWriteCount.get();
+        long pending = writeCount - this.readBufferReadCount;
+        if (pending < READ_BUFFER_SIZE && this.readBufferWriteCount.compareAndSet(writeCount, writeCount + 1L))
+        {
+            this.readBuffer.lazySet((int) writeCount & READ_BUFFER_MASK, node);
+            pending++;
+        }
+        if (pending >= READ_BUFFER_DRAIN_THRESHOLD && this.evictionLock.tryLock())
+        {
+            try
+            {
+                this.maintenance();
+            }
+            finally
+            {
+                this.evictionLock.unlock();
+            }
+        }
+    }
+
+    private void afterWrite(Node<K, V> node)
+    {
+        this.evictionLock.lock();
+        try
+        {
+            this.applyWrite(node);
+            this.maintenance();
+        }
+        finally
+        {
+            this.evictionLock.unlock();
+        }
+    }
+
+    private void applyWrite(Node<K, V> node)
+    {
+        if (!node.alive || node.loading != null)
+        {
+            if (node.queue != UNLINKED)
+            {
+                this.unlink(node);
+            }
+            return;
+        }
+        int weight = node.weight;
+        if (node.queue == UNLINKED)
+        {
+            node.policyWeight = weight;
+            node.queue = WINDOW;
+            this.window.addLast(node);
+            this.windowWeight += weight;
+            this.weightedSize += weight;
+            if (this.expireAfterWriteNanos > 0L)
+            {
+                this.writeOrder.addLast(node);
+            }
+            if (this.sketch != null)
+            {
+                this.sketch.increment(node.key);
+            }
+            return;
+        }
+        int delta = weight - node.policyWeight;
+        node.policyWeight = weight;
+        this.weightedSize += delta;
+        if (node.queue == WINDOW)
+        {
+            this.windowWeight += delta;
+        }
+        else if (node.queue == PROTECTED)
+        {
+            this.protectedWeight += delta;
+        }
+        if (this.expireAfterWriteNanos > 0L)
+        {
+            this.writeOrder.moveToBack(node);
+        }
+        this.onAccess(node);
+    }
+
+    private void maintenance()
+    {
+        this.drainReadBuffer();
+        if (this.expires())
+        {
+            this.expireEntries();
+        }
+        if (this.isBounded())
+        {
+            this.evictFromMain(this.evictFromWindow());
+        }
+    }
+
+    private void drainReadBuffer()
+    {
+        long readCount = this.readBufferReadCount;
+        long writeCount = this.readBufferWriteCount.get();
+        for (; readCount < writeCount; readCount++)
+        {
+            int index = (int) readCount & READ_BUFFER_MASK;
+            Node<K, V> node = this.readBuffer.get(index);
+            if (node == null)
+            {
+                // the reader has claimed the slot but not yet filled it
+                break;
+            }
+            this.readBuffer.lazySet(index, null);
+            this.onAccess(node);
+        }
+        this.readBufferReadCount = readCount;
+    }
+
+    private void onAccess(Node<K, V> node)
+    {
+        if (node.queue == UNLINKED)
+        {
+            return;
+        }
+        if (this.sketch != null)
+        {
+            this.sketch.increment(node.key);
+        }
+        if (node.queue == WINDOW)
+        {
+            this.window.moveToBack(node);
+        }
+        else if (node.queue == PROBATION)
+        {
+            this.probation.remove(node);
+            this.protectedSegment.addLast(node);
+            node.queue = PROTECTED;
+            this.protectedWeight += node.policyWeight;
+            while (this.protectedWeight > this.protectedMaximum)
+            {
+                Node<K, V> demoted = this.protectedSegment.first;
+                this.protectedSegment.remove(demoted);
+                this.probation.addLast(demoted);
+                demoted.queue = PROBATION;
+                this.protectedWeight -= demoted.policyWeight;
+            }
+        }
+        else
+        {
+            this.protectedSegment.moveToBack(node);
+        }
+    }
+
+    private void expireEntries()
+    {
+        long now = this.ticker.value();
+        if (this.expireAfterAccessNanos > 0L)
+        {
+            this.expireFrom(this.window, now);
+            this.expireFrom(this.probation, now);
+            this.expireFrom(this.protectedSegment, now);
+        }
+        if (this.expireAfterWriteNanos > 0L)
+        {
+            this.expireFrom(this.writeOrder, now);
+        }
+    }
+
+    private void expireFrom(NodeDeque<K, V> deque, long now)
+    {
+        Node<K, V> node = deque.first;
+        while (node != null && this.hasExpired(node, now))
+        {
+            this.evict(node);
+            node = deque.first;
+        }
+    }
+
+    /**
+     * Moves entries from the window to the tail of the probation segment until the window is within its bound.
+     *
+     * @return the number of entries moved, which are candidates for admission to the main space
+     */
+    private int evictFromWindow()
+    {
+        int candidates = 0;
+        while (this.windowWeight > this.windowMaximum)
+        {
+            Node<K, V> node = this.window.first;
+            this.window.remove(node);
+            this.windowWeight -= node.policyWeight;
+            this.probation.addLast(node);
+            node.queue = PROBATION;
+            candidates++;
+        }
+        return candidates;
+    }
+
+    /**
+     * Evicts until the map is within its bound. Each candidate that has just left the window competes with the entry at
+     * the head of probation, and whichever the frequency sketch says is used less often is evicted.
+     */
+    private void evictFromMain(int candidateCount)
+    {
+        int candidates = candidateCount;
+        Node<K, V> candidate = candidates > 0 ? this.probation.last : null;
+        while (this.weightedSize > this.maximumWeight)
+        {
+            Node<K, V> victim = this.probation.first;
+            if (candidate == null || victim == null)
+            {
+                Node<K, V> node = victim;
+                if (node == null)
+                {
+                    node = this.protectedSegment.first == null ? this.window.first : this.protectedSegment.first;
+                }
+                if (node == null)
+                {
+                    return;
+                }
+                this.evict(node);
+            }
+            else if (victim == candidate)
+            {
+                this.evict(candidate);
+                candidate = null;
+            }
+            else if (this.admit(candidate.key, victim.key))
+            {
+                this.evict(victim);
+            }
+            else
+            {
+                candidates--;
+                Node<K, V> previous = candidates > 0 ? candidate.accessPrevious : null;
+                this.evict(candidate);
+                candidate = previous;
+            }
+        }
+    }
+
+    private boolean admit(K candidateKey, K victimKey)
+    {
+        return this.sketch.frequency(candidateKey) > this.sketch.frequency(victimKey);
+    }
+
+    private void evict(Node<K, V> node)
+    {
+        if (this.data.remove(node.key, node))
+        {
+            synchronized (node)
+            {
+                node.alive = false;
+            }
+            this.evictionCount.increment();
+            this.evictionWeight.add(node.policyWeight);
+        }
+        this.unlink(node);
+    }
+
+    private void unlink(Node<K, V> node)
+    {
+        if (node.queue == WINDOW)
+        {
+            this.window.remove(node);
+            this.windowWeight -= node.policyWeight;
+        }
+        else if (node.queue == PROBATION)
+        {
+            this.probation.remove(node);
+        }
+        else if (node.queue == PROTECTED)
+        {
+            this.protectedSegment.remove(node);
+            this.protectedWeight -= node.policyWeight;
+        }
+        if (this.expireAfterWriteNanos > 0L)
+        {
+            this.writeOrder.remove(node);
+        }
+        this.weightedSize -= node.policyWeight;
+        node.policyWeight = 0;
+        node.queue = UNLINKED;
+    }
+
+    public static final class Builder<K, V>
+    {
+        private long maximumSize = -1L;
+        private long maximumWeight = -1L;
+        private Function2<? super K, ? super V, Integer> weigher;
+        private long expireAfterWriteNanos;
+        private long expireAfterAccessNanos;
+        private LongFunction0 ticker = System::nanoTime;
+
+        private Builder()
+        {
+        }
+
+        /**
+         * Bounds the number of entries in the map.
+         */
+        public Builder<K, V> maximumSize(long maximumSize)
+        {
+            if (maximumSize < 0L)
+            {
+                throw new IllegalArgumentException("Maximum size must not be negative: " + maximumSize);
+            }
+            if (this.maximumWeight >= 0L)
+            {
+                throw new IllegalStateException("Cannot bound both the size and the weight");
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Bounds the total weight of the entries in the map, where {@code weigher} gives the weight of each entry.
+         * The weight of an entry is computed when it is written.
+         */
+        public Builder<K, V> maximumWeight(long maximumWeight, Function2<? super K, ? super V, Integer> weigher)
+        {
+            if (maximumWeight < 0L)
+            {
+                throw new IllegalArgumentException("Maximum weight must not be negative: " + maximumWeight);
+            }
+            if (this.maximumSize >= 0L)
+            {
+                throw new IllegalStateException("Cannot bound both the size and the weight");
+            }
+            this.maximumWeight = maximumWeight;
+            this.weigher = Objects.requireNonNull(weigher);
+            return this;
+        }
+
+        /**
+         * Removes each entry once {@code duration} has passed since it was last written.
+         */
+        public Builder<K, V> expireAfterWrite(long duration, TimeUnit unit)
+        {
+            this.expireAfterWriteNanos = Builder.toPositiveNanos(duration, unit);
+            return this;
+        }
+
+        /**
+         * Removes each entry once {@code duration} has passed since it was last read or written.
+         */
+        public Builder<K, V> expireAfterAccess(long duration, TimeUnit unit)
+        {
+            this.expireAfterAccessNanos = Builder.toPositiveNanos(duration, unit);
+            return this;
+        }
+
+        /**
+         * Sets the nanosecond time source used for expiration. Defaults to {@link System#nanoTime()}.
+         */
+        public Builder<K, V> ticker(LongFunction0 ticker)
+        {
+            this.ticker = Objects.requireNonNull(ticker);
+            return this;
+        }
+
+        private static long toPositiveNanos(long duration, TimeUnit unit)
+        {
+            if (duration <= 0L)
+            {
+                throw new IllegalArgumentException("Duration must be positive: " + duration);
+            }
+            return unit.toNanos(duration);
+        }
+
+        public ConcurrentCacheMap<K, V> build()
+        {
+            long bound = this.maximumSize >= 0L ? this.maximumSize : this.maximumWeight >= 0L ? this.maximumWeight : Long.MAX_VALUE;
+            return new ConcurrentCacheMap<>(bound, this.weigher, this.expireAfterWriteNanos, this.expireAfterAccessNanos, this.ticker);
+        }
+    }
+
+    private static final class Node<K, V>
+    {
+        private final K key;
+        private volatile V value;
+        private volatile int weight;
+        private volatile long writeTime;
+        private volatile long accessTime;
+
+        /**
+         * Cleared once the node has been removed from the map.
+         */
+        private volatile boolean alive = true;
+
+        /**
+         * Set while the value is being computed by {@code getIfAbsentPut}.
+         */
+        private volatile CompletableFuture<V> loading;
+
+        // Guarded by the eviction lock
+        private int policyWeight;
+        private byte queue = UNLINKED;
+        private Node<K, V> accessPrevious;
+        private Node<K, V> accessNext;
+        private Node<K, V> writePrevious;
+        private Node<K, V> writeNext;
+
+        private Node(K key)
+        {
+            this.key = key;
+            this.loading = new CompletableFuture<>();
+        }
+
+        private Node(K key, V value, int weight, long now)
+        {
+            this.key = key;
+            this.setValue(value, weight, now);
+        }
+
+        private void setValue(V value, int weight, long now)
+        {
+            this.value = value;
+            this.weight = weight;
+            this.writeTime = now;
+            this.accessTime = now;
+            this.loading = null;
+        }
+    }
+
+    /**
+     * An intrusive doubly linked list of nodes, threaded through either their access order or their write order links.
+     */
+    private static final class NodeDeque<K, V>
+    {
+        private final boolean accessOrder;
+        private Node<K, V> first;
+        private Node<K, V> last;
+
+        private NodeDeque(boolean accessOrder)
+        {
+            this.accessOrder = accessOrder;
+        }
+
+        private Node<K, V> previous(Node<K, V> node)
+        {
+            return this.accessOrder ? node.accessPrevious : node.writePrevious;
+        }
+
+        private Node<K, V> next(Node<K, V> node)
+        {
+            return this.accessOrder ? node.accessNext : node.writeNext;
+        }
+
+        private void setPrevious(Node<K, V> node, Node<K, V> previous)
+        {
+            if (this.accessOrder)
+            {
+                node.accessPrevious = previous;
+            }
+            else
+            {
+                node.writePrevious = previous;
+            }
+        }
+
+        private void setNext(Node<K, V> node, Node<K, V> next)
+        {
+            if (this.accessOrder)
+            {
+                node.accessNext = next;
+            }
+            else
+            {
+                node.writeNext = next;
+            }
+        }
+
+        private boolean contains(Node<K, V> node)
+        {
+            return this.previous(node) != null || this.first == node;
+        }
+
+        private void addLast(Node<K, V> node)
+        {
+            this.setPrevious(node, this.last);
+            this.setNext(node, null);
+            if (this.last == null)
+            {
+                this.first = node;
+            }
+            else
+            {
+                this.setNext(this.last, node);
+            }
+            this.last = node;
+        }
+
+        private void remove(Node<K, V> node)
+        {
+            if (!this.contains(node))
+            {
+                return;
+            }
+            Node<K, V> previous = this.previous(node);
+            Node<K, V> next = this.next(node);
+            if (previous == null)
+            {
+                this.first = next;
+            }
+            else
+            {
+                this.setNext(previous, next);
+            }
+            if (next == null)
+            {
+                this.last = previous;
+            }
+            else
+            {
+                this.setPrevious(next, previous);
+            }
+            this.setPrevious(node, null);
+            this.setNext(node, null);
+        }
+
+        private void moveToBack(Node<K, V> node)
+        {
+            if (this.last != node)
+            {
+                this.remove(node);
+                this.addLast(node);
+            }
+        }
+    }
+
+    /**
+     * A count-min sketch of 4-bit counters estimating how often each key has been used recently. Every counter is
+     * halved once the number of increments reaches ten times the width of the table, so old popularity fades.
+     */
+    private static final class FrequencySketch
+    {
+        private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+        private static final long RESET_MASK = 0x7777777777777777L;
+        private static final long ONE_MASK = 0x1111111111111111L;
+
+        private final long[] table;
+        private final int tableMask;
+        private final int sampleSize;
+        private int size;
+
+        private FrequencySketch(long maximum)
+        {
+            int capacity = (int) Math.max(8L, Math.min(maximum, 1L << 26));
+            int length = Integer.highestOneBit(capacity - 1) << 1;
+            this.table = new long[length];
+            this.tableMask = length - 1;
+            this.sampleSize = 10 * length;
+        }
+
+        private int frequency(Object key)
+        {
+            int hash = FrequencySketch.spread(key.hashCode());
+            int start = (hash & 3) << 2;
+            int frequency = Integer.MAX_VALUE;
+            for (int i = 0; i < 4; i++)
+            {
+                int index = this.indexOf(hash, i);
+                int count = (int) ((this.table[index] >>> ((start + i) << 2)) & 0xfL);
+                frequency = Math.min(frequency, count);
+            }
+            return frequency;
+        }
+
+        private void increment(Object key)
+        {
+            int hash = FrequencySketch.spread(key.hashCode());
+            int start = (hash & 3) << 2;
+            boolean added = false;
+            for (int i = 0; i < 4; i++)
+            {
+                added |= this.incrementAt(this.indexOf(hash, i), start + i);
+            }
+            if (added && ++this.size == this.sampleSize)
+            {
+                this.reset();
+            }
+        }
+
+        private boolean incrementAt(int index, int counter)
+        {
+            int offset = counter << 2;
+            long mask = 0xfL << offset;
+            if ((this.table[index] & mask) != mask)
+            {
+                this.table[index] += 1L << offset;
+                return true;
+            }
+            return false;
+        }
+
+        private void reset()
+        {
+            int odd = 0;
+            for (int i = 0; i < this.table.length; i++)
+            {
+                odd += Long.bitCount(this.table[i] & ONE_MASK);
+                this.table[i] = (this.table[i] >>> 1) & RESET_MASK;
+            }
+            this.size = (this.size >>> 1) - (odd >>> 2);
+        }
+
+        private int indexOf(int hash, int i)
+        {
+            long result = (hash + SEEDS[i]) * SEEDS[i];
+            result += result >>> 32;
+            return (int) result & this.tableMask;
+        }
+
+        private static int spread(int hashCode)
+        {
+            int x = ((hashCode >>> 16) ^ hashCode) * 0x45d9f3b;
+            x = ((x >>> 16) ^ x) * 0x45d9f3b;
+            return (x >>> 16) ^ x;
+        }
+    }
+}
@@ -29,16 +29,24 @@ import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.FutureTask;
+import java.util.concurrent.RecursiveTask;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.annotation.Beta;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function0;
 import org.eclipse.collections.api.block.function.Function2;
 import org.eclipse.collections.api.block.function.Function3;
+import org.eclipse.collections.api.block.function.primitive.DoubleFunction;
+import org.eclipse.collections.api.block.function.primitive.LongFunction;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
@@ -46,8 +54,18 @@ import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.map.ConcurrentMutableMap;
 import org.eclipse.collections.api.map.ImmutableMap;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.set.ParallelUnsortedSetIterable;
 import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.block.procedure.MapEntryToProcedure2;
+import org.eclipse.collections.impl.lazy.parallel.AbstractBatch;
+import org.eclipse.collections.impl.lazy.parallel.AbstractParallelIterable;
+import org.eclipse.collections.impl.lazy.parallel.bag.CollectUnsortedBagBatch;
+import org.eclipse.collections.impl.lazy.parallel.bag.FlatCollectUnsortedBagBatch;
+import org.eclipse.collections.impl.lazy.parallel.bag.UnsortedBagBatch;
+import org.eclipse.collections.impl.lazy.parallel.set.AbstractParallelUnsortedSetIterable;
+import org.eclipse.collections.impl.lazy.parallel.set.RootUnsortedSetBatch;
+import org.eclipse.collections.impl.lazy.parallel.set.SelectUnsortedSetBatch;
+import org.eclipse.collections.impl.lazy.parallel.set.UnsortedSetBatch;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.utility.Iterate;
 import org.eclipse.collections.impl.utility.MapIterate;
@@ -83,6 +101,8 @@ public class ConcurrentHashMapUnsafe<K, V>
     private static final long INT_ARRAY_BASE;
     private static final int INT_ARRAY_SHIFT;
     private static final long SIZE_OFFSET;
+    private static final long RESIZE_COUNT_OFFSET;
+    private static final long RESIZE_HELP_COUNT_OFFSET;
     private static final int SIZE_BUCKETS = 7;
 
     static
@@ -110,6 +130,8 @@ public class ConcurrentHashMapUnsafe<K, V>
 
             Class<?> mapClass = ConcurrentHashMapUnsafe.class;
             SIZE_OFFSET = UNSAFE.objectFieldOffset(mapClass.getDeclaredField("size"));
+            RESIZE_COUNT_OFFSET = UNSAFE.objectFieldOffset(mapClass.getDeclaredField("resizeCount"));
+            RESIZE_HELP_COUNT_OFFSET = UNSAFE.objectFieldOffset(mapClass.getDeclaredField("resizeHelpCount"));
         }
         catch (NoSuchFieldException | SecurityException e)
         {
@@ -127,6 +149,12 @@ public class ConcurrentHashMapUnsafe<K, V>
     @SuppressWarnings("UnusedDeclaration")
     private volatile int size; // updated via atomic field updater
 
+    @SuppressWarnings("UnusedDeclaration")
+    private volatile int resizeCount; // updated via Unsafe
+
+    @SuppressWarnings("UnusedDeclaration")
+    private volatile int resizeHelpCount; // updated via Unsafe
+
     public ConcurrentHashMapUnsafe()
     {
         this(DEFAULT_INITIAL_CAPACITY);
@@ -227,7 +255,12 @@ public class ConcurrentHashMapUnsafe<K, V>
     private void incrementSizeAndPossiblyResize(Object[] currentArray, int length, Object prev)
     {
         this.addToSize(1);
-        if (prev != null)
+        if (ConcurrentHashMapUnsafe.arrayAt(currentArray, length - 1) instanceof ResizeContainer)
+        {
+            // writers that arrive mid-resize take a share of the transfer rather than leaving it all to the thread that started it
+            this.helpWithResize(currentArray);
+        }
+        else if (prev != null)
         {
             int localSize = this.size();
             int threshold = (length >> 1) + (length >> 2); // threshold = length * 0.75
@@ -265,10 +298,13 @@ public class ConcurrentHashMapUnsafe<K, V>
     {
         ResizeContainer resizeContainer = (ResizeContainer) ConcurrentHashMapUnsafe.arrayAt(currentArray, currentArray.length - 1);
         Object[] newTable = resizeContainer.nextArray;
-        if (resizeContainer.getQueuePosition() > ResizeContainer.QUEUE_INCREMENT)
+        if (resizeContainer.getQueuePosition() > 0)
         {
             resizeContainer.incrementResizer();
-            this.reverseTransfer(currentArray, resizeContainer);
+            if (this.transferRanges(currentArray, resizeContainer))
+            {
+                UNSAFE.getAndAddInt(this, RESIZE_HELP_COUNT_OFFSET, 1);
+            }
             resizeContainer.decrementResizerAndNotify();
         }
         return newTable;
@@ -326,6 +362,7 @@ public class ConcurrentHashMapUnsafe<K, V>
                     this.helpWithResize(src);
                 }
             }
+            UNSAFE.getAndAddInt(this, RESIZE_COUNT_OFFSET, 1);
         }
         else
         {
@@ -338,48 +375,21 @@ public class ConcurrentHashMapUnsafe<K, V>
      */
     private void transfer(Object[] src, ResizeContainer resizeContainer)
     {
-        Object[] dest = resizeContainer.nextArray;
-
-        for (int j = 0; j < src.length - 1; )
-        {
-            Object o = ConcurrentHashMapUnsafe.arrayAt(src, j);
-            if (o == null)
-            {
-                if (ConcurrentHashMapUnsafe.casArrayAt(src, j, null, RESIZED))
-                {
-                    j++;
-                }
-            }
-            else if (o == RESIZED || o == RESIZING)
-            {
-                j = (j & ~(ResizeContainer.QUEUE_INCREMENT - 1)) + ResizeContainer.QUEUE_INCREMENT;
-                if (resizeContainer.resizers.get() == 1)
-                {
-                    break;
-                }
-            }
-            else
-            {
-                Entry<K, V> e = (Entry<K, V>) o;
-                if (ConcurrentHashMapUnsafe.casArrayAt(src, j, o, RESIZING))
-                {
-                    while (e != null)
-                    {
-                        this.unconditionalCopy(dest, e);
-                        e = e.getNext();
-                    }
-                    ConcurrentHashMapUnsafe.setArrayAt(src, j, RESIZED);
-                    j++;
-                }
-            }
-        }
+        this.transferRanges(src, resizeContainer);
         resizeContainer.decrementResizerAndNotify();
         resizeContainer.waitForAllResizers();
     }
 
-    private void reverseTransfer(Object[] src, ResizeContainer resizeContainer)
+    /*
+     * Claims ranges of buckets from the top of src, in the manner of transferIndex in java.util.concurrent.ConcurrentHashMap,
+     * and moves their entries to the next table. Each range is owned by exactly one thread, so the thread that started the
+     * resize and every thread that helps it can work through the table without meeting each other.
+     * Returns true if at least one range was claimed.
+     */
+    private boolean transferRanges(Object[] src, ResizeContainer resizeContainer)
     {
         Object[] dest = resizeContainer.nextArray;
+        boolean claimed = false;
         while (resizeContainer.getQueuePosition() > 0)
         {
             int start = resizeContainer.subtractAndGetQueuePosition();
@@ -400,11 +410,6 @@ public class ConcurrentHashMapUnsafe<K, V>
                             j--;
                         }
                     }
-                    else if (o == RESIZED || o == RESIZING)
-                    {
-                        resizeContainer.zeroOutQueuePosition();
-                        return;
-                    }
                     else
                     {
                         Entry<K, V> e = (Entry<K, V>) o;
@@ -420,8 +425,11 @@ public class ConcurrentHashMapUnsafe<K, V>
                         }
                     }
                 }
+                resizeContainer.addTransferred(end - start);
+                claimed = true;
             }
         }
+        return claimed;
     }
 
     private void unconditionalCopy(Object[] dest, Entry<K, V> toCopyEntry)
@@ -764,6 +772,39 @@ public class ConcurrentHashMapUnsafe<K, V>
         return this.size() == 0;
     }
 
+    /**
+     * Returns the number of times the table backing this map has been grown.
+     *
+     * @since 12.0
+     */
+    public int getResizeCount()
+    {
+        return this.resizeCount;
+    }
+
+    /**
+     * Returns the number of times a thread joined a resize started by another thread and transferred part of the table.
+     *
+     * @since 12.0
+     */
+    public int getResizeHelpCount()
+    {
+        return this.resizeHelpCount;
+    }
+
+    /**
+     * Returns the number of buckets of the current table already moved by an in-progress resize, or -1 if the table is
+     * not being resized.
+     *
+     * @since 12.0
+     */
+    public int getResizeTransferredBucketCount()
+    {
+        Object[] currentArray = this.table;
+        Object last = ConcurrentHashMapUnsafe.arrayAt(currentArray, currentArray.length - 1);
+        return last instanceof ResizeContainer ? ((ResizeContainer) last).getTransferred() : -1;
+    }
+
     @Override
     public boolean containsKey(Object key)
     {
@@ -1423,6 +1464,236 @@ public class ConcurrentHashMapUnsafe<K, V>
         }
     }
 
+    /**
+     * Performs the procedure for each key and value. When the map holds at least {@code parallelismThreshold} entries,
+     * ranges of buckets are processed in parallel in the common {@link ForkJoinPool}. The traversal is weakly
+     * consistent, like the iterators of this map, and follows buckets into the next table when it meets a resize.
+     *
+     * @param parallelismThreshold the estimated number of entries needed for this operation to run in parallel
+     * @since 12.0
+     */
+    public void forEachKeyValue(long parallelismThreshold, Procedure2<? super K, ? super V> procedure)
+    {
+        this.bulk(parallelismThreshold, (currentArray, start, end) ->
+        {
+            this.traverse(currentArray, start, end, entry ->
+            {
+                procedure.value(entry.getKey(), entry.getValue());
+                return null;
+            });
+            return null;
+        }, (left, right) -> null);
+    }
+
+    /**
+     * Performs the procedure for each value, in parallel when the map holds at least {@code parallelismThreshold} entries.
+     *
+     * @see #forEachKeyValue(long, Procedure2)
+     * @since 12.0
+     */
+    public void forEachValue(long parallelismThreshold, Procedure<? super V> procedure)
+    {
+        this.forEachKeyValue(parallelismThreshold, (key, value) -> procedure.value(value));
+    }
+
+    /**
+     * Returns a non-null result of applying the search function to some key and value, or null if there is none.
+     * Once a result is found, the remaining parallel tasks stop looking.
+     *
+     * @see #forEachKeyValue(long, Procedure2)
+     * @since 12.0
+     */
+    public <U> U search(long parallelismThreshold, Function2<? super K, ? super V, ? extends U> searchFunction)
+    {
+        AtomicReference<U> result = new AtomicReference<>();
+        this.bulk(parallelismThreshold, (currentArray, start, end) -> this.traverse(currentArray, start, end, entry ->
+        {
+            U found = result.get();
+            if (found == null)
+            {
+                found = searchFunction.value(entry.getKey(), entry.getValue());
+                if (found != null)
+                {
+                    result.compareAndSet(null, found);
+                }
+            }
+            return found;
+        }), (left, right) -> null);
+        return result.get();
+    }
+
+    /**
+     * Returns the result of combining the transformations of all keys and values with the reducer, or null if there
+     * are none. Transformations that return null are skipped. The reducer must be associative, as partial results are
+     * combined in no particular order.
+     *
+     * @see #forEachKeyValue(long, Procedure2)
+     * @since 12.0
+     */
+    public <U> U reduce(
+            long parallelismThreshold,
+            Function2<? super K, ? super V, ? extends U> transformer,
+            Function2<? super U, ? super U, ? extends U> reducer)
+    {
+        Function2<U, U, U> combiner = (left, right) -> left == null ? right : right == null ? left : reducer.value(left, right);
+        return this.bulk(parallelismThreshold, (currentArray, start, end) ->
+        {
+            Object[] accumulator = new Object[1];
+            this.traverse(currentArray, start, end, entry ->
+            {
+                accumulator[0] = combiner.value((U) accumulator[0], transformer.value(entry.getKey(), entry.getValue()));
+                return null;
+            });
+            return (U) accumulator[0];
+        }, combiner);
+    }
+
+    /**
+     * Returns the result of combining all values with the reducer, or null if the map is empty.
+     *
+     * @see #reduce(long, Function2, Function2)
+     * @since 12.0
+     */
+    public V reduceValues(long parallelismThreshold, Function2<? super V, ? super V, ? extends V> reducer)
+    {
+        return this.reduce(parallelismThreshold, (key, value) -> value, reducer);
+    }
+
+    /**
+     * Returns the sum of the function applied to each value.
+     *
+     * @see #forEachKeyValue(long, Procedure2)
+     * @since 12.0
+     */
+    public long sumOfLong(long parallelismThreshold, LongFunction<? super V> function)
+    {
+        return this.bulk(parallelismThreshold, (currentArray, start, end) ->
+        {
+            long[] sum = new long[1];
+            this.traverse(currentArray, start, end, entry ->
+            {
+                sum[0] += function.longValueOf(entry.getValue());
+                return null;
+            });
+            return sum[0];
+        }, Long::sum);
+    }
+
+    /**
+     * Returns the sum of the function applied to each value. Each range of buckets is summed with Kahan compensation.
+     *
+     * @see #forEachKeyValue(long, Procedure2)
+     * @since 12.0
+     */
+    public double sumOfDouble(long parallelismThreshold, DoubleFunction<? super V> function)
+    {
+        return this.bulk(parallelismThreshold, (currentArray, start, end) ->
+        {
+            double[] sumAndCompensation = new double[2];
+            this.traverse(currentArray, start, end, entry ->
+            {
+                double adjusted = function.doubleValueOf(entry.getValue()) - sumAndCompensation[1];
+                double nextSum = sumAndCompensation[0] + adjusted;
+                sumAndCompensation[1] = nextSum - sumAndCompensation[0] - adjusted;
+                sumAndCompensation[0] = nextSum;
+                return null;
+            });
+            return sumAndCompensation[0];
+        }, Double::sum);
+    }
+
+    /**
+     * Returns a parallel iterable over the entries of this map, split into batches of {@code batchSize} buckets.
+     *
+     * @since 12.0
+     */
+    @Beta
+    public ParallelUnsortedSetIterable<Map.Entry<K, V>> asParallel(ExecutorService executorService, int batchSize)
+    {
+        if (executorService == null)
+        {
+            throw new NullPointerException();
+        }
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException();
+        }
+        return new EntriesParallelIterable(executorService, batchSize);
+    }
+
+    private <R> R bulk(
+            long parallelismThreshold,
+            Function3<Object[], Integer, Integer, R> leaf,
+            Function2<R, R, R> combiner)
+    {
+        Object[] currentArray = this.table;
+        int end = currentArray.length - 1;
+        int batches = this.batchesFor(parallelismThreshold);
+        if (batches == 0)
+        {
+            return leaf.value(currentArray, 0, end);
+        }
+        return ForkJoinPool.commonPool().invoke(new BulkTask<>(currentArray, 0, end, batches, leaf, combiner));
+    }
+
+    // the same heuristic as batchFor in java.util.concurrent.ConcurrentHashMap
+    private int batchesFor(long parallelismThreshold)
+    {
+        long localSize = this.size();
+        if (parallelismThreshold == Long.MAX_VALUE || localSize <= 1L || localSize < parallelismThreshold)
+        {
+            return 0;
+        }
+        int maxBatches = ForkJoinPool.getCommonPoolParallelism() << 2;
+        long batches = parallelismThreshold <= 0L ? maxBatches : localSize / parallelismThreshold;
+        return batches >= maxBatches ? maxBatches : (int) batches;
+    }
+
+    /*
+     * Applies the function to each entry in the range of buckets until it returns a non-null result, which is returned.
+     */
+    private Object traverse(Object[] currentArray, int start, int end, Function<? super Entry<K, V>, ?> function)
+    {
+        for (int i = start; i < end; i++)
+        {
+            Object result = this.traverseBucket(currentArray, i, function);
+            if (result != null)
+            {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    private Object traverseBucket(Object[] currentArray, int index, Function<? super Entry<K, V>, ?> function)
+    {
+        Object o = ConcurrentHashMapUnsafe.arrayAt(currentArray, index);
+        if (o == RESIZED || o == RESIZING)
+        {
+            // the entries of a moved bucket are spread over the buckets of the next table that share its low bits
+            Object[] nextArray = this.helpWithResizeWhileCurrentIndex(currentArray, index);
+            int capacity = currentArray.length - 1;
+            for (int i = index; i < nextArray.length - 1; i += capacity)
+            {
+                Object result = this.traverseBucket(nextArray, i, function);
+                if (result != null)
+                {
+                    return result;
+                }
+            }
+            return null;
+        }
+        for (Entry<K, V> e = (Entry<K, V>) o; e != null; e = e.getNext())
+        {
+            Object result = function.valueOf(e);
+            if (result != null)
+            {
+                return result;
+            }
+        }
+        return null;
+    }
+
     @Override
     public int hashCode()
     {
@@ -1560,6 +1831,182 @@ public class ConcurrentHashMapUnsafe<K, V>
         }
     }
 
+    private static final class BulkTask<R> extends RecursiveTask<R>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Object[] currentArray;
+        private final int start;
+        private final int end;
+        private final int batches;
+        private final Function3<Object[], Integer, Integer, R> leaf;
+        private final Function2<R, R, R> combiner;
+
+        private BulkTask(
+                Object[] currentArray,
+                int start,
+                int end,
+                int batches,
+                Function3<Object[], Integer, Integer, R> leaf,
+                Function2<R, R, R> combiner)
+        {
+            this.currentArray = currentArray;
+            this.start = start;
+            this.end = end;
+            this.batches = batches;
+            this.leaf = leaf;
+            this.combiner = combiner;
+        }
+
+        @Override
+        protected R compute()
+        {
+            if (this.batches > 1 && this.end - this.start > 1)
+            {
+                int middle = (this.start + this.end) >>> 1;
+                int half = this.batches >>> 1;
+                BulkTask<R> right = new BulkTask<>(this.currentArray, middle, this.end, half, this.leaf, this.combiner);
+                right.fork();
+                R left = new BulkTask<>(this.currentArray, this.start, middle, half, this.leaf, this.combiner).compute();
+                return this.combiner.value(left, right.join());
+            }
+            return this.leaf.value(this.currentArray, this.start, this.end);
+        }
+    }
+
+    private final class EntryBatch extends AbstractBatch<Map.Entry<K, V>> implements RootUnsortedSetBatch<Map.Entry<K, V>>
+    {
+        private final Object[] currentArray;
+        private final int chunkStartIndex;
+        private final int chunkEndIndex;
+
+        private EntryBatch(Object[] currentArray, int chunkStartIndex, int chunkEndIndex)
+        {
+            this.currentArray = currentArray;
+            this.chunkStartIndex = chunkStartIndex;
+            this.chunkEndIndex = chunkEndIndex;
+        }
+
+        @Override
+        public void forEach(Procedure<? super Map.Entry<K, V>> procedure)
+        {
+            ConcurrentHashMapUnsafe.this.traverse(this.currentArray, this.chunkStartIndex, this.chunkEndIndex, entry ->
+            {
+                procedure.value(entry);
+                return null;
+            });
+        }
+
+        @Override
+        public boolean anySatisfy(org.eclipse.collections.api.block.predicate.Predicate<? super Map.Entry<K, V>> predicate)
+        {
+            return this.detect(predicate) != null;
+        }
+
+        @Override
+        public boolean allSatisfy(org.eclipse.collections.api.block.predicate.Predicate<? super Map.Entry<K, V>> predicate)
+        {
+            return ConcurrentHashMapUnsafe.this.traverse(this.currentArray, this.chunkStartIndex, this.chunkEndIndex, entry -> predicate.accept(entry) ? null : entry) == null;
+        }
+
+        @Override
+        public Map.Entry<K, V> detect(org.eclipse.collections.api.block.predicate.Predicate<? super Map.Entry<K, V>> predicate)
+        {
+            return (Map.Entry<K, V>) ConcurrentHashMapUnsafe.this.traverse(this.currentArray, this.chunkStartIndex, this.chunkEndIndex, entry -> predicate.accept(entry) ? entry : null);
+        }
+
+        @Override
+        public UnsortedSetBatch<Map.Entry<K, V>> select(org.eclipse.collections.api.block.predicate.Predicate<? super Map.Entry<K, V>> predicate)
+        {
+            return new SelectUnsortedSetBatch<>(this, predicate);
+        }
+
+        @Override
+        public <VV> UnsortedBagBatch<VV> collect(Function<? super Map.Entry<K, V>, ? extends VV> function)
+        {
+            return new CollectUnsortedBagBatch<>(this, function);
+        }
+
+        @Override
+        public <VV> UnsortedBagBatch<VV> flatCollect(Function<? super Map.Entry<K, V>, ? extends Iterable<VV>> function)
+        {
+            return new FlatCollectUnsortedBagBatch<>(this, function);
+        }
+    }
+
+    private final class EntriesParallelIterable extends AbstractParallelUnsortedSetIterable<Map.Entry<K, V>, RootUnsortedSetBatch<Map.Entry<K, V>>>
+    {
+        private final ExecutorService executorService;
+        private final int batchSize;
+
+        private EntriesParallelIterable(ExecutorService executorService, int batchSize)
+        {
+            this.executorService = executorService;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public ExecutorService getExecutorService()
+        {
+            return this.executorService;
+        }
+
+        @Override
+        public int getBatchSize()
+        {
+            return this.batchSize;
+        }
+
+        @Override
+        public LazyIterable<RootUnsortedSetBatch<Map.Entry<K, V>>> split()
+        {
+            Object[] currentArray = ConcurrentHashMapUnsafe.this.table;
+            int end = currentArray.length - 1;
+            FastList<RootUnsortedSetBatch<Map.Entry<K, V>>> batches = FastList.newList(end / this.batchSize + 1);
+            for (int start = 0; start < end; start += this.batchSize)
+            {
+                batches.add(new EntryBatch(currentArray, start, Math.min(start + this.batchSize, end)));
+            }
+            return batches.asLazy();
+        }
+
+        @Override
+        public void forEach(Procedure<? super Map.Entry<K, V>> procedure)
+        {
+            AbstractParallelIterable.forEach(this, procedure);
+        }
+
+        @Override
+        public boolean anySatisfy(org.eclipse.collections.api.block.predicate.Predicate<? super Map.Entry<K, V>> predicate)
+        {
+            return AbstractParallelIterable.anySatisfy(this, predicate);
+        }
+
+        @Override
+        public boolean allSatisfy(org.eclipse.collections.api.block.predicate.Predicate<? super Map.Entry<K, V>> predicate)
+        {
+            return AbstractParallelIterable.allSatisfy(this, predicate);
+        }
+
+        @Override
+        public Map.Entry<K, V> detect(org.eclipse.collections.api.block.predicate.Predicate<? super Map.Entry<K, V>> predicate)
+        {
+            return AbstractParallelIterable.detect(this, predicate);
+        }
+
+        @Override
+        public Object[] toArray()
+        {
+            return ConcurrentHashMapUnsafe.this.entrySet().toArray();
+        }
+
+        @Override
+        public <E> E[] toArray(E[] array)
+        {
+            return ConcurrentHashMapUnsafe.this.entrySet().toArray(array);
+        }
+    }
+
     private static final class IteratorState
     {
         private Object[] currentTable;
@@ -1994,6 +2441,7 @@ public class ConcurrentHashMapUnsafe<K, V>
         private final AtomicInteger resizers = new AtomicInteger(1);
         private final Object[] nextArray;
         private final AtomicInteger queuePosition;
+        private final AtomicInteger transferred = new AtomicInteger();
 
         private ResizeContainer(Object[] nextArray, int oldSize)
         {
@@ -2001,6 +2449,16 @@ public class ConcurrentHashMapUnsafe<K, V>
             this.queuePosition = new AtomicInteger(oldSize);
         }
 
+        public void addTransferred(int buckets)
+        {
+            this.transferred.addAndGet(buckets);
+        }
+
+        public int getTransferred()
+        {
+            return this.transferred.get();
+        }
+
         public void incrementResizer()
         {
             this.resizers.incrementAndGet();
@@ -2071,11 +2529,6 @@ public class ConcurrentHashMapUnsafe<K, V>
         {
             return this.resizers.get() > 0;
         }
-
-        public void zeroOutQueuePosition()
-        {
-            this.queuePosition.set(0);
-        }
     }
 
     public static <NK, NV> ConcurrentHashMapUnsafe<NK, NV> newMap(Map<NK, NV> map)
@@ -0,0 +1,969 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.block.procedure.MapCollectProcedure;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.utility.Iterate;
+import org.eclipse.collections.impl.utility.internal.SwissTables;
+
+/**
+ * SwissMap is an open-addressing alternative to {@link UnifiedMap}, modelled on the SwissTable design. Keys and values
+ * are stored in alternate slots of a single array, like UnifiedMap, but collisions are resolved by linear probing
+ * instead of chained buckets, so a lookup never follows a pointer to a chain or allocates one.
+ * <p>
+ * A separate array holds one control byte per slot: zero for an empty slot, or seven bits of the key's hash code for a
+ * full one. Probes read the control bytes eight at a time and compare them all at once (see {@link SwissTables}), so
+ * keys whose hash fragment does not match are never compared with equals. Removal shifts the following entries of the
+ * probe sequence back instead of leaving tombstones, so lookups stay short however many entries are removed.
+ * <p>
+ * Like UnifiedMap, this map supports null keys and values and is not thread-safe.
+ *
+ * @since 12.0
+ */
+@SuppressWarnings("ObjectEquality")
+public class SwissMap<K, V> extends AbstractMutableMap<K, V>
+        implements Externalizable
+{
+    protected static final Object NULL_KEY = new Object()
+    {
+        @Override
+        public boolean equals(Object obj)
+        {
+            throw new RuntimeException("Possible corruption through unsynchronized concurrent modification.");
+        }
+
+        @Override
+        public int hashCode()
+        {
+            throw new RuntimeException("Possible corruption through unsynchronized concurrent modification.");
+        }
+
+        @Override
+        public String toString()
+        {
+            return "SwissMap.NULL_KEY";
+        }
+    };
+
+    protected static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    protected static final int DEFAULT_INITIAL_CAPACITY = 8;
+
+    private static final long serialVersionUID = 1L;
+
+    protected transient byte[] controls;
+
+    protected transient Object[] table;
+
+    protected transient int occupied;
+
+    protected float loadFactor = DEFAULT_LOAD_FACTOR;
+
+    protected int maxSize;
+
+    public SwissMap()
+    {
+        this(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    public SwissMap(int initialCapacity)
+    {
+        this(initialCapacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    public SwissMap(int initialCapacity, float loadFactor)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("initial capacity cannot be less than 0");
+        }
+        if (loadFactor <= 0.0)
+        {
+            throw new IllegalArgumentException("load factor cannot be less than or equal to 0");
+        }
+        if (loadFactor > 1.0)
+        {
+            throw new IllegalArgumentException("load factor cannot be greater than 1");
+        }
+        this.loadFactor = loadFactor;
+        this.allocate(SwissTables.capacityFor(initialCapacity, loadFactor));
+    }
+
+    public SwissMap(Map<? extends K, ? extends V> map)
+    {
+        this(Math.max(map.size(), DEFAULT_INITIAL_CAPACITY), DEFAULT_LOAD_FACTOR);
+        this.putAll(map);
+    }
+
+    public SwissMap(Pair<K, V>... pairs)
+    {
+        this(Math.max(pairs.length, DEFAULT_INITIAL_CAPACITY), DEFAULT_LOAD_FACTOR);
+        for (Pair<K, V> pair : pairs)
+        {
+            this.put(pair.getOne(), pair.getTwo());
+        }
+    }
+
+    public SwissMap(SwissMap<K, V> map)
+    {
+        this.loadFactor = map.loadFactor;
+        this.maxSize = map.maxSize;
+        this.occupied = map.occupied;
+        this.controls = map.controls.clone();
+        this.table = map.table.clone();
+    }
+
+    public static <K, V> SwissMap<K, V> newMap()
+    {
+        return new SwissMap<>();
+    }
+
+    public static <K, V> SwissMap<K, V> newMap(int size)
+    {
+        return new SwissMap<>(size);
+    }
+
+    public static <K, V> SwissMap<K, V> newMap(int size, float loadFactor)
+    {
+        return new SwissMap<>(size, loadFactor);
+    }
+
+    public static <K, V> SwissMap<K, V> newMap(Map<? extends K, ? extends V> map)
+    {
+        return new SwissMap<>(map);
+    }
+
+    public static <K, V> SwissMap<K, V> newMapWith(Pair<K, V>... pairs)
+    {
+        return new SwissMap<>(pairs);
+    }
+
+    public static <K, V> SwissMap<K, V> newWithKeysValues(K key, V value)
+    {
+        return new SwissMap<K, V>(1).withKeysValues(key, value);
+    }
+
+    public static <K, V> SwissMap<K, V> newWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return new SwissMap<K, V>(2).withKeysValues(key1, value1, key2, value2);
+    }
+
+    public static <K, V> SwissMap<K, V> newWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return new SwissMap<K, V>(3).withKeysValues(key1, value1, key2, value2, key3, value3);
+    }
+
+    public static <K, V> SwissMap<K, V> newWithKeysValues(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3,
+            K key4, V value4)
+    {
+        return new SwissMap<K, V>(4).withKeysValues(key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    public SwissMap<K, V> withKeysValues(K key, V value)
+    {
+        this.put(key, value);
+        return this;
+    }
+
+    public SwissMap<K, V> withKeysValues(K key1, V value1, K key2, V value2)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        return this;
+    }
+
+    public SwissMap<K, V> withKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        this.put(key3, value3);
+        return this;
+    }
+
+    public SwissMap<K, V> withKeysValues(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        this.put(key3, value3);
+        this.put(key4, value4);
+        return this;
+    }
+
+    @Override
+    public SwissMap<K, V> clone()
+    {
+        return new SwissMap<>(this);
+    }
+
+    @Override
+    public MutableMap<K, V> newEmpty()
+    {
+        return new SwissMap<>();
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newEmpty(int capacity)
+    {
+        return new SwissMap<>(capacity, this.loadFactor);
+    }
+
+    private void allocate(int capacity)
+    {
+        this.controls = SwissTables.newControls(capacity);
+        this.table = new Object[capacity << 1];
+        this.maxSize = SwissTables.maxSize(capacity, this.loadFactor);
+    }
+
+    private int capacity()
+    {
+        return this.table.length >> 1;
+    }
+
+    private static int hash(Object key)
+    {
+        return SwissTables.spread(key == null ? 0 : key.hashCode());
+    }
+
+    /**
+     * Returns the slot holding the key, or {@code -(slot + 1)} where {@code slot} is the empty slot it would be put in.
+     */
+    private int probe(Object key, int hash)
+    {
+        byte[] controls = this.controls;
+        Object[] table = this.table;
+        int mask = (table.length >> 1) - 1;
+        long broadcast = SwissTables.broadcast(SwissTables.control(hash));
+        int start = SwissTables.homeSlot(hash, mask);
+        while (true)
+        {
+            long group = SwissTables.group(controls, start);
+            for (long matches = SwissTables.match(group, broadcast); matches != 0L; matches &= matches - 1L)
+            {
+                int slot = (start + SwissTables.firstOffset(matches)) & mask;
+                if (this.nonNullTableObjectEquals(table[slot << 1], key))
+                {
+                    return slot;
+                }
+            }
+            long empties = SwissTables.matchEmpty(group);
+            if (empties != 0L)
+            {
+                return -((start + SwissTables.firstOffset(empties)) & mask) - 1;
+            }
+            start = (start + SwissTables.GROUP_WIDTH) & mask;
+        }
+    }
+
+    private int slotOf(Object key)
+    {
+        int slot = this.probe(key, SwissMap.hash(key));
+        return slot < 0 ? -1 : slot;
+    }
+
+    /**
+     * Puts a key known to be absent into the first empty slot of its probe sequence.
+     */
+    private void insertAbsent(Object sentinelKey, Object value, int hash)
+    {
+        byte[] controls = this.controls;
+        int mask = this.capacity() - 1;
+        int start = SwissTables.homeSlot(hash, mask);
+        long empties = SwissTables.matchEmpty(SwissTables.group(controls, start));
+        while (empties == 0L)
+        {
+            start = (start + SwissTables.GROUP_WIDTH) & mask;
+            empties = SwissTables.matchEmpty(SwissTables.group(controls, start));
+        }
+        int slot = (start + SwissTables.firstOffset(empties)) & mask;
+        SwissTables.setControl(controls, slot, SwissTables.control(hash));
+        this.table[slot << 1] = sentinelKey;
+        this.table[(slot << 1) + 1] = value;
+    }
+
+    private void rehash(int newCapacity)
+    {
+        byte[] oldControls = this.controls;
+        Object[] oldTable = this.table;
+        int oldCapacity = oldTable.length >> 1;
+        this.allocate(newCapacity);
+        for (int i = 0; i < oldCapacity; i++)
+        {
+            if (SwissTables.isFull(oldControls[i]))
+            {
+                Object cur = oldTable[i << 1];
+                this.insertAbsent(cur, oldTable[(i << 1) + 1], SwissMap.hash(this.nonSentinel(cur)));
+            }
+        }
+    }
+
+    /**
+     * Empties the slot and shifts the entries that follow it in the probe sequence back, so that no entry is separated
+     * from its home slot by an empty slot. Entries that move from the start of the table to its end are reported to
+     * the iterator, which has not reached them yet.
+     */
+    private void removeSlot(int slot, PositionalIterator<?> iterator)
+    {
+        byte[] controls = this.controls;
+        Object[] table = this.table;
+        int mask = (table.length >> 1) - 1;
+        int hole = slot;
+        int next = slot;
+        while (true)
+        {
+            next = (next + 1) & mask;
+            byte control = controls[next];
+            if (control == SwissTables.EMPTY)
+            {
+                break;
+            }
+            Object cur = table[next << 1];
+            int home = SwissTables.homeSlot(SwissMap.hash(this.nonSentinel(cur)), mask);
+            if (SwissTables.canShiftInto(home, hole, next, mask))
+            {
+                if (iterator != null && next < hole)
+                {
+                    iterator.addWrapped(cur);
+                }
+                SwissTables.setControl(controls, hole, control);
+                table[hole << 1] = cur;
+                table[(hole << 1) + 1] = table[(next << 1) + 1];
+                hole = next;
+            }
+        }
+        SwissTables.setControl(controls, hole, SwissTables.EMPTY);
+        table[hole << 1] = null;
+        table[(hole << 1) + 1] = null;
+        this.occupied--;
+    }
+
+    @Override
+    public V put(K key, V value)
+    {
+        int hash = SwissMap.hash(key);
+        int slot = this.probe(key, hash);
+        if (slot >= 0)
+        {
+            V result = (V) this.table[(slot << 1) + 1];
+            this.table[(slot << 1) + 1] = value;
+            return result;
+        }
+        if (this.occupied >= this.maxSize)
+        {
+            this.rehash(this.capacity() << 1);
+            this.insertAbsent(SwissMap.toSentinelIfNull(key), value, hash);
+        }
+        else
+        {
+            int insert = -slot - 1;
+            SwissTables.setControl(this.controls, insert, SwissTables.control(hash));
+            this.table[insert << 1] = SwissMap.toSentinelIfNull(key);
+            this.table[(insert << 1) + 1] = value;
+        }
+        this.occupied++;
+        return null;
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map)
+    {
+        if (map instanceof SwissMap<?, ?>)
+        {
+            ((SwissMap<K, V>) map).forEachKeyValue(this::put);
+        }
+        else
+        {
+            for (Map.Entry<? extends K, ? extends V> entry : map.entrySet())
+            {
+                this.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        int slot = this.slotOf(key);
+        return slot < 0 ? null : (V) this.table[(slot << 1) + 1];
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return this.slotOf(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        byte[] controls = this.controls;
+        Object[] table = this.table;
+        int capacity = table.length >> 1;
+        for (int i = 0; i < capacity; i++)
+        {
+            if (SwissTables.isFull(controls[i]) && Objects.equals(table[(i << 1) + 1], value))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public V remove(Object key)
+    {
+        int slot = this.slotOf(key);
+        if (slot < 0)
+        {
+            return null;
+        }
+        V result = (V) this.table[(slot << 1) + 1];
+        this.removeSlot(slot, null);
+        return result;
+    }
+
+    @Override
+    public <E> MutableMap<K, V> collectKeysAndValues(
+            Iterable<E> iterable,
+            Function<? super E, ? extends K> keyFunction,
+            Function<? super E, ? extends V> valueFunction)
+    {
+        Iterate.forEach(iterable, new MapCollectProcedure<>(this, keyFunction, valueFunction));
+        return this;
+    }
+
+    @Override
+    public V removeKey(K key)
+    {
+        return this.remove(key);
+    }
+
+    @Override
+    public void clear()
+    {
+        if (this.occupied == 0)
+        {
+            return;
+        }
+        this.occupied = 0;
+        Arrays.fill(this.controls, SwissTables.EMPTY);
+        Arrays.fill(this.table, null);
+    }
+
+    @Override
+    public int size()
+    {
+        return this.occupied;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.occupied == 0;
+    }
+
+    @Override
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        byte[] controls = this.controls;
+        Object[] table = this.table;
+        int capacity = table.length >> 1;
+        for (int i = 0; i < capacity; i++)
+        {
+            if (SwissTables.isFull(controls[i]))
+            {
+                procedure.value(this.nonSentinel(table[i << 1]), (V) table[(i << 1) + 1]);
+            }
+        }
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        byte[] controls = this.controls;
+        Object[] table = this.table;
+        int capacity = table.length >> 1;
+        for (int i = 0; i < capacity; i++)
+        {
+            if (SwissTables.isFull(controls[i]))
+            {
+                procedure.value(this.nonSentinel(table[i << 1]));
+            }
+        }
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        byte[] controls = this.controls;
+        Object[] table = this.table;
+        int capacity = table.length >> 1;
+        for (int i = 0; i < capacity; i++)
+        {
+            if (SwissTables.isFull(controls[i]))
+            {
+                procedure.value((V) table[(i << 1) + 1]);
+            }
+        }
+    }
+
+    @Override
+    public Iterator<V> iterator()
+    {
+        return new ValuesIterator();
+    }
+
+    @Override
+    public Set<K> keySet()
+    {
+        return new KeySet();
+    }
+
+    @Override
+    public Collection<V> values()
+    {
+        return new ValuesCollection();
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet()
+    {
+        return new EntrySet();
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+        if (!(object instanceof Map))
+        {
+            return false;
+        }
+        Map<?, ?> other = (Map<?, ?>) object;
+        if (this.size() != other.size())
+        {
+            return false;
+        }
+        byte[] controls = this.controls;
+        Object[] table = this.table;
+        int capacity = table.length >> 1;
+        for (int i = 0; i < capacity; i++)
+        {
+            if (SwissTables.isFull(controls[i]))
+            {
+                K key = this.nonSentinel(table[i << 1]);
+                Object value = table[(i << 1) + 1];
+                Object otherValue = other.get(key);
+                if (!Objects.equals(otherValue, value) || (value == null && otherValue == null && !other.containsKey(key)))
+                {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        byte[] controls = this.controls;
+        Object[] table = this.table;
+        int capacity = table.length >> 1;
+        for (int i = 0; i < capacity; i++)
+        {
+            if (SwissTables.isFull(controls[i]))
+            {
+                Object key = this.nonSentinel(table[i << 1]);
+                Object value = table[(i << 1) + 1];
+                hashCode += (key == null ? 0 : key.hashCode()) ^ (value == null ? 0 : value.hashCode());
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder().append('{');
+        boolean first = true;
+        byte[] controls = this.controls;
+        Object[] table = this.table;
+        int capacity = table.length >> 1;
+        for (int i = 0; i < capacity; i++)
+        {
+            if (SwissTables.isFull(controls[i]))
+            {
+                if (!first)
+                {
+                    builder.append(", ");
+                }
+                first = false;
+                Object key = this.nonSentinel(table[i << 1]);
+                Object value = table[(i << 1) + 1];
+                builder.append(key == this ? "(this Map)" : key);
+                builder.append('=');
+                builder.append(value == this ? "(this Map)" : value);
+            }
+        }
+        return builder.append('}').toString();
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.size());
+        out.writeFloat(this.loadFactor);
+        byte[] controls = this.controls;
+        Object[] table = this.table;
+        int capacity = table.length >> 1;
+        for (int i = 0; i < capacity; i++)
+        {
+            if (SwissTables.isFull(controls[i]))
+            {
+                out.writeObject(this.nonSentinel(table[i << 1]));
+                out.writeObject(table[(i << 1) + 1]);
+            }
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        this.loadFactor = in.readFloat();
+        this.allocate(SwissTables.capacityFor(Math.max(size, DEFAULT_INITIAL_CAPACITY), this.loadFactor));
+        for (int i = 0; i < size; i++)
+        {
+            this.put((K) in.readObject(), (V) in.readObject());
+        }
+    }
+
+    private K nonSentinel(Object key)
+    {
+        return key == NULL_KEY ? null : (K) key;
+    }
+
+    private static Object toSentinelIfNull(Object key)
+    {
+        if (key == null)
+        {
+            return NULL_KEY;
+        }
+        return key;
+    }
+
+    private boolean nonNullTableObjectEquals(Object cur, Object key)
+    {
+        return cur == key || (cur == NULL_KEY ? key == null : cur.equals(key));
+    }
+
+    /**
+     * Iterates the slots from the end of the table to the start. Removing through the iterator shifts entries back
+     * towards the slots already visited, except for entries which wrap around from the start of the table to its end;
+     * those are remembered and visited after the table has been scanned.
+     */
+    protected abstract class PositionalIterator<E> implements Iterator<E>
+    {
+        private static final int WRAPPED = -2;
+
+        private int position = SwissMap.this.capacity();
+        private int remaining = SwissMap.this.occupied;
+        private int current = -1;
+        private FastList<Object> wrapped;
+        private int wrappedIndex;
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.remaining > 0;
+        }
+
+        protected int nextSlot()
+        {
+            if (this.remaining <= 0)
+            {
+                throw new NoSuchElementException();
+            }
+            this.remaining--;
+            byte[] controls = SwissMap.this.controls;
+            while (--this.position >= 0)
+            {
+                if (SwissTables.isFull(controls[this.position]))
+                {
+                    this.current = this.position;
+                    return this.position;
+                }
+            }
+            this.current = WRAPPED;
+            Object key = this.wrapped.get(this.wrappedIndex++);
+            return SwissMap.this.slotOf(SwissMap.this.nonSentinel(key));
+        }
+
+        protected K keyAt(int slot)
+        {
+            return SwissMap.this.nonSentinel(SwissMap.this.table[slot << 1]);
+        }
+
+        protected V valueAt(int slot)
+        {
+            return (V) SwissMap.this.table[(slot << 1) + 1];
+        }
+
+        private void addWrapped(Object key)
+        {
+            if (this.wrapped == null)
+            {
+                this.wrapped = FastList.newList(2);
+            }
+            this.wrapped.add(key);
+        }
+
+        @Override
+        public void remove()
+        {
+            if (this.current == -1)
+            {
+                throw new IllegalStateException();
+            }
+            if (this.current == WRAPPED)
+            {
+                SwissMap.this.remove(SwissMap.this.nonSentinel(this.wrapped.get(this.wrappedIndex - 1)));
+            }
+            else
+            {
+                SwissMap.this.removeSlot(this.current, this);
+            }
+            this.current = -1;
+        }
+    }
+
+    protected class KeysIterator extends PositionalIterator<K>
+    {
+        @Override
+        public K next()
+        {
+            return this.keyAt(this.nextSlot());
+        }
+    }
+
+    protected class ValuesIterator extends PositionalIterator<V>
+    {
+        @Override
+        public V next()
+        {
+            return this.valueAt(this.nextSlot());
+        }
+    }
+
+    protected class EntriesIterator extends PositionalIterator<Map.Entry<K, V>>
+    {
+        @Override
+        public Map.Entry<K, V> next()
+        {
+            int slot = this.nextSlot();
+            return new BoundEntry(this.keyAt(slot), this.valueAt(slot));
+        }
+    }
+
+    protected class KeySet extends AbstractSet<K>
+    {
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new KeysIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return SwissMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return SwissMap.this.containsKey(o);
+        }
+
+        @Override
+        public boolean remove(Object o)
+        {
+            int slot = SwissMap.this.slotOf(o);
+            if (slot < 0)
+            {
+                return false;
+            }
+            SwissMap.this.removeSlot(slot, null);
+            return true;
+        }
+
+        @Override
+        public void clear()
+        {
+            SwissMap.this.clear();
+        }
+    }
+
+    protected class ValuesCollection extends AbstractCollection<V>
+    {
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new ValuesIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return SwissMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return SwissMap.this.containsValue(o);
+        }
+
+        @Override
+        public void clear()
+        {
+            SwissMap.this.clear();
+        }
+    }
+
+    protected class EntrySet extends AbstractSet<Map.Entry<K, V>>
+    {
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator()
+        {
+            return new EntriesIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return SwissMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            if (!(o instanceof Map.Entry<?, ?>))
+            {
+                return false;
+            }
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+            int slot = SwissMap.this.slotOf(entry.getKey());
+            return slot >= 0 && Objects.equals(SwissMap.this.table[(slot << 1) + 1], entry.getValue());
+        }
+
+        @Override
+        public boolean remove(Object o)
+        {
+            if (!this.contains(o))
+            {
+                return false;
+            }
+            SwissMap.this.removeSlot(SwissMap.this.slotOf(((Map.Entry<?, ?>) o).getKey()), null);
+            return true;
+        }
+
+        @Override
+        public void clear()
+        {
+            SwissMap.this.clear();
+        }
+    }
+
+    /**
+     * An entry whose {@link #setValue(Object)} writes through to the map.
+     */
+    protected class BoundEntry implements Map.Entry<K, V>
+    {
+        private final K key;
+        private V value;
+
+        protected BoundEntry(K key, V value)
+        {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public K getKey()
+        {
+            return this.key;
+        }
+
+        @Override
+        public V getValue()
+        {
+            return this.value;
+        }
+
+        @Override
+        public V setValue(V value)
+        {
+            V result = SwissMap.this.put(this.key, value);
+            this.value = value;
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if (!(obj instanceof Map.Entry<?, ?>))
+            {
+                return false;
+            }
+            Map.Entry<?, ?> other = (Map.Entry<?, ?>) obj;
+            return Objects.equals(this.key, other.getKey()) && Objects.equals(this.value, other.getValue());
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hashCode(this.key) ^ Objects.hashCode(this.value);
+        }
+
+        @Override
+        public String toString()
+        {
+            return this.key + "=" + this.value;
+        }
+    }
+}
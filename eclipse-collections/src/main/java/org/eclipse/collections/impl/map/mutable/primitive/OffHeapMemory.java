@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable.primitive;
+
+import java.lang.ref.Cleaner;
+import java.lang.reflect.Field;
+import java.security.AccessController;
+import java.security.PrivilegedActionException;
+import java.security.PrivilegedExceptionAction;
+
+import sun.misc.Unsafe;
+
+/**
+ * Raw native memory access used by the OffHeap primitive hash maps. Memory is addressed with {@code long} offsets
+ * so a single table can grow past the 2GB limit of a direct {@link java.nio.ByteBuffer}.
+ *
+ * @since 12.0
+ */
+@SuppressWarnings("UseOfSunClasses")
+final class OffHeapMemory
+{
+    private static final Unsafe UNSAFE = OffHeapMemory.getUnsafe();
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private OffHeapMemory()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    /**
+     * Allocates {@code bytes} of native memory, initialized to zero.
+     */
+    static long allocate(long bytes)
+    {
+        long address = UNSAFE.allocateMemory(bytes);
+        UNSAFE.setMemory(address, bytes, (byte) 0);
+        return address;
+    }
+
+    static void free(long address)
+    {
+        if (address != 0L)
+        {
+            UNSAFE.freeMemory(address);
+        }
+    }
+
+    static void clear(long address, long bytes)
+    {
+        UNSAFE.setMemory(address, bytes, (byte) 0);
+    }
+
+    /**
+     * Registers {@code deallocator} to run once {@code owner} becomes phantom reachable, so memory that was never
+     * explicitly released is still returned to the operating system.
+     */
+    static Cleaner.Cleanable register(Object owner, Runnable deallocator)
+    {
+        return CLEANER.register(owner, deallocator);
+    }
+
+    static byte getByte(long address)
+    {
+        return UNSAFE.getByte(address);
+    }
+
+    static void putByte(long address, byte value)
+    {
+        UNSAFE.putByte(address, value);
+    }
+
+    static short getShort(long address)
+    {
+        return UNSAFE.getShort(address);
+    }
+
+    static void putShort(long address, short value)
+    {
+        UNSAFE.putShort(address, value);
+    }
+
+    static char getChar(long address)
+    {
+        return UNSAFE.getChar(address);
+    }
+
+    static void putChar(long address, char value)
+    {
+        UNSAFE.putChar(address, value);
+    }
+
+    static int getInt(long address)
+    {
+        return UNSAFE.getInt(address);
+    }
+
+    static void putInt(long address, int value)
+    {
+        UNSAFE.putInt(address, value);
+    }
+
+    static long getLong(long address)
+    {
+        return UNSAFE.getLong(address);
+    }
+
+    static void putLong(long address, long value)
+    {
+        UNSAFE.putLong(address, value);
+    }
+
+    static float getFloat(long address)
+    {
+        return UNSAFE.getFloat(address);
+    }
+
+    static void putFloat(long address, float value)
+    {
+        UNSAFE.putFloat(address, value);
+    }
+
+    static double getDouble(long address)
+    {
+        return UNSAFE.getDouble(address);
+    }
+
+    static void putDouble(long address, double value)
+    {
+        UNSAFE.putDouble(address, value);
+    }
+
+    private static Unsafe getUnsafe()
+    {
+        try
+        {
+            return Unsafe.getUnsafe();
+        }
+        catch (SecurityException ignored)
+        {
+            try
+            {
+                return AccessController.doPrivileged(new PrivilegedExceptionAction<Unsafe>()
+                {
+                    public Unsafe run() throws Exception
+                    {
+                        Field f = Unsafe.class.getDeclaredField("theUnsafe");
+                        f.setAccessible(true);
+                        return (Unsafe) f.get(null);
+                    }
+                });
+            }
+            catch (PrivilegedActionException e)
+            {
+                throw new RuntimeException("Could not initialize intrinsics", e.getCause());
+            }
+        }
+    }
+}
@@ -0,0 +1,1644 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.ordered.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.function.primitive.BooleanFunction;
+import org.eclipse.collections.api.block.function.primitive.ByteFunction;
+import org.eclipse.collections.api.block.function.primitive.CharFunction;
+import org.eclipse.collections.api.block.function.primitive.DoubleFunction;
+import org.eclipse.collections.api.block.function.primitive.FloatFunction;
+import org.eclipse.collections.api.block.function.primitive.IntFunction;
+import org.eclipse.collections.api.block.function.primitive.LongFunction;
+import org.eclipse.collections.api.block.function.primitive.ShortFunction;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.collection.MutableCollection;
+import org.eclipse.collections.api.factory.Bags;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.primitive.BooleanLists;
+import org.eclipse.collections.api.factory.primitive.ByteLists;
+import org.eclipse.collections.api.factory.primitive.CharLists;
+import org.eclipse.collections.api.factory.primitive.DoubleLists;
+import org.eclipse.collections.api.factory.primitive.FloatLists;
+import org.eclipse.collections.api.factory.primitive.IntLists;
+import org.eclipse.collections.api.factory.primitive.LongLists;
+import org.eclipse.collections.api.factory.primitive.ObjectDoubleMaps;
+import org.eclipse.collections.api.factory.primitive.ObjectLongMaps;
+import org.eclipse.collections.api.factory.primitive.ShortLists;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.list.primitive.MutableBooleanList;
+import org.eclipse.collections.api.list.primitive.MutableByteList;
+import org.eclipse.collections.api.list.primitive.MutableCharList;
+import org.eclipse.collections.api.list.primitive.MutableDoubleList;
+import org.eclipse.collections.api.list.primitive.MutableFloatList;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.api.list.primitive.MutableLongList;
+import org.eclipse.collections.api.list.primitive.MutableShortList;
+import org.eclipse.collections.api.map.ImmutableOrderedMap;
+import org.eclipse.collections.api.map.MutableOrderedMap;
+import org.eclipse.collections.api.map.primitive.MutableObjectDoubleMap;
+import org.eclipse.collections.api.map.primitive.MutableObjectLongMap;
+import org.eclipse.collections.api.multimap.list.MutableListMultimap;
+import org.eclipse.collections.api.ordered.OrderedIterable;
+import org.eclipse.collections.api.partition.list.PartitionMutableList;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.stack.MutableStack;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.block.factory.Functions;
+import org.eclipse.collections.impl.block.factory.Predicates;
+import org.eclipse.collections.impl.block.factory.PrimitiveFunctions;
+import org.eclipse.collections.impl.block.procedure.PartitionPredicate2Procedure;
+import org.eclipse.collections.impl.block.procedure.PartitionProcedure;
+import org.eclipse.collections.impl.block.procedure.SelectInstancesOfProcedure;
+import org.eclipse.collections.impl.collection.mutable.CollectionAdapter;
+import org.eclipse.collections.impl.list.fixed.ArrayAdapter;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.map.AbstractMapIterable;
+import org.eclipse.collections.impl.map.ordered.immutable.ImmutableOrderedUnifiedMap;
+import org.eclipse.collections.impl.multimap.list.FastListMultimap;
+import org.eclipse.collections.impl.partition.list.PartitionFastList;
+import org.eclipse.collections.impl.set.mutable.SetAdapter;
+import org.eclipse.collections.impl.stack.mutable.ArrayStack;
+import org.eclipse.collections.impl.tuple.AbstractImmutableEntry;
+import org.eclipse.collections.impl.utility.Iterate;
+import org.eclipse.collections.impl.utility.LazyIterate;
+import org.eclipse.collections.impl.utility.ListIterate;
+import org.eclipse.collections.impl.utility.MapIterate;
+import org.eclipse.collections.impl.utility.OrderedIterate;
+
+/**
+ * OrderedUnifiedMap is a {@link MutableOrderedMap} which keeps its entries in insertion order without wrapping a
+ * {@link java.util.LinkedHashMap}. Keys and values are stored in alternate slots of a single dense array, in the order
+ * the keys were first put, and a separate open-addressing table of ints maps each key's hash code to the position of
+ * its entry in that array. No object is allocated per entry, and iteration walks the dense array from the start like a
+ * {@link FastList}.
+ * <p>
+ * Putting a new value for an existing key keeps the key in its original position. Removing a key leaves a hole in the
+ * dense array and a tombstone in the index table; both are squeezed out the next time the dense array fills up.
+ * <p>
+ * Like UnifiedMap, this map supports null keys and values and is not thread-safe.
+ *
+ * @since 12.0
+ */
+@SuppressWarnings("ObjectEquality")
+public class OrderedUnifiedMap<K, V>
+        extends AbstractMapIterable<K, V>
+        implements MutableOrderedMap<K, V>, Externalizable
+{
+    protected static final int DEFAULT_INITIAL_CAPACITY = 8;
+
+    private static final Object REMOVED = new Object()
+    {
+        @Override
+        public String toString()
+        {
+            return "OrderedUnifiedMap.REMOVED";
+        }
+    };
+
+    private static final int EMPTY = 0;
+
+    private static final int DELETED = -1;
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Open-addressing table holding one plus the position of an entry, {@link #EMPTY} or {@link #DELETED}.
+     */
+    protected transient int[] index;
+
+    /**
+     * Keys and values in insertion order; the key of a removed entry is replaced by {@link #REMOVED}.
+     */
+    protected transient Object[] entries;
+
+    /**
+     * The number of entry positions used so far, including removed ones.
+     */
+    protected transient int used;
+
+    protected transient int occupied;
+
+    public OrderedUnifiedMap()
+    {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public OrderedUnifiedMap(int initialCapacity)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("initial capacity cannot be less than 0");
+        }
+        this.allocate(OrderedUnifiedMap.indexLengthFor(initialCapacity));
+    }
+
+    public OrderedUnifiedMap(Map<? extends K, ? extends V> map)
+    {
+        this(Math.max(map.size(), DEFAULT_INITIAL_CAPACITY));
+        this.putAll(map);
+    }
+
+    public OrderedUnifiedMap(OrderedUnifiedMap<K, V> map)
+    {
+        this.index = map.index.clone();
+        this.entries = map.entries.clone();
+        this.used = map.used;
+        this.occupied = map.occupied;
+    }
+
+    public static <K, V> OrderedUnifiedMap<K, V> newMap()
+    {
+        return new OrderedUnifiedMap<>();
+    }
+
+    public static <K, V> OrderedUnifiedMap<K, V> newMap(int size)
+    {
+        return new OrderedUnifiedMap<>(size);
+    }
+
+    public static <K, V> OrderedUnifiedMap<K, V> newMap(Map<? extends K, ? extends V> map)
+    {
+        return new OrderedUnifiedMap<>(map);
+    }
+
+    public static <K, V> OrderedUnifiedMap<K, V> newWithKeysValues(K key, V value)
+    {
+        return new OrderedUnifiedMap<K, V>(1).withKeyValue(key, value);
+    }
+
+    public static <K, V> OrderedUnifiedMap<K, V> newWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return new OrderedUnifiedMap<K, V>(2).withKeyValue(key1, value1).withKeyValue(key2, value2);
+    }
+
+    public static <K, V> OrderedUnifiedMap<K, V> newWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return new OrderedUnifiedMap<K, V>(3).withKeyValue(key1, value1).withKeyValue(key2, value2).withKeyValue(key3, value3);
+    }
+
+    /**
+     * Returns the smallest power of two index table length which can hold {@code capacity} entries at a load factor
+     * of three quarters.
+     */
+    private static int indexLengthFor(int capacity)
+    {
+        int length = 2;
+        while (length * 3 >> 2 < capacity)
+        {
+            length <<= 1;
+        }
+        return length;
+    }
+
+    private void allocate(int indexLength)
+    {
+        this.index = new int[indexLength];
+        this.entries = new Object[(indexLength * 3 >> 2) << 1];
+    }
+
+    private static int hash(Object key)
+    {
+        // This function ensures that hashCodes that differ only by
+        // constant multiples at each bit position have a bounded
+        // number of collisions (approximately 8 at default load factor).
+        int h = key == null ? 0 : key.hashCode();
+        h ^= h >>> 20 ^ h >>> 12;
+        return h ^ h >>> 7 ^ h >>> 4;
+    }
+
+    private static boolean keysEqual(Object cur, Object key)
+    {
+        return cur == key || cur != null && cur.equals(key);
+    }
+
+    /**
+     * Returns the index slot referring to the key, or {@code -(slot + 1)} where {@code slot} is the first free slot of
+     * the key's probe sequence.
+     */
+    private int probe(Object key, int hash)
+    {
+        int[] index = this.index;
+        Object[] entries = this.entries;
+        int mask = index.length - 1;
+        int slot = hash & mask;
+        int free = -1;
+        while (true)
+        {
+            int stored = index[slot];
+            if (stored == EMPTY)
+            {
+                return -(free == -1 ? slot : free) - 1;
+            }
+            if (stored == DELETED)
+            {
+                if (free == -1)
+                {
+                    free = slot;
+                }
+            }
+            else if (OrderedUnifiedMap.keysEqual(entries[(stored - 1) << 1], key))
+            {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private int slotOf(Object key)
+    {
+        int slot = this.probe(key, OrderedUnifiedMap.hash(key));
+        return slot < 0 ? -1 : slot;
+    }
+
+    private int freeSlot(int hash)
+    {
+        int[] index = this.index;
+        int mask = index.length - 1;
+        int slot = hash & mask;
+        while (index[slot] > EMPTY)
+        {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Appends an entry for a key known to be absent, making room first if the dense array is full.
+     */
+    private void append(Object key, Object value, int hash, int freeSlot)
+    {
+        int slot = freeSlot;
+        if (this.used == this.entries.length >> 1)
+        {
+            // Squeeze out the holes if they make up at least half of the entries, otherwise grow
+            this.rehash(this.occupied >= this.entries.length >> 2 ? this.index.length << 1 : this.index.length);
+            slot = this.freeSlot(hash);
+        }
+        int position = this.used++;
+        this.index[slot] = position + 1;
+        this.entries[position << 1] = key;
+        this.entries[(position << 1) + 1] = value;
+        this.occupied++;
+    }
+
+    private void appendUnique(Object key, Object value)
+    {
+        int hash = OrderedUnifiedMap.hash(key);
+        this.append(key, value, hash, this.freeSlot(hash));
+    }
+
+    private void rehash(int newIndexLength)
+    {
+        Object[] oldEntries = this.entries;
+        int oldUsed = this.used;
+        if (newIndexLength == this.index.length)
+        {
+            Arrays.fill(this.index, EMPTY);
+        }
+        else
+        {
+            this.allocate(newIndexLength);
+        }
+        Object[] entries = this.entries;
+        int position = 0;
+        for (int i = 0; i < oldUsed; i++)
+        {
+            Object key = oldEntries[i << 1];
+            if (key != REMOVED)
+            {
+                entries[position << 1] = key;
+                entries[(position << 1) + 1] = oldEntries[(i << 1) + 1];
+                this.index[this.freeSlot(OrderedUnifiedMap.hash(key))] = position + 1;
+                position++;
+            }
+        }
+        if (entries == oldEntries)
+        {
+            Arrays.fill(entries, position << 1, oldUsed << 1, null);
+        }
+        this.used = position;
+    }
+
+    private V removeSlot(int slot)
+    {
+        int position = this.index[slot] - 1;
+        V result = (V) this.entries[(position << 1) + 1];
+        if (this.occupied == 1)
+        {
+            this.clear();
+            return result;
+        }
+        this.index[slot] = DELETED;
+        this.entries[position << 1] = REMOVED;
+        this.entries[(position << 1) + 1] = null;
+        this.occupied--;
+        return result;
+    }
+
+    private void removePosition(int position)
+    {
+        int[] index = this.index;
+        int mask = index.length - 1;
+        int slot = OrderedUnifiedMap.hash(this.entries[position << 1]) & mask;
+        while (index[slot] != position + 1)
+        {
+            slot = (slot + 1) & mask;
+        }
+        this.removeSlot(slot);
+    }
+
+    private int nextPosition(int from)
+    {
+        Object[] entries = this.entries;
+        int position = from;
+        while (position < this.used && entries[position << 1] == REMOVED)
+        {
+            position++;
+        }
+        return position;
+    }
+
+    private int previousPosition(int from)
+    {
+        Object[] entries = this.entries;
+        int position = from;
+        while (position >= 0 && entries[position << 1] == REMOVED)
+        {
+            position--;
+        }
+        return position;
+    }
+
+    /**
+     * Returns the position in the dense array of the entry at {@code index} in iteration order.
+     */
+    private int positionOf(int index)
+    {
+        if (this.used == this.occupied)
+        {
+            return index;
+        }
+        int position = this.nextPosition(0);
+        for (int i = 0; i < index; i++)
+        {
+            position = this.nextPosition(position + 1);
+        }
+        return position;
+    }
+
+    private K keyAt(int position)
+    {
+        return (K) this.entries[position << 1];
+    }
+
+    private V valueAt(int position)
+    {
+        return (V) this.entries[(position << 1) + 1];
+    }
+
+    @Override
+    public V put(K key, V value)
+    {
+        int hash = OrderedUnifiedMap.hash(key);
+        int slot = this.probe(key, hash);
+        if (slot >= 0)
+        {
+            int valueIndex = ((this.index[slot] - 1) << 1) + 1;
+            V result = (V) this.entries[valueIndex];
+            this.entries[valueIndex] = value;
+            return result;
+        }
+        this.append(key, value, hash, -slot - 1);
+        return null;
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map)
+    {
+        if (map instanceof OrderedUnifiedMap<?, ?>)
+        {
+            ((OrderedUnifiedMap<K, V>) map).forEachKeyValue(this::put);
+        }
+        else
+        {
+            for (Map.Entry<? extends K, ? extends V> entry : map.entrySet())
+            {
+                this.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        int slot = this.slotOf(key);
+        return slot < 0 ? null : this.valueAt(this.index[slot] - 1);
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return this.slotOf(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        Object[] entries = this.entries;
+        int used = this.used;
+        for (int i = 0; i < used; i++)
+        {
+            if (entries[i << 1] != REMOVED && Objects.equals(entries[(i << 1) + 1], value))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public V remove(Object key)
+    {
+        int slot = this.slotOf(key);
+        return slot < 0 ? null : this.removeSlot(slot);
+    }
+
+    @Override
+    public V removeKey(K key)
+    {
+        return this.remove(key);
+    }
+
+    @Override
+    public boolean removeIf(Predicate2<? super K, ? super V> predicate)
+    {
+        int previousOccupied = this.occupied;
+        for (int i = 0; i < this.used; i++)
+        {
+            Object key = this.entries[i << 1];
+            if (key != REMOVED && predicate.accept((K) key, this.valueAt(i)))
+            {
+                this.removePosition(i);
+            }
+        }
+        return previousOccupied != this.occupied;
+    }
+
+    @Override
+    public void clear()
+    {
+        if (this.used == 0)
+        {
+            return;
+        }
+        Arrays.fill(this.index, EMPTY);
+        Arrays.fill(this.entries, 0, this.used << 1, null);
+        this.used = 0;
+        this.occupied = 0;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.occupied;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.occupied == 0;
+    }
+
+    @Override
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        Object[] entries = this.entries;
+        int used = this.used;
+        for (int i = 0; i < used; i++)
+        {
+            Object key = entries[i << 1];
+            if (key != REMOVED)
+            {
+                procedure.value((K) key, (V) entries[(i << 1) + 1]);
+            }
+        }
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        Object[] entries = this.entries;
+        int used = this.used;
+        for (int i = 0; i < used; i++)
+        {
+            Object key = entries[i << 1];
+            if (key != REMOVED)
+            {
+                procedure.value((K) key);
+            }
+        }
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        Object[] entries = this.entries;
+        int used = this.used;
+        for (int i = 0; i < used; i++)
+        {
+            if (entries[i << 1] != REMOVED)
+            {
+                procedure.value((V) entries[(i << 1) + 1]);
+            }
+        }
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super V> objectIntProcedure)
+    {
+        Object[] entries = this.entries;
+        int used = this.used;
+        int index = 0;
+        for (int i = 0; i < used; i++)
+        {
+            if (entries[i << 1] != REMOVED)
+            {
+                objectIntProcedure.value((V) entries[(i << 1) + 1], index++);
+            }
+        }
+    }
+
+    @Override
+    public <P> void forEachWith(Procedure2<? super V, ? super P> procedure, P parameter)
+    {
+        Object[] entries = this.entries;
+        int used = this.used;
+        for (int i = 0; i < used; i++)
+        {
+            if (entries[i << 1] != REMOVED)
+            {
+                procedure.value((V) entries[(i << 1) + 1], parameter);
+            }
+        }
+    }
+
+    @Override
+    public void forEach(int startIndex, int endIndex, Procedure<? super V> procedure)
+    {
+        this.forEachWithIndex(startIndex, endIndex, (each, index) -> procedure.value(each));
+    }
+
+    @Override
+    public void forEachWithIndex(int fromIndex, int toIndex, ObjectIntProcedure<? super V> objectIntProcedure)
+    {
+        ListIterate.rangeCheck(fromIndex, toIndex, this.occupied);
+        int position = this.positionOf(fromIndex);
+        if (fromIndex <= toIndex)
+        {
+            for (int i = fromIndex; i <= toIndex; i++)
+            {
+                objectIntProcedure.value(this.valueAt(position), i);
+                position = this.nextPosition(position + 1);
+            }
+        }
+        else
+        {
+            for (int i = fromIndex; i >= toIndex; i--)
+            {
+                objectIntProcedure.value(this.valueAt(position), i);
+                position = this.previousPosition(position - 1);
+            }
+        }
+    }
+
+    @Override
+    public V getFirst()
+    {
+        return this.occupied == 0 ? null : this.valueAt(this.nextPosition(0));
+    }
+
+    @Override
+    public V getLast()
+    {
+        return this.occupied == 0 ? null : this.valueAt(this.previousPosition(this.used - 1));
+    }
+
+    @Override
+    public int detectIndex(Predicate<? super V> predicate)
+    {
+        Object[] entries = this.entries;
+        int used = this.used;
+        int index = 0;
+        for (int i = 0; i < used; i++)
+        {
+            if (entries[i << 1] != REMOVED)
+            {
+                if (predicate.accept((V) entries[(i << 1) + 1]))
+                {
+                    return index;
+                }
+                index++;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int detectLastIndex(Predicate<? super V> predicate)
+    {
+        Object[] entries = this.entries;
+        int index = this.occupied;
+        for (int i = this.used - 1; i >= 0; i--)
+        {
+            if (entries[i << 1] != REMOVED)
+            {
+                index--;
+                if (predicate.accept((V) entries[(i << 1) + 1]))
+                {
+                    return index;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public <S> boolean corresponds(OrderedIterable<S> other, Predicate2<? super V, ? super S> predicate)
+    {
+        return OrderedIterate.corresponds(this, other, predicate);
+    }
+
+    @Override
+    public Iterator<V> iterator()
+    {
+        return new ValuesIterator();
+    }
+
+    @Override
+    public MutableCollection<V> values()
+    {
+        return CollectionAdapter.adapt(new ValuesCollection());
+    }
+
+    // TODO: OrderedSet
+    @Override
+    public MutableSet<Map.Entry<K, V>> entrySet()
+    {
+        return SetAdapter.adapt(new EntrySet());
+    }
+
+    // TODO: OrderedSet
+    @Override
+    public MutableSet<K> keySet()
+    {
+        return SetAdapter.adapt(new KeySet());
+    }
+
+    @Override
+    public RichIterable<K> keysView()
+    {
+        return LazyIterate.adapt(new KeySet());
+    }
+
+    @Override
+    public RichIterable<V> valuesView()
+    {
+        return LazyIterate.adapt(new ValuesCollection());
+    }
+
+    @Override
+    public RichIterable<Pair<K, V>> keyValuesView()
+    {
+        return LazyIterate.adapt(new EntrySet()).collect(AbstractImmutableEntry.getPairFunction());
+    }
+
+    @Override
+    public OrderedUnifiedMap<K, V> clone()
+    {
+        return new OrderedUnifiedMap<>(this);
+    }
+
+    @Override
+    public MutableOrderedMap<K, V> newEmpty()
+    {
+        return new OrderedUnifiedMap<>();
+    }
+
+    @Override
+    public MutableOrderedMap<K, V> toReversed()
+    {
+        OrderedUnifiedMap<K, V> result = new OrderedUnifiedMap<>(this.occupied);
+        Object[] entries = this.entries;
+        for (int i = this.used - 1; i >= 0; i--)
+        {
+            Object key = entries[i << 1];
+            if (key != REMOVED)
+            {
+                result.appendUnique(key, entries[(i << 1) + 1]);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public MutableOrderedMap<K, V> take(int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be greater than zero, but was: " + count);
+        }
+        return this.copyRange(0, Math.min(this.occupied, count));
+    }
+
+    @Override
+    public MutableOrderedMap<K, V> takeWhile(Predicate<? super V> predicate)
+    {
+        int end = this.detectIndex(Predicates.not(predicate));
+        return this.copyRange(0, end == -1 ? this.occupied : end);
+    }
+
+    @Override
+    public MutableOrderedMap<K, V> drop(int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be greater than zero, but was: " + count);
+        }
+        return this.copyRange(Math.min(this.occupied, count), this.occupied);
+    }
+
+    @Override
+    public MutableOrderedMap<K, V> dropWhile(Predicate<? super V> predicate)
+    {
+        int start = this.detectIndex(Predicates.not(predicate));
+        return this.copyRange(start == -1 ? this.occupied : start, this.occupied);
+    }
+
+    /**
+     * Copies the entries from index {@code from} inclusive to {@code to} exclusive, in iteration order.
+     */
+    private OrderedUnifiedMap<K, V> copyRange(int from, int to)
+    {
+        OrderedUnifiedMap<K, V> result = new OrderedUnifiedMap<>(to - from);
+        if (from < to)
+        {
+            int position = this.positionOf(from);
+            for (int i = from; i < to; i++)
+            {
+                result.appendUnique(this.keyAt(position), this.valueAt(position));
+                position = this.nextPosition(position + 1);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public PartitionMutableList<V> partitionWhile(Predicate<? super V> predicate)
+    {
+        PartitionMutableList<V> result = new PartitionFastList<>();
+        MutableList<V> selected = result.getSelected();
+        MutableList<V> rejected = result.getRejected();
+        int end = this.detectIndex(Predicates.not(predicate));
+        this.forEachWithIndex((each, index) ->
+        {
+            if (end == -1 || index < end)
+            {
+                selected.add(each);
+            }
+            else
+            {
+                rejected.add(each);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public MutableList<V> distinct()
+    {
+        return this.toList().distinct();
+    }
+
+    @Override
+    public MutableStack<V> toStack()
+    {
+        return ArrayStack.newStack(this);
+    }
+
+    @Override
+    public OrderedUnifiedMap<K, V> withKeyValue(K key, V value)
+    {
+        this.put(key, value);
+        return this;
+    }
+
+    @Override
+    public MutableOrderedMap<K, V> withAllKeyValues(Iterable<? extends Pair<? extends K, ? extends V>> keyValues)
+    {
+        keyValues.forEach(keyVal -> this.put(keyVal.getOne(), keyVal.getTwo()));
+        return this;
+    }
+
+    @Override
+    public MutableOrderedMap<K, V> withAllKeyValueArguments(Pair<? extends K, ? extends V>... keyValues)
+    {
+        return this.withAllKeyValues(ArrayAdapter.adapt(keyValues));
+    }
+
+    @Override
+    public MutableOrderedMap<K, V> withoutKey(K key)
+    {
+        this.removeKey(key);
+        return this;
+    }
+
+    @Override
+    public MutableOrderedMap<K, V> withoutAllKeys(Iterable<? extends K> keys)
+    {
+        keys.forEach(this::removeKey);
+        return this;
+    }
+
+    @Override
+    public MutableOrderedMap<K, V> asUnmodifiable()
+    {
+        return UnmodifiableMutableOrderedMap.of(this);
+    }
+
+    @Override
+    public ImmutableOrderedMap<K, V> toImmutable()
+    {
+        return new ImmutableOrderedUnifiedMap<>(this);
+    }
+
+    @Override
+    public MutableOrderedMap<K, V> asSynchronized()
+    {
+        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".asSynchronized() not implemented yet");
+    }
+
+    @Override
+    public MutableListMultimap<V, K> flip()
+    {
+        MutableListMultimap<V, K> result = FastListMultimap.newMultimap();
+        this.forEachKeyValue((key, value) -> result.put(value, key));
+        return result;
+    }
+
+    @Override
+    public MutableBooleanList collectBoolean(BooleanFunction<? super V> booleanFunction)
+    {
+        return this.collectBoolean(booleanFunction, BooleanLists.mutable.withInitialCapacity(this.size()));
+    }
+
+    @Override
+    public MutableByteList collectByte(ByteFunction<? super V> byteFunction)
+    {
+        return this.collectByte(byteFunction, ByteLists.mutable.withInitialCapacity(this.size()));
+    }
+
+    @Override
+    public MutableCharList collectChar(CharFunction<? super V> charFunction)
+    {
+        return this.collectChar(charFunction, CharLists.mutable.withInitialCapacity(this.size()));
+    }
+
+    @Override
+    public MutableDoubleList collectDouble(DoubleFunction<? super V> doubleFunction)
+    {
+        return this.collectDouble(doubleFunction, DoubleLists.mutable.withInitialCapacity(this.size()));
+    }
+
+    @Override
+    public MutableFloatList collectFloat(FloatFunction<? super V> floatFunction)
+    {
+        return this.collectFloat(floatFunction, FloatLists.mutable.withInitialCapacity(this.size()));
+    }
+
+    @Override
+    public MutableIntList collectInt(IntFunction<? super V> intFunction)
+    {
+        return this.collectInt(intFunction, IntLists.mutable.withInitialCapacity(this.size()));
+    }
+
+    @Override
+    public MutableLongList collectLong(LongFunction<? super V> longFunction)
+    {
+        return this.collectLong(longFunction, LongLists.mutable.withInitialCapacity(this.size()));
+    }
+
+    @Override
+    public MutableShortList collectShort(ShortFunction<? super V> shortFunction)
+    {
+        return this.collectShort(shortFunction, ShortLists.mutable.withInitialCapacity(this.size()));
+    }
+
+    @Override
+    public <R> MutableOrderedMap<K, R> collectValues(Function2<? super K, ? super V, ? extends R> function)
+    {
+        OrderedUnifiedMap<K, R> result = new OrderedUnifiedMap<>(this.occupied);
+        this.forEachKeyValue((key, value) -> result.appendUnique(key, function.value(key, value)));
+        return result;
+    }
+
+    @Override
+    public <R> MutableOrderedMap<R, V> collectKeysUnique(Function2<? super K, ? super V, ? extends R> function)
+    {
+        return MapIterate.collectKeysUnique(this, function, new OrderedUnifiedMap<>(this.occupied));
+    }
+
+    @Override
+    public <K2, V2> MutableOrderedMap<K2, V2> collect(Function2<? super K, ? super V, Pair<K2, V2>> function)
+    {
+        return MapIterate.collect(this, function, new OrderedUnifiedMap<>(this.occupied));
+    }
+
+    @Override
+    public MutableOrderedMap<K, V> tap(Procedure<? super V> procedure)
+    {
+        this.forEach(procedure);
+        return this;
+    }
+
+    @Override
+    public MutableOrderedMap<K, V> select(Predicate2<? super K, ? super V> predicate)
+    {
+        OrderedUnifiedMap<K, V> result = new OrderedUnifiedMap<>();
+        this.forEachKeyValue((key, value) ->
+        {
+            if (predicate.accept(key, value))
+            {
+                result.appendUnique(key, value);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public MutableOrderedMap<K, V> reject(Predicate2<? super K, ? super V> predicate)
+    {
+        OrderedUnifiedMap<K, V> result = new OrderedUnifiedMap<>();
+        this.forEachKeyValue((key, value) ->
+        {
+            if (!predicate.accept(key, value))
+            {
+                result.appendUnique(key, value);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public <R> MutableList<R> collect(Function<? super V, ? extends R> function)
+    {
+        return this.collect(function, Lists.mutable.withInitialCapacity(this.size()));
+    }
+
+    @Override
+    public <P, VV> MutableList<VV> collectWith(Function2<? super V, ? super P, ? extends VV> function, P parameter)
+    {
+        return this.collect(Functions.bind(function, parameter));
+    }
+
+    @Override
+    public <R> MutableList<R> collectIf(Predicate<? super V> predicate, Function<? super V, ? extends R> function)
+    {
+        return this.collectIf(predicate, function, Lists.mutable.empty());
+    }
+
+    @Override
+    public <R> MutableList<R> flatCollect(Function<? super V, ? extends Iterable<R>> function)
+    {
+        return this.flatCollect(function, Lists.mutable.withInitialCapacity(this.size()));
+    }
+
+    @Override
+    public MutableList<V> select(Predicate<? super V> predicate)
+    {
+        return this.select(predicate, Lists.mutable.empty());
+    }
+
+    @Override
+    public MutableList<V> reject(Predicate<? super V> predicate)
+    {
+        return this.reject(predicate, Lists.mutable.empty());
+    }
+
+    @Override
+    public <P> MutableList<V> selectWith(Predicate2<? super V, ? super P> predicate, P parameter)
+    {
+        return this.select(Predicates.bind(predicate, parameter));
+    }
+
+    @Override
+    public <P> MutableList<V> rejectWith(Predicate2<? super V, ? super P> predicate, P parameter)
+    {
+        return this.reject(Predicates.bind(predicate, parameter));
+    }
+
+    @Override
+    public PartitionMutableList<V> partition(Predicate<? super V> predicate)
+    {
+        PartitionMutableList<V> partitionMutableList = new PartitionFastList<>();
+        this.forEach(new PartitionProcedure<>(predicate, partitionMutableList));
+        return partitionMutableList;
+    }
+
+    @Override
+    public <P> PartitionMutableList<V> partitionWith(Predicate2<? super V, ? super P> predicate, P parameter)
+    {
+        PartitionMutableList<V> partitionMutableList = new PartitionFastList<>();
+        this.forEach(new PartitionPredicate2Procedure<>(predicate, parameter, partitionMutableList));
+        return partitionMutableList;
+    }
+
+    @Override
+    public <S> MutableList<S> selectInstancesOf(Class<S> clazz)
+    {
+        MutableList<S> result = Lists.mutable.withInitialCapacity(this.size());
+        this.forEach(new SelectInstancesOfProcedure<>(clazz, result));
+        return result;
+    }
+
+    @Override
+    public <S> MutableList<Pair<V, S>> zip(Iterable<S> that)
+    {
+        return this.zip(that, Lists.mutable.withInitialCapacity(Math.min(this.size(), Iterate.sizeOf(that))));
+    }
+
+    @Override
+    public MutableList<Pair<V, Integer>> zipWithIndex()
+    {
+        return this.zipWithIndex(Lists.mutable.withInitialCapacity(this.size()));
+    }
+
+    @Override
+    public <VV> MutableListMultimap<VV, V> groupBy(Function<? super V, ? extends VV> function)
+    {
+        return this.groupBy(function, FastListMultimap.newMultimap());
+    }
+
+    @Override
+    public <VV> MutableListMultimap<VV, V> groupByEach(Function<? super V, ? extends Iterable<VV>> function)
+    {
+        return this.groupByEach(function, FastListMultimap.newMultimap());
+    }
+
+    @Override
+    public <VV> MutableOrderedMap<VV, V> groupByUniqueKey(Function<? super V, ? extends VV> function)
+    {
+        return this.groupByUniqueKey(function, new OrderedUnifiedMap<>(this.occupied));
+    }
+
+    @Override
+    public <KK, VV> MutableOrderedMap<KK, VV> aggregateInPlaceBy(
+            Function<? super V, ? extends KK> groupBy,
+            Function0<? extends VV> zeroValueFactory,
+            Procedure2<? super VV, ? super V> mutatingAggregator)
+    {
+        MutableOrderedMap<KK, VV> result = new OrderedUnifiedMap<>();
+        this.forEach(each ->
+        {
+            KK key = groupBy.valueOf(each);
+            VV value = result.getIfAbsentPut(key, zeroValueFactory);
+            mutatingAggregator.value(value, each);
+        });
+        return result;
+    }
+
+    @Override
+    public <KK, VV> MutableOrderedMap<KK, VV> aggregateBy(
+            Function<? super V, ? extends KK> groupBy,
+            Function0<? extends VV> zeroValueFactory,
+            Function2<? super VV, ? super V, ? extends VV> nonMutatingAggregator)
+    {
+        return this.aggregateBy(groupBy, zeroValueFactory, nonMutatingAggregator, new OrderedUnifiedMap<>());
+    }
+
+    @Override
+    public <K1, V1, V2> MutableOrderedMap<K1, V2> aggregateBy(
+            Function<? super K, ? extends K1> keyFunction,
+            Function<? super V, ? extends V1> valueFunction,
+            Function0<? extends V2> zeroValueFactory,
+            Function2<? super V2, ? super V1, ? extends V2> nonMutatingAggregator)
+    {
+        MutableOrderedMap<K1, V2> result = new OrderedUnifiedMap<>();
+        this.forEachKeyValue((key, value) -> result.updateValueWith(
+                keyFunction.valueOf(key),
+                zeroValueFactory,
+                nonMutatingAggregator,
+                valueFunction.valueOf(value)));
+        return result;
+    }
+
+    @Override
+    public <KK> MutableOrderedMap<KK, V> reduceBy(
+            Function<? super V, ? extends KK> groupBy,
+            Function2<? super V, ? super V, ? extends V> reduceFunction)
+    {
+        return this.reduceBy(groupBy, reduceFunction, new OrderedUnifiedMap<>());
+    }
+
+    @Override
+    public V getIfAbsentPut(K key, Function0<? extends V> function)
+    {
+        V result = this.get(key);
+        if (this.isAbsent(result, key))
+        {
+            result = function.value();
+            this.put(key, result);
+        }
+        return result;
+    }
+
+    @Override
+    public V getIfAbsentPut(K key, V value)
+    {
+        V result = this.get(key);
+        if (this.isAbsent(result, key))
+        {
+            result = value;
+            this.put(key, result);
+        }
+        return result;
+    }
+
+    @Override
+    public V getIfAbsentPutWithKey(K key, Function<? super K, ? extends V> function)
+    {
+        return this.getIfAbsentPutWith(key, function, key);
+    }
+
+    @Override
+    public <P> V getIfAbsentPutWith(K key, Function<? super P, ? extends V> function, P parameter)
+    {
+        V result = this.get(key);
+        if (this.isAbsent(result, key))
+        {
+            result = function.valueOf(parameter);
+            this.put(key, result);
+        }
+        return result;
+    }
+
+    @Override
+    public V updateValue(K key, Function0<? extends V> factory, Function<? super V, ? extends V> function)
+    {
+        V oldValue = this.getIfAbsent(key, factory);
+        V newValue = function.valueOf(oldValue);
+        this.put(key, newValue);
+        return newValue;
+    }
+
+    @Override
+    public <P> V updateValueWith(K key, Function0<? extends V> factory, Function2<? super V, ? super P, ? extends V> function, P parameter)
+    {
+        V oldValue = this.getIfAbsent(key, factory);
+        V newValue = function.value(oldValue, parameter);
+        this.put(key, newValue);
+        return newValue;
+    }
+
+    @Override
+    public MutableOrderedMap<V, K> flipUniqueValues()
+    {
+        OrderedUnifiedMap<V, K> result = new OrderedUnifiedMap<>(this.occupied);
+        this.forEachKeyValue((key, value) ->
+        {
+            int slot = result.probe(value, OrderedUnifiedMap.hash(value));
+            if (slot >= 0)
+            {
+                String detailMessage = String.format(
+                        "Duplicate value: %s found at key: %s and key: %s",
+                        value,
+                        result.valueAt(result.index[slot] - 1),
+                        key);
+                throw new IllegalStateException(detailMessage);
+            }
+            result.append(value, key, OrderedUnifiedMap.hash(value), -slot - 1);
+        });
+        return result;
+    }
+
+    @Override
+    public Pair<K, V> detect(Predicate2<? super K, ? super V> predicate)
+    {
+        return MapIterate.detect(this, predicate);
+    }
+
+    @Override
+    public Optional<Pair<K, V>> detectOptional(Predicate2<? super K, ? super V> predicate)
+    {
+        return MapIterate.detectOptional(this, predicate);
+    }
+
+    @Override
+    public <V1> MutableObjectLongMap<V1> sumByInt(Function<? super V, ? extends V1> groupBy, IntFunction<? super V> function)
+    {
+        MutableObjectLongMap<V1> result = ObjectLongMaps.mutable.empty();
+        return this.injectInto(result, PrimitiveFunctions.sumByIntFunction(groupBy, function));
+    }
+
+    @Override
+    public <V1> MutableObjectDoubleMap<V1> sumByFloat(Function<? super V, ? extends V1> groupBy, FloatFunction<? super V> function)
+    {
+        MutableObjectDoubleMap<V1> result = ObjectDoubleMaps.mutable.empty();
+        return this.injectInto(result, PrimitiveFunctions.sumByFloatFunction(groupBy, function));
+    }
+
+    @Override
+    public <V1> MutableObjectLongMap<V1> sumByLong(Function<? super V, ? extends V1> groupBy, LongFunction<? super V> function)
+    {
+        MutableObjectLongMap<V1> result = ObjectLongMaps.mutable.empty();
+        return this.injectInto(result, PrimitiveFunctions.sumByLongFunction(groupBy, function));
+    }
+
+    @Override
+    public <V1> MutableObjectDoubleMap<V1> sumByDouble(Function<? super V, ? extends V1> groupBy, DoubleFunction<? super V> function)
+    {
+        MutableObjectDoubleMap<V1> result = ObjectDoubleMaps.mutable.empty();
+        return this.injectInto(result, PrimitiveFunctions.sumByDoubleFunction(groupBy, function));
+    }
+
+    @Override
+    public <V1> MutableBag<V1> countBy(Function<? super V, ? extends V1> function)
+    {
+        return this.collect(function, Bags.mutable.empty());
+    }
+
+    @Override
+    public <V1, P> MutableBag<V1> countByWith(Function2<? super V, ? super P, ? extends V1> function, P parameter)
+    {
+        return this.collectWith(function, parameter, Bags.mutable.empty());
+    }
+
+    @Override
+    public <V1> MutableBag<V1> countByEach(Function<? super V, ? extends Iterable<V1>> function)
+    {
+        return this.flatCollect(function, Bags.mutable.empty());
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+        if (!(object instanceof Map))
+        {
+            return false;
+        }
+        Map<K, V> other = (Map<K, V>) object;
+        if (this.size() != other.size())
+        {
+            return false;
+        }
+        Object[] entries = this.entries;
+        int used = this.used;
+        for (int i = 0; i < used; i++)
+        {
+            Object key = entries[i << 1];
+            if (key != REMOVED && !this.keyAndValueEquals((K) key, (V) entries[(i << 1) + 1], other))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        Object[] entries = this.entries;
+        int used = this.used;
+        for (int i = 0; i < used; i++)
+        {
+            Object key = entries[i << 1];
+            if (key != REMOVED)
+            {
+                hashCode += this.keyAndValueHashCode((K) key, (V) entries[(i << 1) + 1]);
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder().append('{');
+        boolean first = true;
+        Object[] entries = this.entries;
+        int used = this.used;
+        for (int i = 0; i < used; i++)
+        {
+            Object key = entries[i << 1];
+            if (key != REMOVED)
+            {
+                if (!first)
+                {
+                    builder.append(", ");
+                }
+                first = false;
+                Object value = entries[(i << 1) + 1];
+                builder.append(key == this ? "(this Map)" : key);
+                builder.append('=');
+                builder.append(value == this ? "(this Map)" : value);
+            }
+        }
+        return builder.append('}').toString();
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.size());
+        Object[] entries = this.entries;
+        int used = this.used;
+        for (int i = 0; i < used; i++)
+        {
+            Object key = entries[i << 1];
+            if (key != REMOVED)
+            {
+                out.writeObject(key);
+                out.writeObject(entries[(i << 1) + 1]);
+            }
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        this.allocate(OrderedUnifiedMap.indexLengthFor(size));
+        for (int i = 0; i < size; i++)
+        {
+            this.put((K) in.readObject(), (V) in.readObject());
+        }
+    }
+
+    /**
+     * Iterates the dense array from the start, skipping removed entries. Removing through the iterator only leaves a
+     * hole behind, so the positions still to be visited do not move.
+     */
+    protected abstract class PositionalIterator<E> implements Iterator<E>
+    {
+        private int position;
+        private int current = -1;
+
+        @Override
+        public boolean hasNext()
+        {
+            this.position = OrderedUnifiedMap.this.nextPosition(this.position);
+            return this.position < OrderedUnifiedMap.this.used;
+        }
+
+        protected int nextPosition()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            this.current = this.position++;
+            return this.current;
+        }
+
+        @Override
+        public void remove()
+        {
+            if (this.current == -1)
+            {
+                throw new IllegalStateException();
+            }
+            OrderedUnifiedMap.this.removePosition(this.current);
+            this.current = -1;
+        }
+    }
+
+    protected class KeysIterator extends PositionalIterator<K>
+    {
+        @Override
+        public K next()
+        {
+            return OrderedUnifiedMap.this.keyAt(this.nextPosition());
+        }
+    }
+
+    protected class ValuesIterator extends PositionalIterator<V>
+    {
+        @Override
+        public V next()
+        {
+            return OrderedUnifiedMap.this.valueAt(this.nextPosition());
+        }
+    }
+
+    protected class EntriesIterator extends PositionalIterator<Map.Entry<K, V>>
+    {
+        @Override
+        public Map.Entry<K, V> next()
+        {
+            int position = this.nextPosition();
+            return new BoundEntry(OrderedUnifiedMap.this.keyAt(position), OrderedUnifiedMap.this.valueAt(position));
+        }
+    }
+
+    protected class KeySet extends AbstractSet<K>
+    {
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new KeysIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return OrderedUnifiedMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return OrderedUnifiedMap.this.containsKey(o);
+        }
+
+        @Override
+        public boolean remove(Object o)
+        {
+            int slot = OrderedUnifiedMap.this.slotOf(o);
+            if (slot < 0)
+            {
+                return false;
+            }
+            OrderedUnifiedMap.this.removeSlot(slot);
+            return true;
+        }
+
+        @Override
+        public void clear()
+        {
+            OrderedUnifiedMap.this.clear();
+        }
+    }
+
+    protected class ValuesCollection extends AbstractCollection<V>
+    {
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new ValuesIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return OrderedUnifiedMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return OrderedUnifiedMap.this.containsValue(o);
+        }
+
+        @Override
+        public void clear()
+        {
+            OrderedUnifiedMap.this.clear();
+        }
+    }
+
+    protected class EntrySet extends AbstractSet<Map.Entry<K, V>>
+    {
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator()
+        {
+            return new EntriesIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return OrderedUnifiedMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            if (!(o instanceof Map.Entry<?, ?>))
+            {
+                return false;
+            }
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+            int slot = OrderedUnifiedMap.this.slotOf(entry.getKey());
+            return slot >= 0 && Objects.equals(OrderedUnifiedMap.this.valueAt(OrderedUnifiedMap.this.index[slot] - 1), entry.getValue());
+        }
+
+        @Override
+        public boolean remove(Object o)
+        {
+            if (!this.contains(o))
+            {
+                return false;
+            }
+            OrderedUnifiedMap.this.removeSlot(OrderedUnifiedMap.this.slotOf(((Map.Entry<?, ?>) o).getKey()));
+            return true;
+        }
+
+        @Override
+        public void clear()
+        {
+            OrderedUnifiedMap.this.clear();
+        }
+    }
+
+    /**
+     * An entry whose {@link #setValue(Object)} writes through to the map.
+     */
+    protected class BoundEntry implements Map.Entry<K, V>
+    {
+        private final K key;
+        private V value;
+
+        protected BoundEntry(K key, V value)
+        {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public K getKey()
+        {
+            return this.key;
+        }
+
+        @Override
+        public V getValue()
+        {
+            return this.value;
+        }
+
+        @Override
+        public V setValue(V value)
+        {
+            V result = OrderedUnifiedMap.this.put(this.key, value);
+            this.value = value;
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if (!(obj instanceof Map.Entry<?, ?>))
+            {
+                return false;
+            }
+            Map.Entry<?, ?> other = (Map.Entry<?, ?>) obj;
+            return Objects.equals(this.key, other.getKey()) && Objects.equals(this.value, other.getValue());
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hashCode(this.key) ^ Objects.hashCode(this.value);
+        }
+
+        @Override
+        public String toString()
+        {
+            return this.key + "=" + this.value;
+        }
+    }
+}
@@ -0,0 +1,515 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.sorted.immutable;
+
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.sorted.ImmutableSortedMap;
+import org.eclipse.collections.api.map.sorted.MutableSortedMap;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.tuple.ImmutableEntry;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.eclipse.collections.impl.utility.LazyIterate;
+import org.eclipse.collections.impl.utility.MapIterate;
+import org.eclipse.collections.impl.utility.internal.WeightBalancedNode;
+
+/**
+ * An ImmutableSortedMap backed by a persistent weight-balanced tree. Unlike {@link ImmutableTreeMap}, which copies
+ * its key and value arrays, {@link #newWithKeyValue(Object, Object)} and {@link #newWithoutKey(Object)} copy only the
+ * O(log n) nodes on the path to the changed key and share the rest of the tree with the original map.
+ * <p>
+ * {@link #subMap(Object, Object)}, {@link #headMap(Object)}, {@link #tailMap(Object)}, {@link #take(int)} and
+ * {@link #drop(int)} also take O(log n) time and return independent immutable maps rather than views, so they are not
+ * restricted to the requested range. {@link #rank(Object)} and {@link #keyAt(int)} convert between keys and their
+ * positions in O(log n) time.
+ * <p>
+ * Every map derived from an ImmutableBalancedTreeMap with {@code newWith*}, {@code newWithout*} or one of the range
+ * methods is an ImmutableBalancedTreeMap, including the empty map.
+ *
+ * @see WeightBalancedNode
+ * @since 12.0
+ */
+public final class ImmutableBalancedTreeMap<K, V>
+        extends AbstractImmutableSortedMap<K, V>
+        implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final ImmutableBalancedTreeMap<?, ?> EMPTY = new ImmutableBalancedTreeMap<>(null, null);
+
+    private final transient WeightBalancedNode root;
+    private final transient Comparator<? super K> comparator;
+
+    private ImmutableBalancedTreeMap(WeightBalancedNode root, Comparator<? super K> comparator)
+    {
+        this.root = root;
+        this.comparator = comparator;
+    }
+
+    public static <K, V> ImmutableBalancedTreeMap<K, V> empty()
+    {
+        return (ImmutableBalancedTreeMap<K, V>) EMPTY;
+    }
+
+    public static <K, V> ImmutableBalancedTreeMap<K, V> empty(Comparator<? super K> comparator)
+    {
+        return comparator == null ? ImmutableBalancedTreeMap.empty() : new ImmutableBalancedTreeMap<>(null, comparator);
+    }
+
+    public static <K, V> ImmutableBalancedTreeMap<K, V> newMap(SortedMap<K, ? extends V> sortedMap)
+    {
+        if (sortedMap instanceof ImmutableBalancedTreeMap<?, ?>)
+        {
+            return (ImmutableBalancedTreeMap<K, V>) sortedMap;
+        }
+        if (sortedMap.isEmpty())
+        {
+            return ImmutableBalancedTreeMap.empty(sortedMap.comparator());
+        }
+        int size = sortedMap.size();
+        Object[] keys = new Object[size];
+        Object[] values = new Object[size];
+        int index = 0;
+        for (Map.Entry<K, ? extends V> entry : sortedMap.entrySet())
+        {
+            keys[index] = entry.getKey();
+            values[index] = entry.getValue();
+            index++;
+        }
+        return new ImmutableBalancedTreeMap<>(WeightBalancedNode.fromSorted(keys, values, 0, size), sortedMap.comparator());
+    }
+
+    private ImmutableBalancedTreeMap<K, V> withRoot(WeightBalancedNode newRoot)
+    {
+        return newRoot == this.root ? this : new ImmutableBalancedTreeMap<>(newRoot, this.comparator);
+    }
+
+    private Comparator<Object> order()
+    {
+        return (Comparator<Object>) this.comparator;
+    }
+
+    @Override
+    public int size()
+    {
+        return WeightBalancedNode.size(this.root);
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return WeightBalancedNode.find(this.root, key, this.order()) != null;
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        return this.valuesView().contains(value);
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        WeightBalancedNode node = WeightBalancedNode.find(this.root, key, this.order());
+        return node == null ? null : (V) node.getValue();
+    }
+
+    @Override
+    public ImmutableBalancedTreeMap<K, V> newWithKeyValue(K key, V value)
+    {
+        return this.withRoot(WeightBalancedNode.put(this.root, key, value, this.order()));
+    }
+
+    @Override
+    public ImmutableBalancedTreeMap<K, V> newWithAllKeyValues(Iterable<? extends Pair<? extends K, ? extends V>> keyValues)
+    {
+        WeightBalancedNode newRoot = this.root;
+        for (Pair<? extends K, ? extends V> keyValuePair : keyValues)
+        {
+            newRoot = WeightBalancedNode.put(newRoot, keyValuePair.getOne(), keyValuePair.getTwo(), this.order());
+        }
+        return this.withRoot(newRoot);
+    }
+
+    @Override
+    public ImmutableBalancedTreeMap<K, V> newWithMap(Map<? extends K, ? extends V> map)
+    {
+        WeightBalancedNode newRoot = this.root;
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet())
+        {
+            newRoot = WeightBalancedNode.put(newRoot, entry.getKey(), entry.getValue(), this.order());
+        }
+        return this.withRoot(newRoot);
+    }
+
+    @Override
+    public ImmutableBalancedTreeMap<K, V> newWithMapIterable(MapIterable<? extends K, ? extends V> mapIterable)
+    {
+        return this.newWithAllKeyValues(mapIterable.keyValuesView());
+    }
+
+    @Override
+    public ImmutableBalancedTreeMap<K, V> newWithAllKeyValueArguments(Pair<? extends K, ? extends V>... keyValuePairs)
+    {
+        WeightBalancedNode newRoot = this.root;
+        for (Pair<? extends K, ? extends V> keyValuePair : keyValuePairs)
+        {
+            newRoot = WeightBalancedNode.put(newRoot, keyValuePair.getOne(), keyValuePair.getTwo(), this.order());
+        }
+        return this.withRoot(newRoot);
+    }
+
+    @Override
+    public ImmutableBalancedTreeMap<K, V> newWithoutKey(K key)
+    {
+        return this.withRoot(WeightBalancedNode.remove(this.root, key, this.order()));
+    }
+
+    @Override
+    public ImmutableBalancedTreeMap<K, V> newWithoutAllKeys(Iterable<? extends K> keys)
+    {
+        WeightBalancedNode newRoot = this.root;
+        for (K key : keys)
+        {
+            newRoot = WeightBalancedNode.remove(newRoot, key, this.order());
+        }
+        return this.withRoot(newRoot);
+    }
+
+    /**
+     * Returns the number of keys in this map which are less than the given key, which is the index of the key if it
+     * is present.
+     */
+    public int rank(K key)
+    {
+        return WeightBalancedNode.rank(this.root, key, this.order());
+    }
+
+    /**
+     * Returns the key at the given position in the sort order of this map.
+     *
+     * @throws IndexOutOfBoundsException if the index is negative or not less than the size of this map
+     */
+    public K keyAt(int index)
+    {
+        return (K) WeightBalancedNode.select(this.root, index).getKey();
+    }
+
+    @Override
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        ImmutableBalancedTreeMap.forEachKeyValue(this.root, procedure);
+    }
+
+    private static <K, V> void forEachKeyValue(WeightBalancedNode node, Procedure2<? super K, ? super V> procedure)
+    {
+        if (node != null)
+        {
+            ImmutableBalancedTreeMap.forEachKeyValue(node.getLeft(), procedure);
+            procedure.value((K) node.getKey(), (V) node.getValue());
+            ImmutableBalancedTreeMap.forEachKeyValue(node.getRight(), procedure);
+        }
+    }
+
+    @Override
+    public Iterator<V> iterator()
+    {
+        return new WeightBalancedNode.Cursor<V>(this.root)
+        {
+            @Override
+            protected V entry(WeightBalancedNode node)
+            {
+                return (V) node.getValue();
+            }
+        };
+    }
+
+    @Override
+    public ImmutableMap<V, K> flipUniqueValues()
+    {
+        return MapIterate.flipUniqueValues(this).toImmutable();
+    }
+
+    @Override
+    public RichIterable<K> keysView()
+    {
+        return LazyIterate.adapt(this.keySet());
+    }
+
+    @Override
+    public RichIterable<V> valuesView()
+    {
+        return LazyIterate.adapt(this.values());
+    }
+
+    @Override
+    public RichIterable<Pair<K, V>> keyValuesView()
+    {
+        return LazyIterate.adapt(() -> new WeightBalancedNode.Cursor<Pair<K, V>>(this.root)
+        {
+            @Override
+            protected Pair<K, V> entry(WeightBalancedNode node)
+            {
+                return Tuples.pair((K) node.getKey(), (V) node.getValue());
+            }
+        });
+    }
+
+    @Override
+    public Comparator<? super K> comparator()
+    {
+        return this.comparator;
+    }
+
+    @Override
+    public K firstKey()
+    {
+        return (K) WeightBalancedNode.first(this.root).getKey();
+    }
+
+    @Override
+    public K lastKey()
+    {
+        return (K) WeightBalancedNode.last(this.root).getKey();
+    }
+
+    @Override
+    public Set<K> keySet()
+    {
+        return new KeySet();
+    }
+
+    @Override
+    public Collection<V> values()
+    {
+        return new ValuesCollection();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet()
+    {
+        return new EntrySet();
+    }
+
+    @Override
+    public ImmutableBalancedTreeMap<K, V> subMap(K fromKey, K toKey)
+    {
+        if (WeightBalancedNode.compare(this.order(), fromKey, toKey) > 0)
+        {
+            throw new IllegalArgumentException("fromKey " + fromKey + " is greater than toKey " + toKey);
+        }
+        WeightBalancedNode tail = WeightBalancedNode.tail(this.root, fromKey, true, this.order());
+        return this.withRoot(WeightBalancedNode.head(tail, toKey, false, this.order()));
+    }
+
+    @Override
+    public ImmutableBalancedTreeMap<K, V> headMap(K toKey)
+    {
+        return this.withRoot(WeightBalancedNode.head(this.root, toKey, false, this.order()));
+    }
+
+    @Override
+    public ImmutableBalancedTreeMap<K, V> tailMap(K fromKey)
+    {
+        return this.withRoot(WeightBalancedNode.tail(this.root, fromKey, true, this.order()));
+    }
+
+    @Override
+    public ImmutableBalancedTreeMap<K, V> take(int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be greater than zero, but was: " + count);
+        }
+        return this.withRoot(WeightBalancedNode.take(this.root, count));
+    }
+
+    @Override
+    public ImmutableBalancedTreeMap<K, V> drop(int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be greater than zero, but was: " + count);
+        }
+        return this.withRoot(WeightBalancedNode.drop(this.root, count));
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+        if (!(object instanceof Map))
+        {
+            return false;
+        }
+        Map<K, V> other = (Map<K, V>) object;
+        if (this.size() != other.size())
+        {
+            return false;
+        }
+        for (Entry<K, V> entry : this.entrySet())
+        {
+            if (!this.keyAndValueEquals(entry.getKey(), entry.getValue(), other))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int[] hashCode = {0};
+        this.forEachKeyValue((key, value) -> hashCode[0] += this.keyAndValueHashCode(key, value));
+        return hashCode[0];
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder("{");
+        this.forEachKeyValue((key, value) ->
+        {
+            if (builder.length() > 1)
+            {
+                builder.append(", ");
+            }
+            builder.append(key == this ? "(this Map)" : String.valueOf(key));
+            builder.append('=');
+            builder.append(value == this ? "(this Map)" : String.valueOf(value));
+        });
+        return builder.append('}').toString();
+    }
+
+    private Object writeReplace()
+    {
+        return new SerializationProxy<>(this);
+    }
+
+    private final class KeySet extends AbstractSet<K>
+    {
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new WeightBalancedNode.Cursor<K>(ImmutableBalancedTreeMap.this.root)
+            {
+                @Override
+                protected K entry(WeightBalancedNode node)
+                {
+                    return (K) node.getKey();
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return ImmutableBalancedTreeMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object key)
+        {
+            return ImmutableBalancedTreeMap.this.containsKey(key);
+        }
+    }
+
+    private final class ValuesCollection extends AbstractCollection<V>
+    {
+        @Override
+        public Iterator<V> iterator()
+        {
+            return ImmutableBalancedTreeMap.this.iterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return ImmutableBalancedTreeMap.this.size();
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>>
+    {
+        @Override
+        public Iterator<Entry<K, V>> iterator()
+        {
+            return new WeightBalancedNode.Cursor<Entry<K, V>>(ImmutableBalancedTreeMap.this.root)
+            {
+                @Override
+                protected Entry<K, V> entry(WeightBalancedNode node)
+                {
+                    return ImmutableEntry.of((K) node.getKey(), (V) node.getValue());
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return ImmutableBalancedTreeMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object object)
+        {
+            if (!(object instanceof Entry))
+            {
+                return false;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) object;
+            WeightBalancedNode node = WeightBalancedNode.find(ImmutableBalancedTreeMap.this.root, entry.getKey(), ImmutableBalancedTreeMap.this.order());
+            return node != null && Objects.equals(node.getValue(), entry.getValue());
+        }
+    }
+
+    /**
+     * Writes the same form as the other immutable sorted maps, but reads it back into an ImmutableBalancedTreeMap.
+     */
+    static final class SerializationProxy<K, V> extends ImmutableSortedMapSerializationProxy<K, V>
+    {
+        private static final long serialVersionUID = 1L;
+
+        @SuppressWarnings("UnusedDeclaration")
+        public SerializationProxy()
+        {
+            // Empty constructor for Externalizable class
+        }
+
+        SerializationProxy(ImmutableSortedMap<K, V> map)
+        {
+            super(map);
+        }
+
+        @Override
+        protected ImmutableSortedMap<K, V> toImmutable(MutableSortedMap<K, V> deserializedMap)
+        {
+            return ImmutableBalancedTreeMap.newMap(deserializedMap);
+        }
+    }
+}
@@ -171,4 +171,22 @@ public class ImmutableSortedMapFactoryImpl implements ImmutableSortedMapFactory
         }
         return ImmutableTreeMap.newMap(map);
     }
+
+    @Override
+    public <K, V> ImmutableSortedMap<K, V> persistent()
+    {
+        return ImmutableBalancedTreeMap.empty();
+    }
+
+    @Override
+    public <K, V> ImmutableSortedMap<K, V> persistent(Comparator<? super K> comparator)
+    {
+        return ImmutableBalancedTreeMap.empty(comparator);
+    }
+
+    @Override
+    public <K, V> ImmutableSortedMap<K, V> persistentWithSortedMap(SortedMap<K, V> map)
+    {
+        return ImmutableBalancedTreeMap.newMap(map);
+    }
 }
@@ -75,7 +75,12 @@ class ImmutableSortedMapSerializationProxy<K, V> implements Externalizable
             deserializedMap.put((K) in.readObject(), (V) in.readObject());
         }
 
-        this.map = deserializedMap.toImmutable();
+        this.map = this.toImmutable(deserializedMap);
+    }
+
+    protected ImmutableSortedMap<K, V> toImmutable(MutableSortedMap<K, V> deserializedMap)
+    {
+        return deserializedMap.toImmutable();
     }
 
     protected Object readResolve()
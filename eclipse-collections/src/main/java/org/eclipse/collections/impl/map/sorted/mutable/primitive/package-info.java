@@ -0,0 +1,16 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+/**
+ * This package contains implementations of the mutable sorted primitive-object map interfaces.
+ * <p>
+ *     The maps are two-level B+trees with sorted primitive key arrays and parallel value arrays.
+ */
+package org.eclipse.collections.impl.map.sorted.mutable.primitive;
@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.multimap;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.collection.ImmutableCollection;
+import org.eclipse.collections.api.collection.MutableCollection;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.multimap.Multimap;
+import org.eclipse.collections.api.multimap.MutableMultimap;
+import org.eclipse.collections.api.set.SetIterable;
+import org.eclipse.collections.impl.block.procedure.checked.MultimapKeyValuesSerializingProcedure;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.set.mutable.UnmodifiableMutableSet;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * A Multimap that never locks. Keys live in a {@link ConcurrentHashMap} and the values for each key are held in an
+ * immutable collection. Every update builds a new value collection and installs it with a single compare-and-set on
+ * the key's map entry, retrying if another thread got there first. Writers to different keys never contend and
+ * writers to the same key never block each other.
+ * <p>
+ * Because the value collections are immutable, readers always see a consistent snapshot of the values of a key:
+ * {@link #get(Object)}, {@link #removeAll(Object)} and {@link #forEachKeyMultiValues} never observe a half-applied
+ * {@link #putAll(Object, Iterable)}. Iteration across keys is weakly consistent, and {@link #size()} is only exact
+ * when there are no concurrent updates.
+ * <p>
+ * Subclasses choose a value collection whose {@code newWith} is cheap, since that is the cost of every put.
+ *
+ * @since 12.0
+ */
+public abstract class AbstractConcurrentMultimap<K, V, C extends ImmutableCollection<V>>
+        extends AbstractMultimap<K, V, C>
+        implements MutableMultimap<K, V>, Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private final LongAdder totalSize = new LongAdder();
+
+    private ConcurrentHashMap<K, C> map;
+
+    protected AbstractConcurrentMultimap()
+    {
+        this.map = ConcurrentHashMap.newMap();
+    }
+
+    protected AbstractConcurrentMultimap(int initialCapacity)
+    {
+        this.map = ConcurrentHashMap.newMap(initialCapacity);
+    }
+
+    @Override
+    protected ConcurrentHashMap<K, C> getMap()
+    {
+        return this.map;
+    }
+
+    /**
+     * Returns a mutable copy of the given values, used by {@link #toMap()}.
+     */
+    protected abstract MutableCollection<V> toMutableCollection(C values);
+
+    // Query Operations
+
+    @Override
+    public int size()
+    {
+        return (int) this.totalSize.sum();
+    }
+
+    @Override
+    public int sizeDistinct()
+    {
+        return this.map.size();
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.map.isEmpty();
+    }
+
+    // Modification Operations
+
+    @Override
+    public boolean put(K key, V value)
+    {
+        return this.update(key, (values, each) -> (C) values.newWith(each), value) > 0;
+    }
+
+    @Override
+    public boolean remove(Object key, Object value)
+    {
+        return this.update((K) key, (values, each) -> (C) values.newWithout(each), (V) value) < 0;
+    }
+
+    @Override
+    public boolean putAll(K key, Iterable<? extends V> values)
+    {
+        return Iterate.notEmpty(values) && this.update(key, (existing, each) -> (C) existing.newWithAll(each), values) > 0;
+    }
+
+    @Override
+    public <KK extends K, VV extends V> boolean putAll(Multimap<KK, VV> multimap)
+    {
+        boolean[] changed = new boolean[1];
+        multimap.forEachKeyMultiValues((key, values) -> changed[0] |= this.putAll(key, (Iterable<VV>) values));
+        return changed[0];
+    }
+
+    @Override
+    public MutableMultimap<K, V> withKeyMultiValues(K key, V... values)
+    {
+        Objects.requireNonNull(values);
+        this.putAll(key, FastList.wrapCopy(values));
+        return this;
+    }
+
+    /**
+     * Applies {@code function} to the current values of {@code key} and installs the result, retrying until no other
+     * thread has changed the key in between. An empty result removes the key.
+     *
+     * @return the change in the number of values for the key
+     */
+    protected <P> int update(K key, Function2<? super C, ? super P, ? extends C> function, P parameter)
+    {
+        while (true)
+        {
+            C existing = this.map.get(key);
+            C current = existing == null ? this.createCollection() : existing;
+            C updated = function.value(current, parameter);
+            int delta = updated.size() - current.size();
+            if (updated == current)
+            {
+                return 0;
+            }
+            if (this.replaceValuesIfUnchanged(key, existing, updated))
+            {
+                this.totalSize.add(delta);
+                return delta;
+            }
+        }
+    }
+
+    private boolean replaceValuesIfUnchanged(K key, C existing, C updated)
+    {
+        if (existing == null)
+        {
+            return updated.isEmpty() || this.map.putIfAbsent(key, updated) == null;
+        }
+        if (updated.isEmpty())
+        {
+            return this.map.remove(key, existing);
+        }
+        return this.map.replace(key, existing, updated);
+    }
+
+    /**
+     * Atomically swaps the values of {@code key} for a collection holding {@code values}.
+     *
+     * @return the previous values, or an empty collection if the key was absent
+     */
+    protected C replaceValuesSnapshot(K key, Iterable<? extends V> values)
+    {
+        if (Iterate.isEmpty(values))
+        {
+            return this.removeAllSnapshot(key);
+        }
+        C newValues = (C) this.createCollection().newWithAll(values);
+        C oldValues = this.map.put(key, newValues);
+        oldValues = oldValues == null ? this.createCollection() : oldValues;
+        this.totalSize.add(newValues.size() - oldValues.size());
+        return oldValues;
+    }
+
+    /**
+     * Atomically removes {@code key}.
+     *
+     * @return the removed values, or an empty collection if the key was absent
+     */
+    protected C removeAllSnapshot(Object key)
+    {
+        C oldValues = this.map.remove(key);
+        if (oldValues == null)
+        {
+            return this.createCollection();
+        }
+        this.totalSize.add(-oldValues.size());
+        return oldValues;
+    }
+
+    /**
+     * Returns the current values of {@code key}, or an empty collection if the key is absent.
+     */
+    protected C getSnapshot(K key)
+    {
+        C values = this.map.get(key);
+        return values == null ? this.createCollection() : values;
+    }
+
+    /**
+     * Returns the current values of {@code key}, first installing {@code values} if the key is absent.
+     */
+    protected C getIfAbsentPutAllSnapshot(K key, Iterable<? extends V> values)
+    {
+        if (Iterate.isEmpty(values))
+        {
+            return this.getSnapshot(key);
+        }
+        C newValues = null;
+        while (true)
+        {
+            C existing = this.map.get(key);
+            if (existing != null)
+            {
+                return existing;
+            }
+            if (newValues == null)
+            {
+                newValues = (C) this.createCollection().newWithAll(values);
+            }
+            if (this.map.putIfAbsent(key, newValues) == null)
+            {
+                this.totalSize.add(newValues.size());
+                return newValues;
+            }
+        }
+    }
+
+    @Override
+    public void clear()
+    {
+        this.map.forEachKey(this::removeAllSnapshot);
+    }
+
+    // Views
+
+    /**
+     * Each key is passed together with an immutable snapshot of its values, so a concurrent
+     * {@link #putAll(Object, Iterable)} for that key is seen either completely or not at all.
+     */
+    @Override
+    public void forEachKeyMultiValues(Procedure2<? super K, ? super RichIterable<V>> procedure)
+    {
+        this.map.forEachKeyValue(procedure);
+    }
+
+    @Override
+    public SetIterable<K> keySet()
+    {
+        return UnmodifiableMutableSet.of(this.map.keySet());
+    }
+
+    @Override
+    public MutableMap<K, RichIterable<V>> toMap()
+    {
+        MutableMap<K, RichIterable<V>> result = UnifiedMap.newMap(this.map.size());
+        this.map.forEachKeyValue((key, values) -> result.put(key, this.toMutableCollection(values)));
+        return result;
+    }
+
+    @Override
+    public <R extends Collection<V>> MutableMap<K, R> toMap(Function0<R> collectionFactory)
+    {
+        MutableMap<K, R> result = UnifiedMap.newMap(this.map.size());
+        this.map.forEachKeyValue((key, values) -> {
+            R collection = collectionFactory.value();
+            Iterate.addAllTo(values, collection);
+            result.put(key, collection);
+        });
+        return result;
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        MutableMap<K, C> snapshot = UnifiedMap.newMap(this.map);
+        out.writeInt(snapshot.size());
+        snapshot.forEachKeyValue(new MultimapKeyValuesSerializingProcedure<>(out));
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int keyCount = in.readInt();
+        this.map = ConcurrentHashMap.newMap(keyCount);
+        for (int k = 0; k < keyCount; k++)
+        {
+            K key = (K) in.readObject();
+            int valuesSize = in.readInt();
+            MutableList<V> values = FastList.newList(valuesSize);
+            for (int v = 0; v < valuesSize; v++)
+            {
+                values.add((V) in.readObject());
+            }
+            this.map.put(key, (C) this.createCollection().newWithAll(values));
+            this.totalSize.add(valuesSize);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.multimap.list;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.multimap.Multimap;
+import org.eclipse.collections.api.multimap.bag.MutableBagMultimap;
+import org.eclipse.collections.api.multimap.list.ImmutableListMultimap;
+import org.eclipse.collections.api.multimap.list.MutableListMultimap;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.list.immutable.ImmutableRrbList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import org.eclipse.collections.impl.list.mutable.UnmodifiableMutableList;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.multimap.AbstractConcurrentMultimap;
+import org.eclipse.collections.impl.multimap.bag.HashBagMultimap;
+import org.eclipse.collections.impl.utility.ArrayIterate;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * A Multimap that is safe for concurrent reads and writes without taking any lock. The values of each key are held in
+ * an {@link ImmutableRrbList}, so a put appends in amortized constant time and readers get a consistent snapshot of
+ * the values of a key.
+ * <p>
+ * Unlike the other list multimaps, {@link #get(Object)}, {@link #removeAll(Object)} and
+ * {@link #forEachKeyMutableList(Procedure2)} hand out unmodifiable snapshots rather than live views.
+ *
+ * @since 12.0
+ */
+public final class ConcurrentListMultimap<K, V>
+        extends AbstractConcurrentMultimap<K, V, ImmutableList<V>>
+        implements MutableListMultimap<K, V>
+{
+    private static final long serialVersionUID = 1L;
+
+    public ConcurrentListMultimap()
+    {
+    }
+
+    public ConcurrentListMultimap(int initialCapacity)
+    {
+        super(initialCapacity);
+    }
+
+    public ConcurrentListMultimap(Multimap<? extends K, ? extends V> multimap)
+    {
+        this.putAll(multimap);
+    }
+
+    public ConcurrentListMultimap(Pair<K, V>... pairs)
+    {
+        ArrayIterate.forEach(pairs, pair -> this.put(pair.getOne(), pair.getTwo()));
+    }
+
+    public ConcurrentListMultimap(Iterable<Pair<K, V>> inputIterable)
+    {
+        Iterate.forEach(inputIterable, this::add);
+    }
+
+    public static <K, V> ConcurrentListMultimap<K, V> newMultimap()
+    {
+        return new ConcurrentListMultimap<>();
+    }
+
+    public static <K, V> ConcurrentListMultimap<K, V> newMultimap(int initialCapacity)
+    {
+        return new ConcurrentListMultimap<>(initialCapacity);
+    }
+
+    public static <K, V> ConcurrentListMultimap<K, V> newMultimap(Multimap<? extends K, ? extends V> multimap)
+    {
+        return new ConcurrentListMultimap<>(multimap);
+    }
+
+    public static <K, V> ConcurrentListMultimap<K, V> newMultimap(Pair<K, V>... pairs)
+    {
+        return new ConcurrentListMultimap<>(pairs);
+    }
+
+    public static <K, V> ConcurrentListMultimap<K, V> newMultimap(Iterable<Pair<K, V>> inputIterable)
+    {
+        return new ConcurrentListMultimap<>(inputIterable);
+    }
+
+    @Override
+    protected ImmutableList<V> createCollection()
+    {
+        return ImmutableRrbList.empty();
+    }
+
+    @Override
+    protected MutableList<V> toMutableCollection(ImmutableList<V> values)
+    {
+        return values.toList();
+    }
+
+    private MutableList<V> asMutableList(ImmutableList<V> values)
+    {
+        return UnmodifiableMutableList.of(ListAdapter.adapt(values.castToList()));
+    }
+
+    @Override
+    public ConcurrentListMultimap<K, V> withKeyMultiValues(K key, V... values)
+    {
+        return (ConcurrentListMultimap<K, V>) super.withKeyMultiValues(key, values);
+    }
+
+    @Override
+    public MutableList<V> get(K key)
+    {
+        return this.asMutableList(this.getSnapshot(key));
+    }
+
+    @Override
+    public MutableList<V> getIfAbsentPutAll(K key, Iterable<? extends V> values)
+    {
+        return this.asMutableList(this.getIfAbsentPutAllSnapshot(key, values));
+    }
+
+    @Override
+    public MutableList<V> replaceValues(K key, Iterable<? extends V> values)
+    {
+        return this.asMutableList(this.replaceValuesSnapshot(key, values));
+    }
+
+    @Override
+    public MutableList<V> removeAll(Object key)
+    {
+        return this.asMutableList(this.removeAllSnapshot(key));
+    }
+
+    @Override
+    public void forEachKeyMutableList(Procedure2<? super K, ? super MutableList<V>> procedure)
+    {
+        this.getMap().forEachKeyValue((key, values) -> procedure.value(key, this.asMutableList(values)));
+    }
+
+    @Override
+    public ConcurrentListMultimap<K, V> newEmpty()
+    {
+        return new ConcurrentListMultimap<>();
+    }
+
+    @Override
+    public MutableListMultimap<K, V> toMutable()
+    {
+        return new ConcurrentListMultimap<>(this);
+    }
+
+    @Override
+    public ImmutableListMultimap<K, V> toImmutable()
+    {
+        MutableMap<K, ImmutableList<V>> map = UnifiedMap.newMap(this.getMap());
+        return new ImmutableListMultimapImpl<>(map);
+    }
+
+    @Override
+    public MutableBagMultimap<V, K> flip()
+    {
+        return Iterate.flip(this);
+    }
+
+    @Override
+    public FastListMultimap<K, V> selectKeysValues(Predicate2<? super K, ? super V> predicate)
+    {
+        return this.selectKeysValues(predicate, FastListMultimap.newMultimap());
+    }
+
+    @Override
+    public FastListMultimap<K, V> rejectKeysValues(Predicate2<? super K, ? super V> predicate)
+    {
+        return this.rejectKeysValues(predicate, FastListMultimap.newMultimap());
+    }
+
+    @Override
+    public FastListMultimap<K, V> selectKeysMultiValues(Predicate2<? super K, ? super RichIterable<V>> predicate)
+    {
+        return this.selectKeysMultiValues(predicate, FastListMultimap.newMultimap());
+    }
+
+    @Override
+    public FastListMultimap<K, V> rejectKeysMultiValues(Predicate2<? super K, ? super RichIterable<V>> predicate)
+    {
+        return this.rejectKeysMultiValues(predicate, FastListMultimap.newMultimap());
+    }
+
+    @Override
+    public <K2, V2> HashBagMultimap<K2, V2> collectKeysValues(Function2<? super K, ? super V, Pair<K2, V2>> function)
+    {
+        return this.collectKeysValues(function, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public <K2, V2> HashBagMultimap<K2, V2> collectKeyMultiValues(Function<? super K, ? extends K2> keyFunction, Function<? super V, ? extends V2> valueFunction)
+    {
+        return this.collectKeyMultiValues(keyFunction, valueFunction, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public <V2> FastListMultimap<K, V2> collectValues(Function<? super V, ? extends V2> function)
+    {
+        return this.collectValues(function, FastListMultimap.newMultimap());
+    }
+
+    @Override
+    public MutableListMultimap<K, V> asSynchronized()
+    {
+        throw new UnsupportedOperationException("Cannot call asSynchronized() on " + this.getClass().getSimpleName());
+    }
+}
@@ -16,6 +16,9 @@
  *     This package contains the following implementations:
  * <ul>
  *     <li>
+ *          {@link org.eclipse.collections.impl.multimap.list.ConcurrentListMultimap} - a {@code MutableListMultimap} that is safe for concurrent reads and writes without locking, and holds the values of each key in an {@link org.eclipse.collections.impl.list.immutable.ImmutableRrbList}.
+ *     </li>
+ *     <li>
  *          {@link org.eclipse.collections.impl.multimap.list.FastListMultimap} - a {@code MutableListMultimap} which uses a {@link org.eclipse.collections.impl.list.mutable.FastList} as its underlying store for the multiple values of a given key.
  *     </li>
  *     <li>
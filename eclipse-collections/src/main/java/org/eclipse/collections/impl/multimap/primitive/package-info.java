@@ -0,0 +1,17 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+/**
+ * This package contains implementations of the primitive-keyed multimap interfaces.
+ * <p>
+ *     The mutable multimaps store their values in primitive-to-object hash maps of lists or sets. The immutable
+ *     multimaps use a compressed sparse row layout: sorted keys, an offsets array and one flat array of values.
+ */
+package org.eclipse.collections.impl.multimap.primitive;
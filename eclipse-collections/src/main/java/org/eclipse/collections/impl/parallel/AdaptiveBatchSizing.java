@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.parallel;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+
+/**
+ * Chooses the {@code minForkSize} and {@code taskCount} of {@link ParallelIterate#forEachAdaptive(Iterable, Procedure)}
+ * from the measured cost of its procedure per element, so that each task runs for about {@link #TARGET_TASK_NANOS}.
+ * The task count is capped at {@link #MAX_TASKS_PER_THREAD} times {@link ParallelIterate#getDefaultMaxThreadPoolSize()},
+ * so that a slow procedure on a large input does not queue a task per handful of elements.
+ * <p>
+ * The cost is measured by running the procedure on a short prefix of the input in the calling thread. It is cached per
+ * call site, which is the class of the procedure, so that later calls from the same call site skip the prefix. Every
+ * {@link #RESAMPLE_INTERVAL}th call from a call site measures again, to follow warm-up and changes in cost.
+ * <p>
+ * Each decision is passed to the listener set with {@link #setListener(Procedure)}, which can be used to log or
+ * export the decisions when tuning in production.
+ *
+ * @since 12.0
+ */
+public final class AdaptiveBatchSizing
+{
+    static final long TARGET_TASK_NANOS = TimeUnit.MILLISECONDS.toNanos(1L);
+    static final long SAMPLE_NANOS = TimeUnit.MICROSECONDS.toNanos(100L);
+    static final int MAX_SAMPLE_SIZE = 1_024;
+    static final int RESAMPLE_INTERVAL = 16;
+    static final int MAX_TASKS_PER_THREAD = 8;
+
+    private static final ConcurrentHashMap<Class<?>, CallSite> CALL_SITES = ConcurrentHashMap.newMap();
+    private static volatile Procedure<? super Decision> listener;
+
+    private AdaptiveBatchSizing()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    /**
+     * Sets the procedure that is passed each decision in the calling thread, or removes it if {@code newListener} is
+     * null. The listener should be cheap, as it runs once per adaptive call.
+     */
+    public static void setListener(Procedure<? super Decision> newListener)
+    {
+        AdaptiveBatchSizing.listener = newListener;
+    }
+
+    /**
+     * Forgets the cost measured for every call site.
+     */
+    public static void clearCache()
+    {
+        AdaptiveBatchSizing.CALL_SITES.clear();
+    }
+
+    /**
+     * Returns the decision for running {@code procedure} over {@code list}. If the cost has to be measured, the
+     * procedure is run on the first {@link Decision#getSampleSize()} elements of the list, which the caller must not
+     * run again.
+     */
+    static <T> Decision decide(List<T> list, Procedure<? super T> procedure)
+    {
+        Class<?> callSiteClass = procedure.getClass();
+        CallSite callSite = AdaptiveBatchSizing.CALL_SITES.getIfAbsentPut(callSiteClass, CallSite::new);
+        int size = list.size();
+        int sampleSize = 0;
+        long nanosPerElement = callSite.nanosPerElement;
+        int calls = callSite.calls.getAndIncrement();
+        if (nanosPerElement == 0L || calls % RESAMPLE_INTERVAL == 0)
+        {
+            int sampleLimit = Math.min(size, MAX_SAMPLE_SIZE);
+            long start = System.nanoTime();
+            long elapsed = 0L;
+            while (sampleSize < sampleLimit && elapsed < SAMPLE_NANOS)
+            {
+                procedure.value(list.get(sampleSize));
+                sampleSize++;
+                // Reading the clock costs about as much as a trivial procedure, so after the first elements it is only
+                // read every eight elements
+                if (sampleSize < 8 || (sampleSize & 7) == 0 || sampleSize == sampleLimit)
+                {
+                    elapsed = System.nanoTime() - start;
+                }
+            }
+            nanosPerElement = Math.max(1L, elapsed / sampleSize);
+            callSite.nanosPerElement = nanosPerElement;
+        }
+        Decision decision = new Decision(callSiteClass, size, sampleSize, nanosPerElement);
+        Procedure<? super Decision> currentListener = AdaptiveBatchSizing.listener;
+        if (currentListener != null)
+        {
+            currentListener.value(decision);
+        }
+        return decision;
+    }
+
+    private static final class CallSite
+    {
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile long nanosPerElement;
+    }
+
+    /**
+     * The batch sizing chosen for one call of {@link ParallelIterate#forEachAdaptive(Iterable, Procedure)}.
+     */
+    public static final class Decision
+    {
+        private final Class<?> callSite;
+        private final int size;
+        private final int sampleSize;
+        private final long nanosPerElement;
+        private final int minForkSize;
+        private final int taskCount;
+
+        private Decision(Class<?> callSite, int size, int sampleSize, long nanosPerElement)
+        {
+            this.callSite = callSite;
+            this.size = size;
+            this.sampleSize = sampleSize;
+            this.nanosPerElement = nanosPerElement;
+            long elementsPerTask = Math.max(1L, TARGET_TASK_NANOS / nanosPerElement);
+            // Forking pays off once the remaining elements fill at least two tasks
+            this.minForkSize = (int) Math.min(Integer.MAX_VALUE, 2L * elementsPerTask);
+            long remaining = size - sampleSize;
+            long maxTaskCount = (long) MAX_TASKS_PER_THREAD * ParallelIterate.getDefaultMaxThreadPoolSize();
+            long tasksForTarget = (remaining + elementsPerTask - 1L) / elementsPerTask;
+            this.taskCount = (int) Math.max(2L, Math.min(maxTaskCount, Math.min(remaining, tasksForTarget)));
+        }
+
+        /**
+         * Returns the class of the procedure, which identifies the call site.
+         */
+        public Class<?> getCallSite()
+        {
+            return this.callSite;
+        }
+
+        public int getSize()
+        {
+            return this.size;
+        }
+
+        /**
+         * Returns the number of elements run in the calling thread to measure the cost, or 0 if the cached cost was
+         * used.
+         */
+        public int getSampleSize()
+        {
+            return this.sampleSize;
+        }
+
+        public boolean isSampled()
+        {
+            return this.sampleSize > 0;
+        }
+
+        public long getNanosPerElement()
+        {
+            return this.nanosPerElement;
+        }
+
+        /**
+         * Returns the number of remaining elements below which they are run in the calling thread.
+         */
+        public int getMinForkSize()
+        {
+            return this.minForkSize;
+        }
+
+        public int getTaskCount()
+        {
+            return this.taskCount;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "Decision{"
+                    + "callSite=" + this.callSite.getName()
+                    + ", size=" + this.size
+                    + ", sampleSize=" + this.sampleSize
+                    + ", nanosPerElement=" + this.nanosPerElement
+                    + ", minForkSize=" + this.minForkSize
+                    + ", taskCount=" + this.taskCount
+                    + '}';
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.parallel;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.collections.api.block.predicate.Predicate;
+
+/**
+ * A token shared by the tasks of one short-circuiting parallel operation, such as {@code detect} or
+ * {@code anySatisfy}. The first task to find an element that decides the answer records it with
+ * {@link #complete(Object)}, which also cancels the token. The other tasks poll {@link #isCancelled()} between elements
+ * and stop, and tasks that have not started yet do not start.
+ *
+ * @since 12.0
+ */
+public final class CancellationToken<T>
+{
+    private static final Object RUNNING = new Object();
+    private static final Object CANCELLED = new Object();
+    private static final Object NULL = new Object();
+
+    private final AtomicReference<Object> state = new AtomicReference<>(RUNNING);
+
+    public boolean isCancelled()
+    {
+        return this.state.get() != RUNNING;
+    }
+
+    /**
+     * Cancels the token without recording a result. Does nothing if the token is already cancelled.
+     */
+    public void cancel()
+    {
+        this.state.compareAndSet(RUNNING, CANCELLED);
+    }
+
+    /**
+     * Records {@code result} and cancels the token, unless it is already cancelled.
+     *
+     * @return true if {@code result} was recorded
+     */
+    public boolean complete(T result)
+    {
+        return this.state.compareAndSet(RUNNING, result == null ? NULL : result);
+    }
+
+    /**
+     * Returns true if a result was recorded by {@link #complete(Object)}.
+     */
+    public boolean hasResult()
+    {
+        Object current = this.state.get();
+        return current != RUNNING && current != CANCELLED;
+    }
+
+    /**
+     * Returns the recorded result, or null if there is none.
+     */
+    public T getResult()
+    {
+        Object current = this.state.get();
+        return current == RUNNING || current == CANCELLED || current == NULL ? null : (T) current;
+    }
+
+    /**
+     * Returns a predicate for the loop of one batch, meant to be passed to an {@code anySatisfy} that stops at the first
+     * element it accepts. It accepts an element that satisfies {@code predicate}, recording it as the result, and it
+     * accepts any element once the token is cancelled so that the loop ends.
+     */
+    public Predicate<T> detecting(Predicate<? super T> predicate)
+    {
+        return each -> {
+            if (this.isCancelled())
+            {
+                return true;
+            }
+            if (predicate.accept(each))
+            {
+                this.complete(each);
+                return true;
+            }
+            return false;
+        };
+    }
+}
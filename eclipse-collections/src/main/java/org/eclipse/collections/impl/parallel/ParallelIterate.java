@@ -15,8 +15,12 @@ import java.math.BigInteger;
 import java.util.Collection;
 import java.util.List;
 import java.util.RandomAccess;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -33,6 +37,7 @@ import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.factory.primitive.ObjectDoubleMaps;
 import org.eclipse.collections.api.factory.primitive.ObjectLongMaps;
 import org.eclipse.collections.api.list.ListIterable;
@@ -43,8 +48,10 @@ import org.eclipse.collections.api.map.primitive.MutableObjectLongMap;
 import org.eclipse.collections.api.map.primitive.ObjectDoubleMap;
 import org.eclipse.collections.api.map.primitive.ObjectLongMap;
 import org.eclipse.collections.api.multimap.MutableMultimap;
+import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.tuple.primitive.DoubleDoublePair;
 import org.eclipse.collections.impl.block.factory.Functions0;
+import org.eclipse.collections.impl.block.factory.Predicates;
 import org.eclipse.collections.impl.block.procedure.MultimapPutProcedure;
 import org.eclipse.collections.impl.block.procedure.MutatingAggregationProcedure;
 import org.eclipse.collections.impl.block.procedure.NonMutatingAggregationProcedure;
@@ -278,6 +285,41 @@ public final class ParallelIterate
         ParallelIterate.forEach(iterable, procedure, batchSize, ParallelIterate.calculateTaskCount(iterable, batchSize), executor);
     }
 
+    /**
+     * Iterate over the collection specified in parallel batches sized from the measured cost of the procedure, instead
+     * of the fixed {@link #DEFAULT_MIN_FORK_SIZE} and task count. The procedure is run on a short prefix in the calling
+     * thread to measure its cost per element, and the rest is split into tasks of about one millisecond each, up to a
+     * few tasks per thread of the default pool. The cost is cached per procedure class, so procedures should be lambdas
+     * or classes used for work of a similar cost.
+     * The {@code Procedure} used must be stateless, or use concurrent aware objects if they are to be shared.
+     *
+     * @see AdaptiveBatchSizing
+     * @since 12.0
+     */
+    public static <T> void forEachAdaptive(Iterable<T> iterable, Procedure<? super T> procedure)
+    {
+        ParallelIterate.forEachAdaptive(iterable, procedure, ParallelIterate.EXECUTOR_SERVICE);
+    }
+
+    /**
+     * Same as {@link #forEachAdaptive(Iterable, Procedure)}, using the specified executor.
+     *
+     * @since 12.0
+     */
+    public static <T> void forEachAdaptive(Iterable<T> iterable, Procedure<? super T> procedure, Executor executor)
+    {
+        if (Iterate.isEmpty(iterable))
+        {
+            return;
+        }
+        List<T> list = iterable instanceof RandomAccess && iterable instanceof List
+                ? (List<T>) iterable
+                : ArrayAdapter.adapt((T[]) Iterate.toArray(iterable));
+        AdaptiveBatchSizing.Decision decision = AdaptiveBatchSizing.decide(list, procedure);
+        List<T> remaining = decision.isSampled() ? list.subList(decision.getSampleSize(), list.size()) : list;
+        ParallelIterate.forEach(remaining, procedure, decision.getMinForkSize(), decision.getTaskCount(), executor);
+    }
+
     /**
      * Iterate over the collection specified in parallel batches using default runtime parameter values
      * and the specified executor.
@@ -712,6 +754,187 @@ public final class ParallelIterate
         return combiner.getCount();
     }
 
+    /**
+     * Same effect as {@link Iterate#anySatisfy(Iterable, Predicate)}, but executed in parallel batches. Once a batch
+     * finds a matching element the batches that are running stop evaluating the predicate, the batches that have not
+     * started are skipped, and the result is returned without waiting for them.
+     *
+     * @since 12.0
+     */
+    public static <T> boolean anySatisfy(Iterable<T> iterable, Predicate<? super T> predicate)
+    {
+        return ParallelIterate.anySatisfy(iterable, predicate, ParallelIterate.DEFAULT_MIN_FORK_SIZE, ParallelIterate.EXECUTOR_SERVICE);
+    }
+
+    /**
+     * Same effect as {@link Iterate#anySatisfy(Iterable, Predicate)}, but executed in parallel batches. Once a batch
+     * finds a matching element the batches that are running stop evaluating the predicate, the batches that have not
+     * started are skipped, and the result is returned without waiting for them.
+     *
+     * @since 12.0
+     */
+    public static <T> boolean anySatisfy(Iterable<T> iterable, Predicate<? super T> predicate, int batchSize, Executor executor)
+    {
+        return ParallelIterate.detectInBatches(iterable, predicate, batchSize, executor).hasResult();
+    }
+
+    /**
+     * Same effect as {@link Iterate#allSatisfy(Iterable, Predicate)}, but executed in parallel batches. Once a batch
+     * finds an element that does not match the batches that are running stop evaluating the predicate, the batches
+     * that have not started are skipped, and the result is returned without waiting for them.
+     *
+     * @since 12.0
+     */
+    public static <T> boolean allSatisfy(Iterable<T> iterable, Predicate<? super T> predicate)
+    {
+        return ParallelIterate.allSatisfy(iterable, predicate, ParallelIterate.DEFAULT_MIN_FORK_SIZE, ParallelIterate.EXECUTOR_SERVICE);
+    }
+
+    /**
+     * Same effect as {@link Iterate#allSatisfy(Iterable, Predicate)}, but executed in parallel batches. Once a batch
+     * finds an element that does not match the batches that are running stop evaluating the predicate, the batches
+     * that have not started are skipped, and the result is returned without waiting for them.
+     *
+     * @since 12.0
+     */
+    public static <T> boolean allSatisfy(Iterable<T> iterable, Predicate<? super T> predicate, int batchSize, Executor executor)
+    {
+        return !ParallelIterate.detectInBatches(iterable, Predicates.not(predicate), batchSize, executor).hasResult();
+    }
+
+    /**
+     * Same effect as {@link Iterate#noneSatisfy(Iterable, Predicate)}, but executed in parallel batches. Once a batch
+     * finds a matching element the batches that are running stop evaluating the predicate, the batches that have not
+     * started are skipped, and the result is returned without waiting for them.
+     *
+     * @since 12.0
+     */
+    public static <T> boolean noneSatisfy(Iterable<T> iterable, Predicate<? super T> predicate)
+    {
+        return ParallelIterate.noneSatisfy(iterable, predicate, ParallelIterate.DEFAULT_MIN_FORK_SIZE, ParallelIterate.EXECUTOR_SERVICE);
+    }
+
+    /**
+     * Same effect as {@link Iterate#noneSatisfy(Iterable, Predicate)}, but executed in parallel batches. Once a batch
+     * finds a matching element the batches that are running stop evaluating the predicate, the batches that have not
+     * started are skipped, and the result is returned without waiting for them.
+     *
+     * @since 12.0
+     */
+    public static <T> boolean noneSatisfy(Iterable<T> iterable, Predicate<? super T> predicate, int batchSize, Executor executor)
+    {
+        return !ParallelIterate.detectInBatches(iterable, predicate, batchSize, executor).hasResult();
+    }
+
+    /**
+     * Same effect as {@link Iterate#detect(Iterable, Predicate)}, but executed in parallel batches. The element returned
+     * is the first one found by any batch, which is not necessarily the first matching element in iteration order. Once
+     * it is found the batches that are running stop evaluating the predicate, the batches that have not started are
+     * skipped, and the element is returned without waiting for them.
+     *
+     * @since 12.0
+     */
+    public static <T> T detect(Iterable<T> iterable, Predicate<? super T> predicate)
+    {
+        return ParallelIterate.detect(iterable, predicate, ParallelIterate.DEFAULT_MIN_FORK_SIZE, ParallelIterate.EXECUTOR_SERVICE);
+    }
+
+    /**
+     * Same effect as {@link Iterate#detect(Iterable, Predicate)}, but executed in parallel batches. The element returned
+     * is the first one found by any batch, which is not necessarily the first matching element in iteration order. Once
+     * it is found the batches that are running stop evaluating the predicate, the batches that have not started are
+     * skipped, and the element is returned without waiting for them.
+     *
+     * @since 12.0
+     */
+    public static <T> T detect(Iterable<T> iterable, Predicate<? super T> predicate, int batchSize, Executor executor)
+    {
+        return ParallelIterate.detectInBatches(iterable, predicate, batchSize, executor).getResult();
+    }
+
+    /**
+     * Runs the batches until one of them finds an element that satisfies {@code predicate}, and returns the token that
+     * holds the element, if any. Each batch is submitted to {@code executor} as its own task. Once the element is found
+     * the batches that are running stop evaluating the predicate, the batches that have not started are skipped, and
+     * this method returns without waiting for them.
+     */
+    private static <T> CancellationToken<T> detectInBatches(
+            Iterable<T> iterable,
+            Predicate<? super T> predicate,
+            int batchSize,
+            Executor executor)
+    {
+        CancellationToken<T> token = new CancellationToken<>();
+        Predicate<T> detecting = token.detecting(predicate);
+        int size = Iterate.sizeOf(iterable);
+        if (size < batchSize)
+        {
+            Iterate.anySatisfy(iterable, detecting);
+            return token;
+        }
+
+        CompletionService<Boolean> completionService = new ExecutorCompletionService<>(executor);
+        MutableSet<Future<Boolean>> futures = Sets.mutable.empty();
+        try
+        {
+            if (iterable instanceof BatchIterable)
+            {
+                BatchIterable<T> batchIterable = (BatchIterable<T>) iterable;
+                int sectionCount = Math.min(size, ParallelIterate.calculateTaskCount(batchIterable, batchSize));
+                for (int i = 0; i < sectionCount && !token.isCancelled(); i++)
+                {
+                    int sectionIndex = i;
+                    // batchForEach cannot stop early, so once the token is cancelled the rest of the section is only
+                    // iterated, without evaluating the predicate
+                    futures.add(completionService.submit(() -> {
+                        if (!token.isCancelled())
+                        {
+                            batchIterable.batchForEach(detecting::accept, sectionIndex, sectionCount);
+                        }
+                        return token.hasResult();
+                    }));
+                }
+            }
+            else
+            {
+                List<T> list = iterable instanceof RandomAccess && iterable instanceof List
+                        ? (List<T>) iterable
+                        : ArrayAdapter.adapt((T[]) Iterate.toArray(iterable));
+                int taskCount = Math.min(size, ParallelIterate.calculateTaskCount(size, batchSize));
+                int sectionSize = (size + taskCount - 1) / taskCount;
+                for (int from = 0; from < size && !token.isCancelled(); from += sectionSize)
+                {
+                    List<T> section = list.subList(from, Math.min(size, from + sectionSize));
+                    futures.add(completionService.submit(() -> !token.isCancelled() && Iterate.anySatisfy(section, detecting)));
+                }
+            }
+            while (futures.notEmpty() && !token.hasResult())
+            {
+                Future<Boolean> future = completionService.take();
+                future.get();
+                futures.remove(future);
+            }
+            return token;
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        catch (ExecutionException e)
+        {
+            throw new RuntimeException(e);
+        }
+        finally
+        {
+            token.cancel();
+            for (Future<Boolean> future : futures)
+            {
+                future.cancel(false);
+            }
+        }
+    }
+
     /**
      * Same effect as {@link Iterate#collect(Iterable, Function)},
      * but executed in parallel batches.
@@ -1337,6 +1560,42 @@ public final class ParallelIterate
         return ParallelIterate.newPooledExecutor(ParallelIterate.getDefaultMaxThreadPoolSize(), poolName, useDaemonThreads);
     }
 
+    /**
+     * Returns a brand new ExecutorService that runs each task on its own virtual thread, with at most maxConcurrency
+     * tasks running at the same time. It suits procedures that block on I/O for each element, which would starve a
+     * pool sized to the number of processors. It can be passed to any method that takes an executor, and to
+     * {@code asParallel}.
+     * <p>
+     * The default task count is sized to the number of processors, so pass a batch size small enough to give about
+     * maxConcurrency batches. The same executor should not be used by tasks it is running, as they may wait for
+     * permits held by their callers.
+     * <p>
+     * On JDKs without virtual threads, this returns {@link #newPooledExecutor(int, String, boolean)} with
+     * maxConcurrency daemon threads instead, which runs tasks over the limit in the submitting thread.
+     *
+     * @see #isVirtualThreadSupported()
+     * @since 12.0
+     */
+    public static ExecutorService newVirtualThreadExecutor(String poolName, int maxConcurrency)
+    {
+        ExecutorService virtualThreadPerTaskExecutor = VirtualThreadExecutorService.newVirtualThreadPerTaskExecutor(poolName);
+        if (virtualThreadPerTaskExecutor == null)
+        {
+            return ParallelIterate.newPooledExecutor(maxConcurrency, poolName, true);
+        }
+        return new VirtualThreadExecutorService(virtualThreadPerTaskExecutor, maxConcurrency);
+    }
+
+    /**
+     * Returns true if {@link #newVirtualThreadExecutor(String, int)} runs tasks on virtual threads in this JVM.
+     *
+     * @since 12.0
+     */
+    public static boolean isVirtualThreadSupported()
+    {
+        return VirtualThreadExecutorService.isSupported();
+    }
+
     public static int getDefaultTaskCount()
     {
         return ParallelIterate.getDefaultMaxThreadPoolSize() * ParallelIterate.getTaskRatio();
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.parallel;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An ExecutorService that starts a virtual thread for each task and lets at most a fixed number of tasks run at the
+ * same time. Tasks over the limit wait on a semaphore inside their own virtual thread, so the submitting thread is never
+ * blocked and no platform thread is held while waiting.
+ * <p>
+ * Virtual threads are looked up reflectively, so this class compiles and loads on JDKs that do not have them. On those
+ * JDKs {@link #newVirtualThreadPerTaskExecutor(String)} returns null.
+ */
+final class VirtualThreadExecutorService extends AbstractExecutorService
+{
+    private static final ThreadFactory UNNAMED_FACTORY = VirtualThreadExecutorService.newVirtualThreadFactory(null);
+
+    private final ExecutorService delegate;
+    private final Semaphore permits;
+
+    VirtualThreadExecutorService(ExecutorService delegate, int maxConcurrency)
+    {
+        if (maxConcurrency < 1)
+        {
+            throw new IllegalArgumentException("maxConcurrency must be positive but was " + maxConcurrency);
+        }
+        this.delegate = delegate;
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    static boolean isSupported()
+    {
+        return UNNAMED_FACTORY != null;
+    }
+
+    /**
+     * Returns an executor that starts a new virtual thread named after {@code poolName} for each task, or null if the
+     * running JDK does not support virtual threads.
+     */
+    static ExecutorService newVirtualThreadPerTaskExecutor(String poolName)
+    {
+        if (!VirtualThreadExecutorService.isSupported())
+        {
+            return null;
+        }
+        ThreadFactory threadFactory = VirtualThreadExecutorService.newVirtualThreadFactory(poolName + " virtual-thread-");
+        try
+        {
+            return (ExecutorService) Executors.class
+                    .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, threadFactory);
+        }
+        catch (ReflectiveOperationException | RuntimeException e)
+        {
+            return null;
+        }
+    }
+
+    /**
+     * Calls {@code Thread.ofVirtual().name(namePrefix, 1).factory()}, and returns null if that is not possible,
+     * including on JDKs where virtual threads are a preview feature that is not enabled.
+     */
+    private static ThreadFactory newVirtualThreadFactory(String namePrefix)
+    {
+        try
+        {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            if (namePrefix != null)
+            {
+                builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 1L);
+            }
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        }
+        catch (ReflectiveOperationException | RuntimeException | LinkageError e)
+        {
+            return null;
+        }
+    }
+
+    @Override
+    public void execute(Runnable command)
+    {
+        this.delegate.execute(() -> {
+            // Uninterruptible so that a task is never dropped; a dropped task would leave the caller waiting for it
+            this.permits.acquireUninterruptibly();
+            try
+            {
+                command.run();
+            }
+            finally
+            {
+                this.permits.release();
+            }
+        });
+    }
+
+    @Override
+    public void shutdown()
+    {
+        this.delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow()
+    {
+        return this.delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown()
+    {
+        return this.delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated()
+    {
+        return this.delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException
+    {
+        return this.delegate.awaitTermination(timeout, unit);
+    }
+}
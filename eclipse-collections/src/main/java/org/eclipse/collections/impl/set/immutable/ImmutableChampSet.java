@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.immutable;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.utility.internal.ChampNode;
+
+/**
+ * An ImmutableSet backed by a compressed hash-array mapped prefix tree (CHAMP). Unlike {@link ImmutableUnifiedSet},
+ * which copies its whole table, {@link #newWith(Object)} and {@link #newWithout(Object)} copy only the O(log32 n)
+ * nodes on the path to the changed element and share the rest of the trie with the original set.
+ * <p>
+ * Every set derived from an ImmutableChampSet with {@code newWith*} or {@code newWithout*} is an ImmutableChampSet,
+ * including the empty set.
+ *
+ * @see ChampNode
+ * @since 12.0
+ */
+public final class ImmutableChampSet<T>
+        extends AbstractImmutableSet<T>
+        implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final ImmutableChampSet<?> EMPTY = new ImmutableChampSet<>(ChampNode.empty(), 0);
+
+    private static final Object NOT_FOUND = new Object();
+
+    private final transient ChampNode root;
+    private final transient int size;
+
+    private ImmutableChampSet(ChampNode root, int size)
+    {
+        this.root = root;
+        this.size = size;
+    }
+
+    public static <T> ImmutableChampSet<T> empty()
+    {
+        return (ImmutableChampSet<T>) EMPTY;
+    }
+
+    public static <T> ImmutableChampSet<T> newSetWith(T... elements)
+    {
+        ImmutableChampSet<T> result = ImmutableChampSet.empty();
+        for (T element : elements)
+        {
+            result = result.newWith(element);
+        }
+        return result;
+    }
+
+    public static <T> ImmutableChampSet<T> newSet(Iterable<? extends T> iterable)
+    {
+        if (iterable instanceof ImmutableChampSet<?>)
+        {
+            return (ImmutableChampSet<T>) iterable;
+        }
+        return ImmutableChampSet.<T>empty().newWithAll(iterable);
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public boolean contains(Object object)
+    {
+        return this.root.get(object, ChampNode.hash(object), 0, ChampNode.SET_WIDTH, NOT_FOUND) != NOT_FOUND;
+    }
+
+    @Override
+    public ImmutableChampSet<T> newWith(T element)
+    {
+        ChampNode.Change change = new ChampNode.Change();
+        ChampNode newRoot = this.root.updated(element, element, ChampNode.hash(element), 0, ChampNode.SET_WIDTH, change);
+        return newRoot == this.root ? this : new ImmutableChampSet<>(newRoot, this.size + 1);
+    }
+
+    @Override
+    public ImmutableChampSet<T> newWithout(T element)
+    {
+        ChampNode.Change change = new ChampNode.Change();
+        ChampNode newRoot = this.root.removed(element, ChampNode.hash(element), 0, ChampNode.SET_WIDTH, change);
+        if (newRoot == this.root)
+        {
+            return this;
+        }
+        return this.size == 1 ? ImmutableChampSet.empty() : new ImmutableChampSet<>(newRoot, this.size - 1);
+    }
+
+    @Override
+    public ImmutableChampSet<T> newWithAll(Iterable<? extends T> elements)
+    {
+        ImmutableChampSet<T> result = this;
+        for (T element : elements)
+        {
+            result = result.newWith(element);
+        }
+        return result;
+    }
+
+    @Override
+    public ImmutableChampSet<T> newWithoutAll(Iterable<? extends T> elements)
+    {
+        ImmutableChampSet<T> result = this;
+        for (T element : elements)
+        {
+            result = result.newWithout(element);
+        }
+        return result;
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new ChampNode.Cursor<T>(this.root, ChampNode.SET_WIDTH)
+        {
+            @Override
+            protected T entry(ChampNode node, int index, int width)
+            {
+                return (T) node.key(index, width);
+            }
+        };
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        ImmutableChampSet.each(this.root, procedure);
+    }
+
+    private static <T> void each(ChampNode node, Procedure<? super T> procedure)
+    {
+        for (int i = 0; i < node.entryCount(ChampNode.SET_WIDTH); i++)
+        {
+            procedure.value((T) node.key(i, ChampNode.SET_WIDTH));
+        }
+        for (int i = 0; i < node.nodeCount(); i++)
+        {
+            ImmutableChampSet.each(node.node(i), procedure);
+        }
+    }
+
+    @Override
+    public T getFirst()
+    {
+        return this.isEmpty() ? null : this.iterator().next();
+    }
+
+    @Override
+    public T getLast()
+    {
+        T last = null;
+        for (T element : this)
+        {
+            last = element;
+        }
+        return last;
+    }
+
+    @Override
+    public T getOnly()
+    {
+        if (this.size != 1)
+        {
+            throw new IllegalStateException("Size must be 1 but was " + this.size);
+        }
+        return this.getFirst();
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+        if (!(object instanceof Set))
+        {
+            return false;
+        }
+        Set<?> other = (Set<?>) object;
+        return this.size == other.size() && other.containsAll(this);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int[] hashCode = {0};
+        this.each(each -> hashCode[0] += this.nullSafeHashCode(each));
+        return hashCode[0];
+    }
+
+    private Object writeReplace()
+    {
+        return new SerializationProxy<>(this);
+    }
+
+    /**
+     * Writes the same form as the other immutable sets, but reads it back into an ImmutableChampSet.
+     */
+    static final class SerializationProxy<T> extends ImmutableSetSerializationProxy<T>
+    {
+        private static final long serialVersionUID = 1L;
+
+        @SuppressWarnings("UnusedDeclaration")
+        public SerializationProxy()
+        {
+            // Empty constructor for Externalizable class
+        }
+
+        SerializationProxy(ImmutableSet<T> set)
+        {
+            super(set);
+        }
+
+        @Override
+        protected ImmutableSet<T> toImmutable(MutableSet<T> deserializedSet)
+        {
+            return ImmutableChampSet.newSet(deserializedSet);
+        }
+    }
+}
@@ -175,4 +175,16 @@ public class ImmutableSetFactoryImpl implements ImmutableSetFactory
         }
         return this.with((T[]) Iterate.toArray(items));
     }
+
+    @Override
+    public <T> ImmutableSet<T> persistent()
+    {
+        return ImmutableChampSet.empty();
+    }
+
+    @Override
+    public <T> ImmutableSet<T> persistentWithAll(Iterable<? extends T> items)
+    {
+        return ImmutableChampSet.newSet(items);
+    }
 }
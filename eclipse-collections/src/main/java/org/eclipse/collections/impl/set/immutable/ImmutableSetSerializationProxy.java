@@ -73,7 +73,12 @@ class ImmutableSetSerializationProxy<T> implements Externalizable
             deserializedSet.add((T) in.readObject());
         }
 
-        this.set = deserializedSet.toImmutable();
+        this.set = this.toImmutable(deserializedSet);
+    }
+
+    protected ImmutableSet<T> toImmutable(MutableSet<T> deserializedSet)
+    {
+        return deserializedSet.toImmutable();
     }
 
     protected Object readResolve()
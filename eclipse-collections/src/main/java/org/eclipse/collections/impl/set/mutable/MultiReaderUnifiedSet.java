@@ -20,6 +20,7 @@ import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
 
 import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.api.RichIterable;
@@ -71,6 +72,12 @@ import static org.eclipse.collections.impl.factory.Iterables.mList;
  * external pointer can ever reference the underlying UnifiedSet outside a locked procedure. In the case of the read
  * lock method, an Unmodifiable version of the collection is offered, which will throw UnsupportedOperationExceptions on
  * any write methods like add or remove.
+ * <p>
+ * Sets created by {@link #newOptimisticSet()} are guarded by a StampedLock instead, and answer {@code size()} and
+ * {@code isEmpty()} with an optimistic read when no write is in progress, so concurrent readers do not contend on the
+ * lock. Lookups such as {@code contains(Object)} still take the read lock, since they call {@code equals()} on the
+ * elements, which must not see a table that is being rehashed. Such a set must not be used from inside its own
+ * {@code withReadLockAndDelegate()} or {@code withWriteLockAndDelegate()} procedures, as the lock is not reentrant.
  */
 public final class MultiReaderUnifiedSet<T>
         extends AbstractMultiReaderMutableCollection<T>
@@ -102,6 +109,12 @@ public final class MultiReaderUnifiedSet<T>
         this.delegate = newDelegate;
     }
 
+    private MultiReaderUnifiedSet(MutableSet<T> newDelegate, StampedLock newLock)
+    {
+        this(newDelegate, newLock.asReadWriteLock());
+        this.stampedLock = newLock;
+    }
+
     public static <T> MultiReaderUnifiedSet<T> newSet()
     {
         return new MultiReaderUnifiedSet<>(Sets.mutable.empty());
@@ -122,6 +135,33 @@ public final class MultiReaderUnifiedSet<T>
         return new MultiReaderUnifiedSet<>(UnifiedSet.newSetWith(elements));
     }
 
+    /**
+     * Returns a set guarded by a StampedLock, whose cheap queries are answered with optimistic reads.
+     *
+     * @since 12.0
+     */
+    public static <T> MultiReaderUnifiedSet<T> newOptimisticSet()
+    {
+        return new MultiReaderUnifiedSet<>(UnifiedSet.newSet(), new StampedLock());
+    }
+
+    /**
+     * Returns a set guarded by a StampedLock, whose cheap queries are answered with optimistic reads.
+     *
+     * @since 12.0
+     */
+    public static <T> MultiReaderUnifiedSet<T> newOptimisticSet(Iterable<T> iterable)
+    {
+        return new MultiReaderUnifiedSet<>(UnifiedSet.newSet(iterable), new StampedLock());
+    }
+
+    private MultiReaderUnifiedSet<T> newWithSameLocking(MutableSet<T> newDelegate)
+    {
+        return this.stampedLock == null
+                ? new MultiReaderUnifiedSet<>(newDelegate)
+                : new MultiReaderUnifiedSet<>(newDelegate, new StampedLock());
+    }
+
     @Override
     protected MutableSet<T> getDelegate()
     {
@@ -196,7 +236,7 @@ public final class MultiReaderUnifiedSet<T>
     {
         try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
         {
-            return new MultiReaderUnifiedSet<>(this.delegate.clone());
+            return this.newWithSameLocking(this.delegate.clone());
         }
     }
 
@@ -315,7 +355,7 @@ public final class MultiReaderUnifiedSet<T>
     @Override
     public MultiReaderSet<T> newEmpty()
     {
-        return MultiReaderUnifiedSet.newSet();
+        return this.newWithSameLocking(UnifiedSet.newSet());
     }
 
     @Override
@@ -343,7 +383,7 @@ public final class MultiReaderUnifiedSet<T>
     {
         try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
         {
-            this.forEach(procedure);
+            this.delegate.forEach(procedure);
             return this;
         }
     }
@@ -0,0 +1,619 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.set.ParallelUnsortedSetIterable;
+import org.eclipse.collections.impl.lazy.parallel.set.NonParallelUnsortedSetIterable;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.utility.Iterate;
+import org.eclipse.collections.impl.utility.internal.SwissTables;
+
+/**
+ * SwissSet is an open-addressing alternative to {@link UnifiedSet}, modelled on the SwissTable design. Collisions are
+ * resolved by linear probing instead of chained buckets, and a separate array of control bytes holds seven bits of each
+ * element's hash code, so a probe compares eight slots at once and only calls equals on likely matches. Removal shifts
+ * the following elements back instead of leaving tombstones.
+ * <p>
+ * See {@link org.eclipse.collections.impl.map.mutable.SwissMap} for the map counterpart. Null elements are supported.
+ *
+ * @since 12.0
+ */
+@SuppressWarnings("ObjectEquality")
+public class SwissSet<T>
+        extends AbstractMutableSet<T>
+        implements Externalizable
+{
+    protected static final Object NULL_KEY = new Object()
+    {
+        @Override
+        public boolean equals(Object obj)
+        {
+            throw new RuntimeException("Possible corruption through unsynchronized concurrent modification.");
+        }
+
+        @Override
+        public int hashCode()
+        {
+            throw new RuntimeException("Possible corruption through unsynchronized concurrent modification.");
+        }
+
+        @Override
+        public String toString()
+        {
+            return "SwissSet.NULL_KEY";
+        }
+    };
+
+    protected static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    protected static final int DEFAULT_INITIAL_CAPACITY = 8;
+
+    private static final long serialVersionUID = 1L;
+
+    protected transient byte[] controls;
+
+    protected transient Object[] table;
+
+    protected transient int occupied;
+
+    protected float loadFactor = DEFAULT_LOAD_FACTOR;
+
+    protected int maxSize;
+
+    public SwissSet()
+    {
+        this(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    public SwissSet(int initialCapacity)
+    {
+        this(initialCapacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    public SwissSet(int initialCapacity, float loadFactor)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("initial capacity cannot be less than 0");
+        }
+        if (loadFactor <= 0.0)
+        {
+            throw new IllegalArgumentException("load factor cannot be less than or equal to 0");
+        }
+        if (loadFactor > 1.0)
+        {
+            throw new IllegalArgumentException("load factor cannot be greater than 1");
+        }
+        this.loadFactor = loadFactor;
+        this.allocate(SwissTables.capacityFor(initialCapacity, loadFactor));
+    }
+
+    public SwissSet(Collection<? extends T> collection)
+    {
+        this(Math.max(collection.size(), DEFAULT_INITIAL_CAPACITY), DEFAULT_LOAD_FACTOR);
+        this.addAll(collection);
+    }
+
+    public SwissSet(SwissSet<T> set)
+    {
+        this.loadFactor = set.loadFactor;
+        this.maxSize = set.maxSize;
+        this.occupied = set.occupied;
+        this.controls = set.controls.clone();
+        this.table = set.table.clone();
+    }
+
+    public static <K> SwissSet<K> newSet()
+    {
+        return new SwissSet<>();
+    }
+
+    public static <K> SwissSet<K> newSet(int size)
+    {
+        return new SwissSet<>(size);
+    }
+
+    public static <K> SwissSet<K> newSet(int size, float loadFactor)
+    {
+        return new SwissSet<>(size, loadFactor);
+    }
+
+    public static <K> SwissSet<K> newSet(Iterable<? extends K> source)
+    {
+        if (source instanceof SwissSet)
+        {
+            return new SwissSet<>((SwissSet<K>) source);
+        }
+        if (source instanceof Collection)
+        {
+            return new SwissSet<>((Collection<K>) source);
+        }
+        if (source == null)
+        {
+            throw new NullPointerException();
+        }
+        SwissSet<K> result = source instanceof RichIterable
+                ? SwissSet.newSet(((RichIterable<?>) source).size())
+                : SwissSet.newSet();
+        Iterate.forEach(source, result::add);
+        return result;
+    }
+
+    public static <K> SwissSet<K> newSetWith(K... elements)
+    {
+        return SwissSet.<K>newSet(elements.length).with(elements);
+    }
+
+    private void allocate(int capacity)
+    {
+        this.controls = SwissTables.newControls(capacity);
+        this.table = new Object[capacity];
+        this.maxSize = SwissTables.maxSize(capacity, this.loadFactor);
+    }
+
+    private static int hash(Object key)
+    {
+        return SwissTables.spread(key == null ? 0 : key.hashCode());
+    }
+
+    /**
+     * Returns the slot holding the key, or {@code -(slot + 1)} where {@code slot} is the empty slot it would be added in.
+     */
+    private int probe(Object key, int hash)
+    {
+        byte[] controls = this.controls;
+        Object[] table = this.table;
+        int mask = table.length - 1;
+        long broadcast = SwissTables.broadcast(SwissTables.control(hash));
+        int start = SwissTables.homeSlot(hash, mask);
+        while (true)
+        {
+            long group = SwissTables.group(controls, start);
+            for (long matches = SwissTables.match(group, broadcast); matches != 0L; matches &= matches - 1L)
+            {
+                int slot = (start + SwissTables.firstOffset(matches)) & mask;
+                if (this.nonNullTableObjectEquals(table[slot], key))
+                {
+                    return slot;
+                }
+            }
+            long empties = SwissTables.matchEmpty(group);
+            if (empties != 0L)
+            {
+                return -((start + SwissTables.firstOffset(empties)) & mask) - 1;
+            }
+            start = (start + SwissTables.GROUP_WIDTH) & mask;
+        }
+    }
+
+    /**
+     * Adds a key known to be absent into the first empty slot of its probe sequence.
+     */
+    private void insertAbsent(Object sentinelKey, int hash)
+    {
+        byte[] controls = this.controls;
+        int mask = this.table.length - 1;
+        int start = SwissTables.homeSlot(hash, mask);
+        long empties = SwissTables.matchEmpty(SwissTables.group(controls, start));
+        while (empties == 0L)
+        {
+            start = (start + SwissTables.GROUP_WIDTH) & mask;
+            empties = SwissTables.matchEmpty(SwissTables.group(controls, start));
+        }
+        int slot = (start + SwissTables.firstOffset(empties)) & mask;
+        SwissTables.setControl(controls, slot, SwissTables.control(hash));
+        this.table[slot] = sentinelKey;
+    }
+
+    private void rehash(int newCapacity)
+    {
+        byte[] oldControls = this.controls;
+        Object[] oldTable = this.table;
+        this.allocate(newCapacity);
+        for (int i = 0; i < oldTable.length; i++)
+        {
+            if (SwissTables.isFull(oldControls[i]))
+            {
+                Object cur = oldTable[i];
+                this.insertAbsent(cur, SwissSet.hash(this.nonSentinel(cur)));
+            }
+        }
+    }
+
+    /**
+     * Empties the slot and shifts the elements that follow it in the probe sequence back. Elements that move from the
+     * start of the table to its end are reported to the iterator, which has not reached them yet.
+     */
+    private void removeSlot(int slot, PositionalIterator iterator)
+    {
+        byte[] controls = this.controls;
+        Object[] table = this.table;
+        int mask = table.length - 1;
+        int hole = slot;
+        int next = slot;
+        while (true)
+        {
+            next = (next + 1) & mask;
+            byte control = controls[next];
+            if (control == SwissTables.EMPTY)
+            {
+                break;
+            }
+            Object cur = table[next];
+            int home = SwissTables.homeSlot(SwissSet.hash(this.nonSentinel(cur)), mask);
+            if (SwissTables.canShiftInto(home, hole, next, mask))
+            {
+                if (iterator != null && next < hole)
+                {
+                    iterator.addWrapped(cur);
+                }
+                SwissTables.setControl(controls, hole, control);
+                table[hole] = cur;
+                hole = next;
+            }
+        }
+        SwissTables.setControl(controls, hole, SwissTables.EMPTY);
+        table[hole] = null;
+        this.occupied--;
+    }
+
+    @Override
+    public boolean add(T key)
+    {
+        int hash = SwissSet.hash(key);
+        int slot = this.probe(key, hash);
+        if (slot >= 0)
+        {
+            return false;
+        }
+        if (this.occupied >= this.maxSize)
+        {
+            this.rehash(this.table.length << 1);
+            this.insertAbsent(SwissSet.toSentinelIfNull(key), hash);
+        }
+        else
+        {
+            int insert = -slot - 1;
+            SwissTables.setControl(this.controls, insert, SwissTables.control(hash));
+            this.table[insert] = SwissSet.toSentinelIfNull(key);
+        }
+        this.occupied++;
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object key)
+    {
+        return this.probe(key, SwissSet.hash(key)) >= 0;
+    }
+
+    @Override
+    public boolean remove(Object key)
+    {
+        int slot = this.probe(key, SwissSet.hash(key));
+        if (slot < 0)
+        {
+            return false;
+        }
+        this.removeSlot(slot, null);
+        return true;
+    }
+
+    @Override
+    public void clear()
+    {
+        if (this.occupied == 0)
+        {
+            return;
+        }
+        this.occupied = 0;
+        Arrays.fill(this.controls, SwissTables.EMPTY);
+        Arrays.fill(this.table, null);
+    }
+
+    @Override
+    public int size()
+    {
+        return this.occupied;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.occupied == 0;
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        byte[] controls = this.controls;
+        Object[] table = this.table;
+        for (int i = 0; i < table.length; i++)
+        {
+            if (SwissTables.isFull(controls[i]))
+            {
+                procedure.value(this.nonSentinel(table[i]));
+            }
+        }
+    }
+
+    @Override
+    public T getFirst()
+    {
+        byte[] controls = this.controls;
+        for (int i = 0; i < this.table.length; i++)
+        {
+            if (SwissTables.isFull(controls[i]))
+            {
+                return this.nonSentinel(this.table[i]);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public T getLast()
+    {
+        byte[] controls = this.controls;
+        for (int i = this.table.length - 1; i >= 0; i--)
+        {
+            if (SwissTables.isFull(controls[i]))
+            {
+                return this.nonSentinel(this.table[i]);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new PositionalIterator();
+    }
+
+    @Override
+    public ParallelUnsortedSetIterable<T> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return new NonParallelUnsortedSetIterable<>(this);
+    }
+
+    @Override
+    public SwissSet<T> newEmpty()
+    {
+        return new SwissSet<>();
+    }
+
+    public SwissSet<T> newEmpty(int size)
+    {
+        return new SwissSet<>(size, this.loadFactor);
+    }
+
+    @Override
+    public SwissSet<T> clone()
+    {
+        return new SwissSet<>(this);
+    }
+
+    @Override
+    public SwissSet<T> with(T element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    public SwissSet<T> with(T element1, T element2)
+    {
+        this.add(element1);
+        this.add(element2);
+        return this;
+    }
+
+    public SwissSet<T> with(T element1, T element2, T element3)
+    {
+        this.add(element1);
+        this.add(element2);
+        this.add(element3);
+        return this;
+    }
+
+    public SwissSet<T> with(T... elements)
+    {
+        this.addAll(Arrays.asList(elements));
+        return this;
+    }
+
+    @Override
+    public SwissSet<T> withAll(Iterable<? extends T> iterable)
+    {
+        this.addAllIterable(iterable);
+        return this;
+    }
+
+    @Override
+    public SwissSet<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    @Override
+    public SwissSet<T> withoutAll(Iterable<? extends T> elements)
+    {
+        this.removeAllIterable(elements);
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+
+        if (!(object instanceof Set))
+        {
+            return false;
+        }
+
+        Set<?> other = (Set<?>) object;
+        return this.size() == other.size() && this.containsAll(other);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        byte[] controls = this.controls;
+        Object[] table = this.table;
+        for (int i = 0; i < table.length; i++)
+        {
+            if (SwissTables.isFull(controls[i]))
+            {
+                Object key = this.nonSentinel(table[i]);
+                hashCode += key == null ? 0 : key.hashCode();
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.size());
+        out.writeFloat(this.loadFactor);
+        byte[] controls = this.controls;
+        Object[] table = this.table;
+        for (int i = 0; i < table.length; i++)
+        {
+            if (SwissTables.isFull(controls[i]))
+            {
+                out.writeObject(this.nonSentinel(table[i]));
+            }
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        this.loadFactor = in.readFloat();
+        this.allocate(SwissTables.capacityFor(Math.max(size, DEFAULT_INITIAL_CAPACITY), this.loadFactor));
+        for (int i = 0; i < size; i++)
+        {
+            this.add((T) in.readObject());
+        }
+    }
+
+    private T nonSentinel(Object key)
+    {
+        return key == NULL_KEY ? null : (T) key;
+    }
+
+    private static Object toSentinelIfNull(Object key)
+    {
+        if (key == null)
+        {
+            return NULL_KEY;
+        }
+        return key;
+    }
+
+    private boolean nonNullTableObjectEquals(Object cur, Object key)
+    {
+        return cur == key || (cur == NULL_KEY ? key == null : cur.equals(key));
+    }
+
+    /**
+     * Iterates the slots from the end of the table to the start. Removing through the iterator shifts elements back
+     * towards the slots already visited, except for elements which wrap around from the start of the table to its end;
+     * those are remembered and visited after the table has been scanned.
+     */
+    protected class PositionalIterator implements Iterator<T>
+    {
+        private static final int WRAPPED = -2;
+
+        private int position = SwissSet.this.table.length;
+        private int remaining = SwissSet.this.occupied;
+        private int current = -1;
+        private Object currentKey;
+        private FastList<Object> wrapped;
+        private int wrappedIndex;
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.remaining > 0;
+        }
+
+        @Override
+        public T next()
+        {
+            if (this.remaining <= 0)
+            {
+                throw new NoSuchElementException();
+            }
+            this.remaining--;
+            byte[] controls = SwissSet.this.controls;
+            while (--this.position >= 0)
+            {
+                if (SwissTables.isFull(controls[this.position]))
+                {
+                    this.current = this.position;
+                    return SwissSet.this.nonSentinel(SwissSet.this.table[this.position]);
+                }
+            }
+            this.current = WRAPPED;
+            this.currentKey = this.wrapped.get(this.wrappedIndex++);
+            return SwissSet.this.nonSentinel(this.currentKey);
+        }
+
+        private void addWrapped(Object key)
+        {
+            if (this.wrapped == null)
+            {
+                this.wrapped = FastList.newList(2);
+            }
+            this.wrapped.add(key);
+        }
+
+        @Override
+        public void remove()
+        {
+            if (this.current == -1)
+            {
+                throw new IllegalStateException();
+            }
+            if (this.current == WRAPPED)
+            {
+                SwissSet.this.remove(SwissSet.this.nonSentinel(this.currentKey));
+            }
+            else
+            {
+                SwissSet.this.removeSlot(this.current, this);
+            }
+            this.current = -1;
+        }
+    }
+}
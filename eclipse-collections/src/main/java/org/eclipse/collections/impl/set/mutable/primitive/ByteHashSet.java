@@ -17,11 +17,14 @@ import java.io.ObjectOutput;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
 
 import org.eclipse.collections.api.ByteIterable;
 import org.eclipse.collections.api.LazyByteIterable;
 import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.ParallelByteIterable;
 import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.annotation.Beta;
 import org.eclipse.collections.api.bag.primitive.MutableByteBag;
 import org.eclipse.collections.api.block.function.primitive.ByteToObjectFunction;
 import org.eclipse.collections.api.block.function.primitive.ObjectByteToObjectFunction;
@@ -44,6 +47,7 @@ import org.eclipse.collections.api.tuple.primitive.ByteBytePair;
 import org.eclipse.collections.impl.block.procedure.checked.primitive.CheckedByteProcedure;
 import org.eclipse.collections.impl.factory.primitive.ByteSets;
 import org.eclipse.collections.impl.lazy.primitive.LazyByteIterableAdapter;
+import org.eclipse.collections.impl.list.mutable.primitive.ByteArrayList;
 import org.eclipse.collections.impl.set.immutable.primitive.ImmutableByteSetSerializationProxy;
 
 public final class ByteHashSet implements MutableByteSet, Externalizable
@@ -812,6 +816,18 @@ public final class ByteHashSet implements MutableByteSet, Externalizable
         return new LazyByteIterableAdapter(this);
     }
 
+    /**
+     * Returns a parallel iterable over a snapshot of this set, split into batches of {@code batchSize} elements
+     * and evaluated on the {@code executorService}. A byte set holds at most 256 elements, so the snapshot is cheap.
+     *
+     * @since 12.0
+     */
+    @Beta
+    public ParallelByteIterable asParallel(ExecutorService executorService, int batchSize)
+    {
+        return ByteArrayList.newListWith(this.toArray()).asParallel(executorService, batchSize);
+    }
+
     @Override
     public long sum()
     {
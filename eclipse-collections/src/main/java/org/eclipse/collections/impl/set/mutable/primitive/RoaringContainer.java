@@ -0,0 +1,777 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable.primitive;
+
+import java.util.Arrays;
+
+import org.eclipse.collections.api.block.predicate.primitive.CharPredicate;
+import org.eclipse.collections.api.block.procedure.primitive.CharProcedure;
+
+/**
+ * A set of the low 16 bits of the values that share the same high bits in a {@link RoaringIntSet} or
+ * {@link RoaringLongSet}. Values are passed around as {@code int}s between 0 and 65535 and stored as {@code char}s.
+ * <p>
+ * Sparse containers are sorted arrays, dense containers are bitmaps of 65536 bits, and containers made of long
+ * consecutive ranges can be compressed into runs by {@link #optimize()}. Mutating a container may return a container
+ * of a different kind, so callers must always store the returned container.
+ *
+ * @since 12.0
+ */
+abstract class RoaringContainer
+{
+    static final int MAX_ARRAY_SIZE = 4096;
+    private static final int BITMAP_WORDS = 1024;
+    private static final int BITMAP_BYTES = BITMAP_WORDS * 8;
+
+    abstract int cardinality();
+
+    abstract boolean contains(int low);
+
+    abstract RoaringContainer add(int low);
+
+    abstract RoaringContainer remove(int low);
+
+    /**
+     * Returns the smallest value in this container that is greater than or equal to {@code low}, or -1.
+     */
+    abstract int ceiling(int low);
+
+    abstract int first();
+
+    abstract int last();
+
+    abstract void forEach(CharProcedure procedure);
+
+    abstract boolean allSatisfy(CharPredicate predicate);
+
+    abstract long sumOfLows();
+
+    abstract void orInto(long[] words);
+
+    abstract RoaringContainer copy();
+
+    abstract int sizeInBytes();
+
+    static RoaringContainer singleton(int low)
+    {
+        return new ArrayContainer().add(low);
+    }
+
+    long[] toBitmap()
+    {
+        long[] words = new long[BITMAP_WORDS];
+        this.orInto(words);
+        return words;
+    }
+
+    /**
+     * Returns the smallest representation of the values in this container.
+     */
+    RoaringContainer optimize()
+    {
+        int runs = this.numberOfRuns();
+        int runBytes = 2 + 4 * runs;
+        int cardinality = this.cardinality();
+        int denseBytes = cardinality <= MAX_ARRAY_SIZE ? 2 * cardinality : BITMAP_BYTES;
+        if (runBytes < denseBytes)
+        {
+            return this instanceof RunContainer ? this : RunContainer.fromContainer(this, runs);
+        }
+        return this instanceof RunContainer ? RoaringContainer.fromBitmap(this.toBitmap()) : this;
+    }
+
+    int numberOfRuns()
+    {
+        int[] state = {-2, 0};
+        this.forEach(each ->
+        {
+            if (each != state[0] + 1)
+            {
+                state[1]++;
+            }
+            state[0] = each;
+        });
+        return state[1];
+    }
+
+    static RoaringContainer fromBitmap(long[] words)
+    {
+        int cardinality = 0;
+        for (long word : words)
+        {
+            cardinality += Long.bitCount(word);
+        }
+        if (cardinality > MAX_ARRAY_SIZE)
+        {
+            return new BitmapContainer(words, cardinality);
+        }
+        char[] values = new char[Math.max(cardinality, 1)];
+        int index = 0;
+        for (int i = 0; i < words.length; i++)
+        {
+            long word = words[i];
+            while (word != 0L)
+            {
+                values[index++] = (char) ((i << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1L;
+            }
+        }
+        return new ArrayContainer(values, cardinality);
+    }
+
+    static RoaringContainer or(RoaringContainer left, RoaringContainer right)
+    {
+        if (left instanceof ArrayContainer && right instanceof ArrayContainer
+                && left.cardinality() + right.cardinality() <= MAX_ARRAY_SIZE)
+        {
+            return ((ArrayContainer) left).merge((ArrayContainer) right);
+        }
+        long[] words = left.toBitmap();
+        right.orInto(words);
+        return RoaringContainer.fromBitmap(words);
+    }
+
+    /**
+     * Returns the intersection of both containers, which may be empty.
+     */
+    static RoaringContainer and(RoaringContainer left, RoaringContainer right)
+    {
+        if (left instanceof ArrayContainer)
+        {
+            return ((ArrayContainer) left).filter(right::contains, true);
+        }
+        if (right instanceof ArrayContainer)
+        {
+            return ((ArrayContainer) right).filter(left::contains, true);
+        }
+        long[] words = left.toBitmap();
+        long[] other = right.toBitmap();
+        for (int i = 0; i < words.length; i++)
+        {
+            words[i] &= other[i];
+        }
+        return RoaringContainer.fromBitmap(words);
+    }
+
+    /**
+     * Returns the values of {@code left} that are not in {@code right}, which may be empty.
+     */
+    static RoaringContainer andNot(RoaringContainer left, RoaringContainer right)
+    {
+        if (left instanceof ArrayContainer)
+        {
+            return ((ArrayContainer) left).filter(right::contains, false);
+        }
+        long[] words = left.toBitmap();
+        long[] other = right.toBitmap();
+        for (int i = 0; i < words.length; i++)
+        {
+            words[i] &= ~other[i];
+        }
+        return RoaringContainer.fromBitmap(words);
+    }
+
+    /**
+     * Returns the values that are in exactly one of the containers, which may be empty.
+     */
+    static RoaringContainer xor(RoaringContainer left, RoaringContainer right)
+    {
+        long[] words = left.toBitmap();
+        long[] other = right.toBitmap();
+        for (int i = 0; i < words.length; i++)
+        {
+            words[i] ^= other[i];
+        }
+        return RoaringContainer.fromBitmap(words);
+    }
+
+    static boolean isSubset(RoaringContainer left, RoaringContainer right)
+    {
+        if (left.cardinality() > right.cardinality())
+        {
+            return false;
+        }
+        if (left instanceof BitmapContainer && right instanceof BitmapContainer)
+        {
+            long[] words = ((BitmapContainer) left).words;
+            long[] other = ((BitmapContainer) right).words;
+            for (int i = 0; i < words.length; i++)
+            {
+                if ((words[i] & ~other[i]) != 0L)
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return left.allSatisfy(right::contains);
+    }
+
+    static final class ArrayContainer extends RoaringContainer
+    {
+        private char[] values;
+        private int cardinality;
+
+        ArrayContainer()
+        {
+            this(new char[4], 0);
+        }
+
+        ArrayContainer(char[] values, int cardinality)
+        {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int cardinality()
+        {
+            return this.cardinality;
+        }
+
+        @Override
+        boolean contains(int low)
+        {
+            return Arrays.binarySearch(this.values, 0, this.cardinality, (char) low) >= 0;
+        }
+
+        @Override
+        RoaringContainer add(int low)
+        {
+            int index = Arrays.binarySearch(this.values, 0, this.cardinality, (char) low);
+            if (index >= 0)
+            {
+                return this;
+            }
+            if (this.cardinality == MAX_ARRAY_SIZE)
+            {
+                return new BitmapContainer(this.toBitmap(), this.cardinality).add(low);
+            }
+            int insertionPoint = -index - 1;
+            if (this.cardinality == this.values.length)
+            {
+                this.values = Arrays.copyOf(this.values, Math.min(this.values.length << 1, MAX_ARRAY_SIZE));
+            }
+            System.arraycopy(this.values, insertionPoint, this.values, insertionPoint + 1, this.cardinality - insertionPoint);
+            this.values[insertionPoint] = (char) low;
+            this.cardinality++;
+            return this;
+        }
+
+        @Override
+        RoaringContainer remove(int low)
+        {
+            int index = Arrays.binarySearch(this.values, 0, this.cardinality, (char) low);
+            if (index >= 0)
+            {
+                System.arraycopy(this.values, index + 1, this.values, index, this.cardinality - index - 1);
+                this.cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        int ceiling(int low)
+        {
+            int index = Arrays.binarySearch(this.values, 0, this.cardinality, (char) low);
+            if (index < 0)
+            {
+                index = -index - 1;
+            }
+            return index < this.cardinality ? this.values[index] : -1;
+        }
+
+        @Override
+        int first()
+        {
+            return this.values[0];
+        }
+
+        @Override
+        int last()
+        {
+            return this.values[this.cardinality - 1];
+        }
+
+        @Override
+        void forEach(CharProcedure procedure)
+        {
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                procedure.value(this.values[i]);
+            }
+        }
+
+        @Override
+        boolean allSatisfy(CharPredicate predicate)
+        {
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                if (!predicate.accept(this.values[i]))
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        long sumOfLows()
+        {
+            long sum = 0L;
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                sum += this.values[i];
+            }
+            return sum;
+        }
+
+        @Override
+        void orInto(long[] words)
+        {
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                char value = this.values[i];
+                words[value >>> 6] |= 1L << value;
+            }
+        }
+
+        @Override
+        RoaringContainer copy()
+        {
+            return new ArrayContainer(Arrays.copyOf(this.values, Math.max(this.cardinality, 1)), this.cardinality);
+        }
+
+        @Override
+        int sizeInBytes()
+        {
+            return 2 * this.values.length;
+        }
+
+        ArrayContainer merge(ArrayContainer other)
+        {
+            char[] result = new char[Math.max(this.cardinality + other.cardinality, 1)];
+            int i = 0;
+            int j = 0;
+            int k = 0;
+            while (i < this.cardinality && j < other.cardinality)
+            {
+                char left = this.values[i];
+                char right = other.values[j];
+                if (left < right)
+                {
+                    result[k++] = left;
+                    i++;
+                }
+                else if (right < left)
+                {
+                    result[k++] = right;
+                    j++;
+                }
+                else
+                {
+                    result[k++] = left;
+                    i++;
+                    j++;
+                }
+            }
+            while (i < this.cardinality)
+            {
+                result[k++] = this.values[i++];
+            }
+            while (j < other.cardinality)
+            {
+                result[k++] = other.values[j++];
+            }
+            return new ArrayContainer(result, k);
+        }
+
+        ArrayContainer filter(CharPredicate predicate, boolean expected)
+        {
+            char[] result = new char[Math.max(this.cardinality, 1)];
+            int k = 0;
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                char value = this.values[i];
+                if (predicate.accept(value) == expected)
+                {
+                    result[k++] = value;
+                }
+            }
+            return new ArrayContainer(result, k);
+        }
+    }
+
+    static final class BitmapContainer extends RoaringContainer
+    {
+        private final long[] words;
+        private int cardinality;
+
+        BitmapContainer(long[] words, int cardinality)
+        {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int cardinality()
+        {
+            return this.cardinality;
+        }
+
+        @Override
+        boolean contains(int low)
+        {
+            return (this.words[low >>> 6] & (1L << low)) != 0L;
+        }
+
+        @Override
+        RoaringContainer add(int low)
+        {
+            long word = this.words[low >>> 6];
+            long bit = 1L << low;
+            if ((word & bit) == 0L)
+            {
+                this.words[low >>> 6] = word | bit;
+                this.cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        RoaringContainer remove(int low)
+        {
+            long word = this.words[low >>> 6];
+            long bit = 1L << low;
+            if ((word & bit) != 0L)
+            {
+                this.words[low >>> 6] = word & ~bit;
+                this.cardinality--;
+                if (this.cardinality <= MAX_ARRAY_SIZE)
+                {
+                    return RoaringContainer.fromBitmap(this.words);
+                }
+            }
+            return this;
+        }
+
+        @Override
+        int ceiling(int low)
+        {
+            int index = low >>> 6;
+            long word = this.words[index] & (-1L << low);
+            while (word == 0L)
+            {
+                index++;
+                if (index == this.words.length)
+                {
+                    return -1;
+                }
+                word = this.words[index];
+            }
+            return (index << 6) + Long.numberOfTrailingZeros(word);
+        }
+
+        @Override
+        int first()
+        {
+            return this.ceiling(0);
+        }
+
+        @Override
+        int last()
+        {
+            for (int i = this.words.length - 1; i >= 0; i--)
+            {
+                long word = this.words[i];
+                if (word != 0L)
+                {
+                    return (i << 6) + 63 - Long.numberOfLeadingZeros(word);
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        void forEach(CharProcedure procedure)
+        {
+            for (int i = 0; i < this.words.length; i++)
+            {
+                long word = this.words[i];
+                while (word != 0L)
+                {
+                    procedure.value((char) ((i << 6) + Long.numberOfTrailingZeros(word)));
+                    word &= word - 1L;
+                }
+            }
+        }
+
+        @Override
+        boolean allSatisfy(CharPredicate predicate)
+        {
+            for (int i = 0; i < this.words.length; i++)
+            {
+                long word = this.words[i];
+                while (word != 0L)
+                {
+                    if (!predicate.accept((char) ((i << 6) + Long.numberOfTrailingZeros(word))))
+                    {
+                        return false;
+                    }
+                    word &= word - 1L;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        long sumOfLows()
+        {
+            long sum = 0L;
+            for (int i = 0; i < this.words.length; i++)
+            {
+                long word = this.words[i];
+                while (word != 0L)
+                {
+                    sum += (i << 6) + Long.numberOfTrailingZeros(word);
+                    word &= word - 1L;
+                }
+            }
+            return sum;
+        }
+
+        @Override
+        void orInto(long[] words)
+        {
+            for (int i = 0; i < words.length; i++)
+            {
+                words[i] |= this.words[i];
+            }
+        }
+
+        @Override
+        RoaringContainer copy()
+        {
+            return new BitmapContainer(this.words.clone(), this.cardinality);
+        }
+
+        @Override
+        int sizeInBytes()
+        {
+            return BITMAP_BYTES;
+        }
+    }
+
+    /**
+     * Stores the values as (start, length - 1) pairs. Mutations convert it back to an array or bitmap container.
+     */
+    static final class RunContainer extends RoaringContainer
+    {
+        private final char[] runs;
+        private final int numberOfRuns;
+        private final int cardinality;
+
+        private RunContainer(char[] runs, int numberOfRuns, int cardinality)
+        {
+            this.runs = runs;
+            this.numberOfRuns = numberOfRuns;
+            this.cardinality = cardinality;
+        }
+
+        static RunContainer fromContainer(RoaringContainer container, int numberOfRuns)
+        {
+            char[] runs = new char[numberOfRuns << 1];
+            int[] state = {-2, -1};
+            container.forEach(each ->
+            {
+                if (each != state[0] + 1)
+                {
+                    state[1]++;
+                    runs[state[1] << 1] = each;
+                }
+                else
+                {
+                    runs[(state[1] << 1) + 1]++;
+                }
+                state[0] = each;
+            });
+            return new RunContainer(runs, numberOfRuns, container.cardinality());
+        }
+
+        private int start(int run)
+        {
+            return this.runs[run << 1];
+        }
+
+        private int end(int run)
+        {
+            return this.runs[run << 1] + this.runs[(run << 1) + 1];
+        }
+
+        /**
+         * Returns the index of the last run starting at or before {@code low}, or -1.
+         */
+        private int floorRun(int low)
+        {
+            int from = 0;
+            int to = this.numberOfRuns - 1;
+            while (from <= to)
+            {
+                int mid = (from + to) >>> 1;
+                if (this.start(mid) <= low)
+                {
+                    from = mid + 1;
+                }
+                else
+                {
+                    to = mid - 1;
+                }
+            }
+            return to;
+        }
+
+        @Override
+        int cardinality()
+        {
+            return this.cardinality;
+        }
+
+        @Override
+        boolean contains(int low)
+        {
+            int run = this.floorRun(low);
+            return run >= 0 && low <= this.end(run);
+        }
+
+        @Override
+        RoaringContainer add(int low)
+        {
+            if (this.contains(low))
+            {
+                return this;
+            }
+            return RoaringContainer.fromBitmap(this.toBitmap()).add(low);
+        }
+
+        @Override
+        RoaringContainer remove(int low)
+        {
+            if (!this.contains(low))
+            {
+                return this;
+            }
+            return RoaringContainer.fromBitmap(this.toBitmap()).remove(low);
+        }
+
+        @Override
+        int ceiling(int low)
+        {
+            int run = this.floorRun(low);
+            if (run >= 0 && low <= this.end(run))
+            {
+                return low;
+            }
+            return run + 1 < this.numberOfRuns ? this.start(run + 1) : -1;
+        }
+
+        @Override
+        int first()
+        {
+            return this.start(0);
+        }
+
+        @Override
+        int last()
+        {
+            return this.end(this.numberOfRuns - 1);
+        }
+
+        @Override
+        void forEach(CharProcedure procedure)
+        {
+            for (int run = 0; run < this.numberOfRuns; run++)
+            {
+                int end = this.end(run);
+                for (int value = this.start(run); value <= end; value++)
+                {
+                    procedure.value((char) value);
+                }
+            }
+        }
+
+        @Override
+        boolean allSatisfy(CharPredicate predicate)
+        {
+            for (int run = 0; run < this.numberOfRuns; run++)
+            {
+                int end = this.end(run);
+                for (int value = this.start(run); value <= end; value++)
+                {
+                    if (!predicate.accept((char) value))
+                    {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        @Override
+        long sumOfLows()
+        {
+            long sum = 0L;
+            for (int run = 0; run < this.numberOfRuns; run++)
+            {
+                long start = this.start(run);
+                long end = this.end(run);
+                sum += (start + end) * (end - start + 1L) / 2L;
+            }
+            return sum;
+        }
+
+        @Override
+        void orInto(long[] words)
+        {
+            for (int run = 0; run < this.numberOfRuns; run++)
+            {
+                int start = this.start(run);
+                int end = this.end(run);
+                int firstWord = start >>> 6;
+                int lastWord = end >>> 6;
+                if (firstWord == lastWord)
+                {
+                    words[firstWord] |= (-1L << start) & (-1L >>> (63 - (end & 63)));
+                }
+                else
+                {
+                    words[firstWord] |= -1L << start;
+                    for (int i = firstWord + 1; i < lastWord; i++)
+                    {
+                        words[i] = -1L;
+                    }
+                    words[lastWord] |= -1L >>> (63 - (end & 63));
+                }
+            }
+        }
+
+        @Override
+        RoaringContainer copy()
+        {
+            return this;
+        }
+
+        @Override
+        int sizeInBytes()
+        {
+            return 2 * this.runs.length;
+        }
+    }
+}
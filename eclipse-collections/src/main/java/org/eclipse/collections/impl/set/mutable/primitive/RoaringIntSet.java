@@ -0,0 +1,908 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable.primitive;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+
+import org.eclipse.collections.api.IntIterable;
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.function.primitive.IntToObjectFunction;
+import org.eclipse.collections.api.block.function.primitive.ObjectIntToObjectFunction;
+import org.eclipse.collections.api.block.predicate.primitive.IntPredicate;
+import org.eclipse.collections.api.block.procedure.primitive.IntProcedure;
+import org.eclipse.collections.api.collection.primitive.MutableIntCollection;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.primitive.IntSets;
+import org.eclipse.collections.api.iterator.IntIterator;
+import org.eclipse.collections.api.iterator.MutableIntIterator;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.set.primitive.ImmutableIntSet;
+import org.eclipse.collections.api.set.primitive.IntSet;
+import org.eclipse.collections.api.set.primitive.MutableIntSet;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.set.primitive.AbstractIntSet;
+
+/**
+ * A compressed bitmap {@link MutableIntSet} in the style of Roaring bitmaps. Values are partitioned by their high
+ * 16 bits into containers that hold the low 16 bits either as a sorted array (sparse chunks), a 65536-bit bitmap (dense
+ * chunks) or, after {@link #runOptimize()}, as runs of consecutive values.
+ * <p>
+ * Compared to {@link IntHashSet}, {@code size()} is maintained without iterating, set algebra between two
+ * RoaringIntSets works a container at a time, and dense or clustered values take a fraction of the memory. Iteration
+ * is in ascending order.
+ *
+ * @since 12.0
+ */
+public class RoaringIntSet extends AbstractIntSet implements MutableIntSet, Externalizable
+{
+    private static final long serialVersionUID = 1L;
+    private static final int DEFAULT_INITIAL_CAPACITY = 4;
+
+    private int[] keys;
+    private RoaringContainer[] containers;
+    private int containerCount;
+    private int size;
+
+    public RoaringIntSet()
+    {
+        this.keys = new int[DEFAULT_INITIAL_CAPACITY];
+        this.containers = new RoaringContainer[DEFAULT_INITIAL_CAPACITY];
+    }
+
+    public RoaringIntSet(int... elements)
+    {
+        this();
+        this.addAll(elements);
+    }
+
+    public RoaringIntSet(IntIterable elements)
+    {
+        this();
+        this.addAll(elements);
+    }
+
+    public RoaringIntSet(RoaringIntSet set)
+    {
+        this.keys = Arrays.copyOf(set.keys, Math.max(set.containerCount, 1));
+        this.containers = new RoaringContainer[this.keys.length];
+        for (int i = 0; i < set.containerCount; i++)
+        {
+            this.containers[i] = set.containers[i].copy();
+        }
+        this.containerCount = set.containerCount;
+        this.size = set.size;
+    }
+
+    public static RoaringIntSet newSet(IntIterable source)
+    {
+        if (source instanceof RoaringIntSet)
+        {
+            return new RoaringIntSet((RoaringIntSet) source);
+        }
+        return new RoaringIntSet(source);
+    }
+
+    public static RoaringIntSet newSetWith(int... source)
+    {
+        return new RoaringIntSet(source);
+    }
+
+    private static int highBits(int value)
+    {
+        return value >> 16;
+    }
+
+    private static int lowBits(int value)
+    {
+        return value & 0xFFFF;
+    }
+
+    private int indexOfKey(int key)
+    {
+        return Arrays.binarySearch(this.keys, 0, this.containerCount, key);
+    }
+
+    private void insertContainer(int index, int key, RoaringContainer container)
+    {
+        if (this.containerCount == this.keys.length)
+        {
+            int newLength = Math.max(this.keys.length << 1, DEFAULT_INITIAL_CAPACITY);
+            this.keys = Arrays.copyOf(this.keys, newLength);
+            this.containers = Arrays.copyOf(this.containers, newLength);
+        }
+        System.arraycopy(this.keys, index, this.keys, index + 1, this.containerCount - index);
+        System.arraycopy(this.containers, index, this.containers, index + 1, this.containerCount - index);
+        this.keys[index] = key;
+        this.containers[index] = container;
+        this.containerCount++;
+    }
+
+    private void removeContainer(int index)
+    {
+        int numMoved = this.containerCount - index - 1;
+        System.arraycopy(this.keys, index + 1, this.keys, index, numMoved);
+        System.arraycopy(this.containers, index + 1, this.containers, index, numMoved);
+        this.containerCount--;
+        this.containers[this.containerCount] = null;
+    }
+
+    /**
+     * Appends a container with a key greater than all existing keys, skipping empty containers.
+     */
+    private void appendContainer(int key, RoaringContainer container)
+    {
+        int cardinality = container.cardinality();
+        if (cardinality > 0)
+        {
+            this.insertContainer(this.containerCount, key, container);
+            this.size += cardinality;
+        }
+    }
+
+    @Override
+    public MutableSet<Integer> boxed()
+    {
+        return new BoxedMutableIntSet(this);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return (int) this.sum();
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public void appendString(Appendable appendable, String start, String separator, String end)
+    {
+        try
+        {
+            appendable.append(start);
+            IntIterator iterator = this.intIterator();
+            if (iterator.hasNext())
+            {
+                appendable.append(String.valueOf(iterator.next()));
+                while (iterator.hasNext())
+                {
+                    appendable.append(separator);
+                    appendable.append(String.valueOf(iterator.next()));
+                }
+            }
+            appendable.append(end);
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public boolean add(int element)
+    {
+        int key = RoaringIntSet.highBits(element);
+        int index = this.indexOfKey(key);
+        if (index < 0)
+        {
+            this.insertContainer(-index - 1, key, RoaringContainer.singleton(RoaringIntSet.lowBits(element)));
+            this.size++;
+            return true;
+        }
+        RoaringContainer container = this.containers[index];
+        int oldCardinality = container.cardinality();
+        container = container.add(RoaringIntSet.lowBits(element));
+        this.containers[index] = container;
+        if (container.cardinality() != oldCardinality)
+        {
+            this.size++;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean addAll(int... source)
+    {
+        int oldSize = this.size;
+        for (int item : source)
+        {
+            this.add(item);
+        }
+        return this.size != oldSize;
+    }
+
+    @Override
+    public boolean addAll(IntIterable source)
+    {
+        int oldSize = this.size;
+        if (source instanceof RoaringIntSet)
+        {
+            this.replaceWith(RoaringIntSet.or(this, (RoaringIntSet) source));
+        }
+        else
+        {
+            source.forEach(this::add);
+        }
+        return this.size != oldSize;
+    }
+
+    @Override
+    public boolean remove(int value)
+    {
+        int index = this.indexOfKey(RoaringIntSet.highBits(value));
+        if (index < 0)
+        {
+            return false;
+        }
+        RoaringContainer container = this.containers[index];
+        int oldCardinality = container.cardinality();
+        container = container.remove(RoaringIntSet.lowBits(value));
+        if (container.cardinality() == oldCardinality)
+        {
+            return false;
+        }
+        this.size--;
+        if (container.cardinality() == 0)
+        {
+            this.removeContainer(index);
+        }
+        else
+        {
+            this.containers[index] = container;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean removeAll(IntIterable source)
+    {
+        int oldSize = this.size;
+        if (source instanceof RoaringIntSet)
+        {
+            this.replaceWith(RoaringIntSet.andNot(this, (RoaringIntSet) source));
+        }
+        else
+        {
+            source.forEach(this::remove);
+        }
+        return this.size != oldSize;
+    }
+
+    @Override
+    public boolean removeAll(int... source)
+    {
+        int oldSize = this.size;
+        for (int item : source)
+        {
+            this.remove(item);
+        }
+        return this.size != oldSize;
+    }
+
+    @Override
+    public boolean retainAll(IntIterable source)
+    {
+        int oldSize = this.size;
+        if (source instanceof RoaringIntSet)
+        {
+            this.replaceWith(RoaringIntSet.and(this, (RoaringIntSet) source));
+        }
+        else
+        {
+            IntSet sourceSet = source instanceof IntSet ? (IntSet) source : source.toSet();
+            this.replaceWith(this.select(sourceSet::contains));
+        }
+        return this.size != oldSize;
+    }
+
+    @Override
+    public boolean retainAll(int... source)
+    {
+        return this.retainAll(IntHashSet.newSetWith(source));
+    }
+
+    @Override
+    public void clear()
+    {
+        Arrays.fill(this.containers, 0, this.containerCount, null);
+        this.containerCount = 0;
+        this.size = 0;
+    }
+
+    private void replaceWith(RoaringIntSet set)
+    {
+        this.keys = set.keys;
+        this.containers = set.containers;
+        this.containerCount = set.containerCount;
+        this.size = set.size;
+    }
+
+    @Override
+    public RoaringIntSet with(int element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    @Override
+    public RoaringIntSet without(int element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    @Override
+    public RoaringIntSet withAll(IntIterable elements)
+    {
+        this.addAll(elements);
+        return this;
+    }
+
+    @Override
+    public RoaringIntSet withoutAll(IntIterable elements)
+    {
+        this.removeAll(elements);
+        return this;
+    }
+
+    @Override
+    public MutableIntSet asUnmodifiable()
+    {
+        return new UnmodifiableIntSet(this);
+    }
+
+    @Override
+    public MutableIntSet asSynchronized()
+    {
+        return new SynchronizedIntSet(this);
+    }
+
+    @Override
+    public ImmutableIntSet toImmutable()
+    {
+        return IntSets.immutable.withAll(this);
+    }
+
+    @Override
+    public IntSet freeze()
+    {
+        return this.toImmutable();
+    }
+
+    @Override
+    public MutableIntIterator intIterator()
+    {
+        return new InternalIntIterator();
+    }
+
+    @Override
+    public int[] toArray()
+    {
+        return this.toArray(new int[this.size]);
+    }
+
+    @Override
+    public int[] toArray(int[] array)
+    {
+        int[] result = array.length < this.size ? new int[this.size] : array;
+        int[] index = {0};
+        this.each(each -> result[index[0]++] = each);
+        return result;
+    }
+
+    @Override
+    public boolean contains(int value)
+    {
+        int index = this.indexOfKey(RoaringIntSet.highBits(value));
+        return index >= 0 && this.containers[index].contains(RoaringIntSet.lowBits(value));
+    }
+
+    @Override
+    public boolean containsAll(IntIterable source)
+    {
+        if (source instanceof RoaringIntSet)
+        {
+            RoaringIntSet other = (RoaringIntSet) source;
+            if (other.size > this.size)
+            {
+                return false;
+            }
+            for (int i = 0; i < other.containerCount; i++)
+            {
+                int index = this.indexOfKey(other.keys[i]);
+                if (index < 0 || !RoaringContainer.isSubset(other.containers[i], this.containers[index]))
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return source.allSatisfy(this::contains);
+    }
+
+    @Override
+    public void each(IntProcedure procedure)
+    {
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            int base = this.keys[i] << 16;
+            this.containers[i].forEach(low -> procedure.value(base | low));
+        }
+    }
+
+    @Override
+    public RoaringIntSet select(IntPredicate predicate)
+    {
+        return this.select(predicate, new RoaringIntSet());
+    }
+
+    @Override
+    public <R extends MutableIntCollection> R select(IntPredicate predicate, R target)
+    {
+        this.each(each ->
+        {
+            if (predicate.accept(each))
+            {
+                target.add(each);
+            }
+        });
+        return target;
+    }
+
+    @Override
+    public RoaringIntSet reject(IntPredicate predicate)
+    {
+        return this.reject(predicate, new RoaringIntSet());
+    }
+
+    @Override
+    public <R extends MutableIntCollection> R reject(IntPredicate predicate, R target)
+    {
+        this.each(each ->
+        {
+            if (!predicate.accept(each))
+            {
+                target.add(each);
+            }
+        });
+        return target;
+    }
+
+    @Override
+    public <V> MutableSet<V> collect(IntToObjectFunction<? extends V> function)
+    {
+        return this.collect(function, UnifiedSet.newSet(this.size));
+    }
+
+    @Override
+    public <V, R extends Collection<V>> R collect(IntToObjectFunction<? extends V> function, R target)
+    {
+        this.each(each -> target.add(function.valueOf(each)));
+        return target;
+    }
+
+    @Override
+    public int detectIfNone(IntPredicate predicate, int ifNone)
+    {
+        IntIterator iterator = this.intIterator();
+        while (iterator.hasNext())
+        {
+            int value = iterator.next();
+            if (predicate.accept(value))
+            {
+                return value;
+            }
+        }
+        return ifNone;
+    }
+
+    @Override
+    public int count(IntPredicate predicate)
+    {
+        int[] count = {0};
+        this.each(each ->
+        {
+            if (predicate.accept(each))
+            {
+                count[0]++;
+            }
+        });
+        return count[0];
+    }
+
+    @Override
+    public boolean anySatisfy(IntPredicate predicate)
+    {
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            int base = this.keys[i] << 16;
+            if (!this.containers[i].allSatisfy(low -> !predicate.accept(base | low)))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean allSatisfy(IntPredicate predicate)
+    {
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            int base = this.keys[i] << 16;
+            if (!this.containers[i].allSatisfy(low -> predicate.accept(base | low)))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean noneSatisfy(IntPredicate predicate)
+    {
+        return !this.anySatisfy(predicate);
+    }
+
+    @Override
+    public long sum()
+    {
+        long result = 0L;
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            RoaringContainer container = this.containers[i];
+            result += ((long) this.keys[i] << 16) * container.cardinality() + container.sumOfLows();
+        }
+        return result;
+    }
+
+    @Override
+    public int max()
+    {
+        if (this.isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        int last = this.containerCount - 1;
+        return this.keys[last] << 16 | this.containers[last].last();
+    }
+
+    @Override
+    public int min()
+    {
+        if (this.isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        return this.keys[0] << 16 | this.containers[0].first();
+    }
+
+    @Override
+    public <T> T injectInto(T injectedValue, ObjectIntToObjectFunction<? super T, ? extends T> function)
+    {
+        T result = injectedValue;
+        IntIterator iterator = this.intIterator();
+        while (iterator.hasNext())
+        {
+            result = function.valueOf(result, iterator.next());
+        }
+        return result;
+    }
+
+    @Override
+    public RichIterable<IntIterable> chunk(int size)
+    {
+        if (size <= 0)
+        {
+            throw new IllegalArgumentException("Size for groups must be positive but was: " + size);
+        }
+        MutableList<IntIterable> result = Lists.mutable.empty();
+        if (this.notEmpty())
+        {
+            if (this.size() <= size)
+            {
+                result.add(IntSets.mutable.withAll(this));
+            }
+            else
+            {
+                IntIterator iterator = this.intIterator();
+                while (iterator.hasNext())
+                {
+                    MutableIntSet batch = IntSets.mutable.empty();
+                    for (int i = 0; i < size && iterator.hasNext(); i++)
+                    {
+                        batch.add(iterator.next());
+                    }
+                    result.add(batch);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public RoaringIntSet union(IntSet set)
+    {
+        if (set instanceof RoaringIntSet)
+        {
+            return RoaringIntSet.or(this, (RoaringIntSet) set);
+        }
+        return new RoaringIntSet(this).withAll(set);
+    }
+
+    @Override
+    public RoaringIntSet intersect(IntSet set)
+    {
+        if (set instanceof RoaringIntSet)
+        {
+            return RoaringIntSet.and(this, (RoaringIntSet) set);
+        }
+        return this.select(set::contains);
+    }
+
+    @Override
+    public RoaringIntSet difference(IntSet set)
+    {
+        if (set instanceof RoaringIntSet)
+        {
+            return RoaringIntSet.andNot(this, (RoaringIntSet) set);
+        }
+        return this.reject(set::contains);
+    }
+
+    @Override
+    public RoaringIntSet symmetricDifference(IntSet set)
+    {
+        if (set instanceof RoaringIntSet)
+        {
+            return RoaringIntSet.xor(this, (RoaringIntSet) set);
+        }
+        return set.reject(this::contains, this.difference(set));
+    }
+
+    private static RoaringIntSet or(RoaringIntSet left, RoaringIntSet right)
+    {
+        RoaringIntSet result = new RoaringIntSet();
+        int i = 0;
+        int j = 0;
+        while (i < left.containerCount && j < right.containerCount)
+        {
+            int leftKey = left.keys[i];
+            int rightKey = right.keys[j];
+            if (leftKey < rightKey)
+            {
+                result.appendContainer(leftKey, left.containers[i++].copy());
+            }
+            else if (rightKey < leftKey)
+            {
+                result.appendContainer(rightKey, right.containers[j++].copy());
+            }
+            else
+            {
+                result.appendContainer(leftKey, RoaringContainer.or(left.containers[i++], right.containers[j++]));
+            }
+        }
+        while (i < left.containerCount)
+        {
+            result.appendContainer(left.keys[i], left.containers[i++].copy());
+        }
+        while (j < right.containerCount)
+        {
+            result.appendContainer(right.keys[j], right.containers[j++].copy());
+        }
+        return result;
+    }
+
+    private static RoaringIntSet and(RoaringIntSet left, RoaringIntSet right)
+    {
+        RoaringIntSet result = new RoaringIntSet();
+        int i = 0;
+        int j = 0;
+        while (i < left.containerCount && j < right.containerCount)
+        {
+            int leftKey = left.keys[i];
+            int rightKey = right.keys[j];
+            if (leftKey < rightKey)
+            {
+                i++;
+            }
+            else if (rightKey < leftKey)
+            {
+                j++;
+            }
+            else
+            {
+                result.appendContainer(leftKey, RoaringContainer.and(left.containers[i++], right.containers[j++]));
+            }
+        }
+        return result;
+    }
+
+    private static RoaringIntSet andNot(RoaringIntSet left, RoaringIntSet right)
+    {
+        RoaringIntSet result = new RoaringIntSet();
+        int j = 0;
+        for (int i = 0; i < left.containerCount; i++)
+        {
+            int leftKey = left.keys[i];
+            while (j < right.containerCount && right.keys[j] < leftKey)
+            {
+                j++;
+            }
+            if (j < right.containerCount && right.keys[j] == leftKey)
+            {
+                result.appendContainer(leftKey, RoaringContainer.andNot(left.containers[i], right.containers[j]));
+            }
+            else
+            {
+                result.appendContainer(leftKey, left.containers[i].copy());
+            }
+        }
+        return result;
+    }
+
+    private static RoaringIntSet xor(RoaringIntSet left, RoaringIntSet right)
+    {
+        RoaringIntSet result = new RoaringIntSet();
+        int i = 0;
+        int j = 0;
+        while (i < left.containerCount && j < right.containerCount)
+        {
+            int leftKey = left.keys[i];
+            int rightKey = right.keys[j];
+            if (leftKey < rightKey)
+            {
+                result.appendContainer(leftKey, left.containers[i++].copy());
+            }
+            else if (rightKey < leftKey)
+            {
+                result.appendContainer(rightKey, right.containers[j++].copy());
+            }
+            else
+            {
+                result.appendContainer(leftKey, RoaringContainer.xor(left.containers[i++], right.containers[j++]));
+            }
+        }
+        while (i < left.containerCount)
+        {
+            result.appendContainer(left.keys[i], left.containers[i++].copy());
+        }
+        while (j < right.containerCount)
+        {
+            result.appendContainer(right.keys[j], right.containers[j++].copy());
+        }
+        return result;
+    }
+
+    /**
+     * Converts every container to its smallest representation, compressing consecutive values into runs.
+     *
+     * @return true if any container changed representation
+     */
+    public boolean runOptimize()
+    {
+        boolean changed = false;
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            RoaringContainer container = this.containers[i];
+            RoaringContainer optimized = container.optimize();
+            if (optimized != container)
+            {
+                this.containers[i] = optimized;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Returns an estimate of the number of bytes used by the containers of this set.
+     */
+    public long sizeInBytes()
+    {
+        long result = 8L * this.keys.length;
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            result += this.containers[i].sizeInBytes();
+        }
+        return result;
+    }
+
+    @Override
+    public RoaringIntSet newEmpty()
+    {
+        return new RoaringIntSet();
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.size);
+        IntIterator iterator = this.intIterator();
+        while (iterator.hasNext())
+        {
+            out.writeInt(iterator.next());
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException
+    {
+        int size = in.readInt();
+        for (int i = 0; i < size; i++)
+        {
+            this.add(in.readInt());
+        }
+    }
+
+    private class InternalIntIterator implements MutableIntIterator
+    {
+        private int count;
+        private int containerIndex;
+        private int nextLow;
+        private int lastReturned;
+        private boolean canRemove;
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.count < RoaringIntSet.this.size;
+        }
+
+        @Override
+        public int next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException("next() called, but the iterator is exhausted");
+            }
+            int low = this.nextLow > 0xFFFF ? -1 : RoaringIntSet.this.containers[this.containerIndex].ceiling(this.nextLow);
+            while (low < 0)
+            {
+                this.containerIndex++;
+                low = RoaringIntSet.this.containers[this.containerIndex].first();
+            }
+            this.nextLow = low + 1;
+            this.count++;
+            this.lastReturned = RoaringIntSet.this.keys[this.containerIndex] << 16 | low;
+            this.canRemove = true;
+            return this.lastReturned;
+        }
+
+        @Override
+        public void remove()
+        {
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            int key = RoaringIntSet.highBits(this.lastReturned);
+            RoaringIntSet.this.remove(this.lastReturned);
+            if (this.containerIndex >= RoaringIntSet.this.containerCount || RoaringIntSet.this.keys[this.containerIndex] != key)
+            {
+                this.nextLow = 0;
+            }
+            this.count--;
+            this.canRemove = false;
+        }
+    }
+}
@@ -0,0 +1,910 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable.primitive;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+
+import org.eclipse.collections.api.LongIterable;
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.function.primitive.LongToObjectFunction;
+import org.eclipse.collections.api.block.function.primitive.ObjectLongToObjectFunction;
+import org.eclipse.collections.api.block.predicate.primitive.LongPredicate;
+import org.eclipse.collections.api.block.procedure.primitive.LongProcedure;
+import org.eclipse.collections.api.collection.primitive.MutableLongCollection;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.primitive.LongSets;
+import org.eclipse.collections.api.iterator.LongIterator;
+import org.eclipse.collections.api.iterator.MutableLongIterator;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.set.primitive.ImmutableLongSet;
+import org.eclipse.collections.api.set.primitive.LongSet;
+import org.eclipse.collections.api.set.primitive.MutableLongSet;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.set.primitive.AbstractLongSet;
+
+/**
+ * A compressed bitmap {@link MutableLongSet} in the style of Roaring bitmaps. Values are partitioned by their high
+ * 48 bits into containers that hold the low 16 bits either as a sorted array (sparse chunks), a 65536-bit bitmap (dense
+ * chunks) or, after {@link #runOptimize()}, as runs of consecutive values.
+ * <p>
+ * Compared to {@link LongHashSet}, {@code size()} is maintained without iterating, set algebra between two
+ * RoaringLongSets works a container at a time, and dense or clustered values take a fraction of the memory. Iteration
+ * is in ascending order.
+ *
+ * @since 12.0
+ */
+public class RoaringLongSet extends AbstractLongSet implements MutableLongSet, Externalizable
+{
+    private static final long serialVersionUID = 1L;
+    private static final int DEFAULT_INITIAL_CAPACITY = 4;
+
+    private long[] keys;
+    private RoaringContainer[] containers;
+    private int containerCount;
+    private int size;
+
+    public RoaringLongSet()
+    {
+        this.keys = new long[DEFAULT_INITIAL_CAPACITY];
+        this.containers = new RoaringContainer[DEFAULT_INITIAL_CAPACITY];
+    }
+
+    public RoaringLongSet(long... elements)
+    {
+        this();
+        this.addAll(elements);
+    }
+
+    public RoaringLongSet(LongIterable elements)
+    {
+        this();
+        this.addAll(elements);
+    }
+
+    public RoaringLongSet(RoaringLongSet set)
+    {
+        this.keys = Arrays.copyOf(set.keys, Math.max(set.containerCount, 1));
+        this.containers = new RoaringContainer[this.keys.length];
+        for (int i = 0; i < set.containerCount; i++)
+        {
+            this.containers[i] = set.containers[i].copy();
+        }
+        this.containerCount = set.containerCount;
+        this.size = set.size;
+    }
+
+    public static RoaringLongSet newSet(LongIterable source)
+    {
+        if (source instanceof RoaringLongSet)
+        {
+            return new RoaringLongSet((RoaringLongSet) source);
+        }
+        return new RoaringLongSet(source);
+    }
+
+    public static RoaringLongSet newSetWith(long... source)
+    {
+        return new RoaringLongSet(source);
+    }
+
+    private static long highBits(long value)
+    {
+        return value >> 16;
+    }
+
+    private static int lowBits(long value)
+    {
+        return (int) (value & 0xFFFFL);
+    }
+
+    private int indexOfKey(long key)
+    {
+        return Arrays.binarySearch(this.keys, 0, this.containerCount, key);
+    }
+
+    private void insertContainer(int index, long key, RoaringContainer container)
+    {
+        if (this.containerCount == this.keys.length)
+        {
+            int newLength = Math.max(this.keys.length << 1, DEFAULT_INITIAL_CAPACITY);
+            this.keys = Arrays.copyOf(this.keys, newLength);
+            this.containers = Arrays.copyOf(this.containers, newLength);
+        }
+        System.arraycopy(this.keys, index, this.keys, index + 1, this.containerCount - index);
+        System.arraycopy(this.containers, index, this.containers, index + 1, this.containerCount - index);
+        this.keys[index] = key;
+        this.containers[index] = container;
+        this.containerCount++;
+    }
+
+    private void removeContainer(int index)
+    {
+        int numMoved = this.containerCount - index - 1;
+        System.arraycopy(this.keys, index + 1, this.keys, index, numMoved);
+        System.arraycopy(this.containers, index + 1, this.containers, index, numMoved);
+        this.containerCount--;
+        this.containers[this.containerCount] = null;
+    }
+
+    /**
+     * Appends a container with a key greater than all existing keys, skipping empty containers.
+     */
+    private void appendContainer(long key, RoaringContainer container)
+    {
+        int cardinality = container.cardinality();
+        if (cardinality > 0)
+        {
+            this.insertContainer(this.containerCount, key, container);
+            this.size += cardinality;
+        }
+    }
+
+    @Override
+    public MutableSet<Long> boxed()
+    {
+        return new BoxedMutableLongSet(this);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int[] result = {0};
+        this.each(each -> result[0] += (int) (each ^ each >>> 32));
+        return result[0];
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public void appendString(Appendable appendable, String start, String separator, String end)
+    {
+        try
+        {
+            appendable.append(start);
+            LongIterator iterator = this.longIterator();
+            if (iterator.hasNext())
+            {
+                appendable.append(String.valueOf(iterator.next()));
+                while (iterator.hasNext())
+                {
+                    appendable.append(separator);
+                    appendable.append(String.valueOf(iterator.next()));
+                }
+            }
+            appendable.append(end);
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public boolean add(long element)
+    {
+        long key = RoaringLongSet.highBits(element);
+        int index = this.indexOfKey(key);
+        if (index < 0)
+        {
+            this.insertContainer(-index - 1, key, RoaringContainer.singleton(RoaringLongSet.lowBits(element)));
+            this.size++;
+            return true;
+        }
+        RoaringContainer container = this.containers[index];
+        int oldCardinality = container.cardinality();
+        container = container.add(RoaringLongSet.lowBits(element));
+        this.containers[index] = container;
+        if (container.cardinality() != oldCardinality)
+        {
+            this.size++;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean addAll(long... source)
+    {
+        int oldSize = this.size;
+        for (long item : source)
+        {
+            this.add(item);
+        }
+        return this.size != oldSize;
+    }
+
+    @Override
+    public boolean addAll(LongIterable source)
+    {
+        int oldSize = this.size;
+        if (source instanceof RoaringLongSet)
+        {
+            this.replaceWith(RoaringLongSet.or(this, (RoaringLongSet) source));
+        }
+        else
+        {
+            source.forEach(this::add);
+        }
+        return this.size != oldSize;
+    }
+
+    @Override
+    public boolean remove(long value)
+    {
+        int index = this.indexOfKey(RoaringLongSet.highBits(value));
+        if (index < 0)
+        {
+            return false;
+        }
+        RoaringContainer container = this.containers[index];
+        int oldCardinality = container.cardinality();
+        container = container.remove(RoaringLongSet.lowBits(value));
+        if (container.cardinality() == oldCardinality)
+        {
+            return false;
+        }
+        this.size--;
+        if (container.cardinality() == 0)
+        {
+            this.removeContainer(index);
+        }
+        else
+        {
+            this.containers[index] = container;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean removeAll(LongIterable source)
+    {
+        int oldSize = this.size;
+        if (source instanceof RoaringLongSet)
+        {
+            this.replaceWith(RoaringLongSet.andNot(this, (RoaringLongSet) source));
+        }
+        else
+        {
+            source.forEach(this::remove);
+        }
+        return this.size != oldSize;
+    }
+
+    @Override
+    public boolean removeAll(long... source)
+    {
+        int oldSize = this.size;
+        for (long item : source)
+        {
+            this.remove(item);
+        }
+        return this.size != oldSize;
+    }
+
+    @Override
+    public boolean retainAll(LongIterable source)
+    {
+        int oldSize = this.size;
+        if (source instanceof RoaringLongSet)
+        {
+            this.replaceWith(RoaringLongSet.and(this, (RoaringLongSet) source));
+        }
+        else
+        {
+            LongSet sourceSet = source instanceof LongSet ? (LongSet) source : source.toSet();
+            this.replaceWith(this.select(sourceSet::contains));
+        }
+        return this.size != oldSize;
+    }
+
+    @Override
+    public boolean retainAll(long... source)
+    {
+        return this.retainAll(LongHashSet.newSetWith(source));
+    }
+
+    @Override
+    public void clear()
+    {
+        Arrays.fill(this.containers, 0, this.containerCount, null);
+        this.containerCount = 0;
+        this.size = 0;
+    }
+
+    private void replaceWith(RoaringLongSet set)
+    {
+        this.keys = set.keys;
+        this.containers = set.containers;
+        this.containerCount = set.containerCount;
+        this.size = set.size;
+    }
+
+    @Override
+    public RoaringLongSet with(long element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    @Override
+    public RoaringLongSet without(long element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    @Override
+    public RoaringLongSet withAll(LongIterable elements)
+    {
+        this.addAll(elements);
+        return this;
+    }
+
+    @Override
+    public RoaringLongSet withoutAll(LongIterable elements)
+    {
+        this.removeAll(elements);
+        return this;
+    }
+
+    @Override
+    public MutableLongSet asUnmodifiable()
+    {
+        return new UnmodifiableLongSet(this);
+    }
+
+    @Override
+    public MutableLongSet asSynchronized()
+    {
+        return new SynchronizedLongSet(this);
+    }
+
+    @Override
+    public ImmutableLongSet toImmutable()
+    {
+        return LongSets.immutable.withAll(this);
+    }
+
+    @Override
+    public LongSet freeze()
+    {
+        return this.toImmutable();
+    }
+
+    @Override
+    public MutableLongIterator longIterator()
+    {
+        return new InternalLongIterator();
+    }
+
+    @Override
+    public long[] toArray()
+    {
+        return this.toArray(new long[this.size]);
+    }
+
+    @Override
+    public long[] toArray(long[] array)
+    {
+        long[] result = array.length < this.size ? new long[this.size] : array;
+        int[] index = {0};
+        this.each(each -> result[index[0]++] = each);
+        return result;
+    }
+
+    @Override
+    public boolean contains(long value)
+    {
+        int index = this.indexOfKey(RoaringLongSet.highBits(value));
+        return index >= 0 && this.containers[index].contains(RoaringLongSet.lowBits(value));
+    }
+
+    @Override
+    public boolean containsAll(LongIterable source)
+    {
+        if (source instanceof RoaringLongSet)
+        {
+            RoaringLongSet other = (RoaringLongSet) source;
+            if (other.size > this.size)
+            {
+                return false;
+            }
+            for (int i = 0; i < other.containerCount; i++)
+            {
+                int index = this.indexOfKey(other.keys[i]);
+                if (index < 0 || !RoaringContainer.isSubset(other.containers[i], this.containers[index]))
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return source.allSatisfy(this::contains);
+    }
+
+    @Override
+    public void each(LongProcedure procedure)
+    {
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            long base = this.keys[i] << 16;
+            this.containers[i].forEach(low -> procedure.value(base | low));
+        }
+    }
+
+    @Override
+    public RoaringLongSet select(LongPredicate predicate)
+    {
+        return this.select(predicate, new RoaringLongSet());
+    }
+
+    @Override
+    public <R extends MutableLongCollection> R select(LongPredicate predicate, R target)
+    {
+        this.each(each ->
+        {
+            if (predicate.accept(each))
+            {
+                target.add(each);
+            }
+        });
+        return target;
+    }
+
+    @Override
+    public RoaringLongSet reject(LongPredicate predicate)
+    {
+        return this.reject(predicate, new RoaringLongSet());
+    }
+
+    @Override
+    public <R extends MutableLongCollection> R reject(LongPredicate predicate, R target)
+    {
+        this.each(each ->
+        {
+            if (!predicate.accept(each))
+            {
+                target.add(each);
+            }
+        });
+        return target;
+    }
+
+    @Override
+    public <V> MutableSet<V> collect(LongToObjectFunction<? extends V> function)
+    {
+        return this.collect(function, UnifiedSet.newSet(this.size));
+    }
+
+    @Override
+    public <V, R extends Collection<V>> R collect(LongToObjectFunction<? extends V> function, R target)
+    {
+        this.each(each -> target.add(function.valueOf(each)));
+        return target;
+    }
+
+    @Override
+    public long detectIfNone(LongPredicate predicate, long ifNone)
+    {
+        LongIterator iterator = this.longIterator();
+        while (iterator.hasNext())
+        {
+            long value = iterator.next();
+            if (predicate.accept(value))
+            {
+                return value;
+            }
+        }
+        return ifNone;
+    }
+
+    @Override
+    public int count(LongPredicate predicate)
+    {
+        int[] count = {0};
+        this.each(each ->
+        {
+            if (predicate.accept(each))
+            {
+                count[0]++;
+            }
+        });
+        return count[0];
+    }
+
+    @Override
+    public boolean anySatisfy(LongPredicate predicate)
+    {
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            long base = this.keys[i] << 16;
+            if (!this.containers[i].allSatisfy(low -> !predicate.accept(base | low)))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean allSatisfy(LongPredicate predicate)
+    {
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            long base = this.keys[i] << 16;
+            if (!this.containers[i].allSatisfy(low -> predicate.accept(base | low)))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean noneSatisfy(LongPredicate predicate)
+    {
+        return !this.anySatisfy(predicate);
+    }
+
+    @Override
+    public long sum()
+    {
+        long result = 0L;
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            RoaringContainer container = this.containers[i];
+            result += (this.keys[i] << 16) * container.cardinality() + container.sumOfLows();
+        }
+        return result;
+    }
+
+    @Override
+    public long max()
+    {
+        if (this.isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        int last = this.containerCount - 1;
+        return this.keys[last] << 16 | this.containers[last].last();
+    }
+
+    @Override
+    public long min()
+    {
+        if (this.isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        return this.keys[0] << 16 | this.containers[0].first();
+    }
+
+    @Override
+    public <T> T injectInto(T injectedValue, ObjectLongToObjectFunction<? super T, ? extends T> function)
+    {
+        T result = injectedValue;
+        LongIterator iterator = this.longIterator();
+        while (iterator.hasNext())
+        {
+            result = function.valueOf(result, iterator.next());
+        }
+        return result;
+    }
+
+    @Override
+    public RichIterable<LongIterable> chunk(int size)
+    {
+        if (size <= 0)
+        {
+            throw new IllegalArgumentException("Size for groups must be positive but was: " + size);
+        }
+        MutableList<LongIterable> result = Lists.mutable.empty();
+        if (this.notEmpty())
+        {
+            if (this.size() <= size)
+            {
+                result.add(LongSets.mutable.withAll(this));
+            }
+            else
+            {
+                LongIterator iterator = this.longIterator();
+                while (iterator.hasNext())
+                {
+                    MutableLongSet batch = LongSets.mutable.empty();
+                    for (int i = 0; i < size && iterator.hasNext(); i++)
+                    {
+                        batch.add(iterator.next());
+                    }
+                    result.add(batch);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public RoaringLongSet union(LongSet set)
+    {
+        if (set instanceof RoaringLongSet)
+        {
+            return RoaringLongSet.or(this, (RoaringLongSet) set);
+        }
+        return new RoaringLongSet(this).withAll(set);
+    }
+
+    @Override
+    public RoaringLongSet intersect(LongSet set)
+    {
+        if (set instanceof RoaringLongSet)
+        {
+            return RoaringLongSet.and(this, (RoaringLongSet) set);
+        }
+        return this.select(set::contains);
+    }
+
+    @Override
+    public RoaringLongSet difference(LongSet set)
+    {
+        if (set instanceof RoaringLongSet)
+        {
+            return RoaringLongSet.andNot(this, (RoaringLongSet) set);
+        }
+        return this.reject(set::contains);
+    }
+
+    @Override
+    public RoaringLongSet symmetricDifference(LongSet set)
+    {
+        if (set instanceof RoaringLongSet)
+        {
+            return RoaringLongSet.xor(this, (RoaringLongSet) set);
+        }
+        return set.reject(this::contains, this.difference(set));
+    }
+
+    private static RoaringLongSet or(RoaringLongSet left, RoaringLongSet right)
+    {
+        RoaringLongSet result = new RoaringLongSet();
+        int i = 0;
+        int j = 0;
+        while (i < left.containerCount && j < right.containerCount)
+        {
+            long leftKey = left.keys[i];
+            long rightKey = right.keys[j];
+            if (leftKey < rightKey)
+            {
+                result.appendContainer(leftKey, left.containers[i++].copy());
+            }
+            else if (rightKey < leftKey)
+            {
+                result.appendContainer(rightKey, right.containers[j++].copy());
+            }
+            else
+            {
+                result.appendContainer(leftKey, RoaringContainer.or(left.containers[i++], right.containers[j++]));
+            }
+        }
+        while (i < left.containerCount)
+        {
+            result.appendContainer(left.keys[i], left.containers[i++].copy());
+        }
+        while (j < right.containerCount)
+        {
+            result.appendContainer(right.keys[j], right.containers[j++].copy());
+        }
+        return result;
+    }
+
+    private static RoaringLongSet and(RoaringLongSet left, RoaringLongSet right)
+    {
+        RoaringLongSet result = new RoaringLongSet();
+        int i = 0;
+        int j = 0;
+        while (i < left.containerCount && j < right.containerCount)
+        {
+            long leftKey = left.keys[i];
+            long rightKey = right.keys[j];
+            if (leftKey < rightKey)
+            {
+                i++;
+            }
+            else if (rightKey < leftKey)
+            {
+                j++;
+            }
+            else
+            {
+                result.appendContainer(leftKey, RoaringContainer.and(left.containers[i++], right.containers[j++]));
+            }
+        }
+        return result;
+    }
+
+    private static RoaringLongSet andNot(RoaringLongSet left, RoaringLongSet right)
+    {
+        RoaringLongSet result = new RoaringLongSet();
+        int j = 0;
+        for (int i = 0; i < left.containerCount; i++)
+        {
+            long leftKey = left.keys[i];
+            while (j < right.containerCount && right.keys[j] < leftKey)
+            {
+                j++;
+            }
+            if (j < right.containerCount && right.keys[j] == leftKey)
+            {
+                result.appendContainer(leftKey, RoaringContainer.andNot(left.containers[i], right.containers[j]));
+            }
+            else
+            {
+                result.appendContainer(leftKey, left.containers[i].copy());
+            }
+        }
+        return result;
+    }
+
+    private static RoaringLongSet xor(RoaringLongSet left, RoaringLongSet right)
+    {
+        RoaringLongSet result = new RoaringLongSet();
+        int i = 0;
+        int j = 0;
+        while (i < left.containerCount && j < right.containerCount)
+        {
+            long leftKey = left.keys[i];
+            long rightKey = right.keys[j];
+            if (leftKey < rightKey)
+            {
+                result.appendContainer(leftKey, left.containers[i++].copy());
+            }
+            else if (rightKey < leftKey)
+            {
+                result.appendContainer(rightKey, right.containers[j++].copy());
+            }
+            else
+            {
+                result.appendContainer(leftKey, RoaringContainer.xor(left.containers[i++], right.containers[j++]));
+            }
+        }
+        while (i < left.containerCount)
+        {
+            result.appendContainer(left.keys[i], left.containers[i++].copy());
+        }
+        while (j < right.containerCount)
+        {
+            result.appendContainer(right.keys[j], right.containers[j++].copy());
+        }
+        return result;
+    }
+
+    /**
+     * Converts every container to its smallest representation, compressing consecutive values into runs.
+     *
+     * @return true if any container changed representation
+     */
+    public boolean runOptimize()
+    {
+        boolean changed = false;
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            RoaringContainer container = this.containers[i];
+            RoaringContainer optimized = container.optimize();
+            if (optimized != container)
+            {
+                this.containers[i] = optimized;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Returns an estimate of the number of bytes used by the containers of this set.
+     */
+    public long sizeInBytes()
+    {
+        long result = 8L * this.keys.length;
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            result += this.containers[i].sizeInBytes();
+        }
+        return result;
+    }
+
+    @Override
+    public RoaringLongSet newEmpty()
+    {
+        return new RoaringLongSet();
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.size);
+        LongIterator iterator = this.longIterator();
+        while (iterator.hasNext())
+        {
+            out.writeLong(iterator.next());
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException
+    {
+        int size = in.readInt();
+        for (int i = 0; i < size; i++)
+        {
+            this.add(in.readLong());
+        }
+    }
+
+    private class InternalLongIterator implements MutableLongIterator
+    {
+        private int count;
+        private int containerIndex;
+        private int nextLow;
+        private long lastReturned;
+        private boolean canRemove;
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.count < RoaringLongSet.this.size;
+        }
+
+        @Override
+        public long next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException("next() called, but the iterator is exhausted");
+            }
+            int low = this.nextLow > 0xFFFF ? -1 : RoaringLongSet.this.containers[this.containerIndex].ceiling(this.nextLow);
+            while (low < 0)
+            {
+                this.containerIndex++;
+                low = RoaringLongSet.this.containers[this.containerIndex].first();
+            }
+            this.nextLow = low + 1;
+            this.count++;
+            this.lastReturned = RoaringLongSet.this.keys[this.containerIndex] << 16 | low;
+            this.canRemove = true;
+            return this.lastReturned;
+        }
+
+        @Override
+        public void remove()
+        {
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            long key = RoaringLongSet.highBits(this.lastReturned);
+            RoaringLongSet.this.remove(this.lastReturned);
+            if (this.containerIndex >= RoaringLongSet.this.containerCount || RoaringLongSet.this.keys[this.containerIndex] != key)
+            {
+                this.nextLow = 0;
+            }
+            this.count--;
+            this.canRemove = false;
+        }
+    }
+}
@@ -0,0 +1,413 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.sorted.immutable;
+
+import java.io.Serializable;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.SortedSet;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.set.sorted.ImmutableSortedSet;
+import org.eclipse.collections.api.set.sorted.MutableSortedSet;
+import org.eclipse.collections.api.set.sorted.SortedSetIterable;
+import org.eclipse.collections.impl.utility.Iterate;
+import org.eclipse.collections.impl.utility.ListIterate;
+import org.eclipse.collections.impl.utility.internal.WeightBalancedNode;
+
+/**
+ * An ImmutableSortedSet backed by a persistent weight-balanced tree. Unlike {@link ImmutableTreeSet}, which copies its
+ * array, {@link #newWith(Object)} and {@link #newWithout(Object)} copy only the O(log n) nodes on the path to the
+ * changed element and share the rest of the tree with the original set.
+ * <p>
+ * {@link #subSet(Object, Object)}, {@link #headSet(Object)}, {@link #tailSet(Object)}, {@link #take(int)} and
+ * {@link #drop(int)} also take O(log n) time and return independent immutable sets rather than views, so they are not
+ * restricted to the requested range. {@link #rank(Object)} and {@link #elementAt(int)} convert between elements and
+ * their positions in O(log n) time.
+ * <p>
+ * Every set derived from an ImmutableBalancedTreeSet with {@code newWith*}, {@code newWithout*} or one of the range
+ * methods is an ImmutableBalancedTreeSet, including the empty set.
+ *
+ * @see WeightBalancedNode
+ * @since 12.0
+ */
+public final class ImmutableBalancedTreeSet<T>
+        extends AbstractImmutableSortedSet<T>
+        implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final ImmutableBalancedTreeSet<?> EMPTY = new ImmutableBalancedTreeSet<>(null, null);
+
+    private final transient WeightBalancedNode root;
+    private final transient Comparator<? super T> comparator;
+
+    private ImmutableBalancedTreeSet(WeightBalancedNode root, Comparator<? super T> comparator)
+    {
+        this.root = root;
+        this.comparator = comparator;
+    }
+
+    public static <T> ImmutableBalancedTreeSet<T> empty()
+    {
+        return (ImmutableBalancedTreeSet<T>) EMPTY;
+    }
+
+    public static <T> ImmutableBalancedTreeSet<T> empty(Comparator<? super T> comparator)
+    {
+        return comparator == null ? ImmutableBalancedTreeSet.empty() : new ImmutableBalancedTreeSet<>(null, comparator);
+    }
+
+    public static <T> ImmutableBalancedTreeSet<T> newSetWith(T... elements)
+    {
+        return ImmutableBalancedTreeSet.newSetWith(null, elements);
+    }
+
+    public static <T> ImmutableBalancedTreeSet<T> newSetWith(Comparator<? super T> comparator, T... elements)
+    {
+        return ImmutableBalancedTreeSet.newSet(comparator, elements.clone());
+    }
+
+    public static <T> ImmutableBalancedTreeSet<T> newSet(SortedSet<T> set)
+    {
+        if (set instanceof ImmutableBalancedTreeSet<?>)
+        {
+            return (ImmutableBalancedTreeSet<T>) set;
+        }
+        if (set.isEmpty())
+        {
+            return ImmutableBalancedTreeSet.empty(set.comparator());
+        }
+        Object[] elements = set.toArray();
+        return new ImmutableBalancedTreeSet<>(WeightBalancedNode.fromSorted(elements, null, 0, elements.length), set.comparator());
+    }
+
+    public static <T> ImmutableBalancedTreeSet<T> newSet(Comparator<? super T> comparator, Iterable<? extends T> iterable)
+    {
+        return ImmutableBalancedTreeSet.newSet(comparator, Iterate.toArray(iterable));
+    }
+
+    private static <T> ImmutableBalancedTreeSet<T> newSet(Comparator<? super T> comparator, Object[] elements)
+    {
+        for (Object element : elements)
+        {
+            if (element == null)
+            {
+                throw new NullPointerException("Input array contains nulls!");
+            }
+        }
+        return new ImmutableBalancedTreeSet<>(WeightBalancedNode.fromUnsorted((Comparator<Object>) comparator, elements, null), comparator);
+    }
+
+    private ImmutableBalancedTreeSet<T> withRoot(WeightBalancedNode newRoot)
+    {
+        return newRoot == this.root ? this : new ImmutableBalancedTreeSet<>(newRoot, this.comparator);
+    }
+
+    private Comparator<Object> order()
+    {
+        return (Comparator<Object>) this.comparator;
+    }
+
+    @Override
+    public int size()
+    {
+        return WeightBalancedNode.size(this.root);
+    }
+
+    @Override
+    public boolean contains(Object object)
+    {
+        return WeightBalancedNode.find(this.root, object, this.order()) != null;
+    }
+
+    @Override
+    public ImmutableBalancedTreeSet<T> newWith(T element)
+    {
+        return this.withRoot(WeightBalancedNode.put(this.root, element, null, this.order()));
+    }
+
+    @Override
+    public ImmutableBalancedTreeSet<T> newWithout(T element)
+    {
+        return this.withRoot(WeightBalancedNode.remove(this.root, element, this.order()));
+    }
+
+    @Override
+    public ImmutableBalancedTreeSet<T> newWithAll(Iterable<? extends T> elements)
+    {
+        WeightBalancedNode newRoot = this.root;
+        for (T element : elements)
+        {
+            newRoot = WeightBalancedNode.put(newRoot, element, null, this.order());
+        }
+        return this.withRoot(newRoot);
+    }
+
+    @Override
+    public ImmutableBalancedTreeSet<T> newWithoutAll(Iterable<? extends T> elements)
+    {
+        WeightBalancedNode newRoot = this.root;
+        for (T element : elements)
+        {
+            newRoot = WeightBalancedNode.remove(newRoot, element, this.order());
+        }
+        return this.withRoot(newRoot);
+    }
+
+    /**
+     * Returns the number of elements in this set which are less than the given element, which is the index of the
+     * element if it is present.
+     */
+    public int rank(T element)
+    {
+        return WeightBalancedNode.rank(this.root, element, this.order());
+    }
+
+    /**
+     * Returns the element at the given position in the sort order of this set.
+     *
+     * @throws IndexOutOfBoundsException if the index is negative or not less than the size of this set
+     */
+    public T elementAt(int index)
+    {
+        return (T) WeightBalancedNode.select(this.root, index).getKey();
+    }
+
+    @Override
+    public int indexOf(Object object)
+    {
+        if (WeightBalancedNode.find(this.root, object, this.order()) == null)
+        {
+            return -1;
+        }
+        return WeightBalancedNode.rank(this.root, object, this.order());
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new WeightBalancedNode.Cursor<T>(this.root)
+        {
+            @Override
+            protected T entry(WeightBalancedNode node)
+            {
+                return (T) node.getKey();
+            }
+        };
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        ImmutableBalancedTreeSet.each(this.root, procedure);
+    }
+
+    private static <T> void each(WeightBalancedNode node, Procedure<? super T> procedure)
+    {
+        if (node != null)
+        {
+            ImmutableBalancedTreeSet.each(node.getLeft(), procedure);
+            procedure.value((T) node.getKey());
+            ImmutableBalancedTreeSet.each(node.getRight(), procedure);
+        }
+    }
+
+    @Override
+    public void forEach(int fromIndex, int toIndex, Procedure<? super T> procedure)
+    {
+        this.forEachWithIndex(fromIndex, toIndex, (each, index) -> procedure.value(each));
+    }
+
+    @Override
+    public void forEachWithIndex(int fromIndex, int toIndex, ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        ListIterate.rangeCheck(fromIndex, toIndex, this.size());
+
+        if (fromIndex > toIndex)
+        {
+            throw new IllegalArgumentException("fromIndex must not be greater than toIndex");
+        }
+
+        ImmutableBalancedTreeSet.forEachWithIndex(this.root, 0, fromIndex, toIndex, objectIntProcedure);
+    }
+
+    private static <T> void forEachWithIndex(WeightBalancedNode node, int offset, int fromIndex, int toIndex, ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        if (node == null)
+        {
+            return;
+        }
+        int index = offset + WeightBalancedNode.size(node.getLeft());
+        if (fromIndex < index)
+        {
+            ImmutableBalancedTreeSet.forEachWithIndex(node.getLeft(), offset, fromIndex, toIndex, objectIntProcedure);
+        }
+        if (fromIndex <= index && index <= toIndex)
+        {
+            objectIntProcedure.value((T) node.getKey(), index);
+        }
+        if (toIndex > index)
+        {
+            ImmutableBalancedTreeSet.forEachWithIndex(node.getRight(), index + 1, fromIndex, toIndex, objectIntProcedure);
+        }
+    }
+
+    @Override
+    public T first()
+    {
+        return (T) WeightBalancedNode.first(this.root).getKey();
+    }
+
+    @Override
+    public T last()
+    {
+        return (T) WeightBalancedNode.last(this.root).getKey();
+    }
+
+    @Override
+    public Comparator<? super T> comparator()
+    {
+        return this.comparator;
+    }
+
+    @Override
+    public int compareTo(SortedSetIterable<T> otherSet)
+    {
+        Iterator<T> iterator = otherSet.iterator();
+
+        for (T eachInThis : this)
+        {
+            if (!iterator.hasNext())
+            {
+                return 1;
+            }
+
+            int compare = WeightBalancedNode.compare(this.order(), eachInThis, iterator.next());
+            if (compare != 0)
+            {
+                return compare;
+            }
+        }
+
+        return iterator.hasNext() ? -1 : 0;
+    }
+
+    @Override
+    public ImmutableBalancedTreeSet<T> subSet(T fromElement, T toElement)
+    {
+        if (WeightBalancedNode.compare(this.order(), fromElement, toElement) > 0)
+        {
+            throw new IllegalArgumentException("fromElement " + fromElement + " is greater than toElement " + toElement);
+        }
+        WeightBalancedNode tail = WeightBalancedNode.tail(this.root, fromElement, true, this.order());
+        return this.withRoot(WeightBalancedNode.head(tail, toElement, false, this.order()));
+    }
+
+    @Override
+    public ImmutableBalancedTreeSet<T> headSet(T toElement)
+    {
+        return this.withRoot(WeightBalancedNode.head(this.root, toElement, false, this.order()));
+    }
+
+    @Override
+    public ImmutableBalancedTreeSet<T> tailSet(T fromElement)
+    {
+        return this.withRoot(WeightBalancedNode.tail(this.root, fromElement, true, this.order()));
+    }
+
+    @Override
+    public ImmutableBalancedTreeSet<T> take(int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be greater than zero, but was: " + count);
+        }
+        return this.withRoot(WeightBalancedNode.take(this.root, count));
+    }
+
+    @Override
+    public ImmutableBalancedTreeSet<T> drop(int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be greater than zero, but was: " + count);
+        }
+        return this.withRoot(WeightBalancedNode.drop(this.root, count));
+    }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (obj == this)
+        {
+            return true;
+        }
+
+        if (!(obj instanceof Set))
+        {
+            return false;
+        }
+        Set<?> otherSet = (Set<?>) obj;
+        if (otherSet.size() != this.size())
+        {
+            return false;
+        }
+        try
+        {
+            return this.containsAll(otherSet);
+        }
+        catch (ClassCastException ignored)
+        {
+            return false;
+        }
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int[] hashCode = {0};
+        this.each(each -> hashCode[0] += each.hashCode());
+        return hashCode[0];
+    }
+
+    private Object writeReplace()
+    {
+        return new SerializationProxy<>(this);
+    }
+
+    /**
+     * Writes the same form as the other immutable sorted sets, but reads it back into an ImmutableBalancedTreeSet.
+     */
+    static final class SerializationProxy<T> extends ImmutableSortedSetSerializationProxy<T>
+    {
+        private static final long serialVersionUID = 1L;
+
+        @SuppressWarnings("UnusedDeclaration")
+        public SerializationProxy()
+        {
+            // Empty constructor for Externalizable class
+        }
+
+        SerializationProxy(ImmutableSortedSet<T> set)
+        {
+            super(set);
+        }
+
+        @Override
+        protected ImmutableSortedSet<T> toImmutable(MutableSortedSet<T> deserializedSet)
+        {
+            return ImmutableBalancedTreeSet.newSet(deserializedSet);
+        }
+    }
+}
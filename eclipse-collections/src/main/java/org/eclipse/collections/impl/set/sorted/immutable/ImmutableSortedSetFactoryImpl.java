@@ -11,6 +11,7 @@
 package org.eclipse.collections.impl.set.sorted.immutable;
 
 import java.util.Comparator;
+import java.util.Objects;
 import java.util.SortedSet;
 
 import org.eclipse.collections.api.factory.set.sorted.ImmutableSortedSetFactory;
@@ -150,4 +151,32 @@ public class ImmutableSortedSetFactoryImpl implements ImmutableSortedSetFactory
         }
         return ImmutableTreeSet.newSet(set);
     }
+
+    @Override
+    public <T> ImmutableSortedSet<T> persistent()
+    {
+        return ImmutableBalancedTreeSet.empty();
+    }
+
+    @Override
+    public <T> ImmutableSortedSet<T> persistent(Comparator<? super T> comparator)
+    {
+        return ImmutableBalancedTreeSet.empty(comparator);
+    }
+
+    @Override
+    public <T> ImmutableSortedSet<T> persistentWithAll(Iterable<? extends T> items)
+    {
+        return this.persistentWithAll(null, items);
+    }
+
+    @Override
+    public <T> ImmutableSortedSet<T> persistentWithAll(Comparator<? super T> comparator, Iterable<? extends T> items)
+    {
+        if (items instanceof SortedSet<?> && Objects.equals(comparator, ((SortedSet<?>) items).comparator()))
+        {
+            return ImmutableBalancedTreeSet.newSet((SortedSet<T>) items);
+        }
+        return ImmutableBalancedTreeSet.newSet(comparator, items);
+    }
 }
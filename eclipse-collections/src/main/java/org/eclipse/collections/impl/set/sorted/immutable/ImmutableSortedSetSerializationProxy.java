@@ -76,7 +76,12 @@ class ImmutableSortedSetSerializationProxy<T> implements Externalizable
             deserializedSet.add((T) in.readObject());
         }
 
-        this.set = deserializedSet.toImmutable();
+        this.set = this.toImmutable(deserializedSet);
+    }
+
+    protected ImmutableSortedSet<T> toImmutable(MutableSortedSet<T> deserializedSet)
+    {
+        return deserializedSet.toImmutable();
     }
 
     protected Object readResolve()
@@ -11,7 +11,7 @@
 /**
  * This package contains implementations of {@link org.eclipse.collections.api.set.sorted.ImmutableSortedSet}.
  * <p>
- *     This package contains the following immutable sorted set implementation:
+ *     This package contains the following immutable sorted set implementations:
  * <ul>
  *     <li>
  *          {@link org.eclipse.collections.impl.set.sorted.immutable.ImmutableEmptySortedSet} -  a zero element {@link org.eclipse.collections.api.set.sorted.ImmutableSortedSet}.
@@ -19,6 +19,9 @@
  *     <li>
  *          {@link org.eclipse.collections.impl.set.sorted.immutable.ImmutableTreeSet} - the non-modifiable equivalent of {@link org.eclipse.collections.api.set.sorted.MutableSortedSet}.
  *     </li>
+ *     <li>
+ *          {@link org.eclipse.collections.impl.set.sorted.immutable.ImmutableBalancedTreeSet} - a persistent {@link org.eclipse.collections.api.set.sorted.ImmutableSortedSet} backed by a weight-balanced tree.
+ *     </li>
  * </ul>
  * <p>
  *     This package contains one factory implementation:
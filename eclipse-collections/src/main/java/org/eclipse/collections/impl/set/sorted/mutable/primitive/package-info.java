@@ -0,0 +1,16 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+/**
+ * This package contains implementations of the mutable sorted primitive set interfaces.
+ * <p>
+ *     The sets are two-level B+trees of sorted primitive arrays, so elements are kept in ascending order without boxing.
+ */
+package org.eclipse.collections.impl.set.sorted.mutable.primitive;
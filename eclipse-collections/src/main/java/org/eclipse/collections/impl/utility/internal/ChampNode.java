@@ -0,0 +1,567 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.utility.internal;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A node of a compressed hash-array mapped prefix tree (CHAMP), the persistent hash trie shared by
+ * {@link org.eclipse.collections.impl.map.immutable.ImmutableChampMap} and
+ * {@link org.eclipse.collections.impl.set.immutable.ImmutableChampSet}.
+ * <p>
+ * Each level of the trie consumes five bits of the spread hash code, so a node has at most 32 branches. A node keeps
+ * two bitmaps, one for the branches holding an entry inline and one for the branches holding a sub-node, and a single
+ * array with the inline entries first and the sub-nodes last. Keys whose hash codes are fully equal end up in a
+ * collision node below the last level.
+ * <p>
+ * An entry is either one slot (a set element) or two slots (a map key followed by its value). The entry width is
+ * passed to every operation instead of being stored in each node.
+ * <p>
+ * Nodes are never modified once published. An update copies only the nodes on the path to the changed entry and
+ * shares every other node with the original trie. Removal keeps the trie canonical: a sub-node left with a single
+ * entry is inlined into its parent.
+ *
+ * @since 12.0
+ */
+public abstract class ChampNode
+{
+    public static final int MAP_WIDTH = 2;
+    public static final int SET_WIDTH = 1;
+
+    private static final int BITS = 5;
+    private static final int BRANCH_MASK = (1 << BITS) - 1;
+    private static final int HASH_BITS = Integer.SIZE;
+    private static final int MAX_DEPTH = (HASH_BITS + BITS - 1) / BITS + 1;
+
+    private static final ChampNode EMPTY = new BitmapIndexedNode(0, 0, new Object[0]);
+
+    ChampNode()
+    {
+    }
+
+    public static ChampNode empty()
+    {
+        return EMPTY;
+    }
+
+    /**
+     * Spreads the bits of the key's hash code so that the branches of the first levels depend on all of its bits.
+     */
+    public static int hash(Object key)
+    {
+        int h = key == null ? 0 : key.hashCode();
+        return h ^ h >>> 16;
+    }
+
+    /**
+     * Returns the value stored for the key, the key itself for entries of width one, or {@code ifAbsent}.
+     */
+    public abstract Object get(Object key, int hash, int shift, int width, Object ifAbsent);
+
+    /**
+     * Returns a trie that maps the key to the value, sharing every untouched node with this one. Returns this node
+     * when nothing changes.
+     */
+    public abstract ChampNode updated(Object key, Object value, int hash, int shift, int width, Change change);
+
+    /**
+     * Returns a trie without the key, sharing every untouched node with this one. Returns this node when the key is
+     * absent.
+     */
+    public abstract ChampNode removed(Object key, int hash, int shift, int width, Change change);
+
+    public abstract int entryCount(int width);
+
+    public abstract int nodeCount();
+
+    public abstract Object key(int index, int width);
+
+    public abstract Object value(int index, int width);
+
+    public abstract ChampNode node(int index);
+
+    private boolean hasSingleEntry(int width)
+    {
+        return this.nodeCount() == 0 && this.entryCount(width) == 1;
+    }
+
+    private static int branch(int hash, int shift)
+    {
+        return (hash >>> shift) & BRANCH_MASK;
+    }
+
+    private static Object[] entry(Object key, Object value, int width)
+    {
+        return width == SET_WIDTH ? new Object[]{key} : new Object[]{key, value};
+    }
+
+    private static Object[] entries(Object key0, Object value0, Object key1, Object value1, int width)
+    {
+        return width == SET_WIDTH ? new Object[]{key0, key1} : new Object[]{key0, value0, key1, value1};
+    }
+
+    private static ChampNode mergeTwo(
+            Object key0, Object value0, int hash0,
+            Object key1, Object value1, int hash1,
+            int shift, int width)
+    {
+        if (shift >= HASH_BITS)
+        {
+            return new HashCollisionNode(hash0, entries(key0, value0, key1, value1, width));
+        }
+        int branch0 = branch(hash0, shift);
+        int branch1 = branch(hash1, shift);
+        if (branch0 != branch1)
+        {
+            int dataMap = 1 << branch0 | 1 << branch1;
+            Object[] content = branch0 < branch1
+                    ? entries(key0, value0, key1, value1, width)
+                    : entries(key1, value1, key0, value0, width);
+            return new BitmapIndexedNode(dataMap, 0, content);
+        }
+        ChampNode node = mergeTwo(key0, value0, hash0, key1, value1, hash1, shift + BITS, width);
+        return new BitmapIndexedNode(0, 1 << branch0, new Object[]{node});
+    }
+
+    /**
+     * Records the effect of an update or removal, so that the caller can maintain its size.
+     */
+    public static final class Change
+    {
+        private boolean modified;
+        private boolean replaced;
+        private Object oldValue;
+
+        /**
+         * Returns whether an entry was added or removed.
+         */
+        public boolean isModified()
+        {
+            return this.modified;
+        }
+
+        /**
+         * Returns whether the value of an existing key was replaced.
+         */
+        public boolean isReplaced()
+        {
+            return this.replaced;
+        }
+
+        public Object getOldValue()
+        {
+            return this.oldValue;
+        }
+
+        private void setModified(Object oldValue)
+        {
+            this.modified = true;
+            this.oldValue = oldValue;
+        }
+
+        private void setReplaced(Object oldValue)
+        {
+            this.replaced = true;
+            this.oldValue = oldValue;
+        }
+    }
+
+    private static final class BitmapIndexedNode extends ChampNode
+    {
+        private final int dataMap;
+        private final int nodeMap;
+        private final Object[] content;
+
+        private BitmapIndexedNode(int dataMap, int nodeMap, Object[] content)
+        {
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.content = content;
+        }
+
+        private static int index(int bitmap, int bit)
+        {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        private int dataIndex(int bit, int width)
+        {
+            return index(this.dataMap, bit) * width;
+        }
+
+        private int nodeIndex(int bit)
+        {
+            return this.content.length - 1 - index(this.nodeMap, bit);
+        }
+
+        @Override
+        public Object get(Object key, int hash, int shift, int width, Object ifAbsent)
+        {
+            int bit = 1 << branch(hash, shift);
+            if ((this.dataMap & bit) != 0)
+            {
+                int index = this.dataIndex(bit, width);
+                return Objects.equals(this.content[index], key) ? this.content[index + width - 1] : ifAbsent;
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                ChampNode node = (ChampNode) this.content[this.nodeIndex(bit)];
+                return node.get(key, hash, shift + BITS, width, ifAbsent);
+            }
+            return ifAbsent;
+        }
+
+        @Override
+        public ChampNode updated(Object key, Object value, int hash, int shift, int width, Change change)
+        {
+            int bit = 1 << branch(hash, shift);
+            if ((this.dataMap & bit) != 0)
+            {
+                int index = this.dataIndex(bit, width);
+                Object currentKey = this.content[index];
+                if (Objects.equals(currentKey, key))
+                {
+                    if (width == SET_WIDTH)
+                    {
+                        return this;
+                    }
+                    Object currentValue = this.content[index + 1];
+                    change.setReplaced(currentValue);
+                    if (currentValue == value)
+                    {
+                        return this;
+                    }
+                    Object[] content = this.content.clone();
+                    content[index + 1] = value;
+                    return new BitmapIndexedNode(this.dataMap, this.nodeMap, content);
+                }
+                Object currentValue = this.content[index + width - 1];
+                ChampNode node = mergeTwo(
+                        currentKey, currentValue, ChampNode.hash(currentKey),
+                        key, value, hash,
+                        shift + BITS, width);
+                change.setModified(null);
+                return this.copyAndMigrateFromDataToNode(bit, node, width);
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                int nodeIndex = this.nodeIndex(bit);
+                ChampNode node = (ChampNode) this.content[nodeIndex];
+                ChampNode newNode = node.updated(key, value, hash, shift + BITS, width, change);
+                return newNode == node ? this : this.copyAndSetNode(nodeIndex, newNode);
+            }
+            change.setModified(null);
+            return this.copyAndInsertData(bit, key, value, width);
+        }
+
+        @Override
+        public ChampNode removed(Object key, int hash, int shift, int width, Change change)
+        {
+            int bit = 1 << branch(hash, shift);
+            if ((this.dataMap & bit) != 0)
+            {
+                int index = this.dataIndex(bit, width);
+                if (!Objects.equals(this.content[index], key))
+                {
+                    return this;
+                }
+                change.setModified(this.content[index + width - 1]);
+                return this.copyAndRemoveData(bit, width);
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                int nodeIndex = this.nodeIndex(bit);
+                ChampNode node = (ChampNode) this.content[nodeIndex];
+                ChampNode newNode = node.removed(key, hash, shift + BITS, width, change);
+                if (newNode == node)
+                {
+                    return this;
+                }
+                if (newNode.hasSingleEntry(width))
+                {
+                    if (shift > 0 && this.dataMap == 0 && this.nodeMap == bit)
+                    {
+                        // The parent inlines the remaining entry
+                        return newNode;
+                    }
+                    return this.copyAndMigrateFromNodeToData(bit, newNode, width);
+                }
+                return this.copyAndSetNode(nodeIndex, newNode);
+            }
+            return this;
+        }
+
+        private ChampNode copyAndSetNode(int nodeIndex, ChampNode node)
+        {
+            Object[] content = this.content.clone();
+            content[nodeIndex] = node;
+            return new BitmapIndexedNode(this.dataMap, this.nodeMap, content);
+        }
+
+        private ChampNode copyAndInsertData(int bit, Object key, Object value, int width)
+        {
+            int index = this.dataIndex(bit, width);
+            Object[] content = new Object[this.content.length + width];
+            System.arraycopy(this.content, 0, content, 0, index);
+            System.arraycopy(entry(key, value, width), 0, content, index, width);
+            System.arraycopy(this.content, index, content, index + width, this.content.length - index);
+            return new BitmapIndexedNode(this.dataMap | bit, this.nodeMap, content);
+        }
+
+        private ChampNode copyAndRemoveData(int bit, int width)
+        {
+            int index = this.dataIndex(bit, width);
+            Object[] content = new Object[this.content.length - width];
+            System.arraycopy(this.content, 0, content, 0, index);
+            System.arraycopy(this.content, index + width, content, index, this.content.length - index - width);
+            return new BitmapIndexedNode(this.dataMap ^ bit, this.nodeMap, content);
+        }
+
+        private ChampNode copyAndMigrateFromDataToNode(int bit, ChampNode node, int width)
+        {
+            int dataIndex = this.dataIndex(bit, width);
+            int newNodeMap = this.nodeMap | bit;
+            // Index of the node in the new array, which is width slots shorter before the nodes
+            int nodeIndex = this.content.length - width - index(newNodeMap, bit);
+            Object[] content = new Object[this.content.length - width + 1];
+            System.arraycopy(this.content, 0, content, 0, dataIndex);
+            System.arraycopy(this.content, dataIndex + width, content, dataIndex, nodeIndex - dataIndex);
+            content[nodeIndex] = node;
+            System.arraycopy(this.content, nodeIndex + width, content, nodeIndex + 1, this.content.length - nodeIndex - width);
+            return new BitmapIndexedNode(this.dataMap ^ bit, newNodeMap, content);
+        }
+
+        private ChampNode copyAndMigrateFromNodeToData(int bit, ChampNode node, int width)
+        {
+            int oldNodeIndex = this.nodeIndex(bit);
+            int newDataMap = this.dataMap | bit;
+            int dataIndex = index(newDataMap, bit) * width;
+            Object[] content = new Object[this.content.length - 1 + width];
+            System.arraycopy(this.content, 0, content, 0, dataIndex);
+            content[dataIndex] = node.key(0, width);
+            if (width == MAP_WIDTH)
+            {
+                content[dataIndex + 1] = node.value(0, width);
+            }
+            System.arraycopy(this.content, dataIndex, content, dataIndex + width, oldNodeIndex - dataIndex);
+            System.arraycopy(this.content, oldNodeIndex + 1, content, oldNodeIndex + width, this.content.length - oldNodeIndex - 1);
+            return new BitmapIndexedNode(newDataMap, this.nodeMap ^ bit, content);
+        }
+
+        @Override
+        public int entryCount(int width)
+        {
+            return Integer.bitCount(this.dataMap);
+        }
+
+        @Override
+        public int nodeCount()
+        {
+            return Integer.bitCount(this.nodeMap);
+        }
+
+        @Override
+        public Object key(int index, int width)
+        {
+            return this.content[index * width];
+        }
+
+        @Override
+        public Object value(int index, int width)
+        {
+            return this.content[index * width + width - 1];
+        }
+
+        @Override
+        public ChampNode node(int index)
+        {
+            return (ChampNode) this.content[this.content.length - 1 - index];
+        }
+    }
+
+    private static final class HashCollisionNode extends ChampNode
+    {
+        private final int hash;
+        private final Object[] content;
+
+        private HashCollisionNode(int hash, Object[] content)
+        {
+            this.hash = hash;
+            this.content = content;
+        }
+
+        private int indexOf(Object key, int width)
+        {
+            for (int i = 0; i < this.content.length; i += width)
+            {
+                if (Objects.equals(this.content[i], key))
+                {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public Object get(Object key, int hash, int shift, int width, Object ifAbsent)
+        {
+            int index = this.indexOf(key, width);
+            return index < 0 ? ifAbsent : this.content[index + width - 1];
+        }
+
+        @Override
+        public ChampNode updated(Object key, Object value, int hash, int shift, int width, Change change)
+        {
+            int index = this.indexOf(key, width);
+            if (index < 0)
+            {
+                Object[] content = new Object[this.content.length + width];
+                System.arraycopy(this.content, 0, content, 0, this.content.length);
+                System.arraycopy(entry(key, value, width), 0, content, this.content.length, width);
+                change.setModified(null);
+                return new HashCollisionNode(this.hash, content);
+            }
+            if (width == SET_WIDTH)
+            {
+                return this;
+            }
+            Object currentValue = this.content[index + 1];
+            change.setReplaced(currentValue);
+            if (currentValue == value)
+            {
+                return this;
+            }
+            Object[] content = this.content.clone();
+            content[index + 1] = value;
+            return new HashCollisionNode(this.hash, content);
+        }
+
+        @Override
+        public ChampNode removed(Object key, int hash, int shift, int width, Change change)
+        {
+            int index = this.indexOf(key, width);
+            if (index < 0)
+            {
+                return this;
+            }
+            change.setModified(this.content[index + width - 1]);
+            Object[] content = new Object[this.content.length - width];
+            System.arraycopy(this.content, 0, content, 0, index);
+            System.arraycopy(this.content, index + width, content, index, this.content.length - index - width);
+            return new HashCollisionNode(this.hash, content);
+        }
+
+        @Override
+        public int entryCount(int width)
+        {
+            return this.content.length / width;
+        }
+
+        @Override
+        public int nodeCount()
+        {
+            return 0;
+        }
+
+        @Override
+        public Object key(int index, int width)
+        {
+            return this.content[index * width];
+        }
+
+        @Override
+        public Object value(int index, int width)
+        {
+            return this.content[index * width + width - 1];
+        }
+
+        @Override
+        public ChampNode node(int index)
+        {
+            throw new IndexOutOfBoundsException("A collision node has no sub-nodes");
+        }
+    }
+
+    /**
+     * Iterates over the entries of a trie, depth first, with the inline entries of a node before its sub-nodes.
+     */
+    public abstract static class Cursor<T> implements Iterator<T>
+    {
+        private final int width;
+        private final ChampNode[] nodes = new ChampNode[MAX_DEPTH];
+        private final int[] nextNodes = new int[MAX_DEPTH];
+        private int depth;
+        private ChampNode current;
+        private int nextEntry;
+
+        protected Cursor(ChampNode root, int width)
+        {
+            this.width = width;
+            this.nodes[0] = root;
+            this.current = root;
+        }
+
+        protected abstract T entry(ChampNode node, int index, int width);
+
+        @Override
+        public boolean hasNext()
+        {
+            while (this.nextEntry >= this.current.entryCount(this.width))
+            {
+                if (!this.descend())
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean descend()
+        {
+            while (this.depth >= 0)
+            {
+                ChampNode node = this.nodes[this.depth];
+                int next = this.nextNodes[this.depth];
+                if (next < node.nodeCount())
+                {
+                    this.nextNodes[this.depth] = next + 1;
+                    ChampNode child = node.node(next);
+                    this.depth++;
+                    this.nodes[this.depth] = child;
+                    this.nextNodes[this.depth] = 0;
+                    this.current = child;
+                    this.nextEntry = 0;
+                    return true;
+                }
+                this.depth--;
+            }
+            return false;
+        }
+
+        @Override
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            return this.entry(this.current, this.nextEntry++, this.width);
+        }
+
+        @Override
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.utility.internal;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Control byte operations shared by the SwissTable-style hash tables
+ * ({@link org.eclipse.collections.impl.map.mutable.SwissMap} and {@link org.eclipse.collections.impl.set.mutable.SwissSet}).
+ * <p>
+ * Every slot of such a table has one control byte. An empty slot has the control byte {@code 0}; a full slot has the
+ * high bit set and the low seven bits of the key's spread hash code. The control bytes are read eight at a time as a
+ * little-endian {@code long}, and the eight bytes of a group are compared with SWAR (SIMD within a register)
+ * arithmetic, so a probe only touches a key whose hash fragment matches.
+ * <p>
+ * The control array is {@link #GROUP_WIDTH} bytes longer than the table and its tail mirrors the first bytes of the
+ * table, so that a group may start at any slot without wrapping.
+ */
+public final class SwissTables
+{
+    public static final int GROUP_WIDTH = Long.BYTES;
+
+    public static final byte EMPTY = 0;
+
+    private static final long LOW_BITS = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+    private static final VarHandle GROUP = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private SwissTables()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    /**
+     * Spreads the bits of a hash code so that both the slot index (high bits) and the control byte (low bits) depend
+     * on all of its bits.
+     */
+    public static int spread(int hashCode)
+    {
+        int h = hashCode * 0x9E3779B9;
+        return h ^ h >>> 16;
+    }
+
+    public static int homeSlot(int hash, int mask)
+    {
+        return (hash >>> 7) & mask;
+    }
+
+    public static byte control(int hash)
+    {
+        return (byte) (0x80 | hash & 0x7F);
+    }
+
+    public static boolean isFull(byte control)
+    {
+        return control < 0;
+    }
+
+    public static byte[] newControls(int capacity)
+    {
+        return new byte[capacity + GROUP_WIDTH];
+    }
+
+    public static void setControl(byte[] controls, int slot, byte control)
+    {
+        controls[slot] = control;
+        int capacity = controls.length - GROUP_WIDTH;
+        if (slot < GROUP_WIDTH)
+        {
+            controls[capacity + slot] = control;
+        }
+    }
+
+    /**
+     * Returns the control bytes of the {@link #GROUP_WIDTH} slots starting at {@code slot}.
+     */
+    public static long group(byte[] controls, int slot)
+    {
+        return (long) GROUP.get(controls, slot);
+    }
+
+    /**
+     * Returns a word with every byte set to {@code control}, to be passed to {@link #match(long, long)}.
+     */
+    public static long broadcast(byte control)
+    {
+        return LOW_BITS * (control & 0xFF);
+    }
+
+    /**
+     * Returns a mask with the high bit set in every byte of the group that may equal the broadcast control byte. The
+     * mask can report a false positive in a full slot next to a real match, so callers must still compare the keys.
+     */
+    public static long match(long group, long broadcast)
+    {
+        long x = group ^ broadcast;
+        return (x - LOW_BITS) & ~x & HIGH_BITS;
+    }
+
+    /**
+     * Returns a mask with the high bit set in every byte of the group that is an empty slot.
+     */
+    public static long matchEmpty(long group)
+    {
+        return ~group & HIGH_BITS;
+    }
+
+    /**
+     * Returns the offset within the group of the lowest slot reported by a match mask.
+     */
+    public static int firstOffset(long matches)
+    {
+        return Long.numberOfTrailingZeros(matches) >>> 3;
+    }
+
+    /**
+     * Returns whether the entry in {@code slot}, whose home slot is {@code home}, may move back into the empty
+     * {@code hole}. Used by backward-shift deletion, which keeps every probe sequence free of holes without tombstones.
+     */
+    public static boolean canShiftInto(int home, int hole, int slot, int mask)
+    {
+        return ((slot - home) & mask) >= ((slot - hole) & mask);
+    }
+
+    /**
+     * Returns the power of two table capacity needed to hold {@code size} entries without exceeding the load factor.
+     */
+    public static int capacityFor(int size, float loadFactor)
+    {
+        int capacity = GROUP_WIDTH;
+        while (maxSize(capacity, loadFactor) < size)
+        {
+            if (capacity >= 1 << 30)
+            {
+                throw new IllegalArgumentException("Capacity is too large: " + size);
+            }
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * Returns the number of entries a table of {@code capacity} slots can hold. At least one slot is always left empty
+     * so that every probe terminates.
+     */
+    public static int maxSize(int capacity, float loadFactor)
+    {
+        return Math.min(capacity - 1, (int) (capacity * loadFactor));
+    }
+}
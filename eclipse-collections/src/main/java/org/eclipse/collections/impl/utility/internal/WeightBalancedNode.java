@@ -0,0 +1,563 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.utility.internal;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A node of a persistent weight-balanced binary search tree, the tree shared by
+ * {@link org.eclipse.collections.impl.map.sorted.immutable.ImmutableBalancedTreeMap} and
+ * {@link org.eclipse.collections.impl.set.sorted.immutable.ImmutableBalancedTreeSet}.
+ * <p>
+ * Every node caches the size of its subtree, which keeps the tree balanced (neither subtree of a node may outweigh
+ * the other by more than a factor of three) and gives O(log n) rank and select. The empty tree is {@code null}, so
+ * all operations are static and accept a {@code null} node.
+ * <p>
+ * Nodes are never modified once published. An update copies only the O(log n) nodes on the path to the changed key
+ * and shares every other node with the original tree. Range operations ({@link #head}, {@link #tail}, {@link #take}
+ * and {@link #drop}) rebuild only the spine along the split key by joining the shared subtrees on either side, so
+ * they take O(log n) time as well.
+ * <p>
+ * A {@code null} comparator means natural ordering. Set elements are stored as keys with a {@code null} value.
+ *
+ * @since 12.0
+ */
+public final class WeightBalancedNode
+{
+    private static final int DELTA = 3;
+    private static final int RATIO = 2;
+
+    private final Object key;
+    private final Object value;
+    private final WeightBalancedNode left;
+    private final WeightBalancedNode right;
+    private final int size;
+
+    private WeightBalancedNode(Object key, Object value, WeightBalancedNode left, WeightBalancedNode right)
+    {
+        this.key = key;
+        this.value = value;
+        this.left = left;
+        this.right = right;
+        this.size = WeightBalancedNode.size(left) + WeightBalancedNode.size(right) + 1;
+    }
+
+    public Object getKey()
+    {
+        return this.key;
+    }
+
+    public Object getValue()
+    {
+        return this.value;
+    }
+
+    public WeightBalancedNode getLeft()
+    {
+        return this.left;
+    }
+
+    public WeightBalancedNode getRight()
+    {
+        return this.right;
+    }
+
+    public static int size(WeightBalancedNode node)
+    {
+        return node == null ? 0 : node.size;
+    }
+
+    public static int compare(Comparator<Object> comparator, Object key1, Object key2)
+    {
+        return comparator == null ? ((Comparable<Object>) key1).compareTo(key2) : comparator.compare(key1, key2);
+    }
+
+    /**
+     * Builds a perfectly balanced tree from keys which are already sorted and unique. The values may be {@code null}.
+     */
+    public static WeightBalancedNode fromSorted(Object[] keys, Object[] values, int from, int to)
+    {
+        if (from >= to)
+        {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new WeightBalancedNode(
+                keys[middle],
+                values == null ? null : values[middle],
+                WeightBalancedNode.fromSorted(keys, values, from, middle),
+                WeightBalancedNode.fromSorted(keys, values, middle + 1, to));
+    }
+
+    /**
+     * Sorts the keys and builds a tree from them. Like a TreeMap, it keeps the first of several equal keys and the value
+     * of the last one.
+     */
+    public static WeightBalancedNode fromUnsorted(Comparator<Object> comparator, Object[] keys, Object[] values)
+    {
+        int length = keys.length;
+        if (length == 1)
+        {
+            WeightBalancedNode.compare(comparator, keys[0], keys[0]);
+        }
+        Integer[] order = new Integer[length];
+        for (int i = 0; i < length; i++)
+        {
+            order[i] = i;
+        }
+        Arrays.sort(order, (index1, index2) -> WeightBalancedNode.compare(comparator, keys[index1], keys[index2]));
+        Object[] sortedKeys = new Object[length];
+        Object[] sortedValues = values == null ? null : new Object[length];
+        int count = 0;
+        for (int i = 0; i < length; i++)
+        {
+            Object key = keys[order[i]];
+            if (count == 0 || WeightBalancedNode.compare(comparator, sortedKeys[count - 1], key) != 0)
+            {
+                sortedKeys[count++] = key;
+            }
+            if (values != null)
+            {
+                sortedValues[count - 1] = values[order[i]];
+            }
+        }
+        return WeightBalancedNode.fromSorted(sortedKeys, sortedValues, 0, count);
+    }
+
+    public static WeightBalancedNode find(WeightBalancedNode node, Object key, Comparator<Object> comparator)
+    {
+        WeightBalancedNode current = node;
+        while (current != null)
+        {
+            int compare = WeightBalancedNode.compare(comparator, key, current.key);
+            if (compare == 0)
+            {
+                return current;
+            }
+            current = compare < 0 ? current.left : current.right;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the tree with the key mapped to the value. The node itself is returned if the key is already mapped to
+     * the identical value.
+     */
+    public static WeightBalancedNode put(WeightBalancedNode node, Object key, Object value, Comparator<Object> comparator)
+    {
+        if (node == null)
+        {
+            // Like TreeMap, check the type of the key (and for null) even when the tree is empty
+            WeightBalancedNode.compare(comparator, key, key);
+            return new WeightBalancedNode(key, value, null, null);
+        }
+        int compare = WeightBalancedNode.compare(comparator, key, node.key);
+        if (compare < 0)
+        {
+            WeightBalancedNode left = WeightBalancedNode.put(node.left, key, value, comparator);
+            return left == node.left ? node : WeightBalancedNode.balance(node.key, node.value, left, node.right);
+        }
+        if (compare > 0)
+        {
+            WeightBalancedNode right = WeightBalancedNode.put(node.right, key, value, comparator);
+            return right == node.right ? node : WeightBalancedNode.balance(node.key, node.value, node.left, right);
+        }
+        if (node.value == value)
+        {
+            return node;
+        }
+        return new WeightBalancedNode(node.key, value, node.left, node.right);
+    }
+
+    /**
+     * Returns the tree without the key. The node itself is returned if the key is absent.
+     */
+    public static WeightBalancedNode remove(WeightBalancedNode node, Object key, Comparator<Object> comparator)
+    {
+        if (node == null)
+        {
+            return null;
+        }
+        int compare = WeightBalancedNode.compare(comparator, key, node.key);
+        if (compare < 0)
+        {
+            WeightBalancedNode left = WeightBalancedNode.remove(node.left, key, comparator);
+            return left == node.left ? node : WeightBalancedNode.balance(node.key, node.value, left, node.right);
+        }
+        if (compare > 0)
+        {
+            WeightBalancedNode right = WeightBalancedNode.remove(node.right, key, comparator);
+            return right == node.right ? node : WeightBalancedNode.balance(node.key, node.value, node.left, right);
+        }
+        return WeightBalancedNode.glue(node.left, node.right);
+    }
+
+    public static WeightBalancedNode first(WeightBalancedNode node)
+    {
+        if (node == null)
+        {
+            throw new NoSuchElementException();
+        }
+        WeightBalancedNode current = node;
+        while (current.left != null)
+        {
+            current = current.left;
+        }
+        return current;
+    }
+
+    public static WeightBalancedNode last(WeightBalancedNode node)
+    {
+        if (node == null)
+        {
+            throw new NoSuchElementException();
+        }
+        WeightBalancedNode current = node;
+        while (current.right != null)
+        {
+            current = current.right;
+        }
+        return current;
+    }
+
+    /**
+     * Returns the number of keys strictly less than the given key.
+     */
+    public static int rank(WeightBalancedNode node, Object key, Comparator<Object> comparator)
+    {
+        int rank = 0;
+        WeightBalancedNode current = node;
+        while (current != null)
+        {
+            int compare = WeightBalancedNode.compare(comparator, key, current.key);
+            if (compare <= 0)
+            {
+                if (compare == 0)
+                {
+                    return rank + WeightBalancedNode.size(current.left);
+                }
+                current = current.left;
+            }
+            else
+            {
+                rank += WeightBalancedNode.size(current.left) + 1;
+                current = current.right;
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Returns the node holding the key at the given position in sorted order.
+     */
+    public static WeightBalancedNode select(WeightBalancedNode node, int index)
+    {
+        if (index < 0 || index >= WeightBalancedNode.size(node))
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: " + WeightBalancedNode.size(node));
+        }
+        WeightBalancedNode current = node;
+        int remaining = index;
+        while (true)
+        {
+            int leftSize = WeightBalancedNode.size(current.left);
+            if (remaining < leftSize)
+            {
+                current = current.left;
+            }
+            else if (remaining == leftSize)
+            {
+                return current;
+            }
+            else
+            {
+                remaining -= leftSize + 1;
+                current = current.right;
+            }
+        }
+    }
+
+    /**
+     * Returns the tree of the keys less than the given key, or less than or equal to it if {@code inclusive}.
+     */
+    public static WeightBalancedNode head(WeightBalancedNode node, Object toKey, boolean inclusive, Comparator<Object> comparator)
+    {
+        if (node == null)
+        {
+            return null;
+        }
+        int compare = WeightBalancedNode.compare(comparator, toKey, node.key);
+        if (compare < 0)
+        {
+            return WeightBalancedNode.head(node.left, toKey, inclusive, comparator);
+        }
+        if (compare > 0)
+        {
+            WeightBalancedNode right = WeightBalancedNode.head(node.right, toKey, inclusive, comparator);
+            return right == node.right ? node : WeightBalancedNode.link(node.key, node.value, node.left, right);
+        }
+        return inclusive ? WeightBalancedNode.insertMax(node.key, node.value, node.left) : node.left;
+    }
+
+    /**
+     * Returns the tree of the keys greater than or equal to the given key, or greater than it if not {@code inclusive}.
+     */
+    public static WeightBalancedNode tail(WeightBalancedNode node, Object fromKey, boolean inclusive, Comparator<Object> comparator)
+    {
+        if (node == null)
+        {
+            return null;
+        }
+        int compare = WeightBalancedNode.compare(comparator, fromKey, node.key);
+        if (compare > 0)
+        {
+            return WeightBalancedNode.tail(node.right, fromKey, inclusive, comparator);
+        }
+        if (compare < 0)
+        {
+            WeightBalancedNode left = WeightBalancedNode.tail(node.left, fromKey, inclusive, comparator);
+            return left == node.left ? node : WeightBalancedNode.link(node.key, node.value, left, node.right);
+        }
+        return inclusive ? WeightBalancedNode.insertMin(node.key, node.value, node.right) : node.right;
+    }
+
+    /**
+     * Returns the tree of the first {@code count} keys.
+     */
+    public static WeightBalancedNode take(WeightBalancedNode node, int count)
+    {
+        if (count <= 0)
+        {
+            return null;
+        }
+        if (count >= WeightBalancedNode.size(node))
+        {
+            return node;
+        }
+        int leftSize = WeightBalancedNode.size(node.left);
+        if (count <= leftSize)
+        {
+            return WeightBalancedNode.take(node.left, count);
+        }
+        return WeightBalancedNode.link(node.key, node.value, node.left, WeightBalancedNode.take(node.right, count - leftSize - 1));
+    }
+
+    /**
+     * Returns the tree without the first {@code count} keys.
+     */
+    public static WeightBalancedNode drop(WeightBalancedNode node, int count)
+    {
+        if (count <= 0)
+        {
+            return node;
+        }
+        if (count >= WeightBalancedNode.size(node))
+        {
+            return null;
+        }
+        int leftSize = WeightBalancedNode.size(node.left);
+        if (count > leftSize)
+        {
+            return WeightBalancedNode.drop(node.right, count - leftSize - 1);
+        }
+        return WeightBalancedNode.link(node.key, node.value, WeightBalancedNode.drop(node.left, count), node.right);
+    }
+
+    /**
+     * Joins two trees with a key between them, rebalancing only along the spine of the heavier tree.
+     */
+    private static WeightBalancedNode link(Object key, Object value, WeightBalancedNode left, WeightBalancedNode right)
+    {
+        if (left == null)
+        {
+            return WeightBalancedNode.insertMin(key, value, right);
+        }
+        if (right == null)
+        {
+            return WeightBalancedNode.insertMax(key, value, left);
+        }
+        if (DELTA * left.size < right.size)
+        {
+            return WeightBalancedNode.balance(right.key, right.value, WeightBalancedNode.link(key, value, left, right.left), right.right);
+        }
+        if (DELTA * right.size < left.size)
+        {
+            return WeightBalancedNode.balance(left.key, left.value, left.left, WeightBalancedNode.link(key, value, left.right, right));
+        }
+        return new WeightBalancedNode(key, value, left, right);
+    }
+
+    private static WeightBalancedNode insertMin(Object key, Object value, WeightBalancedNode node)
+    {
+        if (node == null)
+        {
+            return new WeightBalancedNode(key, value, null, null);
+        }
+        return WeightBalancedNode.balance(node.key, node.value, WeightBalancedNode.insertMin(key, value, node.left), node.right);
+    }
+
+    private static WeightBalancedNode insertMax(Object key, Object value, WeightBalancedNode node)
+    {
+        if (node == null)
+        {
+            return new WeightBalancedNode(key, value, null, null);
+        }
+        return WeightBalancedNode.balance(node.key, node.value, node.left, WeightBalancedNode.insertMax(key, value, node.right));
+    }
+
+    /**
+     * Joins two trees whose sizes are already balanced with respect to each other, where every key of the left tree
+     * is less than every key of the right tree.
+     */
+    private static WeightBalancedNode glue(WeightBalancedNode left, WeightBalancedNode right)
+    {
+        if (left == null)
+        {
+            return right;
+        }
+        if (right == null)
+        {
+            return left;
+        }
+        if (left.size > right.size)
+        {
+            WeightBalancedNode max = WeightBalancedNode.last(left);
+            return WeightBalancedNode.balance(max.key, max.value, WeightBalancedNode.removeMax(left), right);
+        }
+        WeightBalancedNode min = WeightBalancedNode.first(right);
+        return WeightBalancedNode.balance(min.key, min.value, left, WeightBalancedNode.removeMin(right));
+    }
+
+    private static WeightBalancedNode removeMin(WeightBalancedNode node)
+    {
+        if (node.left == null)
+        {
+            return node.right;
+        }
+        return WeightBalancedNode.balance(node.key, node.value, WeightBalancedNode.removeMin(node.left), node.right);
+    }
+
+    private static WeightBalancedNode removeMax(WeightBalancedNode node)
+    {
+        if (node.right == null)
+        {
+            return node.left;
+        }
+        return WeightBalancedNode.balance(node.key, node.value, node.left, WeightBalancedNode.removeMax(node.right));
+    }
+
+    /**
+     * Creates a node from two subtrees which were balanced before a single key was added to or removed from one of
+     * them, restoring the balance with a single or double rotation.
+     */
+    private static WeightBalancedNode balance(Object key, Object value, WeightBalancedNode left, WeightBalancedNode right)
+    {
+        int leftSize = WeightBalancedNode.size(left);
+        int rightSize = WeightBalancedNode.size(right);
+        if (leftSize + rightSize <= 1)
+        {
+            return new WeightBalancedNode(key, value, left, right);
+        }
+        if (rightSize > DELTA * leftSize)
+        {
+            if (WeightBalancedNode.size(right.left) < RATIO * WeightBalancedNode.size(right.right))
+            {
+                return new WeightBalancedNode(
+                        right.key,
+                        right.value,
+                        new WeightBalancedNode(key, value, left, right.left),
+                        right.right);
+            }
+            WeightBalancedNode middle = right.left;
+            return new WeightBalancedNode(
+                    middle.key,
+                    middle.value,
+                    new WeightBalancedNode(key, value, left, middle.left),
+                    new WeightBalancedNode(right.key, right.value, middle.right, right.right));
+        }
+        if (leftSize > DELTA * rightSize)
+        {
+            if (WeightBalancedNode.size(left.right) < RATIO * WeightBalancedNode.size(left.left))
+            {
+                return new WeightBalancedNode(
+                        left.key,
+                        left.value,
+                        left.left,
+                        new WeightBalancedNode(key, value, left.right, right));
+            }
+            WeightBalancedNode middle = left.right;
+            return new WeightBalancedNode(
+                    middle.key,
+                    middle.value,
+                    new WeightBalancedNode(left.key, left.value, left.left, middle.left),
+                    new WeightBalancedNode(key, value, middle.right, right));
+        }
+        return new WeightBalancedNode(key, value, left, right);
+    }
+
+    /**
+     * An in-order iterator over the nodes of a tree, which keeps the path to the next node on an explicit stack.
+     */
+    public abstract static class Cursor<T> implements Iterator<T>
+    {
+        private WeightBalancedNode[] stack = new WeightBalancedNode[16];
+        private int depth;
+
+        protected Cursor(WeightBalancedNode root)
+        {
+            this.pushLeft(root);
+        }
+
+        protected abstract T entry(WeightBalancedNode node);
+
+        private void pushLeft(WeightBalancedNode node)
+        {
+            WeightBalancedNode current = node;
+            while (current != null)
+            {
+                if (this.depth == this.stack.length)
+                {
+                    this.stack = Arrays.copyOf(this.stack, this.depth << 1);
+                }
+                this.stack[this.depth++] = current;
+                current = current.left;
+            }
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.depth > 0;
+        }
+
+        @Override
+        public T next()
+        {
+            if (this.depth == 0)
+            {
+                throw new NoSuchElementException();
+            }
+            WeightBalancedNode node = this.stack[--this.depth];
+            this.stack[this.depth] = null;
+            this.pushLeft(node.right);
+            return this.entry(node);
+        }
+
+        @Override
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot remove from an immutable tree");
+        }
+    }
+}
@@ -13,9 +13,12 @@
  * <p>
  *     All the iteration patterns in this package are internal. It is used by iterators specialized for various collections.
  * <p>
- *     This package contains 10 Iteration implementations:
+ *     This package contains 13 Iteration implementations:
  * <ul>
  *     <li>
+ *          {@link org.eclipse.collections.impl.utility.internal.ChampNode} - the persistent hash trie node shared by ImmutableChampMap and ImmutableChampSet.
+ *     </li>
+ *     <li>
  *          {@link org.eclipse.collections.impl.utility.internal.DefaultSpeciesNewStrategy} - creates a new instance of a collection based on the class type of collection.
  *     </li>
  *     <li>
@@ -45,6 +48,12 @@
  *     <li>
  *          {@link org.eclipse.collections.impl.utility.internal.SortedSetIterables} - a class provides for sortedSet algebra operations.
  *     </li>
+ *     <li>
+ *          {@link org.eclipse.collections.impl.utility.internal.SwissTables} - control byte operations shared by the open-addressing SwissMap and SwissSet.
+ *     </li>
+ *     <li>
+ *          {@link org.eclipse.collections.impl.utility.internal.WeightBalancedNode} - the persistent weight-balanced tree node shared by ImmutableBalancedTreeMap and ImmutableBalancedTreeSet.
+ *     </li>
  * </ul>
  */
 package org.eclipse.collections.impl.utility.internal;
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.ZZ_Result;
+
+/**
+ * A removal racing with a resize must either happen in the old table before its bucket is transferred, or in the new
+ * table afterwards; the removed key can never be resurrected by the transfer.
+ */
+@JCStressTest
+@Outcome(id = "true, false", expect = Expect.ACCEPTABLE)
+@Outcome(expect = Expect.FORBIDDEN)
+@State
+public class ConcurrentHashMapResizeRemoveTest
+{
+    private static final int KEY_COUNT = 48;
+
+    private final ConcurrentHashMap<Integer, Integer> map = new ConcurrentHashMap<>(1);
+
+    public ConcurrentHashMapResizeRemoveTest()
+    {
+        this.map.put(-1, -1);
+    }
+
+    @Actor
+    public void grow()
+    {
+        for (int i = 0; i < KEY_COUNT; i++)
+        {
+            this.map.put(i, i);
+        }
+    }
+
+    @Actor
+    public void remove(ZZ_Result r)
+    {
+        r.r1 = this.map.remove(-1) != null;
+    }
+
+    @Arbiter
+    public void after(ZZ_Result r)
+    {
+        r.r2 = this.map.containsKey(-1) || this.map.size() != KEY_COUNT;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+/**
+ * Two writers grow a small map through several resizes at the same time, so each of them takes ranges of the table
+ * from the other's resize. No entry may be lost or duplicated in the transfer.
+ */
+@JCStressTest
+@Outcome(id = "128, 128", expect = Expect.ACCEPTABLE)
+@Outcome(expect = Expect.FORBIDDEN)
+@State
+public class ConcurrentHashMapUnsafeCooperativeResizeTest
+{
+    private static final int KEYS_PER_ACTOR = 64;
+
+    private final ConcurrentHashMapUnsafe<Integer, Integer> map = new ConcurrentHashMapUnsafe<>(1);
+
+    @Actor
+    public void first()
+    {
+        for (int i = 0; i < KEYS_PER_ACTOR; i++)
+        {
+            this.map.put(i, i);
+        }
+    }
+
+    @Actor
+    public void second()
+    {
+        for (int i = KEYS_PER_ACTOR; i < KEYS_PER_ACTOR * 2; i++)
+        {
+            this.map.put(i, i);
+        }
+    }
+
+    @Arbiter
+    public void after(II_Result r)
+    {
+        int found = 0;
+        for (int i = 0; i < KEYS_PER_ACTOR * 2; i++)
+        {
+            Integer value = this.map.get(i);
+            if (value != null && value == i)
+            {
+                found++;
+            }
+        }
+        r.r1 = found;
+        r.r2 = this.map.size();
+    }
+}
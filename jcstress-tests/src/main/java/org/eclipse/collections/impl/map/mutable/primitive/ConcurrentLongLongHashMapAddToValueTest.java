@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable.primitive;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.JJ_Result;
+
+@JCStressTest
+@Outcome(id = "2, 4", expect = Expect.ACCEPTABLE)
+@Outcome(expect = Expect.FORBIDDEN)
+@State
+public class ConcurrentLongLongHashMapAddToValueTest
+{
+    // a capacity of 1 forces the second actor's keys to trigger a resize while the first one is adding
+    private final ConcurrentLongLongHashMap map = new ConcurrentLongLongHashMap(1);
+
+    @Actor
+    public void addToExisting()
+    {
+        this.map.addToValue(1L, 1L);
+        this.map.addToValue(17L, 2L);
+    }
+
+    @Actor
+    public void addToExistingAndResize()
+    {
+        this.map.addToValue(1L, 1L);
+        this.map.addToValue(17L, 2L);
+        for (long i = 2L; i < 10L; i++)
+        {
+            this.map.put(i, i);
+        }
+    }
+
+    @Arbiter
+    public void after(JJ_Result r)
+    {
+        r.r1 = this.map.get(1L);
+        r.r2 = this.map.get(17L);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.multimap.list;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.III_Result;
+
+/**
+ * Two writers group values under the same keys at the same time, as a parallel groupBy does. Both compare-and-set
+ * the same map entries, and a writer that loses must retry on top of the winner's values instead of dropping them.
+ */
+@JCStressTest
+@Outcome(id = "8, 4, 4", expect = Expect.ACCEPTABLE)
+@Outcome(expect = Expect.FORBIDDEN)
+@State
+public class ConcurrentListMultimapPutTest
+{
+    private final ConcurrentListMultimap<Integer, Integer> multimap = ConcurrentListMultimap.newMultimap();
+
+    @Actor
+    public void first()
+    {
+        for (int i = 0; i < 4; i++)
+        {
+            this.multimap.put(i % 2, i);
+        }
+    }
+
+    @Actor
+    public void second()
+    {
+        for (int i = 4; i < 8; i++)
+        {
+            this.multimap.put(i % 2, i);
+        }
+    }
+
+    @Arbiter
+    public void after(III_Result r)
+    {
+        r.r1 = this.multimap.size();
+        r.r2 = this.multimap.get(0).size();
+        r.r3 = this.multimap.get(1).size();
+    }
+}
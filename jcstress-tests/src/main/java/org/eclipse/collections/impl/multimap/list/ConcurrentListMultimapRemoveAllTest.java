@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.multimap.list;
+
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+/**
+ * A putAll racing with a removeAll of the same key is applied either completely before the removal, so the removed
+ * values include it, or completely after it. No value may be split between the two or lost.
+ */
+@JCStressTest
+@Outcome(id = "3, 0", expect = Expect.ACCEPTABLE, desc = "putAll before removeAll")
+@Outcome(id = "1, 2", expect = Expect.ACCEPTABLE, desc = "removeAll before putAll")
+@Outcome(expect = Expect.FORBIDDEN)
+@State
+public class ConcurrentListMultimapRemoveAllTest
+{
+    private final ConcurrentListMultimap<String, Integer> multimap = ConcurrentListMultimap.newMultimap();
+
+    public ConcurrentListMultimapRemoveAllTest()
+    {
+        this.multimap.put("key", 0);
+    }
+
+    @Actor
+    public void putAll()
+    {
+        this.multimap.putAll("key", FastList.newListWith(1, 2));
+    }
+
+    @Actor
+    public void removeAll(II_Result r)
+    {
+        r.r1 = this.multimap.removeAll("key").size();
+    }
+
+    @Arbiter
+    public void after(II_Result r)
+    {
+        r.r2 = this.multimap.size() == this.multimap.get("key").size() ? this.multimap.size() : -1;
+    }
+}
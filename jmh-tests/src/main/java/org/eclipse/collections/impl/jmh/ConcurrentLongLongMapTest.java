@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.map.primitive.MutableLongLongMap;
+import org.eclipse.collections.impl.map.mutable.primitive.ConcurrentLongLongHashMap;
+import org.eclipse.collections.impl.map.mutable.primitive.LongLongHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+@Fork(2)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class ConcurrentLongLongMapTest
+{
+    private static final int KEY_COUNT = 100_000;
+
+    @Param({"synchronized", "concurrent"})
+    public String type;
+
+    private MutableLongLongMap map;
+    private long[] keys;
+
+    @Setup
+    public void setUp()
+    {
+        this.map = "concurrent".equals(this.type)
+                ? new ConcurrentLongLongHashMap(KEY_COUNT)
+                : new LongLongHashMap(KEY_COUNT).asSynchronized();
+
+        Random random = new Random(0x123456789ABCDL);
+        this.keys = new long[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++)
+        {
+            this.keys[i] = random.nextLong();
+            this.map.put(this.keys[i], i);
+        }
+    }
+
+    private long randomKey()
+    {
+        return this.keys[ThreadLocalRandom.current().nextInt(KEY_COUNT)];
+    }
+
+    @Benchmark
+    public long get()
+    {
+        return this.map.get(this.randomKey());
+    }
+
+    @Benchmark
+    public long addToValue()
+    {
+        return this.map.addToValue(this.randomKey(), 1L);
+    }
+
+    @Benchmark
+    public long getIfAbsentPut()
+    {
+        return this.map.getIfAbsentPut(this.randomKey(), 0L);
+    }
+
+    @Benchmark
+    public long mixed()
+    {
+        long key = this.randomKey();
+        if ((key & 7L) == 0L)
+        {
+            return this.map.addToValue(key, 1L);
+        }
+        return this.map.get(key);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.multimap.MutableMultimap;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.multimap.list.ConcurrentListMultimap;
+import org.eclipse.collections.impl.multimap.list.MultiReaderFastListMultimap;
+import org.eclipse.collections.impl.multimap.list.SynchronizedPutFastListMultimap;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.junit.Assert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the concurrent multimaps as the target of a parallel groupBy. With few keys every writer hits the same
+ * value collections, which is where a lock per put hurts most.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class ConcurrentMultimapGroupByTest
+{
+    private static final int SIZE = 1_000_000;
+    private static final int BATCH_SIZE = 10_000;
+
+    @Param({"2", "100", "10000"})
+    public int keyCount;
+
+    private final MutableList<Integer> integers = Interval.oneTo(SIZE).toList();
+
+    private ExecutorService executorService;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        this.executorService = Executors.newWorkStealingPool();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException
+    {
+        this.executorService.shutdownNow();
+        this.executorService.awaitTermination(1L, TimeUnit.SECONDS);
+    }
+
+    private void groupBy(MutableMultimap<Integer, Integer> target)
+    {
+        int keys = this.keyCount;
+        MutableMultimap<Integer, Integer> result =
+                ParallelIterate.groupBy(this.integers, each -> each % keys, target, BATCH_SIZE, this.executorService);
+        Assert.assertEquals(keys, result.sizeDistinct());
+        Assert.assertEquals(SIZE, result.size());
+    }
+
+    @Benchmark
+    public void groupBy_parallel_eager_concurrent_ec()
+    {
+        this.groupBy(ConcurrentListMultimap.newMultimap());
+    }
+
+    @Benchmark
+    public void groupBy_parallel_eager_synchronized_put_ec()
+    {
+        this.groupBy(SynchronizedPutFastListMultimap.newMultimap());
+    }
+
+    @Benchmark
+    public void groupBy_parallel_eager_multi_reader_ec()
+    {
+        this.groupBy(MultiReaderFastListMultimap.newMultimap());
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.junit.Assert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares lazy select/collect pipelines over a FastList, which run as one fused loop, with the same pipelines over an
+ * unmodifiable view of the list, which cannot be fused and run through the nested stage procedures.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class FusedLazyPipelineTest
+{
+    private static final int SIZE = 1_000_000;
+    private final FastList<Integer> integersEC = FastList.newList(Interval.oneTo(SIZE));
+
+    private static long sumOfPipeline(LazyIterable<Integer> lazy)
+    {
+        return lazy.select(each -> each % 2 == 0)
+                .collect(each -> each + 1)
+                .select(each -> each % 3 == 0)
+                .sumOfInt(Integer::intValue);
+    }
+
+    @Benchmark
+    public void select_collect_select_sum_fused()
+    {
+        long sum = FusedLazyPipelineTest.sumOfPipeline(this.integersEC.asLazy());
+        Assert.assertEquals(83_333_666_667L, sum);
+    }
+
+    @Benchmark
+    public void select_collect_select_sum_nested()
+    {
+        long sum = FusedLazyPipelineTest.sumOfPipeline(this.integersEC.asUnmodifiable().asLazy());
+        Assert.assertEquals(83_333_666_667L, sum);
+    }
+
+    @Benchmark
+    public void select_collect_detect_fused()
+    {
+        Integer result = this.integersEC.asLazy()
+                .select(each -> each % 2 == 0)
+                .collect(each -> each * 2)
+                .detect(each -> each > SIZE);
+        Assert.assertEquals(Integer.valueOf(SIZE + 4), result);
+    }
+
+    @Benchmark
+    public void select_collect_detect_nested()
+    {
+        Integer result = this.integersEC.asUnmodifiable().asLazy()
+                .select(each -> each % 2 == 0)
+                .collect(each -> each * 2)
+                .detect(each -> each > SIZE);
+        Assert.assertEquals(Integer.valueOf(SIZE + 4), result);
+    }
+
+    @Benchmark
+    public void select_collect_anySatisfy_fused()
+    {
+        boolean result = this.integersEC.asLazy()
+                .select(each -> each % 2 == 0)
+                .collect(each -> each * 2)
+                .anySatisfy(each -> each < 0);
+        Assert.assertFalse(result);
+    }
+
+    @Benchmark
+    public void select_collect_anySatisfy_nested()
+    {
+        boolean result = this.integersEC.asUnmodifiable().asLazy()
+                .select(each -> each % 2 == 0)
+                .collect(each -> each * 2)
+                .anySatisfy(each -> each < 0);
+        Assert.assertFalse(result);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.MultiReaderFastList;
+import org.eclipse.collections.impl.set.mutable.MultiReaderUnifiedSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares read throughput of the multi-reader collections guarded by a ReentrantReadWriteLock with the ones guarded
+ * by a StampedLock, where cheap reads are optimistic. Every thread reads the same collection, so with the read-write
+ * lock all of them update the same lock word. {@link #main(String[])} runs the comparison at 1 to 64 threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+@Fork(2)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class MultiReaderReadScalingTest
+{
+    private static final int SIZE = 1_000;
+
+    @Param({"readWriteLock", "stampedLock"})
+    public String type;
+
+    private MultiReaderFastList<Integer> list;
+    private MultiReaderUnifiedSet<Integer> set;
+
+    public static void main(String[] args) throws RunnerException
+    {
+        for (int threads : new int[]{1, 2, 4, 8, 16, 32, 64})
+        {
+            Options options = new OptionsBuilder()
+                    .include(".*" + MultiReaderReadScalingTest.class.getSimpleName() + ".*")
+                    .threads(threads)
+                    .build();
+            new Runner(options).run();
+        }
+    }
+
+    @Setup
+    public void setUp()
+    {
+        Interval elements = Interval.zeroTo(SIZE - 1);
+        boolean stamped = "stampedLock".equals(this.type);
+        this.list = stamped ? MultiReaderFastList.newOptimisticList(elements) : MultiReaderFastList.newList(elements);
+        this.set = stamped ? MultiReaderUnifiedSet.newOptimisticSet(elements) : MultiReaderUnifiedSet.newSet(elements);
+    }
+
+    private int randomIndex()
+    {
+        return ThreadLocalRandom.current().nextInt(SIZE);
+    }
+
+    @Benchmark
+    public int list_size()
+    {
+        return this.list.size();
+    }
+
+    @Benchmark
+    public Integer list_get()
+    {
+        return this.list.get(this.randomIndex());
+    }
+
+    @Benchmark
+    public boolean list_contains()
+    {
+        return this.list.contains(this.randomIndex());
+    }
+
+    @Benchmark
+    public boolean set_contains()
+    {
+        return this.set.contains(this.randomIndex());
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.set.primitive.MutableLongSet;
+import org.eclipse.collections.impl.map.mutable.primitive.LongLongHashMap;
+import org.eclipse.collections.impl.map.mutable.primitive.OffHeapLongLongHashMap;
+import org.eclipse.collections.impl.set.mutable.primitive.LongHashSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link LongLongHashMap} with {@link OffHeapLongLongHashMap} on the same key set as
+ * {@link LongLongMapLargeStressTest}. Run with {@code -prof gc} to compare heap allocation and GC time as well.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class OffHeapLongLongMapLargeStressTest
+{
+    private static final int KEY_COUNT = 400_000;
+    private static final int MAP_SIZE = 1_000_000;
+
+    private LongLongHashMap onHeap;
+    private OffHeapLongLongHashMap offHeap;
+    private long[] keys;
+
+    @Setup
+    public void setUp()
+    {
+        this.onHeap = new LongLongHashMap(MAP_SIZE);
+        this.offHeap = new OffHeapLongLongHashMap(MAP_SIZE);
+
+        Random random = new Random(0x123456789ABCDL);
+        MutableLongSet set = new LongHashSet(KEY_COUNT);
+        while (set.size() < KEY_COUNT)
+        {
+            set.add(random.nextLong());
+        }
+        this.keys = set.toArray();
+
+        for (int i = 0; i < KEY_COUNT; i++)
+        {
+            this.onHeap.put(this.keys[i], 5);
+            this.offHeap.put(this.keys[i], 5);
+        }
+
+        this.shuffle(this.keys, random);
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        this.offHeap.close();
+    }
+
+    @Benchmark
+    public void onHeapGet()
+    {
+        for (int i = 0; i < KEY_COUNT; i++)
+        {
+            if (this.onHeap.get(this.keys[i]) == 0)
+            {
+                throw new AssertionError(this.keys[i] + " not in map");
+            }
+        }
+    }
+
+    @Benchmark
+    public void offHeapGet()
+    {
+        for (int i = 0; i < KEY_COUNT; i++)
+        {
+            if (this.offHeap.get(this.keys[i]) == 0)
+            {
+                throw new AssertionError(this.keys[i] + " not in map");
+            }
+        }
+    }
+
+    @Benchmark
+    public void onHeapPut()
+    {
+        LongLongHashMap newMap = new LongLongHashMap(MAP_SIZE);
+        for (int i = 0; i < KEY_COUNT; i++)
+        {
+            newMap.put(this.keys[i], 4);
+        }
+        if (newMap.size() != KEY_COUNT)
+        {
+            throw new AssertionError("size is " + newMap.size());
+        }
+    }
+
+    @Benchmark
+    public void offHeapPut()
+    {
+        try (OffHeapLongLongHashMap newMap = new OffHeapLongLongHashMap(MAP_SIZE))
+        {
+            for (int i = 0; i < KEY_COUNT; i++)
+            {
+                newMap.put(this.keys[i], 4);
+            }
+            if (newMap.size() != KEY_COUNT)
+            {
+                throw new AssertionError("size is " + newMap.size());
+            }
+        }
+    }
+
+    @Benchmark
+    public void onHeapGrow()
+    {
+        LongLongHashMap newMap = new LongLongHashMap();
+        for (int i = 0; i < KEY_COUNT; i++)
+        {
+            newMap.put(this.keys[i], 4);
+        }
+        if (newMap.size() != KEY_COUNT)
+        {
+            throw new AssertionError("size is " + newMap.size());
+        }
+    }
+
+    @Benchmark
+    public void offHeapGrow()
+    {
+        try (OffHeapLongLongHashMap newMap = new OffHeapLongLongHashMap())
+        {
+            for (int i = 0; i < KEY_COUNT; i++)
+            {
+                newMap.put(this.keys[i], 4);
+            }
+            if (newMap.size() != KEY_COUNT)
+            {
+                throw new AssertionError("size is " + newMap.size());
+            }
+        }
+    }
+
+    public void shuffle(long[] array, Random rnd)
+    {
+        for (int i = array.length; i > 1; i--)
+        {
+            OffHeapLongLongMapLargeStressTest.swap(array, i - 1, rnd.nextInt(i));
+        }
+    }
+
+    private static void swap(long[] arr, int i, int j)
+    {
+        long tmp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = tmp;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares ParallelIterate.forEach with the default fork size and task count against forEachAdaptive, which sizes the
+ * tasks from the measured cost per element, for a trivial procedure and for an expensive one on a small list.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class ParallelAdaptiveBatchSizeTest
+{
+    private static final int CHEAP_SIZE = 1_000_000;
+    private static final int EXPENSIVE_SIZE = 5_000;
+
+    private final MutableList<Integer> cheapIntegers = FastList.newList(Interval.oneTo(CHEAP_SIZE));
+    private final MutableList<Integer> expensiveIntegers = FastList.newList(Interval.oneTo(EXPENSIVE_SIZE));
+    private final LongAdder sum = new LongAdder();
+    private ExecutorService executorService;
+
+    @Setup
+    public void setUp()
+    {
+        this.executorService = ParallelIterate.newPooledExecutor(ParallelAdaptiveBatchSizeTest.class.getSimpleName(), true);
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        this.executorService.shutdownNow();
+    }
+
+    private void expensive(Integer each)
+    {
+        Blackhole.consumeCPU(2_000L);
+        this.sum.add(each);
+    }
+
+    @Benchmark
+    public void cheap_default()
+    {
+        ParallelIterate.forEach(this.cheapIntegers, each -> this.sum.add(each), this.executorService);
+    }
+
+    @Benchmark
+    public void cheap_adaptive()
+    {
+        ParallelIterate.forEachAdaptive(this.cheapIntegers, each -> this.sum.add(each), this.executorService);
+    }
+
+    @Benchmark
+    public void expensive_default()
+    {
+        ParallelIterate.forEach(this.expensiveIntegers, this::expensive, this.executorService);
+    }
+
+    @Benchmark
+    public void expensive_adaptive()
+    {
+        ParallelIterate.forEachAdaptive(this.expensiveIntegers, this::expensive, this.executorService);
+    }
+}
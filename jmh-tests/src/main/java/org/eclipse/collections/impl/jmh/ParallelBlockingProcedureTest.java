@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh;
+
+import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.junit.Assert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares ParallelIterate on a pool sized to the number of processors with ParallelIterate on virtual threads, for
+ * procedures that block for a fixed time on each element to simulate a JDBC or file call. On JDKs without virtual
+ * threads, the virtual thread executor falls back to a pool of maxConcurrency platform threads.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class ParallelBlockingProcedureTest
+{
+    private static final int SIZE = 2_000;
+    private static final int BATCH_SIZE = 10;
+    private static final long BLOCKING_NANOS = TimeUnit.MICROSECONDS.toNanos(200L);
+
+    @Param({"50", "200"})
+    public int maxConcurrency;
+
+    private final MutableList<Integer> integersEC = FastList.newList(Interval.oneTo(SIZE));
+    private ExecutorService pooledExecutor;
+    private ExecutorService virtualThreadExecutor;
+
+    @Setup
+    public void setUp()
+    {
+        this.pooledExecutor = ParallelIterate.newPooledExecutor(ParallelBlockingProcedureTest.class.getSimpleName(), true);
+        this.virtualThreadExecutor = ParallelIterate.newVirtualThreadExecutor(ParallelBlockingProcedureTest.class.getSimpleName(), this.maxConcurrency);
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        this.pooledExecutor.shutdownNow();
+        this.virtualThreadExecutor.shutdownNow();
+    }
+
+    private static Integer blockingLookup(Integer each)
+    {
+        try
+        {
+            TimeUnit.NANOSECONDS.sleep(BLOCKING_NANOS);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        return each * 2;
+    }
+
+    @Benchmark
+    public void forEach_pooled()
+    {
+        ParallelIterate.forEach(this.integersEC, ParallelBlockingProcedureTest::blockingLookup, BATCH_SIZE, this.pooledExecutor);
+    }
+
+    @Benchmark
+    public void forEach_virtualThreads()
+    {
+        ParallelIterate.forEach(this.integersEC, ParallelBlockingProcedureTest::blockingLookup, BATCH_SIZE, this.virtualThreadExecutor);
+    }
+
+    @Benchmark
+    public void collect_pooled()
+    {
+        Collection<Integer> result = ParallelIterate.collect(this.integersEC, ParallelBlockingProcedureTest::blockingLookup, FastList.newList(), BATCH_SIZE, this.pooledExecutor, true);
+        Assert.assertEquals(SIZE, result.size());
+    }
+
+    @Benchmark
+    public void collect_virtualThreads()
+    {
+        Collection<Integer> result = ParallelIterate.collect(this.integersEC, ParallelBlockingProcedureTest::blockingLookup, FastList.newList(), BATCH_SIZE, this.virtualThreadExecutor, true);
+        Assert.assertEquals(SIZE, result.size());
+    }
+
+    @Benchmark
+    public void select_pooled()
+    {
+        Collection<Integer> result = ParallelIterate.select(this.integersEC, each -> ParallelBlockingProcedureTest.blockingLookup(each) % 4 == 0, FastList.newList(), BATCH_SIZE, this.pooledExecutor, true);
+        Assert.assertEquals(SIZE / 2, result.size());
+    }
+
+    @Benchmark
+    public void select_virtualThreads()
+    {
+        Collection<Integer> result = ParallelIterate.select(this.integersEC, each -> ParallelBlockingProcedureTest.blockingLookup(each) % 4 == 0, FastList.newList(), BATCH_SIZE, this.virtualThreadExecutor, true);
+        Assert.assertEquals(SIZE / 2, result.size());
+    }
+
+    @Benchmark
+    public void asParallel_collect_pooled()
+    {
+        MutableList<Integer> result = this.integersEC.asParallel(this.pooledExecutor, BATCH_SIZE).collect(ParallelBlockingProcedureTest::blockingLookup).toList();
+        Assert.assertEquals(SIZE, result.size());
+    }
+
+    @Benchmark
+    public void asParallel_collect_virtualThreads()
+    {
+        MutableList<Integer> result = this.integersEC.asParallel(this.virtualThreadExecutor, BATCH_SIZE).collect(ParallelBlockingProcedureTest::blockingLookup).toList();
+        Assert.assertEquals(SIZE, result.size());
+    }
+}
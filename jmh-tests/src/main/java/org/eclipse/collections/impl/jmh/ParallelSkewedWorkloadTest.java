@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.junit.Assert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares parallel iterables run on a fixed thread pool, one task per batch, with the same parallel iterables run on a
+ * ForkJoinPool, where the batches are split recursively and stolen by idle workers. The predicate is skewed: the last
+ * tenth of the elements costs a thousand times more than the rest, so most of the work lands in a few batches.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class ParallelSkewedWorkloadTest
+{
+    private static final int SIZE = 100_000;
+    private static final int SKEW_START = SIZE - SIZE / 10;
+
+    @Param({"100", "10000"})
+    public int batchSize;
+
+    private final FastList<Integer> integersEC = FastList.newList(Interval.oneTo(SIZE));
+    private ExecutorService pooledExecutor;
+    private ForkJoinPool forkJoinPool;
+
+    @Setup
+    public void setUp()
+    {
+        this.pooledExecutor = ParallelIterate.newPooledExecutor(ParallelSkewedWorkloadTest.class.getSimpleName(), true);
+        this.forkJoinPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        this.pooledExecutor.shutdownNow();
+        this.forkJoinPool.shutdownNow();
+    }
+
+    private static boolean skewedPredicate(Integer each)
+    {
+        int iterations = each > SKEW_START ? 1_000 : 1;
+        int hash = each;
+        for (int i = 0; i < iterations; i++)
+        {
+            hash = hash * 31 + i;
+        }
+        return (hash & 1) == 0;
+    }
+
+    @Benchmark
+    public int count_executor()
+    {
+        return this.integersEC.asParallel(this.pooledExecutor, this.batchSize).count(ParallelSkewedWorkloadTest::skewedPredicate);
+    }
+
+    @Benchmark
+    public int count_forkJoin()
+    {
+        return this.integersEC.asParallel(this.forkJoinPool, this.batchSize).count(ParallelSkewedWorkloadTest::skewedPredicate);
+    }
+
+    @Benchmark
+    public void anySatisfy_executor()
+    {
+        Assert.assertFalse(this.integersEC.asParallel(this.pooledExecutor, this.batchSize).anySatisfy(each -> ParallelSkewedWorkloadTest.skewedPredicate(each) && each < 0));
+    }
+
+    @Benchmark
+    public void anySatisfy_forkJoin()
+    {
+        Assert.assertFalse(this.integersEC.asParallel(this.forkJoinPool, this.batchSize).anySatisfy(each -> ParallelSkewedWorkloadTest.skewedPredicate(each) && each < 0));
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.impl.list.mutable.primitive.DoubleArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.LongArrayList;
+import org.eclipse.collections.impl.list.primitive.IntInterval;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class PrimitiveArrayListAggregateTest
+{
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private int[] ints;
+    private long[] longs;
+    private double[] doubles;
+    private IntArrayList intList;
+    private LongArrayList longList;
+    private DoubleArrayList doubleList;
+    private IntInterval intInterval;
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(0x123456789ABCDL);
+        this.ints = random.ints(this.size, 0, 10_000).toArray();
+        this.longs = random.longs(this.size, 0L, 10_000L).toArray();
+        this.doubles = random.doubles(this.size).toArray();
+        this.intList = IntArrayList.newListWith(this.ints);
+        this.longList = LongArrayList.newListWith(this.longs);
+        this.doubleList = DoubleArrayList.newListWith(this.doubles);
+        this.intInterval = IntInterval.oneTo(this.size);
+    }
+
+    @Benchmark
+    public long sum_int_scalar()
+    {
+        long result = 0L;
+        for (int i = 0; i < this.ints.length; i++)
+        {
+            result += this.ints[i];
+        }
+        return result;
+    }
+
+    @Benchmark
+    public long sum_int_jdk()
+    {
+        return Arrays.stream(this.ints).asLongStream().sum();
+    }
+
+    @Benchmark
+    public long sum_int_ec()
+    {
+        return this.intList.sum();
+    }
+
+    @Benchmark
+    public int max_int_scalar()
+    {
+        int max = this.ints[0];
+        for (int i = 1; i < this.ints.length; i++)
+        {
+            int value = this.ints[i];
+            if (max < value)
+            {
+                max = value;
+            }
+        }
+        return max;
+    }
+
+    @Benchmark
+    public int max_int_ec()
+    {
+        return this.intList.max();
+    }
+
+    @Benchmark
+    public int min_int_ec()
+    {
+        return this.intList.min();
+    }
+
+    @Benchmark
+    public double average_int_ec()
+    {
+        return this.intList.average();
+    }
+
+    @Benchmark
+    public int count_int_ec()
+    {
+        return this.intList.count(each -> each > 5_000);
+    }
+
+    @Benchmark
+    public int count_intInterval_ec()
+    {
+        return this.intInterval.count(each -> each > 5_000);
+    }
+
+    @Benchmark
+    public long sum_long_scalar()
+    {
+        long result = 0L;
+        for (int i = 0; i < this.longs.length; i++)
+        {
+            result += this.longs[i];
+        }
+        return result;
+    }
+
+    @Benchmark
+    public long sum_long_jdk()
+    {
+        return Arrays.stream(this.longs).sum();
+    }
+
+    @Benchmark
+    public long sum_long_ec()
+    {
+        return this.longList.sum();
+    }
+
+    @Benchmark
+    public long max_long_ec()
+    {
+        return this.longList.max();
+    }
+
+    @Benchmark
+    public double sum_double_jdk()
+    {
+        return Arrays.stream(this.doubles).sum();
+    }
+
+    @Benchmark
+    public double sum_double_ec()
+    {
+        return this.doubleList.sum();
+    }
+
+    @Benchmark
+    public double max_double_ec()
+    {
+        return this.doubleList.max();
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.set.primitive.MutableIntSet;
+import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
+import org.eclipse.collections.impl.set.mutable.primitive.RoaringIntSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class RoaringIntSetTest
+{
+    private static final int SIZE = 1_000_000;
+
+    @Param({"2000000", "100000000"})
+    public int range;
+
+    private int[] values;
+    private int[] otherValues;
+    private IntHashSet hashSet;
+    private IntHashSet otherHashSet;
+    private RoaringIntSet roaringSet;
+    private RoaringIntSet otherRoaringSet;
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(0x123456789ABCDL);
+        this.values = random.ints(SIZE, 0, this.range).toArray();
+        this.otherValues = random.ints(SIZE, 0, this.range).toArray();
+        this.hashSet = IntHashSet.newSetWith(this.values);
+        this.otherHashSet = IntHashSet.newSetWith(this.otherValues);
+        this.roaringSet = RoaringIntSet.newSetWith(this.values);
+        this.otherRoaringSet = RoaringIntSet.newSetWith(this.otherValues);
+    }
+
+    @Benchmark
+    public MutableIntSet add_hashSet()
+    {
+        return IntHashSet.newSetWith(this.values);
+    }
+
+    @Benchmark
+    public MutableIntSet add_roaringSet()
+    {
+        return RoaringIntSet.newSetWith(this.values);
+    }
+
+    @Benchmark
+    public int contains_hashSet()
+    {
+        int count = 0;
+        for (int value : this.otherValues)
+        {
+            if (this.hashSet.contains(value))
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int contains_roaringSet()
+    {
+        int count = 0;
+        for (int value : this.otherValues)
+        {
+            if (this.roaringSet.contains(value))
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public MutableIntSet union_hashSet()
+    {
+        return this.hashSet.union(this.otherHashSet);
+    }
+
+    @Benchmark
+    public MutableIntSet union_roaringSet()
+    {
+        return this.roaringSet.union(this.otherRoaringSet);
+    }
+
+    @Benchmark
+    public MutableIntSet intersect_hashSet()
+    {
+        return this.hashSet.intersect(this.otherHashSet);
+    }
+
+    @Benchmark
+    public MutableIntSet intersect_roaringSet()
+    {
+        return this.roaringSet.intersect(this.otherRoaringSet);
+    }
+
+    @Benchmark
+    public MutableIntSet difference_hashSet()
+    {
+        return this.hashSet.difference(this.otherHashSet);
+    }
+
+    @Benchmark
+    public MutableIntSet difference_roaringSet()
+    {
+        return this.roaringSet.difference(this.otherRoaringSet);
+    }
+
+    @Benchmark
+    public boolean containsAll_hashSet()
+    {
+        return this.hashSet.containsAll(this.otherHashSet);
+    }
+
+    @Benchmark
+    public boolean containsAll_roaringSet()
+    {
+        return this.roaringSet.containsAll(this.otherRoaringSet);
+    }
+
+    @Benchmark
+    public long sum_hashSet()
+    {
+        return this.hashSet.sum();
+    }
+
+    @Benchmark
+    public long sum_roaringSet()
+    {
+        return this.roaringSet.sum();
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh.list;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.immutable.ImmutableRrbList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link ImmutableRrbList} with the default ImmutableList (an ImmutableArrayList above ten elements).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class ImmutableListNewWithTest
+{
+    @Param({"100", "10000"})
+    public int size;
+
+    private ImmutableList<Integer> arrayList;
+    private ImmutableList<Integer> rrbList;
+
+    @Setup
+    public void setUp()
+    {
+        this.arrayList = Lists.immutable.withAll(Interval.zeroTo(this.size - 1));
+        this.rrbList = ImmutableRrbList.newList(Interval.zeroTo(this.size - 1));
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> appendOneAtATime_array()
+    {
+        ImmutableList<Integer> result = Lists.immutable.empty();
+        for (int i = 0; i < this.size; i++)
+        {
+            result = result.newWith(i);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> appendOneAtATime_rrb()
+    {
+        ImmutableList<Integer> result = ImmutableRrbList.empty();
+        for (int i = 0; i < this.size; i++)
+        {
+            result = result.newWith(i);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> build_rrb()
+    {
+        ImmutableRrbList.Builder<Integer> builder = ImmutableRrbList.newBuilder();
+        for (int i = 0; i < this.size; i++)
+        {
+            builder.with(i);
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public long get_array()
+    {
+        long sum = 0L;
+        for (int i = 0; i < this.size; i++)
+        {
+            sum += this.arrayList.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long get_rrb()
+    {
+        long sum = 0L;
+        for (int i = 0; i < this.size; i++)
+        {
+            sum += this.rrbList.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> concat_array()
+    {
+        return this.arrayList.newWithAll(this.arrayList);
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> concat_rrb()
+    {
+        return this.rrbList.newWithAll(this.rrbList);
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> dropHalf_array()
+    {
+        return this.arrayList.drop(this.size / 2);
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> dropHalf_rrb()
+    {
+        return this.rrbList.drop(this.size / 2);
+    }
+}
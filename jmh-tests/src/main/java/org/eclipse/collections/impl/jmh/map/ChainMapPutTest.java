@@ -21,6 +21,7 @@ import com.carrotsearch.hppc.ObjectObjectMap;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import org.eclipse.collections.impl.map.mutable.SwissMap;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -90,6 +91,28 @@ public class ChainMapPutTest
         return ec;
     }
 
+    @Benchmark
+    public MutableMap<String, String> swiss()
+    {
+        int localSize = this.size;
+        float localLoadFactor = this.loadFactor;
+        String[] localElements = this.elements;
+        /**
+         * @see SwissMap#DEFAULT_INITIAL_CAPACITY
+         */
+        int defaultInitialCapacity = 8;
+
+        MutableMap<String, String> swiss = this.isPresized
+                ? SwissMap.newMap(localSize, localLoadFactor)
+                : SwissMap.newMap(defaultInitialCapacity, localLoadFactor);
+
+        for (int i = 0; i < localSize; i++)
+        {
+            swiss.put(localElements[i], "dummy");
+        }
+        return swiss;
+    }
+
     @Benchmark
     public ObjectObjectMap<String, String> hppc()
     {
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh.map;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+/**
+ * Measures the latency distribution of puts into a concurrent map that keeps growing from its default capacity,
+ * so the high percentiles show how long writers are held up while the table is resized.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class ConcurrentHashMapGrowthTest
+{
+    @Param({"ec", "juc"})
+    public String type;
+
+    @Param("4000000")
+    public int keysPerThread;
+
+    private ConcurrentMap<Integer, Integer> map;
+
+    @Setup(Level.Iteration)
+    public void setUp()
+    {
+        this.map = "ec".equals(this.type)
+                ? ConcurrentHashMap.newMap()
+                : new java.util.concurrent.ConcurrentHashMap<>();
+    }
+
+    @State(Scope.Thread)
+    public static class Keys
+    {
+        private int first;
+        private int count;
+
+        @Setup(Level.Iteration)
+        public void setUp(ThreadParams threadParams, ConcurrentHashMapGrowthTest benchmark)
+        {
+            this.first = threadParams.getThreadIndex() * benchmark.keysPerThread;
+            this.count = 0;
+        }
+
+        private int next(int keysPerThread)
+        {
+            // once a thread has used up its keys it keeps overwriting them, which bounds the size of the map
+            int key = this.first + this.count % keysPerThread;
+            this.count++;
+            return key;
+        }
+    }
+
+    @Benchmark
+    public Integer put(Keys keys)
+    {
+        int key = keys.next(this.keysPerThread);
+        return this.map.put(key, key);
+    }
+}
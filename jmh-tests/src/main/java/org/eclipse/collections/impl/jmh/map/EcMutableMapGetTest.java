@@ -16,6 +16,7 @@ import java.util.concurrent.TimeUnit;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import org.eclipse.collections.impl.map.mutable.SwissMap;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -46,12 +47,14 @@ public class EcMutableMapGetTest
     public int size;
     private String[] elements;
     private MutableMap<String, String> ecMap;
+    private MutableMap<String, String> swissMap;
 
     @Setup
     public void setUp()
     {
         this.elements = new String[this.size];
         this.ecMap = UnifiedMap.newMap(this.size);
+        this.swissMap = SwissMap.newMap(this.size);
 
         Random random = new Random(123456789012345L);
         for (int i = 0; i < this.size; i++)
@@ -59,6 +62,7 @@ public class EcMutableMapGetTest
             String element = RandomStringUtils.random(RANDOM_COUNT, 0, 0, false, true, null, random);
             this.elements[i] = element;
             this.ecMap.put(element, "dummy");
+            this.swissMap.put(element, "dummy");
         }
     }
 
@@ -77,4 +81,20 @@ public class EcMutableMapGetTest
             }
         }
     }
+
+    @Benchmark
+    public void swissGet()
+    {
+        int localSize = this.size;
+        String[] localElements = this.elements;
+        MutableMap<String, String> localSwissMap = this.swissMap;
+
+        for (int i = 0; i < localSize; i++)
+        {
+            if (localSwissMap.get(localElements[i]) == null)
+            {
+                throw new AssertionError(i);
+            }
+        }
+    }
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.test.bag.mutable;
+
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.bag.mutable.ConcurrentHashBag;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.tuple.primitive.PrimitiveTuples;
+import org.eclipse.collections.test.IterableTestCase;
+import org.eclipse.collections.test.NoDetectOptionalNullTestCase;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrentHashBagTest implements MutableBagTestCase, NoDetectOptionalNullTestCase
+{
+    @SafeVarargs
+    @Override
+    public final <T> MutableBag<T> newWith(T... elements)
+    {
+        MutableBag<T> result = ConcurrentHashBag.newBag();
+        IterableTestCase.addAllTo(elements, result);
+        return result;
+    }
+
+    @Test
+    public void nullItems()
+    {
+        MutableBag<Integer> bag = this.newWith(1, 2);
+        assertThrows(NullPointerException.class, () -> bag.add(null));
+        assertThrows(NullPointerException.class, () -> bag.addOccurrences(null, 2));
+    }
+
+    @Test
+    public void setOccurrences()
+    {
+        MutableBag<Integer> bag = this.newWith(3, 3, 3, 2);
+        assertTrue(bag.setOccurrences(3, 1));
+        assertFalse(bag.setOccurrences(3, 1));
+        assertTrue(bag.setOccurrences(2, 0));
+        assertTrue(bag.setOccurrences(4, 2));
+        assertFalse(bag.setOccurrences(5, 0));
+        assertEquals(ConcurrentHashBag.newBagWith(3, 4, 4), bag);
+        assertEquals(3, bag.size());
+        assertEquals(2, bag.sizeDistinct());
+    }
+
+    @Test
+    public void topOccurrences()
+    {
+        MutableBag<Integer> bag = this.newWith(4, 4, 4, 4, 3, 3, 3, 2, 2, 1);
+        assertEquals(
+                FastList.newListWith(PrimitiveTuples.pair(Integer.valueOf(4), 4), PrimitiveTuples.pair(Integer.valueOf(3), 3)),
+                bag.topOccurrences(2));
+        assertEquals(
+                FastList.newListWith(PrimitiveTuples.pair(Integer.valueOf(1), 1)),
+                bag.bottomOccurrences(1));
+        assertEquals(4, bag.topOccurrences(10).size());
+    }
+
+    @Test
+    public void iteratorNextAfterHasNextSurvivesRemoval()
+    {
+        MutableBag<Integer> bag = this.newWith(1, 2, 2);
+        Iterator<Integer> iterator = bag.iterator();
+        assertTrue(iterator.hasNext());
+        assertNotNull(iterator.next());
+        assertTrue(iterator.hasNext());
+        // the items still to come are removed between hasNext() and next(), as another thread might do
+        bag.removeOccurrences(1, 1);
+        bag.removeOccurrences(2, 2);
+        assertTrue(bag.isEmpty());
+        assertNotNull(iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void concurrentAddAndRemove() throws Exception
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBag();
+        int threads = 8;
+        int iterations = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try
+        {
+            MutableList<Future<?>> futures = FastList.newList();
+            for (int i = 0; i < threads; i++)
+            {
+                futures.add(executor.submit(() ->
+                {
+                    for (int j = 0; j < iterations; j++)
+                    {
+                        Integer key = j % 8;
+                        bag.addOccurrences(key, 3);
+                        bag.add(key);
+                        assertTrue(bag.removeOccurrences(key, 2));
+                        assertTrue(bag.remove(key));
+                    }
+                }));
+            }
+            for (Future<?> future : futures)
+            {
+                future.get(1L, TimeUnit.MINUTES);
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+        assertEquals(threads * iterations, bag.size());
+        bag.forEachWithOccurrences((each, occurrences) -> assertEquals(threads * iterations / 8, occurrences));
+        bag.clear();
+        assertTrue(bag.isEmpty());
+        assertEquals(0, bag.size());
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.test.bag.mutable;
+
+import org.eclipse.collections.impl.bag.mutable.MultiReaderHashBag;
+
+public class MultiReaderHashBagOptimisticTest extends MultiReaderHashBagTest
+{
+    @Override
+    protected <T> MultiReaderHashBag<T> newEmptyBag()
+    {
+        return MultiReaderHashBag.newOptimisticBag();
+    }
+}
@@ -31,11 +31,16 @@ public class MultiReaderHashBagTest implements MutableBagTestCase, MultiReaderMu
     @Override
     public final <T> MultiReaderHashBag<T> newWith(T... elements)
     {
-        MultiReaderHashBag<T> result = MultiReaderHashBag.newBag();
+        MultiReaderHashBag<T> result = this.newEmptyBag();
         IterableTestCase.addAllTo(elements, result);
         return result;
     }
 
+    protected <T> MultiReaderHashBag<T> newEmptyBag()
+    {
+        return MultiReaderHashBag.newBag();
+    }
+
     @Test
     @Override
     public void Iterable_remove()
@@ -34,11 +34,16 @@ public class MultiReaderFastListTest implements MutableListTestCase, MultiReader
     @Override
     public final <T> MultiReaderFastList<T> newWith(T... elements)
     {
-        MultiReaderFastList<T> result = MultiReaderFastList.newList();
+        MultiReaderFastList<T> result = this.newEmptyList();
         IterableTestCase.addAllTo(elements, result);
         return result;
     }
 
+    protected <T> MultiReaderFastList<T> newEmptyList()
+    {
+        return MultiReaderFastList.newList();
+    }
+
     @Override
     @Test
     public void Iterable_remove()
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.test.map.immutable.ordered;
+
+import java.util.Map;
+
+import org.eclipse.collections.api.map.MutableOrderedMap;
+import org.eclipse.collections.impl.map.ordered.immutable.ImmutableOrderedUnifiedMap;
+import org.eclipse.collections.impl.map.ordered.mutable.OrderedUnifiedMap;
+import org.eclipse.collections.impl.tuple.ImmutableEntry;
+import org.eclipse.collections.test.FixedSizeIterableTestCase;
+import org.eclipse.collections.test.map.OrderedMapIterableTestCase;
+import org.eclipse.collections.test.map.mutable.MapTestCase;
+import org.junit.jupiter.api.Test;
+
+import static org.eclipse.collections.test.IterableTestCase.assertIterablesEqual;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class ImmutableOrderedUnifiedMapTest
+        implements OrderedMapIterableTestCase, FixedSizeIterableTestCase, MapTestCase
+{
+    @Override
+    public <T> ImmutableOrderedUnifiedMap<Object, T> newWith(T... elements)
+    {
+        int i = elements.length;
+        MutableOrderedMap<Object, T> result = new OrderedUnifiedMap<>();
+        for (T each : elements)
+        {
+            assertNull(result.put(i, each));
+            i--;
+        }
+
+        return (ImmutableOrderedUnifiedMap<Object, T>) result.toImmutable();
+    }
+
+    @Override
+    public <K, V> ImmutableOrderedUnifiedMap<K, V> newWithKeysValues(Object... elements)
+    {
+        if (elements.length % 2 != 0)
+        {
+            fail(String.valueOf(elements.length));
+        }
+
+        MutableOrderedMap<K, V> result = new OrderedUnifiedMap<>();
+        for (int i = 0; i < elements.length; i += 2)
+        {
+            assertNull(result.put((K) elements[i], (V) elements[i + 1]));
+        }
+        return (ImmutableOrderedUnifiedMap<K, V>) result.toImmutable();
+    }
+
+    @Override
+    public boolean supportsNullKeys()
+    {
+        return true;
+    }
+
+    @Override
+    public boolean supportsNullValues()
+    {
+        return true;
+    }
+
+    @Override
+    public void Iterable_toString()
+    {
+        OrderedMapIterableTestCase.super.Iterable_toString();
+        MapTestCase.super.Iterable_toString();
+    }
+
+    @Override
+    public void Iterable_remove()
+    {
+        OrderedMapIterableTestCase.super.Iterable_remove();
+    }
+
+    @Override
+    public void Map_remove()
+    {
+        Map<Object, Object> map = this.newWith();
+        assertThrows(UnsupportedOperationException.class, () -> map.remove(2));
+    }
+
+    @Override
+    public void Map_entrySet_remove()
+    {
+        Map<Object, Object> map = this.newWithKeysValues();
+        assertThrows(UnsupportedOperationException.class, () -> map.entrySet().remove(ImmutableEntry.of(null, null)));
+    }
+
+    @Override
+    public void Map_clear()
+    {
+        Map<Object, String> map = this.newWith("Three", "Two", "One");
+        assertThrows(UnsupportedOperationException.class, map::clear);
+    }
+
+    @Override
+    @Test
+    public void Map_put()
+    {
+        Map<Integer, String> map = this.newWithKeysValues(3, "Three", 2, "Two", 1, "One");
+        assertThrows(UnsupportedOperationException.class, () -> map.put(4, "Four"));
+        assertThrows(UnsupportedOperationException.class, () -> map.put(1, "One"));
+        assertThrows(UnsupportedOperationException.class, () -> map.put(5, null));
+        assertThrows(UnsupportedOperationException.class, () -> map.put(null, "Six"));
+        assertIterablesEqual(this.newWithKeysValues(3, "Three", 2, "Two", 1, "One"), map);
+    }
+
+    @Test
+    @Override
+    public void Map_putAll()
+    {
+        Map<Integer, String> map = this.newWithKeysValues(3, "Three", 2, "2");
+        Map<Integer, String> toAdd = this.newWithKeysValues(2, "Two", 1, "One");
+
+        assertThrows(UnsupportedOperationException.class, () -> map.putAll(toAdd));
+
+        Map<Integer, String> expected = this.newWithKeysValues(3, "Three", 2, "2");
+        assertIterablesEqual(expected, map);
+
+        assertThrows(UnsupportedOperationException.class, () -> map.putAll(null));
+        assertThrows(UnsupportedOperationException.class, () -> map.putAll(Map.of()));
+    }
+
+    @Override
+    public void Map_merge()
+    {
+        Map<Integer, String> map = this.newWithKeysValues(1, "1", 2, "2", 3, "3");
+        assertThrows(UnsupportedOperationException.class, () -> map.merge(3, "4", (v1, v2) -> {
+            fail("Expected lambda not to be called on unmodifiable map");
+            return null;
+        }));
+        assertThrows(UnsupportedOperationException.class, () -> map.merge(4, "4", (v1, v2) -> {
+            fail("Expected lambda not to be called on unmodifiable map");
+            return null;
+        }));
+        assertEquals(this.newWithKeysValues(1, "1", 2, "2", 3, "3"), map);
+    }
+}
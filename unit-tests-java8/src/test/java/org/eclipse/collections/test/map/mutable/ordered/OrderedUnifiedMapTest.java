@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.test.map.mutable.ordered;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.map.MutableOrderedMap;
+import org.eclipse.collections.impl.map.ordered.mutable.OrderedUnifiedMap;
+import org.junit.jupiter.api.Test;
+
+import static org.eclipse.collections.test.IterableTestCase.assertIterablesEqual;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class OrderedUnifiedMapTest implements MutableOrderedMapTestCase
+{
+    @Override
+    public <T> MutableOrderedMap<Object, T> newWith(T... elements)
+    {
+        int i = elements.length;
+        MutableOrderedMap<Object, T> result = new OrderedUnifiedMap<>();
+        for (T each : elements)
+        {
+            assertNull(result.put(i, each));
+            i--;
+        }
+        return result;
+    }
+
+    @Override
+    public <K, V> MutableOrderedMap<K, V> newWithKeysValues(Object... elements)
+    {
+        if (elements.length % 2 != 0)
+        {
+            fail(String.valueOf(elements.length));
+        }
+
+        MutableOrderedMap<K, V> result = new OrderedUnifiedMap<>();
+        for (int i = 0; i < elements.length; i += 2)
+        {
+            assertNull(result.put((K) elements[i], (V) elements[i + 1]));
+        }
+        return result;
+    }
+
+    @Test
+    public void putKeepsOriginalPosition()
+    {
+        MutableOrderedMap<Integer, String> map = this.newWithKeysValues(3, "Three", 2, "Two", 1, "One");
+        map.put(3, "III");
+        map.removeKey(2);
+        map.put(2, "II");
+        assertEquals("{3=III, 1=One, 2=II}", map.toString());
+        assertIterablesEqual(Lists.immutable.with("II", "One", "III"), map.toReversed().toList());
+    }
+
+    @Test
+    public void randomUpdatesMatchLinkedHashMap()
+    {
+        Random random = new Random(42L);
+        Map<Integer, Integer> expected = new LinkedHashMap<>();
+        MutableOrderedMap<Integer, Integer> actual = new OrderedUnifiedMap<>(0);
+        for (int i = 0; i < 20_000; i++)
+        {
+            Integer key = random.nextInt(10) == 0 ? null : random.nextInt(1_000);
+            if (random.nextInt(3) == 0)
+            {
+                assertEquals(expected.remove(key), actual.remove(key));
+            }
+            else
+            {
+                assertEquals(expected.put(key, i), actual.put(key, i));
+            }
+        }
+        assertEquals(expected, actual);
+        assertEquals(new ArrayList<>(expected.entrySet()), new ArrayList<>(actual.entrySet()));
+
+        Iterator<Integer> expectedIterator = expected.keySet().iterator();
+        Iterator<Integer> actualIterator = actual.keySet().iterator();
+        while (expectedIterator.hasNext())
+        {
+            Integer key = expectedIterator.next();
+            assertEquals(key, actualIterator.next());
+            if (key != null && key % 2 == 0)
+            {
+                expectedIterator.remove();
+                actualIterator.remove();
+            }
+        }
+        assertEquals(new ArrayList<>(expected.values()), actual.toList());
+        assertEquals(new ArrayList<>(expected.values()).subList(10, 20), actual.drop(10).take(10).toList());
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.test.set.mutable;
+
+import org.eclipse.collections.impl.set.mutable.MultiReaderUnifiedSet;
+
+public class MultiReaderUnifiedSetOptimisticTest extends MultiReaderUnifiedSetTest
+{
+    @Override
+    protected <T> MultiReaderUnifiedSet<T> newEmptySet()
+    {
+        return MultiReaderUnifiedSet.newOptimisticSet();
+    }
+}
@@ -30,11 +30,16 @@ public class MultiReaderUnifiedSetTest implements MutableSetTestCase, MultiReade
     @Override
     public final <T> MultiReaderUnifiedSet<T> newWith(T... elements)
     {
-        MultiReaderUnifiedSet<T> result = MultiReaderUnifiedSet.newSet();
+        MultiReaderUnifiedSet<T> result = this.newEmptySet();
         IterableTestCase.addAllTo(elements, result);
         return result;
     }
 
+    protected <T> MultiReaderUnifiedSet<T> newEmptySet()
+    {
+        return MultiReaderUnifiedSet.newSet();
+    }
+
     @Test
     @Override
     public void Iterable_remove()
@@ -76,6 +76,22 @@ public class MultiReaderHashBagTest extends MultiReaderMutableCollectionTestCase
         Verify.assertEmpty(MultiReaderHashBag.<Integer>newBagWith(null, null).newEmpty());
     }
 
+    @Test
+    public void optimisticBag()
+    {
+        MultiReaderHashBag<Integer> bag = MultiReaderHashBag.newOptimisticBag(FastList.newListWith(1, 2, 2, 3, 3, 3));
+        Verify.assertSize(6, bag);
+        assertEquals(3, bag.sizeDistinct());
+        assertEquals(3, bag.occurrencesOf(3));
+        assertTrue(bag.contains(2));
+        bag.addOccurrences(4, 4);
+        assertEquals(4, bag.sizeDistinct());
+        Verify.assertSize(10, bag);
+        assertEquals(HashBag.newBagWith(1, 2, 2, 3, 3, 3, 4, 4, 4, 4), bag);
+        Verify.assertInstanceOf(MultiReaderHashBag.class, bag.newEmpty());
+        Verify.assertEmpty(bag.newEmpty());
+    }
+
     @Test
     public void hashBagNewWith()
     {
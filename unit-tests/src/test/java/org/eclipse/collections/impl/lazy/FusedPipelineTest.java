@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy;
+
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.ArrayListAdapter;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.utility.LazyIterate;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JUnit test for {@link FusedPipeline}.
+ */
+public class FusedPipelineTest
+{
+    private static LazyIterable<String> pipeline(LazyIterable<Integer> source)
+    {
+        return source
+                .select(each -> each % 2 == 0)
+                .collect(each -> each * 3)
+                .reject(each -> each % 4 == 0)
+                .collect(String::valueOf);
+    }
+
+    @Test
+    public void compile()
+    {
+        FastList<Integer> list = FastList.newList(Interval.oneTo(10));
+        assertNotNull(FusedPipeline.compile(FusedPipelineTest.pipeline(list.asLazy())));
+        assertNotNull(FusedPipeline.compile(FusedPipelineTest.pipeline(LazyIterate.adapt(list))));
+        assertNotNull(FusedPipeline.compile(FusedPipelineTest.pipeline(ArrayListAdapter.adapt(new ArrayList<>(list)).asLazy())));
+        assertNotNull(FusedPipeline.compile(FusedPipelineTest.pipeline(list.toImmutable().asLazy())));
+
+        assertNull(FusedPipeline.compile(FusedPipelineTest.pipeline(list.asUnmodifiable().asLazy())));
+        assertNull(FusedPipeline.compile(FusedPipelineTest.pipeline(list.asSynchronized().asLazy())));
+        assertNull(FusedPipeline.compile(FusedPipelineTest.pipeline(Interval.oneTo(10))));
+        assertNull(FusedPipeline.compile(list.asLazy().select(each -> true).distinct().select(each -> true)));
+    }
+
+    @Test
+    public void sameResultsAsNestedStages()
+    {
+        FastList<Integer> list = FastList.newList(Interval.oneTo(20));
+        LazyIterable<String> fused = FusedPipelineTest.pipeline(list.asLazy());
+        LazyIterable<String> nested = FusedPipelineTest.pipeline(list.asUnmodifiable().asLazy());
+
+        assertEquals(Lists.mutable.with("6", "18", "30", "42", "54"), fused.toList());
+        assertEquals(nested.toList(), fused.toList());
+        assertEquals(nested.makeString(), fused.makeString());
+        assertEquals(nested.count(each -> each.length() == 2), fused.count(each -> each.length() == 2));
+        assertEquals(nested.detect(each -> each.startsWith("3")), fused.detect(each -> each.startsWith("3")));
+        assertEquals(Optional.of("42"), fused.detectOptional(each -> each.startsWith("4")));
+        assertEquals(Optional.empty(), fused.detectOptional(each -> each.startsWith("9")));
+        assertNull(fused.detect(each -> each.startsWith("9")));
+        assertTrue(fused.anySatisfy(each -> each.equals("54")));
+        assertFalse(fused.anySatisfy(each -> each.equals("12")));
+        assertTrue(fused.allSatisfy(each -> Integer.parseInt(each) % 6 == 0));
+        assertFalse(fused.allSatisfy(each -> each.length() == 2));
+        assertTrue(fused.noneSatisfy(each -> each.equals("12")));
+        assertFalse(fused.noneSatisfy(each -> each.equals("6")));
+
+        MutableList<String> withIndex = Lists.mutable.empty();
+        fused.forEachWithIndex((each, index) -> withIndex.add(index + ":" + each));
+        assertEquals(Lists.mutable.with("0:6", "1:18", "2:30", "3:42", "4:54"), withIndex);
+
+        MutableList<String> with = Lists.mutable.empty();
+        fused.forEachWith((each, prefix) -> with.add(prefix + each), "#");
+        assertEquals(Lists.mutable.with("#6", "#18", "#30", "#42", "#54"), with);
+    }
+
+    @Test
+    public void detectStopsAtFirstMatch()
+    {
+        AtomicInteger calls = new AtomicInteger();
+        LazyIterable<Integer> lazy = FastList.newList(Interval.oneTo(1_000))
+                .asLazy()
+                .select(each -> {
+                    calls.incrementAndGet();
+                    return each % 2 == 0;
+                })
+                .collect(each -> each * 10);
+
+        assertEquals(Integer.valueOf(100), lazy.detect(each -> each >= 100));
+        assertEquals(10, calls.get());
+
+        calls.set(0);
+        assertTrue(lazy.anySatisfy(each -> each == 40));
+        assertEquals(4, calls.get());
+
+        calls.set(0);
+        assertFalse(lazy.allSatisfy(each -> each < 60));
+        assertEquals(6, calls.get());
+    }
+
+    @Test
+    public void readsListChangesBetweenRuns()
+    {
+        FastList<Integer> list = FastList.newListWith(1, 2, 3);
+        LazyIterable<Integer> lazy = list.asLazy().select(each -> each > 1);
+        assertEquals(Lists.mutable.with(2, 3), lazy.toList());
+        list.add(4);
+        assertEquals(Lists.mutable.with(2, 3, 4), lazy.toList());
+    }
+}
@@ -12,9 +12,11 @@ package org.eclipse.collections.impl.lazy.parallel;
 
 import java.io.IOException;
 import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
@@ -26,6 +28,7 @@ import org.eclipse.collections.api.block.function.Function2;
 import org.eclipse.collections.api.block.function.primitive.DoubleFunction;
 import org.eclipse.collections.api.block.function.primitive.FloatFunction;
 import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.collection.MutableCollection;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.list.ImmutableList;
@@ -64,13 +67,14 @@ import static org.junit.jupiter.api.Assertions.fail;
 public abstract class ParallelIterableTestCase
 {
     private static final ImmutableList<Integer> BATCH_SIZES = Lists.immutable.with(2, 5, 10, 100, 1000, 10000, 50000);
+    private static final int POOL_SIZE = 10;
     protected ExecutorService executorService;
     protected int batchSize = 2;
 
     @BeforeEach
     public void setUp()
     {
-        this.executorService = Executors.newFixedThreadPool(10);
+        this.executorService = Executors.newFixedThreadPool(POOL_SIZE);
         this.batchSize = 2;
         assertFalse(Thread.interrupted());
     }
@@ -1153,4 +1157,57 @@ public abstract class ParallelIterableTestCase
     {
         assertThrows(NullPointerException.class, () -> this.newWith(1, null, 2).maxBy(Integer::valueOf));
     }
+
+    /**
+     * Runs anySatisfy, allSatisfy and detect over 1000 batches with a predicate that decides the answer on the first
+     * element of the lowest batch. Every other call blocks until the operation has returned, so each thread of the pool
+     * calls the predicate at most once and the batches it does not reach must have been skipped.
+     */
+    protected void assertShortCircuitSkipsRemainingBatches()
+    {
+        int size = 100_000;
+        this.batchSize = 100;
+        Integer[] elements = Interval.oneTo(size).toArray(new Integer[size]);
+        ParallelIterable<Integer> parallelIterable = this.newWith(elements);
+        // the lowest batch visits this element first, so the deciding call never queues behind a blocked one
+        Integer deciding = this.getExpectedWith(elements).getFirst();
+
+        this.assertCallsBoundedByPoolSize(predicate -> assertTrue(parallelIterable.anySatisfy(predicate)), deciding, true);
+        this.assertCallsBoundedByPoolSize(predicate -> assertFalse(parallelIterable.allSatisfy(predicate)), deciding, false);
+        this.assertCallsBoundedByPoolSize(predicate -> assertEquals(deciding, parallelIterable.detect(predicate)), deciding, true);
+    }
+
+    private void assertCallsBoundedByPoolSize(Procedure<Predicate<Integer>> operation, Integer deciding, boolean answer)
+    {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch returned = new CountDownLatch(1);
+        try
+        {
+            operation.value(each -> {
+                calls.incrementAndGet();
+                if (each.equals(deciding))
+                {
+                    return answer;
+                }
+                try
+                {
+                    if (!returned.await(10L, TimeUnit.SECONDS))
+                    {
+                        // the operation is waiting for this batch; stop blocking and let the count of calls fail the test
+                        returned.countDown();
+                    }
+                }
+                catch (InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                }
+                return !answer;
+            });
+        }
+        finally
+        {
+            returned.countDown();
+        }
+        assertTrue(calls.get() <= POOL_SIZE, "predicate called " + calls.get() + " times");
+    }
 }
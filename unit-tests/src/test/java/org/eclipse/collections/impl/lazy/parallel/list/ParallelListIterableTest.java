@@ -10,11 +10,16 @@
 
 package org.eclipse.collections.impl.lazy.parallel.list;
 
+import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.list.ParallelListIterable;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.list.Interval;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ParallelListIterableTest extends ParallelListIterableTestCase
 {
@@ -41,4 +46,39 @@ public class ParallelListIterableTest extends ParallelListIterableTestCase
     {
         assertThrows(NullPointerException.class, () -> FastList.newListWith(1, 2, 2, 3, 3, 3, 4, 4, 4, 4).asParallel(null, 2));
     }
+
+    @Test
+    public void shortCircuitSkipsRemainingBatches()
+    {
+        this.assertShortCircuitSkipsRemainingBatches();
+    }
+
+    @Test
+    public void detectReturnsFirstMatchWhenSeveralBatchesMatch()
+    {
+        this.batchSize = 10;
+        ParallelListIterable<Integer> parallelIterable = this.newWith(Interval.oneTo(1_000).toArray(new Integer[1_000]));
+        for (int i = 0; i < 10; i++)
+        {
+            MutableSet<Integer> visited = Sets.mutable.<Integer>empty().asSynchronized();
+            // The first match is slow, so the batches to its right find their own matches before it
+            Integer found = parallelIterable.detect(each -> {
+                visited.add(each);
+                if (each == 55)
+                {
+                    try
+                    {
+                        Thread.sleep(20L);
+                    }
+                    catch (InterruptedException e)
+                    {
+                        throw new RuntimeException(e);
+                    }
+                }
+                return each % 100 == 55;
+            });
+            assertEquals(Integer.valueOf(55), found);
+            assertTrue(visited.containsAllIterable(Interval.oneTo(55)), "batches to the left of the match were skipped");
+        }
+    }
 }
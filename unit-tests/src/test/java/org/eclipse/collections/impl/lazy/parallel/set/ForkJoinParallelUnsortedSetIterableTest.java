@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy.parallel.set;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.BeforeEach;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Runs the {@link ParallelUnsortedSetIterableTest} suite on a {@link ForkJoinPool}.
+ */
+public class ForkJoinParallelUnsortedSetIterableTest extends ParallelUnsortedSetIterableTest
+{
+    @Override
+    @BeforeEach
+    public void setUp()
+    {
+        this.executorService = new ForkJoinPool(10);
+        this.batchSize = 2;
+        assertFalse(Thread.interrupted());
+    }
+}
@@ -41,4 +41,10 @@ public class ParallelUnsortedSetIterableTest extends ParallelUnsortedSetIterable
     {
         assertThrows(NullPointerException.class, () -> UnifiedSet.newSetWith(1, 2, 3, 4).asParallel(null, 2));
     }
+
+    @Test
+    public void shortCircuitSkipsRemainingBatches()
+    {
+        this.assertShortCircuitSkipsRemainingBatches();
+    }
 }
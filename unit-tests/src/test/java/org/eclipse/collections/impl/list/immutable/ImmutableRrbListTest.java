@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.list.immutable;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.test.SerializeTestHelper;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * JUnit test for {@link ImmutableRrbList}.
+ */
+public class ImmutableRrbListTest extends AbstractImmutableListTestCase
+{
+    @Override
+    protected ImmutableList<Integer> classUnderTest()
+    {
+        return ImmutableRrbList.newListWith(1, 2, 3);
+    }
+
+    /**
+     * Returns the integers from {@code from} up to but not including {@code toExclusive}, which is empty when
+     * {@code from >= toExclusive}, unlike {@link Interval#fromTo(int, int)} which counts down.
+     */
+    private static MutableList<Integer> range(int from, int toExclusive)
+    {
+        return from < toExclusive ? Interval.fromTo(from, toExclusive - 1).toList() : Lists.mutable.empty();
+    }
+
+    @Test
+    public void newWithKeepsPreviousVersions()
+    {
+        ImmutableList<Integer> list = ImmutableRrbList.empty();
+        MutableList<ImmutableList<Integer>> versions = FastList.newList();
+        for (int i = 0; i < 5_000; i++)
+        {
+            versions.add(list);
+            list = list.newWith(i);
+        }
+        assertEquals(Interval.zeroTo(4_999), list);
+        for (int i = 0; i < 5_000; i += 97)
+        {
+            assertEquals(ImmutableRrbListTest.range(0, i), versions.get(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> versions.get(10).get(10));
+        assertThrows(IndexOutOfBoundsException.class, () -> versions.get(10).get(-1));
+    }
+
+    @Test
+    public void takeAndDrop()
+    {
+        ImmutableRrbList<Integer> list = ImmutableRrbList.newList(Interval.zeroTo(9_999));
+        for (int count = 0; count <= 10_000; count += 333)
+        {
+            assertEquals(ImmutableRrbListTest.range(0, count), list.take(count));
+            assertEquals(Interval.fromTo(count, 9_999), list.drop(count));
+            assertEquals(ImmutableRrbListTest.range(count / 2, count), list.slice(count / 2, count));
+        }
+        assertSame(list, list.take(10_000));
+        assertSame(list, list.drop(0));
+        Verify.assertEmpty(list.drop(10_000));
+        assertThrows(IllegalArgumentException.class, () -> list.take(-1));
+        assertThrows(IllegalArgumentException.class, () -> list.drop(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.slice(2, 1));
+    }
+
+    @Test
+    public void concatenation()
+    {
+        ImmutableList<Integer> list = ImmutableRrbList.empty();
+        MutableList<Integer> expected = FastList.newList();
+        for (int i = 0; i < 2_000; i++)
+        {
+            ImmutableRrbList<Integer> piece = ImmutableRrbList.newList(Interval.fromTo(i * 100, i * 100 + i % 70));
+            list = i % 3 == 0 ? piece.newWithAll(list) : list.newWithAll(piece);
+            if (i % 3 == 0)
+            {
+                expected.addAll(0, piece);
+            }
+            else
+            {
+                expected.addAll(piece);
+            }
+        }
+        assertEquals(expected, list);
+        assertEquals(expected.subList(100, 20_000), ((ImmutableRrbList<Integer>) list).slice(100, 20_000));
+        Integer removed = expected.get(500);
+        assertEquals(FastList.newList(expected).without(removed), list.newWithout(removed));
+    }
+
+    @Test
+    public void builder()
+    {
+        ImmutableRrbList.Builder<Integer> builder = ImmutableRrbList.newBuilder();
+        Verify.assertEmpty(builder.build());
+        builder.withAll(Interval.oneTo(40_000));
+        ImmutableRrbList<Integer> first = builder.build();
+        ImmutableRrbList<Integer> second = builder.with(40_001).build();
+        assertEquals(Interval.oneTo(40_000), first);
+        assertEquals(Interval.oneTo(40_000).toList().with(40_001), second);
+    }
+
+    @Test
+    public void serialization()
+    {
+        ImmutableRrbList<Integer> list = ImmutableRrbList.newList(Interval.oneTo(1_000));
+        ImmutableList<Integer> deserialized = SerializeTestHelper.serializeDeserialize(list);
+        Verify.assertInstanceOf(ImmutableRrbList.class, deserialized);
+        assertEquals(list, deserialized);
+    }
+
+    @Test
+    public void persistentFactory()
+    {
+        ImmutableList<Integer> list = Lists.immutable.<Integer>persistent().newWith(1).newWith(2);
+        Verify.assertInstanceOf(ImmutableRrbList.class, list);
+        assertEquals(FastList.newListWith(1, 2), list);
+        Verify.assertInstanceOf(ImmutableRrbList.class, Lists.immutable.persistentWithAll(Interval.oneTo(100)));
+    }
+}
@@ -83,6 +83,63 @@ public class MultiReaderFastListTest extends AbstractListTestCase
         Verify.assertEmpty(MultiReaderFastList.<Integer>newListWith(null, null).newEmpty());
     }
 
+    @Test
+    public void optimisticList()
+    {
+        MultiReaderFastList<Integer> list = MultiReaderFastList.newOptimisticList(Interval.oneTo(5));
+        Verify.assertSize(5, list);
+        assertEquals(Integer.valueOf(3), list.get(2));
+        assertTrue(list.contains(4));
+        assertEquals(3, list.indexOf(4));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(5));
+        list.add(6);
+        assertTrue(list.remove(Integer.valueOf(1)));
+        assertEquals(FastList.newListWith(2, 3, 4, 5, 6), list);
+        MutableList<Integer> subList = list.subList(1, 3);
+        Verify.assertSize(2, subList);
+        subList.add(7);
+        assertEquals(FastList.newListWith(2, 3, 4, 7, 5, 6), list);
+        list.withReadLockAndDelegate(delegate -> assertEquals(Integer.valueOf(2), delegate.getFirst()));
+        Verify.assertInstanceOf(MultiReaderFastList.class, list.newEmpty());
+        assertEquals(list, list.clone());
+        Verify.assertPostSerializedEqualsAndHashCode(list);
+    }
+
+    @Test
+    public void optimisticListConcurrentReads() throws InterruptedException
+    {
+        MultiReaderFastList<Integer> list = MultiReaderFastList.newOptimisticList();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            try
+            {
+                int size = 0;
+                while (size < 10_000)
+                {
+                    int newSize = list.size();
+                    assertTrue(newSize >= size);
+                    size = newSize;
+                    if (size > 0)
+                    {
+                        assertEquals(Integer.valueOf(size - 1), list.get(size - 1));
+                        assertTrue(list.contains(size / 2));
+                    }
+                }
+            }
+            catch (Throwable t)
+            {
+                failure.set(t);
+            }
+        });
+        reader.start();
+        for (int i = 0; i < 10_000; i++)
+        {
+            list.add(i);
+        }
+        reader.join();
+        assertNull(failure.get());
+    }
+
     @Test
     public void fastListNewWith()
     {
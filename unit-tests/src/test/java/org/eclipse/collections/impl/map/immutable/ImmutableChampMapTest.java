@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.immutable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.test.SerializeTestHelper;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JUnit test for {@link ImmutableChampMap}.
+ */
+public class ImmutableChampMapTest extends ImmutableMapTestCase
+{
+    @Override
+    protected ImmutableMap<Integer, String> classUnderTest()
+    {
+        return ImmutableChampMap.newMap(UnifiedMap.newWithKeysValues(1, "1", 2, "2", 3, "3", 4, "4"));
+    }
+
+    @Override
+    protected int size()
+    {
+        return 4;
+    }
+
+    @Test
+    @Override
+    public void testToString()
+    {
+        assertEquals("{1=1, 2=2, 3=3, 4=4}", this.classUnderTest().toString());
+    }
+
+    @Test
+    public void newWithKeyValueSharesStructure()
+    {
+        ImmutableMap<Integer, Integer> map = ImmutableChampMap.empty();
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 10_000; i++)
+        {
+            ImmutableMap<Integer, Integer> previous = map;
+            map = map.newWithKeyValue(i * 31, i);
+            expected.put(i * 31, i);
+            Verify.assertSize(i, previous);
+            assertFalse(previous.containsKey(i * 31));
+        }
+        assertInstanceOf(ImmutableChampMap.class, map);
+        assertEquals(expected, map);
+        assertEquals(map, expected);
+        assertEquals(expected.hashCode(), map.hashCode());
+
+        ImmutableMap<Integer, Integer> replaced = map.newWithKeyValue(31, -1);
+        assertEquals(Integer.valueOf(-1), replaced.get(31));
+        assertEquals(Integer.valueOf(1), map.get(31));
+        Verify.assertSize(10_000, replaced);
+        assertSame(map, map.newWithKeyValue(62, map.get(62)));
+    }
+
+    @Test
+    public void newWithoutKeyKeepsOriginal()
+    {
+        ImmutableMap<Integer, Integer> map = ImmutableChampMap.empty();
+        for (int i = 0; i < 1_000; i++)
+        {
+            map = map.newWithKeyValue(i, i);
+        }
+        ImmutableMap<Integer, Integer> original = map;
+        for (int i = 0; i < 1_000; i += 2)
+        {
+            map = map.newWithoutKey(i);
+        }
+        Verify.assertSize(500, map);
+        Verify.assertSize(1_000, original);
+        map.forEachKey(key -> assertTrue(key % 2 != 0));
+        assertSame(map, map.newWithoutKey(0));
+        assertSame(ImmutableChampMap.empty(), map.newWithoutAllKeys(original.keysView()));
+    }
+
+    @Test
+    public void collidingKeys()
+    {
+        ImmutableMap<CollidingKey, Integer> map = ImmutableChampMap.empty();
+        for (int i = 0; i < 10; i++)
+        {
+            map = map.newWithKeyValue(new CollidingKey(i, i % 2), i);
+        }
+        Verify.assertSize(10, map);
+        for (int i = 0; i < 10; i++)
+        {
+            assertEquals(Integer.valueOf(i), map.get(new CollidingKey(i, i % 2)));
+        }
+        for (int i = 0; i < 9; i++)
+        {
+            map = map.newWithoutKey(new CollidingKey(i, i % 2));
+            assertNull(map.get(new CollidingKey(i, i % 2)));
+        }
+        assertEquals(UnifiedMap.newWithKeysValues(new CollidingKey(9, 1), 9), map);
+    }
+
+    @Test
+    public void nullKeysAndValues()
+    {
+        ImmutableMap<Integer, Integer> map = ImmutableChampMap.<Integer, Integer>empty()
+                .newWithKeyValue(null, 1)
+                .newWithKeyValue(2, null);
+        assertEquals(Integer.valueOf(1), map.get(null));
+        assertTrue(map.containsKey(2));
+        assertTrue(map.containsValue(null));
+        assertEquals(Integer.valueOf(3), map.getIfAbsentValue(3, 3));
+        assertNull(map.getIfAbsentValue(2, 3));
+        assertFalse(map.newWithoutKey(null).containsKey(null));
+    }
+
+    @Test
+    public void serializationKeepsImplementation()
+    {
+        ImmutableMap<Integer, String> map = this.classUnderTest();
+        ImmutableMap<Integer, String> deserialized = SerializeTestHelper.serializeDeserialize(map);
+        assertInstanceOf(ImmutableChampMap.class, deserialized);
+        assertEquals(map, deserialized);
+        assertSame(ImmutableChampMap.empty(), SerializeTestHelper.serializeDeserialize(ImmutableChampMap.empty()));
+    }
+
+    private static final class CollidingKey
+    {
+        private final int value;
+        private final int hashCode;
+
+        private CollidingKey(int value, int hashCode)
+        {
+            this.value = value;
+            this.hashCode = hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            return obj instanceof CollidingKey && ((CollidingKey) obj).value == this.value;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.hashCode;
+        }
+    }
+}
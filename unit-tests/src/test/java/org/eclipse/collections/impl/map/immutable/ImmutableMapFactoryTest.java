@@ -103,4 +103,18 @@ public class ImmutableMapFactoryTest
         Verify.assertContainsAllKeyValues(map4, key, 4, new Key("still not a dupe"), 2, new Key("me neither"), 3);
         assertSame(key, map4.keysView().detect(key::equals));
     }
+
+    @Test
+    public void persistent()
+    {
+        ImmutableMap<String, String> map = Maps.immutable.<String, String>persistent()
+                .newWithKeyValue("key1", "value1")
+                .newWithKeyValue("key2", "value2");
+        Verify.assertInstanceOf(ImmutableChampMap.class, map);
+        Verify.assertContainsAllKeyValues(map, "key1", "value1", "key2", "value2");
+        Verify.assertInstanceOf(ImmutableChampMap.class, map.newWithoutKey("key1").newWithoutKey("key2"));
+
+        ImmutableMap<String, String> copy = Maps.immutable.persistentWithAll(map.castToMap());
+        assertSame(map, copy);
+    }
 }
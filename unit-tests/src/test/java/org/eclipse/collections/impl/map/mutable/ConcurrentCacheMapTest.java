@@ -0,0 +1,521 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.factory.Maps;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.test.Verify;
+import org.eclipse.collections.impl.tuple.ImmutableEntry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JUnit test for {@link ConcurrentCacheMap}.
+ */
+public class ConcurrentCacheMapTest extends ConcurrentHashMapTestCase
+{
+    private static final long MAXIMUM_SIZE = 10_000L;
+
+    @Override
+    public <K, V> ConcurrentCacheMap<K, V> newMap()
+    {
+        return ConcurrentCacheMap.newMap(MAXIMUM_SIZE);
+    }
+
+    @Override
+    public <K, V> ConcurrentCacheMap<K, V> newMapWithKeyValue(K key, V value)
+    {
+        ConcurrentCacheMap<K, V> map = this.newMap();
+        map.put(key, value);
+        return map;
+    }
+
+    @Override
+    public <K, V> ConcurrentCacheMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        ConcurrentCacheMap<K, V> map = this.newMapWithKeyValue(key1, value1);
+        map.put(key2, value2);
+        return map;
+    }
+
+    @Override
+    public <K, V> ConcurrentCacheMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        ConcurrentCacheMap<K, V> map = this.newMapWithKeysValues(key1, value1, key2, value2);
+        map.put(key3, value3);
+        return map;
+    }
+
+    @Override
+    public <K, V> ConcurrentCacheMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4)
+    {
+        ConcurrentCacheMap<K, V> map = this.newMapWithKeysValues(key1, value1, key2, value2, key3, value3);
+        map.put(key4, value4);
+        return map;
+    }
+
+    @Override
+    @Test
+    public void equalsAndHashCode()
+    {
+        // ConcurrentCacheMap supports neither null values nor serialization
+        MapIterable<Integer, String> map = this.newMapWithKeysValues(1, "1", 2, "2", 3, "3");
+        Verify.assertEqualsAndHashCode(Maps.mutable.of(1, "1", 2, "2", 3, "3"), map);
+        Verify.assertEqualsAndHashCode(Maps.immutable.of(1, "1", 2, "2", 3, "3"), map);
+
+        assertNotEquals(map, this.newMapWithKeysValues(1, "1", 2, "2"));
+        assertNotEquals(map, this.newMapWithKeysValues(1, "1", 2, "2", 3, "3", 4, "4"));
+        assertNotEquals(map, this.newMapWithKeysValues(1, "1", 2, "2", 4, "4"));
+    }
+
+    @Override
+    @Test
+    public void serialization()
+    {
+        // Not applicable for ConcurrentCacheMap
+    }
+
+    @Override
+    @Test
+    public void keySetEqualsAndHashCode()
+    {
+        MutableMap<String, Integer> map = this.newMapWithKeysValues("One", 1, "Two", 2, "Three", 3);
+        Verify.assertEqualsAndHashCode(UnifiedSet.newSetWith("One", "Two", "Three"), map.keySet());
+    }
+
+    @Override
+    @Test
+    public void removeFromEntrySet()
+    {
+        MutableMap<Integer, String> map = this.newMapWithKeysValues(1, "1", 2, "Two");
+        assertThrows(UnsupportedOperationException.class, () -> map.entrySet().remove(ImmutableEntry.of(2, "Two")));
+    }
+
+    @Override
+    @Test
+    public void removeAllFromEntrySet()
+    {
+        MutableMap<Integer, String> map = this.newMapWithKeysValues(1, "1", 2, "Two");
+        assertThrows(UnsupportedOperationException.class, () -> map.entrySet().removeAll(FastList.newListWith(ImmutableEntry.of(2, "Two"))));
+    }
+
+    @Override
+    @Test
+    public void retainAllFromEntrySet()
+    {
+        MutableMap<Integer, String> map = this.newMapWithKeysValues(1, "1", 2, "Two");
+        assertThrows(UnsupportedOperationException.class, () -> map.entrySet().retainAll(FastList.newListWith(ImmutableEntry.of(2, "Two"))));
+    }
+
+    @Override
+    @Test
+    public void clearEntrySet()
+    {
+        MutableMap<Integer, String> map = this.newMapWithKeysValues(1, "1", 2, "Two");
+        assertThrows(UnsupportedOperationException.class, () -> map.entrySet().clear());
+    }
+
+    @Override
+    @Test
+    public void removeFromKeySet()
+    {
+        MutableMap<Integer, String> map = this.newMapWithKeysValues(1, "1", 2, "Two");
+        assertThrows(UnsupportedOperationException.class, () -> map.keySet().remove(2));
+    }
+
+    @Override
+    @Test
+    public void removeAllFromKeySet()
+    {
+        MutableMap<Integer, String> map = this.newMapWithKeysValues(1, "1", 2, "Two");
+        assertThrows(UnsupportedOperationException.class, () -> map.keySet().removeAll(FastList.newListWith(1, 2)));
+    }
+
+    @Override
+    @Test
+    public void retainAllFromKeySet()
+    {
+        MutableMap<Integer, String> map = this.newMapWithKeysValues(1, "1", 2, "Two");
+        assertThrows(UnsupportedOperationException.class, () -> map.keySet().retainAll(Lists.mutable.of()));
+    }
+
+    @Override
+    @Test
+    public void clearKeySet()
+    {
+        MutableMap<Integer, String> map = this.newMapWithKeysValues(1, "1", 2, "Two");
+        assertThrows(UnsupportedOperationException.class, () -> map.keySet().clear());
+    }
+
+    @Override
+    @Test
+    public void removeFromValues()
+    {
+        MutableMap<Integer, String> map = this.newMapWithKeysValues(1, "1", 2, "Two");
+        assertThrows(UnsupportedOperationException.class, () -> map.values().remove("Two"));
+    }
+
+    @Override
+    @Test
+    public void removeAllFromValues()
+    {
+        MutableMap<Integer, String> map = this.newMapWithKeysValues(1, "1", 2, "Two");
+        assertThrows(UnsupportedOperationException.class, () -> map.values().removeAll(FastList.newListWith("1", "Two")));
+    }
+
+    @Override
+    @Test
+    public void retainAllFromValues()
+    {
+        MutableMap<Integer, String> map = this.newMapWithKeysValues(1, "1", 2, "Two");
+        assertThrows(UnsupportedOperationException.class, () -> map.values().retainAll(Lists.mutable.of()));
+    }
+
+    @Test
+    public void basicOperations()
+    {
+        ConcurrentCacheMap<Integer, String> map = ConcurrentCacheMap.newMap(10);
+        assertNull(map.put(1, "1"));
+        assertEquals("1", map.put(1, "One"));
+        assertNull(map.putIfAbsent(2, "2"));
+        assertEquals("2", map.putIfAbsent(2, "Two"));
+        assertEquals("3", map.getIfAbsentPut(3, "3"));
+        assertEquals("3", map.replace(3, "Three"));
+        assertTrue(map.replace(2, "2", "Two"));
+        assertFalse(map.replace(2, "2", "Deux"));
+        assertEquals(Maps.mutable.with(1, "One", 2, "Two", 3, "Three"), map);
+        assertEquals(map, Maps.mutable.with(1, "One", 2, "Two", 3, "Three"));
+        assertFalse(map.remove(1, "1"));
+        assertTrue(map.remove(1, "One"));
+        assertEquals("Two", map.remove(2));
+        assertEquals("ThreeThree", map.merge(3, "Three", String::concat));
+        assertEquals("4", map.updateValue(4, () -> "", value -> value + "4"));
+        Verify.assertContainsAllKeyValues(map, 3, "ThreeThree", 4, "4");
+        assertTrue(map.containsValue("4"));
+        Verify.assertSize(2, map);
+        map.clear();
+        Verify.assertEmpty(map);
+    }
+
+    @Test
+    public void nullsNotSupported()
+    {
+        ConcurrentCacheMap<Integer, String> map = ConcurrentCacheMap.newMap(10);
+        assertThrows(NullPointerException.class, () -> map.put(null, "1"));
+        assertThrows(NullPointerException.class, () -> map.put(1, null));
+        assertThrows(NullPointerException.class, () -> map.getIfAbsentPut(1, () -> null));
+        Verify.assertEmpty(map);
+    }
+
+    @Test
+    public void builder()
+    {
+        assertThrows(IllegalStateException.class, () -> ConcurrentCacheMap.newBuilder().maximumSize(10L).maximumWeight(10L, (key, value) -> 1));
+        assertThrows(IllegalArgumentException.class, () -> ConcurrentCacheMap.newBuilder().maximumSize(-1L));
+        assertThrows(IllegalArgumentException.class, () -> ConcurrentCacheMap.newBuilder().expireAfterWrite(0L, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void maximumSize()
+    {
+        ConcurrentCacheMap<Integer, Integer> map = ConcurrentCacheMap.newMap(100);
+        for (int i = 0; i < 1000; i++)
+        {
+            map.put(i, i);
+        }
+        map.cleanUp();
+        Verify.assertSize(100, map);
+        assertEquals(100L, map.getWeightedSize());
+        assertEquals(900L, map.getEvictionCount());
+        assertEquals(900L, map.getEvictionWeight());
+    }
+
+    @Test
+    public void frequentlyReadEntriesSurviveScan()
+    {
+        ConcurrentCacheMap<Integer, Integer> map = ConcurrentCacheMap.newMap(100);
+        for (int i = 0; i < 50; i++)
+        {
+            map.put(i, i);
+        }
+        for (int round = 0; round < 20; round++)
+        {
+            for (int i = 0; i < 50; i++)
+            {
+                map.get(i);
+            }
+        }
+        for (int i = 1000; i < 11000; i++)
+        {
+            map.put(i, i);
+        }
+        map.cleanUp();
+
+        int retained = 0;
+        for (int i = 0; i < 50; i++)
+        {
+            if (map.containsKey(i))
+            {
+                retained++;
+            }
+        }
+        assertTrue(retained >= 45, "retained " + retained);
+        Verify.assertSize(100, map);
+    }
+
+    @Test
+    public void smallMaximumSizeKeepsProbationSegment()
+    {
+        ConcurrentCacheMap<Integer, Integer> map = ConcurrentCacheMap.newMap(10);
+        for (int i = 1; i <= 10; i++)
+        {
+            map.put(i, i);
+        }
+        for (int round = 0; round < 3; round++)
+        {
+            for (int i = 1; i <= 9; i++)
+            {
+                map.get(i);
+            }
+        }
+        map.cleanUp();
+
+        map.put(11, 11);
+        for (int i = 0; i < 20; i++)
+        {
+            map.get(11);
+        }
+        map.cleanUp();
+        map.put(12, 12);
+        map.cleanUp();
+
+        assertTrue(map.containsKey(11));
+        assertTrue(map.containsKey(12));
+        Verify.assertSize(10, map);
+        assertEquals(10L, map.getWeightedSize());
+    }
+
+    @Test
+    public void removeIfUpdatesEvictionPolicy()
+    {
+        ConcurrentCacheMap<Integer, Integer> map = ConcurrentCacheMap.newMap(10);
+        for (int i = 0; i < 10; i++)
+        {
+            map.put(i, i);
+        }
+        assertTrue(map.removeIf((key, value) -> key % 2 == 0));
+        assertFalse(map.removeIf((key, value) -> key % 2 == 0));
+        assertEquals(5L, map.getWeightedSize());
+
+        for (int i = 10; i < 15; i++)
+        {
+            map.put(i, i);
+        }
+        map.cleanUp();
+        Verify.assertSize(10, map);
+        assertEquals(10L, map.getWeightedSize());
+        assertEquals(0L, map.getEvictionCount());
+    }
+
+    @Test
+    public void maximumWeight()
+    {
+        ConcurrentCacheMap<String, Integer> map =
+                ConcurrentCacheMap.<String, Integer>newBuilder().maximumWeight(10L, (key, value) -> value).build();
+        map.put("a", 3);
+        map.put("b", 3);
+        map.put("c", 3);
+        map.put("d", 3);
+        Verify.assertSize(3, map);
+        assertEquals(9L, map.getWeightedSize());
+
+        map.put("e", 20);
+        assertFalse(map.containsKey("e"));
+        assertTrue(map.getWeightedSize() <= 10L);
+    }
+
+    @Test
+    public void expireAfterWrite()
+    {
+        AtomicLong ticker = new AtomicLong();
+        ConcurrentCacheMap<String, String> map = ConcurrentCacheMap.<String, String>newBuilder()
+                .expireAfterWrite(10L, TimeUnit.NANOSECONDS)
+                .ticker(ticker::get)
+                .build();
+        map.put("a", "1");
+        ticker.set(5L);
+        assertEquals("1", map.get("a"));
+        ticker.set(10L);
+        assertNull(map.get("a"));
+        Verify.assertEmpty(map);
+
+        map.put("b", "2");
+        ticker.set(15L);
+        map.put("c", "3");
+        ticker.set(21L);
+        map.cleanUp();
+        assertEquals(Maps.mutable.with("c", "3"), map);
+        assertEquals(2L, map.getEvictionCount());
+    }
+
+    @Test
+    public void expireAfterAccess()
+    {
+        AtomicLong ticker = new AtomicLong();
+        ConcurrentCacheMap<String, String> map = ConcurrentCacheMap.<String, String>newBuilder()
+                .expireAfterAccess(10L, TimeUnit.NANOSECONDS)
+                .ticker(ticker::get)
+                .build();
+        map.put("a", "1");
+        map.put("b", "2");
+        ticker.set(8L);
+        map.get("a");
+        ticker.set(12L);
+        map.cleanUp();
+        assertEquals(Maps.mutable.with("a", "1"), map);
+        assertEquals(1L, map.getEvictionCount());
+    }
+
+    @Test
+    public void statistics()
+    {
+        ConcurrentCacheMap<Integer, String> map = ConcurrentCacheMap.newMap(10);
+        map.put(1, "1");
+        map.get(1);
+        map.get(2);
+        map.getIfAbsentPut(1, () -> "One");
+        map.getIfAbsentPut(2, () -> "2");
+        assertThrows(IllegalStateException.class, () -> map.getIfAbsentPut(3, () -> {
+            throw new IllegalStateException();
+        }));
+        assertEquals(2L, map.getHitCount());
+        assertEquals(3L, map.getMissCount());
+        assertEquals(1L, map.getLoadSuccessCount());
+        assertEquals(1L, map.getLoadFailureCount());
+        assertEquals(Maps.mutable.with(1, "1", 2, "2"), map);
+    }
+
+    @Test
+    public void concurrentGetIfAbsentPutComputesOnce() throws Exception
+    {
+        ConcurrentCacheMap<String, String> map = ConcurrentCacheMap.newMap(10);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try
+        {
+            MutableList<Future<String>> futures = FastList.newList();
+            for (int i = 0; i < 8; i++)
+            {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return map.getIfAbsentPut("key", () -> {
+                        calls.incrementAndGet();
+                        return "value";
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<String> future : futures)
+            {
+                assertEquals("value", future.get());
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+        assertEquals(1, calls.get());
+        assertEquals(1L, map.getLoadSuccessCount());
+    }
+
+    @Test
+    public void concurrentUpdatesStayBounded() throws Exception
+    {
+        ConcurrentCacheMap<Integer, Integer> map = ConcurrentCacheMap.newMap(100);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            MutableList<Future<?>> futures = FastList.newList();
+            for (int thread = 0; thread < 4; thread++)
+            {
+                int seed = thread;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 100_000; i++)
+                    {
+                        int key = (i * 31 + seed) % 1000;
+                        switch (i % 4)
+                        {
+                            case 0:
+                                map.put(key, key);
+                                break;
+                            case 1:
+                                map.getIfAbsentPut(key, () -> key);
+                                break;
+                            case 2:
+                                map.remove(key);
+                                break;
+                            default:
+                                map.get(key);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures)
+            {
+                future.get();
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+        map.cleanUp();
+        assertTrue(map.size() <= 100);
+        assertEquals(map.size(), map.getWeightedSize());
+    }
+
+    @Test
+    public void viewsAreSnapshots()
+    {
+        ConcurrentCacheMap<Integer, String> map = ConcurrentCacheMap.newMap(10);
+        map.put(1, "1");
+        map.put(2, "2");
+        MutableMap<Integer, String> copy = Maps.mutable.withMap(map);
+        Verify.assertSetsEqual(copy.keySet(), map.keySet());
+        Verify.assertContainsAll(map.values(), "1", "2");
+        assertThrows(UnsupportedOperationException.class, () -> map.keySet().remove(1));
+        Map.Entry<Integer, String> entry = map.entrySet().iterator().next();
+        assertTrue(copy.containsKey(entry.getKey()));
+        assertEquals(copy, map.toImmutable());
+        assertEquals(copy, map.clone());
+    }
+}
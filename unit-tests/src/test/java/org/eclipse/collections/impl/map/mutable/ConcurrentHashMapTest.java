@@ -11,6 +11,12 @@
 package org.eclipse.collections.impl.map.mutable;
 
 import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.eclipse.collections.api.bag.MutableBag;
 import org.eclipse.collections.api.block.function.Function;
@@ -24,6 +30,7 @@ import org.eclipse.collections.api.map.ConcurrentMutableMap;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.partition.PartitionIterable;
+import org.eclipse.collections.api.set.ParallelUnsortedSetIterable;
 import org.eclipse.collections.impl.bag.mutable.HashBag;
 import org.eclipse.collections.impl.block.factory.Functions;
 import org.eclipse.collections.impl.block.factory.IntegerPredicates;
@@ -389,6 +396,132 @@ public class ConcurrentHashMapTest extends ConcurrentHashMapTestCase
         }, 1, this.executor);
     }
 
+    @Test
+    public void concurrentPutDuringResize()
+    {
+        ConcurrentHashMap<Integer, Integer> map = ConcurrentHashMap.newMap(1);
+        ParallelIterate.forEach(Interval.oneTo(100), each ->
+        {
+            for (int i = 0; i < 1000; i++)
+            {
+                assertNull(map.put(each * 1000 + i, each));
+            }
+        }, 1, this.executor);
+        assertEquals(100_000, map.size());
+        for (int each = 1; each <= 100; each++)
+        {
+            for (int i = 0; i < 1000; i++)
+            {
+                assertEquals(Integer.valueOf(each), map.get(each * 1000 + i));
+            }
+        }
+        assertTrue(map.getResizeCount() > 0);
+        assertEquals(-1, map.getResizeTransferredBucketCount());
+    }
+
+    @Test
+    public void resizeCounters()
+    {
+        ConcurrentHashMap<Integer, Integer> map = ConcurrentHashMap.newMap(1);
+        assertEquals(0, map.getResizeCount());
+        assertEquals(0, map.getResizeHelpCount());
+        assertEquals(-1, map.getResizeTransferredBucketCount());
+        for (int i = 0; i < 100; i++)
+        {
+            map.put(i, i);
+        }
+        assertTrue(map.getResizeCount() > 0);
+        assertEquals(0, map.getResizeHelpCount());
+        assertEquals(-1, map.getResizeTransferredBucketCount());
+    }
+
+    @Test
+    public void writerHelpsResizeStartedByAnotherThread() throws Exception
+    {
+        // 3072 keys with hash codes 1024..4095 take one bucket each of the 4096 bucket table, so no resize starts while filling
+        ConcurrentHashMap<Object, Integer> map = ConcurrentHashMap.newMap(2048);
+        HashGate gate = new HashGate();
+        MutableList<ResizeKey> keys = Interval.fromTo(1024, 4095).collect(each -> new ResizeKey(each, gate), FastList.newList());
+        keys.each(each -> map.put(each, each.hashCode()));
+        assertEquals(0, map.getResizeCount());
+
+        // the resizing thread claims the top range of buckets first and stops on the first key it rehashes
+        gate.close();
+        Future<Integer> resize = this.executor.submit(() -> map.put(1024, 1024));
+        try
+        {
+            gate.awaitBlocked();
+            // bucket 0 lies in a range the resizing thread has not claimed, so this writer must take over the rest of the table
+            assertNull(map.put(0, 0));
+            assertEquals(1, map.getResizeHelpCount());
+            assertTrue(map.getResizeTransferredBucketCount() > 0);
+        }
+        finally
+        {
+            gate.open();
+        }
+        assertNull(resize.get(10L, TimeUnit.SECONDS));
+
+        assertEquals(1, map.getResizeCount());
+        assertEquals(1, map.getResizeHelpCount());
+        assertEquals(-1, map.getResizeTransferredBucketCount());
+        assertEquals(3074, map.size());
+        assertEquals(Integer.valueOf(0), map.get(0));
+        assertEquals(Integer.valueOf(1024), map.get(1024));
+        keys.each(each -> assertEquals(Integer.valueOf(each.hashCode()), map.get(each)));
+    }
+
+    @Test
+    public void parallelBulkOperations()
+    {
+        ConcurrentHashMap<Integer, Integer> map = ConcurrentHashMap.newMap();
+        Interval.oneTo(10_000).forEach((Procedure<Integer>) each -> map.put(each, each * 2));
+        for (long threshold : new long[]{1L, 100L, Long.MAX_VALUE})
+        {
+            LongAdder count = new LongAdder();
+            map.forEachKeyValue(threshold, (key, value) ->
+            {
+                assertEquals(key * 2, value.intValue());
+                count.increment();
+            });
+            assertEquals(10_000L, count.sum());
+            LongAdder valueSum = new LongAdder();
+            map.forEachValue(threshold, valueSum::add);
+            assertEquals(100_010_000L, valueSum.sum());
+            assertEquals(100_010_000L, map.sumOfLong(threshold, Integer::longValue));
+            assertEquals(100_010_000.0d, map.sumOfDouble(threshold, Integer::doubleValue), 0.0d);
+            assertEquals(Integer.valueOf(20_000), map.reduceValues(threshold, Math::max));
+            assertEquals(Long.valueOf(50_005_000L), map.reduce(threshold, (key, value) -> key.longValue(), Long::sum));
+            assertEquals(Integer.valueOf(5000), map.search(threshold, (key, value) -> value == 10_000 ? key : null));
+            assertNull(map.search(threshold, (key, value) -> null));
+        }
+    }
+
+    @Test
+    public void parallelBulkOperationsOnEmptyMap()
+    {
+        ConcurrentHashMap<Integer, Integer> map = ConcurrentHashMap.newMap();
+        assertNull(map.reduceValues(1L, Math::max));
+        assertNull(map.reduce(1L, (key, value) -> key, Math::max));
+        assertNull(map.search(1L, (key, value) -> key));
+        assertEquals(0L, map.sumOfLong(1L, Integer::longValue));
+        assertEquals(0.0d, map.sumOfDouble(1L, Integer::doubleValue), 0.0d);
+    }
+
+    @Test
+    public void asParallel()
+    {
+        ConcurrentHashMap<Integer, Integer> map = ConcurrentHashMap.newMap();
+        Interval.oneTo(1000).forEach((Procedure<Integer>) each -> map.put(each, each));
+        ParallelUnsortedSetIterable<Map.Entry<Integer, Integer>> entries = map.asParallel(this.executor, 64);
+        assertEquals(500, entries.count(entry -> entry.getKey() % 2 == 0));
+        assertEquals(Interval.oneTo(1000).toSet(), entries.collect(Map.Entry::getValue).toSet());
+        assertTrue(entries.anySatisfy(entry -> entry.getValue() == 1000));
+        assertFalse(entries.anySatisfy(entry -> entry.getValue() > 1000));
+        assertThrows(NullPointerException.class, () -> map.asParallel(null, 64));
+        assertThrows(IllegalArgumentException.class, () -> map.asParallel(this.executor, 0));
+    }
+
     @Test
     public void emptyToString()
     {
@@ -417,4 +550,67 @@ public class ConcurrentHashMapTest extends ConcurrentHashMapTestCase
             return key;
         }
     }
+
+    /**
+     * A key that uses identity equality, so it never equals an Integer with the same hash code.
+     */
+    private static final class ResizeKey
+    {
+        private final int hashCode;
+        private final HashGate gate;
+
+        private ResizeKey(int hashCode, HashGate gate)
+        {
+            this.hashCode = hashCode;
+            this.gate = gate;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            this.gate.pass();
+            return this.hashCode;
+        }
+    }
+
+    /**
+     * Once closed, blocks the next thread that hashes a {@link ResizeKey} until the gate is opened.
+     */
+    private static final class HashGate
+    {
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch opened = new CountDownLatch(1);
+
+        public void close()
+        {
+            this.closed.set(true);
+        }
+
+        public void open()
+        {
+            this.opened.countDown();
+        }
+
+        public void awaitBlocked() throws InterruptedException
+        {
+            assertTrue(this.blocked.await(10L, TimeUnit.SECONDS));
+        }
+
+        public void pass()
+        {
+            if (this.closed.compareAndSet(true, false))
+            {
+                this.blocked.countDown();
+                try
+                {
+                    this.opened.await();
+                }
+                catch (InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.string.immutable.CharAdapter;
+import org.eclipse.collections.impl.test.SerializeTestHelper;
+import org.eclipse.collections.impl.test.Verify;
+import org.eclipse.collections.impl.tuple.ImmutableEntry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JUnit test for {@link SwissMap}.
+ */
+public class SwissMapTest extends MutableMapTestCase
+{
+    @Override
+    public <K, V> MutableMap<K, V> newMap()
+    {
+        return SwissMap.newMap();
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeyValue(K key, V value)
+    {
+        return SwissMap.newWithKeysValues(key, value);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return SwissMap.newWithKeysValues(key1, value1, key2, value2);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return SwissMap.newWithKeysValues(key1, value1, key2, value2, key3, value3);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4)
+    {
+        return SwissMap.newWithKeysValues(key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    @Override
+    @Test
+    public void stream()
+    {
+        MutableMap<Integer, String> map = this.newMapWithKeysValues(1, "1", 2, "2", 3, "3");
+        assertEquals("123", CharAdapter.adapt(map.stream().reduce("", (r, s) -> r + s)).toSortedList().makeString(""));
+        assertEquals(
+                CharAdapter.adapt(map.reduce((r, s) -> r + s).get()).toSortedList(),
+                CharAdapter.adapt(map.stream().reduce((r, s) -> r + s).get()).toSortedList());
+    }
+
+    @Override
+    @Test
+    public void parallelStream()
+    {
+        MutableMap<Integer, String> map = this.newMapWithKeysValues(1, "1", 2, "2", 3, "3");
+        assertEquals("123", CharAdapter.adapt(map.parallelStream().reduce("", (r, s) -> r + s)).toSortedList().makeString(""));
+        assertEquals(
+                CharAdapter.adapt(map.reduce((r, s) -> r + s).get()).toSortedList(),
+                CharAdapter.adapt(map.parallelStream().reduce((r, s) -> r + s).get()).toSortedList());
+    }
+
+    @Test
+    public void newMap_throws()
+    {
+        assertThrows(IllegalArgumentException.class, () -> new SwissMap<Integer, Integer>(-1, 0.5f));
+        assertThrows(IllegalArgumentException.class, () -> new SwissMap<Integer, Integer>(1, 0.0f));
+        assertThrows(IllegalArgumentException.class, () -> new SwissMap<Integer, Integer>(1, -0.5f));
+        assertThrows(IllegalArgumentException.class, () -> new SwissMap<Integer, Integer>(1, 1.5f));
+    }
+
+    @Test
+    public void putGrowsAndKeepsEntries()
+    {
+        for (float loadFactor : new float[]{0.5f, 0.75f, 1.0f})
+        {
+            SwissMap<Integer, String> map = SwissMap.newMap(0, loadFactor);
+            Map<Integer, String> expected = new HashMap<>();
+            for (int i = 0; i < 10_000; i++)
+            {
+                assertNull(map.put(i * 31, String.valueOf(i)));
+                expected.put(i * 31, String.valueOf(i));
+            }
+            assertEquals("9999", map.put(9999 * 31, "updated"));
+            expected.put(9999 * 31, "updated");
+            Verify.assertSize(10_000, map);
+            assertEquals(expected, map);
+            assertEquals(map, expected);
+            assertEquals(expected.hashCode(), map.hashCode());
+            assertNull(map.get(1));
+            assertFalse(map.containsKey(1));
+        }
+    }
+
+    @Test
+    public void removeShiftsCollidingKeysBack()
+    {
+        for (int hash = 0; hash < 64; hash++)
+        {
+            SwissMap<CollidingKey, Integer> map = SwissMap.newMap();
+            for (int i = 0; i < 6; i++)
+            {
+                map.put(new CollidingKey(i, hash), i);
+            }
+            for (int i = 0; i < 6; i += 2)
+            {
+                assertEquals(Integer.valueOf(i), map.remove(new CollidingKey(i, hash)));
+            }
+            Verify.assertSize(3, map);
+            for (int i = 0; i < 6; i++)
+            {
+                assertEquals(i % 2 == 0 ? null : Integer.valueOf(i), map.get(new CollidingKey(i, hash)));
+            }
+            map.put(new CollidingKey(10, hash), 10);
+            assertEquals(Integer.valueOf(10), map.get(new CollidingKey(10, hash)));
+            Verify.assertSize(4, map);
+        }
+    }
+
+    @Test
+    public void iteratorRemoveVisitsEveryEntryOnce()
+    {
+        for (int size = 1; size < 300; size++)
+        {
+            SwissMap<Integer, Integer> map = SwissMap.newMap();
+            for (int i = 0; i < size; i++)
+            {
+                map.put(i * 7, i);
+            }
+            UnifiedSet<Integer> visited = UnifiedSet.newSet();
+            Iterator<Integer> iterator = map.keySet().iterator();
+            while (iterator.hasNext())
+            {
+                Integer key = iterator.next();
+                assertTrue(visited.add(key), key::toString);
+                if (key % 2 == 0)
+                {
+                    iterator.remove();
+                }
+            }
+            Verify.assertSize(size, visited);
+            Verify.assertSize(size / 2, map);
+            map.forEachKey(key -> assertTrue(key % 2 != 0));
+
+            Iterator<Integer> values = map.iterator();
+            while (values.hasNext())
+            {
+                values.next();
+                values.remove();
+            }
+            Verify.assertEmpty(map);
+            assertThrows(IllegalStateException.class, values::remove);
+        }
+    }
+
+    @Test
+    public void entrySetWritesThrough()
+    {
+        SwissMap<Integer, String> map = SwissMap.newWithKeysValues(1, "One", 2, "Two");
+        map.entrySet().forEach(entry -> entry.setValue(entry.getValue().toUpperCase()));
+        assertEquals(SwissMap.newWithKeysValues(1, "ONE", 2, "TWO"), map);
+        assertTrue(map.entrySet().remove(new ImmutableEntry<>(1, "ONE")));
+        assertFalse(map.entrySet().remove(new ImmutableEntry<>(2, "Two")));
+        assertEquals(SwissMap.newWithKeysValues(2, "TWO"), map);
+    }
+
+    @Test
+    public void nullKeysAndValues()
+    {
+        SwissMap<Integer, Integer> map = SwissMap.newWithKeysValues(null, 1, 2, null);
+        assertEquals(Integer.valueOf(1), map.get(null));
+        assertTrue(map.containsKey(2));
+        assertTrue(map.containsValue(null));
+        assertEquals(map, SerializeTestHelper.serializeDeserialize(map));
+        assertEquals(Integer.valueOf(1), map.remove(null));
+        assertFalse(map.containsKey(null));
+    }
+
+    @Test
+    public void cloneIsIndependent()
+    {
+        SwissMap<Integer, Integer> map = SwissMap.newWithKeysValues(1, 1, 2, 2);
+        SwissMap<Integer, Integer> clone = map.clone();
+        clone.put(3, 3);
+        assertEquals(SwissMap.newWithKeysValues(1, 1, 2, 2), map);
+        assertEquals(SwissMap.newWithKeysValues(1, 1, 2, 2, 3, 3), clone);
+    }
+
+    private static final class CollidingKey
+    {
+        private final int value;
+        private final int hashCode;
+
+        private CollidingKey(int value, int hashCode)
+        {
+            this.value = value;
+            this.hashCode = hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            return obj instanceof CollidingKey && ((CollidingKey) obj).value == this.value;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.hashCode;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.sorted.immutable;
+
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.sorted.ImmutableSortedMap;
+import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.factory.SortedMaps;
+import org.eclipse.collections.impl.map.sorted.mutable.TreeSortedMap;
+import org.eclipse.collections.impl.test.SerializeTestHelper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * JUnit test for {@link ImmutableBalancedTreeMap}.
+ */
+public class ImmutableBalancedTreeMapTest extends ImmutableSortedMapTestCase
+{
+    @Override
+    protected ImmutableSortedMap<Integer, String> classUnderTest()
+    {
+        return SortedMaps.immutable.<Integer, String>persistent().newWithKeyValue(1, "1").newWithKeyValue(2, "2").newWithKeyValue(3, "3").newWithKeyValue(4, "4");
+    }
+
+    @Override
+    protected ImmutableSortedMap<Integer, String> classUnderTest(Comparator<? super Integer> comparator)
+    {
+        return SortedMaps.immutable.persistentWithSortedMap(TreeSortedMap.newMapWith(comparator, 1, "1", 2, "2", 3, "3", 4, "4"));
+    }
+
+    @Override
+    protected <K, V> MapIterable<K, V> newMap()
+    {
+        return ImmutableBalancedTreeMap.empty();
+    }
+
+    @Override
+    protected <K, V> MapIterable<K, V> newMapWithKeyValue(K key1, V value1)
+    {
+        return ImmutableBalancedTreeMap.<K, V>empty().newWithKeyValue(key1, value1);
+    }
+
+    @Override
+    protected <K, V> MapIterable<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return ImmutableBalancedTreeMap.<K, V>empty().newWithKeyValue(key1, value1).newWithKeyValue(key2, value2);
+    }
+
+    @Override
+    protected <K, V> MapIterable<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return ImmutableBalancedTreeMap.<K, V>empty().newWithKeyValue(key1, value1).newWithKeyValue(key2, value2).newWithKeyValue(key3, value3);
+    }
+
+    @Override
+    protected <K, V> MapIterable<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4)
+    {
+        return ImmutableBalancedTreeMap.<K, V>empty().newWithKeyValue(key1, value1).newWithKeyValue(key2, value2).newWithKeyValue(key3, value3).newWithKeyValue(key4, value4);
+    }
+
+    @Override
+    protected int size()
+    {
+        return 4;
+    }
+
+    @Override
+    @Test
+    public void testToString()
+    {
+        assertEquals("{1=1, 2=2, 3=3, 4=4}", this.classUnderTest().toString());
+        assertEquals("{4=4, 3=3, 2=2, 1=1}", this.classUnderTest(Comparators.reverseNaturalOrder()).toString());
+        assertEquals("{}", ImmutableBalancedTreeMap.empty().toString());
+    }
+
+    @Test
+    public void firstKeyAndLastKey()
+    {
+        ImmutableBalancedTreeMap<Integer, String> map = (ImmutableBalancedTreeMap<Integer, String>) this.classUnderTest();
+        assertEquals(Integer.valueOf(1), map.firstKey());
+        assertEquals(Integer.valueOf(4), map.lastKey());
+        assertThrows(NoSuchElementException.class, () -> ImmutableBalancedTreeMap.empty().firstKey());
+        assertThrows(NoSuchElementException.class, () -> ImmutableBalancedTreeMap.empty().lastKey());
+    }
+
+    @Test
+    public void newWithKeyValueSharesStructure()
+    {
+        ImmutableSortedMap<Integer, String> map = this.classUnderTest();
+        ImmutableSortedMap<Integer, String> updated = map.newWithKeyValue(0, "0").newWithKeyValue(2, "two").newWithoutKey(4);
+        assertEquals(TreeSortedMap.newMapWith(1, "1", 2, "2", 3, "3", 4, "4"), map);
+        assertEquals(TreeSortedMap.newMapWith(0, "0", 1, "1", 2, "two", 3, "3"), updated);
+        assertInstanceOf(ImmutableBalancedTreeMap.class, updated);
+        assertSame(map, map.newWithoutKey(5));
+        assertSame(map, map.newWithKeyValue(1, map.get(1)));
+        assertInstanceOf(ImmutableBalancedTreeMap.class, map.newWithoutAllKeys(map.keysView()));
+    }
+
+    @Test
+    public void subMapHeadMapTailMap()
+    {
+        ImmutableBalancedTreeMap<Integer, String> map = (ImmutableBalancedTreeMap<Integer, String>) this.classUnderTest();
+        assertEquals(TreeSortedMap.newMapWith(2, "2", 3, "3"), map.subMap(2, 4));
+        assertEquals(TreeSortedMap.newMapWith(1, "1", 2, "2"), map.headMap(3));
+        assertEquals(TreeSortedMap.newMapWith(3, "3", 4, "4"), map.tailMap(3));
+        assertEquals(TreeSortedMap.newMap(), map.subMap(2, 2));
+        assertSame(map, map.headMap(5));
+        assertSame(map, map.tailMap(0));
+        assertEquals(TreeSortedMap.newMapWith(3, "3", 4, "4", 5, "5"), map.tailMap(3).newWithKeyValue(5, "5"));
+        assertThrows(IllegalArgumentException.class, () -> map.subMap(3, 2));
+
+        ImmutableBalancedTreeMap<Integer, String> revMap = (ImmutableBalancedTreeMap<Integer, String>) this.classUnderTest(Comparators.reverseNaturalOrder());
+        assertEquals(TreeSortedMap.newMapWith(Comparators.reverseNaturalOrder(), 3, "3", 2, "2"), revMap.subMap(3, 1));
+        assertSame(revMap.comparator(), revMap.headMap(2).comparator());
+    }
+
+    @Test
+    public void takeAndDrop()
+    {
+        ImmutableSortedMap<Integer, String> map = this.classUnderTest();
+        assertEquals(TreeSortedMap.newMapWith(1, "1", 2, "2"), map.take(2));
+        assertEquals(TreeSortedMap.newMapWith(3, "3", 4, "4"), map.drop(2));
+        assertSame(map, map.take(10));
+        assertSame(map, map.drop(0));
+        assertEquals(TreeSortedMap.newMap(), map.drop(10));
+        assertThrows(IllegalArgumentException.class, () -> map.take(-1));
+        assertThrows(IllegalArgumentException.class, () -> map.drop(-1));
+    }
+
+    @Test
+    public void rankAndKeyAt()
+    {
+        ImmutableBalancedTreeMap<Integer, String> map = ImmutableBalancedTreeMap.empty();
+        for (int i = 0; i < 100; i++)
+        {
+            map = map.newWithKeyValue(i * 2, String.valueOf(i));
+        }
+        for (int i = 0; i < 100; i++)
+        {
+            assertEquals(i, map.rank(i * 2));
+            assertEquals(i + 1, map.rank(i * 2 + 1));
+            assertEquals(Integer.valueOf(i * 2), map.keyAt(i));
+        }
+        ImmutableBalancedTreeMap<Integer, String> finalMap = map;
+        assertThrows(IndexOutOfBoundsException.class, () -> finalMap.keyAt(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> finalMap.keyAt(100));
+    }
+
+    @Test
+    public void randomUpdatesMatchTreeMap()
+    {
+        Random random = new Random(42L);
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        ImmutableSortedMap<Integer, Integer> actual = SortedMaps.immutable.persistent();
+        for (int i = 0; i < 10_000; i++)
+        {
+            int key = random.nextInt(1_000);
+            if (random.nextInt(3) == 0)
+            {
+                expected.remove(key);
+                actual = actual.newWithoutKey(key);
+            }
+            else
+            {
+                expected.put(key, i);
+                actual = actual.newWithKeyValue(key, i);
+            }
+        }
+        assertEquals(expected, actual);
+        assertEquals(expected.keySet().toString(), actual.keysView().toList().toString());
+        assertEquals(expected.subMap(100, 900), actual.castToSortedMap().subMap(100, 900));
+        assertEquals(expected.headMap(500), actual.castToSortedMap().headMap(500));
+        assertEquals(expected.tailMap(500), actual.castToSortedMap().tailMap(500));
+    }
+
+    @Test
+    public void serializationKeepsImplementation()
+    {
+        ImmutableSortedMap<Integer, String> map = this.classUnderTest(Comparators.reverseNaturalOrder());
+        ImmutableSortedMap<Integer, String> deserialized = SerializeTestHelper.serializeDeserialize(map);
+        assertInstanceOf(ImmutableBalancedTreeMap.class, deserialized);
+        assertEquals(map, deserialized);
+        assertEquals(map.keysView().toList(), deserialized.keysView().toList());
+        assertSame(ImmutableBalancedTreeMap.empty(), SerializeTestHelper.serializeDeserialize(ImmutableBalancedTreeMap.empty()));
+    }
+}
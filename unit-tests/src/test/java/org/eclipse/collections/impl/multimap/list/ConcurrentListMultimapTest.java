@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.multimap.list;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test of {@link ConcurrentListMultimap}.
+ */
+public class ConcurrentListMultimapTest extends AbstractMutableListMultimapTestCase
+{
+    @Override
+    public <K, V> ConcurrentListMultimap<K, V> newMultimap()
+    {
+        return ConcurrentListMultimap.newMultimap();
+    }
+
+    @Override
+    public <K, V> ConcurrentListMultimap<K, V> newMultimapWithKeyValue(K key, V value)
+    {
+        ConcurrentListMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key, value);
+        return mutableMultimap;
+    }
+
+    @Override
+    public <K, V> ConcurrentListMultimap<K, V> newMultimapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        ConcurrentListMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        return mutableMultimap;
+    }
+
+    @Override
+    public <K, V> ConcurrentListMultimap<K, V> newMultimapWithKeysValues(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3)
+    {
+        ConcurrentListMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        mutableMultimap.put(key3, value3);
+        return mutableMultimap;
+    }
+
+    @Override
+    public <K, V> ConcurrentListMultimap<K, V> newMultimapWithKeysValues(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3,
+            K key4, V value4)
+    {
+        ConcurrentListMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        mutableMultimap.put(key3, value3);
+        mutableMultimap.put(key4, value4);
+        return mutableMultimap;
+    }
+
+    @SafeVarargs
+    @Override
+    public final <K, V> ConcurrentListMultimap<K, V> newMultimap(Pair<K, V>... pairs)
+    {
+        return ConcurrentListMultimap.newMultimap(pairs);
+    }
+
+    @Override
+    public <K, V> ConcurrentListMultimap<K, V> newMultimapFromPairs(Iterable<Pair<K, V>> inputIterable)
+    {
+        return ConcurrentListMultimap.newMultimap(inputIterable);
+    }
+
+    @SafeVarargs
+    @Override
+    protected final <V> FastList<V> createCollection(V... args)
+    {
+        return FastList.newListWith(args);
+    }
+
+    @Test
+    public void getReturnsSnapshot()
+    {
+        ConcurrentListMultimap<Integer, String> multimap = this.newMultimapWithKeysValues(1, "1", 1, "2");
+        MutableList<String> values = multimap.get(1);
+        multimap.put(1, "3");
+        assertEquals(FastList.newListWith("1", "2"), values);
+        assertEquals(FastList.newListWith("1", "2", "3"), multimap.get(1));
+        assertThrows(UnsupportedOperationException.class, () -> values.add("4"));
+        MutableList<String> removed = multimap.removeAll(1);
+        multimap.put(1, "5");
+        assertEquals(FastList.newListWith("1", "2", "3"), removed);
+        assertEquals(FastList.newListWith("5"), multimap.get(1));
+        Verify.assertSize(1, multimap);
+    }
+
+    @Test
+    public void concurrentGroupBy() throws Exception
+    {
+        ConcurrentListMultimap<Integer, Integer> multimap = ConcurrentListMultimap.newMultimap();
+        int threads = 8;
+        int valuesPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try
+        {
+            MutableList<Future<?>> futures = FastList.newList();
+            for (int i = 0; i < threads; i++)
+            {
+                int offset = i * valuesPerThread;
+                futures.add(executor.submit(() ->
+                {
+                    for (int each = offset; each < offset + valuesPerThread; each++)
+                    {
+                        multimap.put(each % 16, each);
+                        if (each % 3 == 0)
+                        {
+                            multimap.remove(each % 16, each);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures)
+            {
+                future.get(1L, TimeUnit.MINUTES);
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+        Interval expected = Interval.zeroTo(threads * valuesPerThread - 1);
+        assertEquals(expected.count(each -> each % 3 != 0), multimap.size());
+        assertEquals(16, multimap.sizeDistinct());
+        multimap.forEachKeyMultiValues((key, values) ->
+        {
+            assertEquals(expected.select(each -> each % 16 == key && each % 3 != 0).toSet(), values.toSet());
+            assertEquals(values.size(), values.toSet().size());
+        });
+    }
+}
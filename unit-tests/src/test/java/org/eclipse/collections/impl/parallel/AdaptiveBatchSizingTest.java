@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.parallel;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.block.factory.Procedures;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JUnit test for {@link AdaptiveBatchSizing} and {@link ParallelIterate#forEachAdaptive(Iterable, Procedure, java.util.concurrent.Executor)}.
+ */
+public class AdaptiveBatchSizingTest
+{
+    private final MutableList<AdaptiveBatchSizing.Decision> decisions = FastList.<AdaptiveBatchSizing.Decision>newList().asSynchronized();
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp()
+    {
+        this.executor = Executors.newFixedThreadPool(4);
+        AdaptiveBatchSizing.clearCache();
+        AdaptiveBatchSizing.setListener(this.decisions::add);
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        AdaptiveBatchSizing.setListener(null);
+        AdaptiveBatchSizing.clearCache();
+        this.executor.shutdown();
+    }
+
+    private static void spin(long nanos)
+    {
+        long end = System.nanoTime() + nanos;
+        while (System.nanoTime() < end)
+        {
+            Thread.onSpinWait();
+        }
+    }
+
+    @Test
+    public void visitsEachElementOnce()
+    {
+        int size = 20_000;
+        AtomicIntegerArray visits = new AtomicIntegerArray(size + 1);
+        Procedure<Integer> procedure = each -> visits.incrementAndGet(each);
+
+        ParallelIterate.forEachAdaptive(Interval.oneTo(size).toList(), procedure, this.executor);
+        ParallelIterate.forEachAdaptive(UnifiedSet.newSet(Interval.oneTo(size)), procedure, this.executor);
+        ParallelIterate.forEachAdaptive(Interval.oneTo(size).asLazy(), procedure, this.executor);
+        ParallelIterate.forEachAdaptive(FastList.newList(), procedure, this.executor);
+
+        for (int i = 1; i <= size; i++)
+        {
+            assertEquals(3, visits.get(i), "visits of " + i);
+        }
+        assertEquals(3, this.decisions.size());
+    }
+
+    @Test
+    public void expensiveProcedureIsSplitIntoManyTasks()
+    {
+        AtomicInteger count = new AtomicInteger();
+        ParallelIterate.forEachAdaptive(Interval.oneTo(200).toList(), each -> {
+            AdaptiveBatchSizingTest.spin(TimeUnit.MICROSECONDS.toNanos(50L));
+            count.incrementAndGet();
+        }, this.executor);
+
+        assertEquals(200, count.get());
+        AdaptiveBatchSizing.Decision decision = this.decisions.getOnly();
+        assertTrue(decision.isSampled());
+        assertTrue(decision.getNanosPerElement() >= TimeUnit.MICROSECONDS.toNanos(50L), decision.toString());
+        assertTrue(decision.getMinForkSize() <= 40, decision.toString());
+        assertTrue(decision.getTaskCount() > 2, decision.toString());
+    }
+
+    @Test
+    public void taskCountIsCappedForSlowProcedure()
+    {
+        Procedure<Integer> procedure = each -> AdaptiveBatchSizingTest.spin(TimeUnit.MICROSECONDS.toNanos(200L));
+        AdaptiveBatchSizing.Decision decision = AdaptiveBatchSizing.decide(Interval.oneTo(10_000_000), procedure);
+
+        assertTrue(decision.isSampled());
+        long elementsPerTask = Math.max(1L, AdaptiveBatchSizing.TARGET_TASK_NANOS / decision.getNanosPerElement());
+        long uncappedTaskCount = (decision.getSize() - decision.getSampleSize()) / elementsPerTask;
+        assertTrue(uncappedTaskCount > decision.getTaskCount(), decision.toString());
+        assertEquals(AdaptiveBatchSizing.MAX_TASKS_PER_THREAD * ParallelIterate.getDefaultMaxThreadPoolSize(), decision.getTaskCount(), decision.toString());
+    }
+
+    @Test
+    public void cheapProcedureOnSmallInputRunsInCallingThread()
+    {
+        AtomicInteger count = new AtomicInteger();
+        ParallelIterate.forEachAdaptive(Interval.oneTo(100).toList(), each -> count.incrementAndGet(), this.executor);
+
+        assertEquals(100, count.get());
+        AdaptiveBatchSizing.Decision decision = this.decisions.getOnly();
+        assertTrue(decision.getMinForkSize() > decision.getSize() - decision.getSampleSize(), decision.toString());
+    }
+
+    @Test
+    public void costIsCachedPerCallSite()
+    {
+        MutableList<Integer> list = Interval.oneTo(5_000).toList();
+        Procedure<Integer> procedure = Procedures.noop();
+        for (int i = 0; i <= AdaptiveBatchSizing.RESAMPLE_INTERVAL; i++)
+        {
+            ParallelIterate.forEachAdaptive(list, procedure, this.executor);
+        }
+
+        assertEquals(AdaptiveBatchSizing.RESAMPLE_INTERVAL + 1, this.decisions.size());
+        assertTrue(this.decisions.getFirst().isSampled());
+        assertTrue(this.decisions.getLast().isSampled());
+        assertTrue(this.decisions.subList(1, AdaptiveBatchSizing.RESAMPLE_INTERVAL).noneSatisfy(AdaptiveBatchSizing.Decision::isSampled));
+        assertTrue(this.decisions.allSatisfy(decision -> decision.getCallSite() == procedure.getClass()));
+    }
+}
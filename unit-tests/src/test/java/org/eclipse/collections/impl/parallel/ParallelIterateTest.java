@@ -18,8 +18,11 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.collections.api.LazyIterable;
@@ -68,6 +71,8 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -388,6 +393,136 @@ public class ParallelIterateTest
         assertEquals(100, actual2);
     }
 
+    @Test
+    public void anySatisfyAllSatisfyNoneSatisfyDetect()
+    {
+        this.iterables.forEach(Procedures.cast(this::basicShortCircuit));
+    }
+
+    private void basicShortCircuit(RichIterable<Integer> iterable)
+    {
+        assertTrue(ParallelIterate.anySatisfy(iterable, Predicates.equal(150)));
+        assertFalse(ParallelIterate.anySatisfy(iterable, Predicates.greaterThan(200), 6, this.executor));
+        assertTrue(ParallelIterate.allSatisfy(iterable, Predicates.lessThan(201)));
+        assertFalse(ParallelIterate.allSatisfy(iterable, Predicates.lessThan(200), 6, this.executor));
+        assertTrue(ParallelIterate.noneSatisfy(iterable, Predicates.greaterThan(200)));
+        assertFalse(ParallelIterate.noneSatisfy(iterable, Predicates.equal(1), 6, this.executor));
+        assertEquals(Integer.valueOf(150), ParallelIterate.detect(iterable, Predicates.equal(150)));
+        assertNull(ParallelIterate.detect(iterable, Predicates.greaterThan(200), 6, this.executor));
+    }
+
+    @Test
+    public void anySatisfyStopsEvaluatingAfterMatch()
+    {
+        int size = 1_000_000;
+        MutableList<Integer> list = Interval.oneTo(size).toList();
+        AtomicInteger calls = new AtomicInteger();
+        assertTrue(ParallelIterate.anySatisfy(list, each -> calls.incrementAndGet() > 0 && each == 1, 1_000, this.executor));
+        assertTrue(calls.get() < size / 2, "predicate called " + calls.get() + " times");
+
+        calls.set(0);
+        Integer found = ParallelIterate.detect(list, each -> calls.incrementAndGet() > 0 && each % 1_000 == 1, 1_000, this.executor);
+        assertEquals(1, found % 1_000);
+        assertTrue(calls.get() < size / 2, "predicate called " + calls.get() + " times");
+
+        calls.set(0);
+        assertFalse(ParallelIterate.allSatisfy(list, each -> calls.incrementAndGet() > 0 && each != 1, 1_000, this.executor));
+        assertTrue(calls.get() < size / 2, "predicate called " + calls.get() + " times");
+    }
+
+    @Test
+    public void anySatisfySkipsBatchesThatHaveNotStarted()
+    {
+        ExecutorService singleThreadExecutor = Executors.newSingleThreadExecutor();
+        try
+        {
+            MutableList<Integer> list = Interval.oneTo(100_000).toList();
+            AtomicInteger calls = new AtomicInteger();
+            assertTrue(ParallelIterate.anySatisfy(list, each -> calls.incrementAndGet() > 0 && each == 1, 1_000, singleThreadExecutor));
+            assertEquals(1, calls.get());
+        }
+        finally
+        {
+            singleThreadExecutor.shutdown();
+        }
+    }
+
+    @Test
+    public void anySatisfyReturnsWithoutWaitingForRunningBatches()
+    {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicBoolean blockedBatchFinished = new AtomicBoolean();
+        MutableList<Integer> list = Interval.oneTo(2_000).toList();
+        try
+        {
+            assertTrue(ParallelIterate.anySatisfy(list, each -> {
+                if (each == 1_001)
+                {
+                    try
+                    {
+                        latch.await(10L, TimeUnit.SECONDS);
+                    }
+                    catch (InterruptedException e)
+                    {
+                        Thread.currentThread().interrupt();
+                    }
+                    blockedBatchFinished.set(true);
+                }
+                return each == 1;
+            }, 1_000, this.executor));
+            assertFalse(blockedBatchFinished.get());
+        }
+        finally
+        {
+            latch.countDown();
+        }
+    }
+
+    @Test
+    public void virtualThreadExecutor()
+    {
+        int maxConcurrency = 4;
+        ExecutorService virtualThreadExecutor = ParallelIterate.newVirtualThreadExecutor("VirtualThreadTest", maxConcurrency);
+        try
+        {
+            MutableList<Integer> list = Interval.oneTo(100).toList();
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger maxRunning = new AtomicInteger();
+            MutableSet<Integer> visited = UnifiedSet.<Integer>newSet().asSynchronized();
+            ParallelIterate.forEach(list, each -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                ParallelIterateTest.sleep(2L);
+                running.decrementAndGet();
+                visited.add(each);
+            }, 1, virtualThreadExecutor);
+            assertEquals(list.toSet(), visited);
+            // The pooled fallback runs tasks over the limit in the submitting thread
+            int allowed = ParallelIterate.isVirtualThreadSupported() ? maxConcurrency : maxConcurrency + 1;
+            assertTrue(maxRunning.get() <= allowed, "ran " + maxRunning.get() + " tasks at once");
+
+            assertEquals(list.collect(each -> each * 2), ParallelIterate.collect(list, each -> each * 2, FastList.newList(), 5, virtualThreadExecutor, false));
+            assertEquals(list.select(each -> each % 3 == 0), ParallelIterate.select(list, each -> each % 3 == 0, FastList.newList(), 5, virtualThreadExecutor, false));
+            assertEquals(list.select(each -> each % 3 == 0).toBag(), list.asParallel(virtualThreadExecutor, 5).select(each -> each % 3 == 0).toBag());
+        }
+        finally
+        {
+            virtualThreadExecutor.shutdown();
+        }
+    }
+
+    private static void sleep(long millis)
+    {
+        try
+        {
+            Thread.sleep(millis);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
     @Test
     public void reject()
     {
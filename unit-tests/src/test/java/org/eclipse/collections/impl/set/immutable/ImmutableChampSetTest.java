@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.immutable;
+
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.test.SerializeTestHelper;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JUnit test for {@link ImmutableChampSet}.
+ */
+public class ImmutableChampSetTest extends AbstractImmutableUnifiedSetTestCase
+{
+    @Override
+    public ImmutableSet<Integer> newSet(Integer... elements)
+    {
+        return ImmutableChampSet.newSetWith(elements);
+    }
+
+    @Override
+    public ImmutableSet<Integer> newSetWith(int one, int two)
+    {
+        return ImmutableChampSet.newSetWith(one, two);
+    }
+
+    @Override
+    public ImmutableSet<Integer> newSetWith(int one, int two, int three)
+    {
+        return ImmutableChampSet.newSetWith(one, two, three);
+    }
+
+    @Override
+    public ImmutableSet<Integer> newSetWith(int... littleElements)
+    {
+        Integer[] bigElements = new Integer[littleElements.length];
+        for (int i = 0; i < littleElements.length; i++)
+        {
+            bigElements[i] = littleElements[i];
+        }
+        return ImmutableChampSet.newSetWith(bigElements);
+    }
+
+    @Test
+    public void newWithSharesStructure()
+    {
+        ImmutableSet<Integer> set = Sets.immutable.persistent();
+        UnifiedSet<Integer> expected = UnifiedSet.newSet();
+        for (int i = 0; i < 10_000; i++)
+        {
+            ImmutableSet<Integer> previous = set;
+            set = set.newWith(i * 31);
+            expected.add(i * 31);
+            Verify.assertSize(i, previous);
+            assertFalse(previous.contains(i * 31));
+        }
+        assertInstanceOf(ImmutableChampSet.class, set);
+        assertEquals(expected, set);
+        assertEquals(set, expected);
+        assertEquals(expected.hashCode(), set.hashCode());
+
+        ImmutableSet<Integer> without = set.newWithoutAll(Interval.fromToBy(0, 10_000 * 31, 62));
+        Verify.assertSize(5_000, without);
+        Verify.assertSize(10_000, set);
+        without.forEach(each -> assertTrue(each % 2 != 0));
+        assertSame(without, without.newWithout(0));
+        assertSame(ImmutableChampSet.empty(), without.newWithoutAll(without));
+    }
+
+    @Test
+    public void persistentWithAll()
+    {
+        ImmutableSet<Integer> set = Sets.immutable.persistentWithAll(Interval.oneTo(5));
+        assertInstanceOf(ImmutableChampSet.class, set);
+        assertEquals(UnifiedSet.newSetWith(1, 2, 3, 4, 5), set);
+        assertSame(set, Sets.immutable.persistentWithAll(set));
+    }
+
+    @Test
+    public void serializationKeepsImplementation()
+    {
+        ImmutableSet<Integer> set = this.newSet(1, 2, 3, 4, 5);
+        ImmutableSet<Integer> deserialized = SerializeTestHelper.serializeDeserialize(set);
+        assertInstanceOf(ImmutableChampSet.class, deserialized);
+        assertEquals(set, deserialized);
+    }
+}
@@ -63,6 +63,44 @@ public class MultiReaderUnifiedSetTest extends MultiReaderMutableCollectionTestC
         Verify.assertInstanceOf(SynchronizedMutableSet.class, MultiReaderUnifiedSet.newSet().asSynchronized());
     }
 
+    @Test
+    public void optimisticSet() throws InterruptedException
+    {
+        MultiReaderUnifiedSet<Integer> set = MultiReaderUnifiedSet.newOptimisticSet(Interval.oneTo(5));
+        Verify.assertSize(5, set);
+        assertTrue(set.contains(3));
+        assertFalse(set.contains(6));
+        assertTrue(set.add(6));
+        assertTrue(set.remove(1));
+        assertEquals(UnifiedSet.newSetWith(2, 3, 4, 5, 6), set);
+        Verify.assertInstanceOf(MultiReaderUnifiedSet.class, set.newEmpty());
+        assertEquals(set, set.clone());
+
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            try
+            {
+                while (!set.contains(10_000))
+                {
+                    assertTrue(set.contains(2));
+                    assertFalse(set.contains(-1));
+                }
+            }
+            catch (Throwable t)
+            {
+                failure.set(t);
+            }
+        });
+        reader.start();
+        for (int i = 7; i <= 10_000; i++)
+        {
+            set.add(i);
+        }
+        reader.join();
+        assertNull(failure.get());
+        Verify.assertSize(10_000 - 1, set);
+    }
+
     @Override
     @Test
     public void select()
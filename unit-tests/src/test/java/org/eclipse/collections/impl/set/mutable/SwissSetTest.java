@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.bag.mutable.HashBag;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.fixed.ArrayAdapter;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JUnit test for {@link SwissSet}.
+ */
+public class SwissSetTest extends AbstractMutableSetTestCase
+{
+    @Override
+    protected <T> SwissSet<T> newWith(T... littleElements)
+    {
+        return SwissSet.newSetWith(littleElements);
+    }
+
+    @Override
+    @Test
+    public void asSynchronized()
+    {
+        Verify.assertInstanceOf(SynchronizedMutableSet.class, this.newWith().asSynchronized());
+    }
+
+    @Override
+    @Test
+    public void asUnmodifiable()
+    {
+        Verify.assertInstanceOf(UnmodifiableMutableSet.class, this.newWith().asUnmodifiable());
+    }
+
+    @Override
+    @Test
+    public void testToString()
+    {
+        MutableSet<Integer> set = this.newWith(1, 2, 3);
+        String string = set.toString();
+        assertEquals('[' + set.makeString() + ']', string);
+        assertEquals(UnifiedSet.newSetWith("1", "2", "3"), UnifiedSet.newSetWith(string.substring(1, string.length() - 1).split(", ")));
+    }
+
+    @Override
+    @Test
+    public void getFirst()
+    {
+        MutableSet<Integer> set = this.newWith(1, 2, 3);
+        Verify.assertContains(set.getFirst(), set);
+        assertNull(this.newWith().getFirst());
+    }
+
+    @Override
+    @Test
+    public void toList()
+    {
+        MutableSet<Integer> set = this.newWith(1, 2, 3, 4);
+        MutableList<Integer> list = set.toList();
+        assertEquals(FastList.newListWith(1, 2, 3, 4), list.sortThis());
+    }
+
+    @Override
+    @Test
+    public void frequentCollisions()
+    {
+        String[] expected = ArrayAdapter.adapt(FREQUENT_COLLISIONS)
+                .subList(0, FREQUENT_COLLISIONS.length - 2)
+                .toArray(new String[FREQUENT_COLLISIONS.length - 2]);
+        MutableSet<String> set1 = this.newWith();
+        MutableSet<String> set2 = this.newWith();
+
+        Collections.addAll(set1, FREQUENT_COLLISIONS);
+        Collections.addAll(set2, expected);
+
+        set1.retainAll(set2);
+
+        Verify.assertSetsEqual(UnifiedSet.newSetWith(expected), set1);
+        assertEquals(HashBag.newBagWith(expected), HashBag.newBagWith(set1.toArray()));
+    }
+
+    @Test
+    public void newSet_throws()
+    {
+        assertThrows(IllegalArgumentException.class, () -> new SwissSet<Integer>(-1, 0.5f));
+        assertThrows(IllegalArgumentException.class, () -> new SwissSet<Integer>(1, 0.0f));
+        assertThrows(IllegalArgumentException.class, () -> new SwissSet<Integer>(1, 1.5f));
+    }
+
+    @Test
+    public void addGrowsAndKeepsElements()
+    {
+        for (float loadFactor : new float[]{0.5f, 0.75f, 1.0f})
+        {
+            SwissSet<Integer> set = SwissSet.newSet(0, loadFactor);
+            HashSet<Integer> expected = new HashSet<>();
+            for (int i = 0; i < 10_000; i++)
+            {
+                assertTrue(set.add(i * 31));
+                expected.add(i * 31);
+            }
+            assertFalse(set.add(31));
+            Verify.assertSize(10_000, set);
+            Verify.assertEqualsAndHashCode(expected, set);
+            assertFalse(set.contains(1));
+        }
+    }
+
+    @Test
+    public void removeKeepsOtherElementsReachable()
+    {
+        SwissSet<Integer> set = SwissSet.newSet(Interval.zeroTo(999));
+        for (int i = 0; i < 1000; i += 3)
+        {
+            assertTrue(set.remove(i));
+            assertFalse(set.remove(i));
+        }
+        for (int i = 0; i < 1000; i++)
+        {
+            assertEquals(i % 3 != 0, set.contains(i));
+        }
+    }
+
+    @Test
+    public void iteratorRemoveVisitsEveryElementOnce()
+    {
+        for (int size = 1; size < 300; size++)
+        {
+            SwissSet<Integer> set = SwissSet.newSet(Interval.zeroTo(size - 1).collect(each -> each * 7));
+            UnifiedSet<Integer> visited = UnifiedSet.newSet();
+            Iterator<Integer> iterator = set.iterator();
+            while (iterator.hasNext())
+            {
+                Integer each = iterator.next();
+                assertTrue(visited.add(each), each::toString);
+                if (each % 2 == 0)
+                {
+                    iterator.remove();
+                }
+            }
+            Verify.assertSize(size, visited);
+            Verify.assertSize(size / 2, set);
+            assertTrue(set.allSatisfy(each -> each % 2 != 0));
+            set.removeIf(each -> true);
+            Verify.assertEmpty(set);
+        }
+    }
+
+    @Test
+    public void nullElement()
+    {
+        SwissSet<Integer> set = SwissSet.newSetWith(null, 1);
+        assertTrue(set.contains(null));
+        assertFalse(set.add(null));
+        assertTrue(set.remove(null));
+        assertEquals(SwissSet.newSetWith(1), set);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable.primitive;
+
+import org.eclipse.collections.api.iterator.MutableIntIterator;
+import org.eclipse.collections.impl.list.primitive.IntInterval;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JUnit test for {@link RoaringIntSet}.
+ */
+public class RoaringIntSetTest extends AbstractIntSetTestCase
+{
+    @Override
+    protected final RoaringIntSet classUnderTest()
+    {
+        return RoaringIntSet.newSetWith(1, 2, 3);
+    }
+
+    @Override
+    protected RoaringIntSet newWith(int... elements)
+    {
+        return RoaringIntSet.newSetWith(elements);
+    }
+
+    @Test
+    public void iterationOrderIsAscending()
+    {
+        RoaringIntSet set = RoaringIntSet.newSetWith(70000, -1, Integer.MAX_VALUE, 3, Integer.MIN_VALUE, 65536, 0);
+        assertArrayEquals(new int[]{Integer.MIN_VALUE, -1, 0, 3, 65536, 70000, Integer.MAX_VALUE}, set.toArray());
+        assertEquals(Integer.MIN_VALUE, set.min());
+        assertEquals(Integer.MAX_VALUE, set.max());
+        assertEquals(IntHashSet.newSetWith(70000, -1, Integer.MAX_VALUE, 3, Integer.MIN_VALUE, 65536, 0).sum(), set.sum());
+    }
+
+    @Test
+    public void denseContainers()
+    {
+        RoaringIntSet set = new RoaringIntSet(IntInterval.fromTo(-10_000, 200_000));
+        IntHashSet expected = new IntHashSet(IntInterval.fromTo(-10_000, 200_000));
+        Verify.assertSize(210_001, set);
+        assertEquals(expected, set);
+        assertEquals(expected.hashCode(), set.hashCode());
+        assertEquals(expected.sum(), set.sum());
+
+        assertTrue(set.removeAll(IntInterval.fromTo(0, 190_000)));
+        Verify.assertSize(20_000, set);
+        assertEquals(new IntHashSet(IntInterval.fromTo(-10_000, -1)).withAll(IntInterval.fromTo(190_001, 200_000)), set);
+        assertFalse(set.contains(0));
+        assertTrue(set.contains(-1));
+        assertTrue(set.contains(190_001));
+    }
+
+    @Test
+    public void runOptimize()
+    {
+        RoaringIntSet set = new RoaringIntSet(IntInterval.fromTo(0, 100_000)).with(500_000);
+        long before = set.sizeInBytes();
+        assertTrue(set.runOptimize());
+        assertFalse(set.runOptimize());
+        assertTrue(set.sizeInBytes() < before);
+        Verify.assertSize(100_002, set);
+        assertTrue(set.contains(65_535));
+        assertTrue(set.contains(65_536));
+        assertTrue(set.contains(500_000));
+        assertFalse(set.contains(100_001));
+        assertEquals(new IntHashSet(IntInterval.fromTo(0, 100_000)).with(500_000).sum(), set.sum());
+
+        assertTrue(set.remove(50_000));
+        assertTrue(set.add(100_001));
+        assertFalse(set.contains(50_000));
+        assertTrue(set.contains(100_001));
+        Verify.assertSize(100_002, set);
+    }
+
+    @Test
+    public void setAlgebraWithRoaringSets()
+    {
+        RoaringIntSet evens = new RoaringIntSet(IntInterval.evensFromTo(-100_000, 100_000));
+        RoaringIntSet range = new RoaringIntSet(IntInterval.fromTo(0, 150_000));
+        IntHashSet hashEvens = new IntHashSet(IntInterval.evensFromTo(-100_000, 100_000));
+        IntHashSet hashRange = new IntHashSet(IntInterval.fromTo(0, 150_000));
+
+        assertEquals(hashEvens.union(hashRange), evens.union(range));
+        assertEquals(hashEvens.intersect(hashRange), evens.intersect(range));
+        assertEquals(hashEvens.difference(hashRange), evens.difference(range));
+        assertEquals(hashEvens.symmetricDifference(hashRange), evens.symmetricDifference(range));
+
+        assertTrue(range.containsAll(evens.intersect(range)));
+        assertFalse(range.containsAll(evens));
+        assertTrue(evens.intersect(range).isSubsetOf(range));
+
+        RoaringIntSet copy = RoaringIntSet.newSet(evens);
+        assertTrue(copy.retainAll(range));
+        assertEquals(hashEvens.intersect(hashRange), copy);
+        assertEquals(hashEvens, evens);
+    }
+
+    @Test
+    public void iteratorRemoveAcrossContainers()
+    {
+        RoaringIntSet set = RoaringIntSet.newSetWith(1, 2, 65536, 131072, 131073);
+        MutableIntIterator iterator = set.intIterator();
+        while (iterator.hasNext())
+        {
+            int value = iterator.next();
+            if (value != 2 && value != 131073)
+            {
+                iterator.remove();
+            }
+        }
+        assertEquals(IntHashSet.newSetWith(2, 131073), set);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable.primitive;
+
+import org.eclipse.collections.impl.list.primitive.LongInterval;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JUnit test for {@link RoaringLongSet}.
+ */
+public class RoaringLongSetTest extends AbstractLongSetTestCase
+{
+    @Override
+    protected final RoaringLongSet classUnderTest()
+    {
+        return RoaringLongSet.newSetWith(1L, 2L, 3L);
+    }
+
+    @Override
+    protected RoaringLongSet newWith(long... elements)
+    {
+        return RoaringLongSet.newSetWith(elements);
+    }
+
+    @Test
+    public void iterationOrderIsAscending()
+    {
+        RoaringLongSet set = RoaringLongSet.newSetWith(1L << 40, -1L, Long.MAX_VALUE, 3L, Long.MIN_VALUE, 65536L, 0L);
+        assertArrayEquals(new long[]{Long.MIN_VALUE, -1L, 0L, 3L, 65536L, 1L << 40, Long.MAX_VALUE}, set.toArray());
+        assertEquals(Long.MIN_VALUE, set.min());
+        assertEquals(Long.MAX_VALUE, set.max());
+        LongHashSet expected = LongHashSet.newSetWith(1L << 40, -1L, Long.MAX_VALUE, 3L, Long.MIN_VALUE, 65536L, 0L);
+        assertEquals(expected.sum(), set.sum());
+        assertEquals(expected.hashCode(), set.hashCode());
+    }
+
+    @Test
+    public void denseContainers()
+    {
+        long from = (1L << 35) - 10_000L;
+        long to = (1L << 35) + 200_000L;
+        RoaringLongSet set = new RoaringLongSet(LongInterval.fromTo(from, to));
+        LongHashSet expected = new LongHashSet(LongInterval.fromTo(from, to));
+        Verify.assertSize(210_001, set);
+        assertEquals(expected, set);
+        assertEquals(expected.hashCode(), set.hashCode());
+        assertEquals(expected.sum(), set.sum());
+
+        assertTrue(set.removeAll(LongInterval.fromTo(from, to - 1L)));
+        assertEquals(LongHashSet.newSetWith(to), set);
+    }
+
+    @Test
+    public void runOptimize()
+    {
+        RoaringLongSet set = new RoaringLongSet(LongInterval.fromTo(-100_000L, 0L));
+        assertTrue(set.runOptimize());
+        Verify.assertSize(100_001, set);
+        assertTrue(set.contains(-65_536L));
+        assertFalse(set.contains(-100_001L));
+        assertTrue(set.remove(-5L));
+        assertFalse(set.contains(-5L));
+        Verify.assertSize(100_000, set);
+    }
+
+    @Test
+    public void setAlgebraWithRoaringSets()
+    {
+        RoaringLongSet evens = new RoaringLongSet(LongInterval.evensFromTo(-100_000L, 100_000L));
+        RoaringLongSet range = new RoaringLongSet(LongInterval.fromTo(0L, 150_000L));
+        LongHashSet hashEvens = new LongHashSet(LongInterval.evensFromTo(-100_000L, 100_000L));
+        LongHashSet hashRange = new LongHashSet(LongInterval.fromTo(0L, 150_000L));
+
+        assertEquals(hashEvens.union(hashRange), evens.union(range));
+        assertEquals(hashEvens.intersect(hashRange), evens.intersect(range));
+        assertEquals(hashEvens.difference(hashRange), evens.difference(range));
+        assertEquals(hashEvens.symmetricDifference(hashRange), evens.symmetricDifference(range));
+        assertTrue(range.containsAll(evens.intersect(range)));
+        assertFalse(range.containsAll(evens));
+    }
+}
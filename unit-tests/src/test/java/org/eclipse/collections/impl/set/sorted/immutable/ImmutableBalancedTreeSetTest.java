@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.sorted.immutable;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.sorted.ImmutableSortedSet;
+import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.block.factory.PrimitiveFunctions;
+import org.eclipse.collections.impl.factory.SortedSets;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.list.mutable.primitive.BooleanArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.ByteArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.CharArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.DoubleArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.FloatArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.LongArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.ShortArrayList;
+import org.eclipse.collections.impl.set.sorted.mutable.TreeSortedSet;
+import org.eclipse.collections.impl.test.SerializeTestHelper;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * JUnit test for {@link ImmutableBalancedTreeSet}.
+ */
+public class ImmutableBalancedTreeSetTest
+        extends AbstractImmutableSortedSetTestCase
+{
+    @Override
+    protected ImmutableSortedSet<Integer> classUnderTest()
+    {
+        return SortedSets.immutable.<Integer>persistent().newWith(1).newWith(2).newWith(3).newWith(4);
+    }
+
+    @Override
+    protected ImmutableSortedSet<Integer> classUnderTest(Comparator<? super Integer> comparator)
+    {
+        return SortedSets.immutable.persistentWithAll(comparator, FastList.newListWith(4, 2, 3, 1));
+    }
+
+    @Test
+    public void constructWithNull()
+    {
+        assertThrows(ClassCastException.class, () -> ImmutableBalancedTreeSet.newSetWith(new Object()));
+        assertThrows(NullPointerException.class, () -> ImmutableBalancedTreeSet.newSetWith((Object) null));
+        assertThrows(NullPointerException.class, () -> ImmutableBalancedTreeSet.empty().newWith(null));
+    }
+
+    @Test
+    public void serialization()
+    {
+        ImmutableSortedSet<Integer> set = this.classUnderTest(Collections.reverseOrder());
+        ImmutableSortedSet<Integer> deserialized = SerializeTestHelper.serializeDeserialize(set);
+        assertInstanceOf(ImmutableBalancedTreeSet.class, deserialized);
+        Verify.assertPostSerializedEqualsAndHashCode(set);
+        assertEquals(set.toList(), deserialized.toList());
+        assertSame(ImmutableBalancedTreeSet.empty(), SerializeTestHelper.serializeDeserialize(ImmutableBalancedTreeSet.empty()));
+    }
+
+    @Test
+    public void newWithSharesStructure()
+    {
+        ImmutableSortedSet<Integer> set = this.classUnderTest();
+        ImmutableSortedSet<Integer> updated = set.newWith(0).newWithout(4);
+        assertEquals(TreeSortedSet.newSetWith(1, 2, 3, 4), set);
+        assertEquals(TreeSortedSet.newSetWith(0, 1, 2, 3), updated);
+        assertInstanceOf(ImmutableBalancedTreeSet.class, updated);
+        assertInstanceOf(ImmutableBalancedTreeSet.class, set.newWithoutAll(set));
+        assertSame(set, set.newWith(1));
+        assertSame(set, set.newWithout(5));
+    }
+
+    @Override
+    @Test
+    public void subSet()
+    {
+        ImmutableBalancedTreeSet<Integer> set = (ImmutableBalancedTreeSet<Integer>) this.classUnderTest();
+        assertEquals(TreeSortedSet.newSetWith(2, 3), set.subSet(2, 4));
+        assertEquals(TreeSortedSet.newSet(), set.subSet(2, 2));
+        assertSame(set, set.subSet(0, 5));
+        assertThrows(IllegalArgumentException.class, () -> set.subSet(3, 2));
+        assertEquals(TreeSortedSet.newSetWith(Comparators.reverseNaturalOrder(), 3, 2), this.classUnderTest(Comparators.reverseNaturalOrder()).castToSortedSet().subSet(3, 1));
+    }
+
+    @Override
+    @Test
+    public void headSet()
+    {
+        ImmutableBalancedTreeSet<Integer> set = (ImmutableBalancedTreeSet<Integer>) this.classUnderTest();
+        assertEquals(TreeSortedSet.newSetWith(1, 2), set.headSet(3));
+        assertSame(set, set.headSet(5));
+        assertEquals(TreeSortedSet.newSetWith(1, 2, 5), set.headSet(3).newWith(5));
+    }
+
+    @Override
+    @Test
+    public void tailSet()
+    {
+        ImmutableBalancedTreeSet<Integer> set = (ImmutableBalancedTreeSet<Integer>) this.classUnderTest();
+        assertEquals(TreeSortedSet.newSetWith(3, 4), set.tailSet(3));
+        assertSame(set, set.tailSet(0));
+        assertEquals(TreeSortedSet.newSet(), set.tailSet(5));
+    }
+
+    @Test
+    public void rankAndElementAt()
+    {
+        ImmutableBalancedTreeSet<Integer> set = ImmutableBalancedTreeSet.newSet(null, Interval.evensFromTo(0, 198));
+        for (int i = 0; i < 100; i++)
+        {
+            assertEquals(i, set.rank(i * 2));
+            assertEquals(i + 1, set.rank(i * 2 + 1));
+            assertEquals(Integer.valueOf(i * 2), set.elementAt(i));
+            assertEquals(i, set.indexOf(i * 2));
+            assertEquals(-1, set.indexOf(i * 2 + 1));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> set.elementAt(100));
+    }
+
+    @Test
+    public void forEachWithIndexInRange()
+    {
+        ImmutableBalancedTreeSet<Integer> set = ImmutableBalancedTreeSet.newSet(null, Interval.oneTo(50));
+        MutableList<Integer> elements = FastList.newList();
+        MutableList<Integer> indexes = FastList.newList();
+        set.forEachWithIndex(10, 20, (each, index) ->
+        {
+            elements.add(each);
+            indexes.add(index);
+        });
+        assertEquals(Interval.fromTo(11, 21), elements);
+        assertEquals(Interval.fromTo(10, 20), indexes);
+        assertThrows(IllegalArgumentException.class, () -> set.forEachWithIndex(20, 10, (each, index) -> { }));
+    }
+
+    @Test
+    public void randomUpdatesMatchTreeSet()
+    {
+        Random random = new Random(42L);
+        TreeSet<Integer> expected = new TreeSet<>();
+        ImmutableSortedSet<Integer> actual = SortedSets.immutable.persistent();
+        for (int i = 0; i < 10_000; i++)
+        {
+            int element = random.nextInt(1_000);
+            if (random.nextInt(3) == 0)
+            {
+                expected.remove(element);
+                actual = actual.newWithout(element);
+            }
+            else
+            {
+                expected.add(element);
+                actual = actual.newWith(element);
+            }
+        }
+        assertEquals(FastList.newList(expected), actual.toList());
+        assertEquals(FastList.newList(expected.subSet(100, 900)), FastList.newList(actual.castToSortedSet().subSet(100, 900)));
+        assertEquals(FastList.newList(expected).subList(0, 100), actual.take(100).toList());
+        assertEquals(FastList.newList(expected).subList(100, expected.size()), actual.drop(100).toList());
+    }
+
+    @Override
+    @Test
+    public void collectBoolean()
+    {
+        ImmutableSortedSet<Integer> integers = this.classUnderTest(Collections.reverseOrder());
+        assertEquals(BooleanArrayList.newListWith(true, true, true, true), integers.collectBoolean(PrimitiveFunctions.integerIsPositive()));
+    }
+
+    @Override
+    @Test
+    public void collectByte()
+    {
+        ImmutableSortedSet<Integer> integers = this.classUnderTest(Collections.reverseOrder());
+        assertEquals(ByteArrayList.newListWith((byte) 4, (byte) 3, (byte) 2, (byte) 1), integers.collectByte(PrimitiveFunctions.unboxIntegerToByte()));
+    }
+
+    @Override
+    @Test
+    public void collectChar()
+    {
+        ImmutableSortedSet<Integer> integers = this.classUnderTest(Collections.reverseOrder());
+        assertEquals(CharArrayList.newListWith('D', 'C', 'B', 'A'), integers.collectChar(integer -> (char) (integer.intValue() + 64)));
+    }
+
+    @Override
+    @Test
+    public void collectDouble()
+    {
+        ImmutableSortedSet<Integer> integers = this.classUnderTest(Collections.reverseOrder());
+        assertEquals(DoubleArrayList.newListWith(4.0d, 3.0d, 2.0d, 1.0d), integers.collectDouble(PrimitiveFunctions.unboxIntegerToDouble()));
+    }
+
+    @Override
+    @Test
+    public void collectFloat()
+    {
+        ImmutableSortedSet<Integer> integers = this.classUnderTest(Collections.reverseOrder());
+        assertEquals(FloatArrayList.newListWith(4.0f, 3.0f, 2.0f, 1.0f), integers.collectFloat(PrimitiveFunctions.unboxIntegerToFloat()));
+    }
+
+    @Override
+    @Test
+    public void collectInt()
+    {
+        ImmutableSortedSet<Integer> integers = this.classUnderTest(Collections.reverseOrder());
+        assertEquals(IntArrayList.newListWith(4, 3, 2, 1), integers.collectInt(PrimitiveFunctions.unboxIntegerToInt()));
+    }
+
+    @Override
+    @Test
+    public void collectLong()
+    {
+        ImmutableSortedSet<Integer> integers = this.classUnderTest(Collections.reverseOrder());
+        assertEquals(LongArrayList.newListWith(4, 3, 2, 1), integers.collectLong(PrimitiveFunctions.unboxIntegerToLong()));
+    }
+
+    @Override
+    @Test
+    public void collectShort()
+    {
+        ImmutableSortedSet<Integer> integers = this.classUnderTest(Collections.reverseOrder());
+        assertEquals(ShortArrayList.newListWith((short) 4, (short) 3, (short) 2, (short) 1), integers.collectShort(PrimitiveFunctions.unboxIntegerToShort()));
+    }
+}